@@ -4,8 +4,6 @@ import static java.util.Arrays.stream;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -131,32 +129,45 @@ public class AGEMOEAEnvironmentalSelection<S extends Solution<?>> {
             nn[i] = minkowskiDistance(normalizedFront.get(i), utopia, P);
         }
 
-        // Diversity Score
-        double[][] distances = pairwiseDistances(normalizedFront, P);
-
-        for (int i=0; i<normalizedFront.size(); i++) {
-            for (int j = 0; j < normalizedFront.size(); j++) {
-                distances[i][j] /= nn[i];
-            }
+        // Diversity and survival score. The distances to the two nearest selected solutions are
+        // updated incrementally instead of computing the matrix of pairwise distances
+        List<double[]> points = prepareFront(normalizedFront, P);
+        double p = P;
+        double[] scores = SurvivalScore.compute(front.size(), selected, nn,
+            (i, j) -> distance(points.get(i), points.get(j), p));
+        for (int i = 0; i < front.size(); i++) {
+            front.get(i).attributes().put(attributeId, scores[i]);
         }
+    }
 
-        // Survival Score
-        List<Integer> remaining = IntStream.range(0, front.size()).boxed().collect(Collectors.toList());
-        remaining.removeAll(selected);
-        while (remaining.size() > 0){
-            double[] values = this.findMoreDiverseSolution(distances, selected, remaining);
-            int index = (int) values[0];
-            remaining.remove((Integer) index);
-            selected.add(index);
-            front.get(index).attributes().put(attributeId, values[1]);
-        }
+    /**
+     * This method prepares the normalized front before computing the distances between its points.
+     * By default, the front is not modified.
+     * @param normalizedFront normalized non-dominated front
+     * @param p curvature of the front
+     * @return the points used to compute the distances
+     */
+    protected List<double[]> prepareFront(List<double[]> normalizedFront, double p) {
+        return normalizedFront;
+    }
+
+    /**
+     * Distance between two points of the (prepared) normalized front. It must be thread-safe.
+     * @param a first point
+     * @param b second point
+     * @param p curvature of the front
+     * @return the Minkowski distance of order p
+     */
+    protected double distance(double[] a, double[] b, double p) {
+        return minkowskiDistance(a, b, p);
     }
 
     protected double[][] pairwiseDistances(List<double[]> normalizedFront, double P) {
-        double[][] distances = new double[normalizedFront.size()][normalizedFront.size()];
-        for (int i = 0; i< normalizedFront.size()-1; i++){
-            for (int j = i+1; j< normalizedFront.size(); j++){
-                distances[i][j] = this.minkowskiDistance(normalizedFront.get(i), normalizedFront.get(j), P);
+        List<double[]> points = prepareFront(normalizedFront, P);
+        double[][] distances = new double[points.size()][points.size()];
+        for (int i = 0; i< points.size()-1; i++){
+            for (int j = i+1; j< points.size(); j++){
+                distances[i][j] = this.distance(points.get(i), points.get(j), P);
                 distances[j][i] = distances[i][j];
             }
         }
@@ -0,0 +1,139 @@
+package org.uma.jmetal.algorithm.multiobjective.agemoea.util;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Greedy computation of the diversity part of the survival score of AGE-MOEA and AGE-MOEA-II.
+ * Starting from a set of selected solutions (the extreme points), the remaining solution whose sum
+ * of the distances to its two nearest selected solutions is the highest is selected and gets that
+ * sum as score, until all the solutions are selected.
+ *
+ * <p>Instead of building the full matrix of pairwise distances, the distances to the two nearest
+ * selected solutions of each remaining solution are kept in primitive arrays and they are updated
+ * with the distances to the last selected solution, so each step costs O(N) distance computations
+ * and the memory is O(N). The updates are run in parallel when the number of solutions is high
+ * enough. The distances are provided by a {@link PairwiseDistance} function, which must be
+ * thread-safe and symmetric.
+ *
+ * <p>The scores are the same as those of the matrix-based implementation: when several solutions
+ * have the highest sum, the one with the highest index is selected.
+ *
+ * @author Antonio J. Nebro
+ */
+public class SurvivalScore {
+  private static final int PARALLEL_THRESHOLD = 2048;
+
+  /**
+   * Distance between two solutions, identified by their indices
+   */
+  @FunctionalInterface
+  public interface PairwiseDistance {
+    double compute(int index1, int index2);
+  }
+
+  private SurvivalScore() {
+  }
+
+  /**
+   * Computes the survival scores
+   *
+   * @param size Number of solutions
+   * @param selected Indices of the solutions which are initially selected. They can be repeated,
+   *     in which case they are counted as many times as they appear.
+   * @param scale The distances from solution i are divided by scale[i]
+   * @param distance Distance function
+   * @return The score of each solution; the initially selected solutions have a score of
+   *     {@link Double#POSITIVE_INFINITY}
+   */
+  public static double[] compute(int size, List<Integer> selected, double[] scale,
+      PairwiseDistance distance) {
+    Check.notNull(selected);
+    Check.notNull(scale);
+    Check.notNull(distance);
+
+    double[] scores = new double[size];
+    boolean[] isSelected = new boolean[size];
+    for (int index : selected) {
+      isSelected[index] = true;
+      scores[index] = Double.POSITIVE_INFINITY;
+    }
+
+    // Remaining solutions and their two lowest distances to the selected ones
+    int[] remaining = new int[size];
+    int numberOfRemaining = 0;
+    for (int i = 0; i < size; i++) {
+      if (!isSelected[i]) {
+        remaining[numberOfRemaining++] = i;
+      }
+    }
+    double[] min1 = new double[size];
+    double[] min2 = new double[size];
+
+    boolean parallel = size >= PARALLEL_THRESHOLD;
+    int count = numberOfRemaining;
+    range(count, parallel).forEach(position -> {
+      int index = remaining[position];
+      min1[index] = Double.POSITIVE_INFINITY;
+      min2[index] = Double.POSITIVE_INFINITY;
+      for (int selectedIndex : selected) {
+        update(index, distance(distance, index, selectedIndex) / scale[index], min1, min2);
+      }
+    });
+
+    while (numberOfRemaining > 0) {
+      double bestValue = 0;
+      int bestPosition = -1;
+      for (int position = 0; position < numberOfRemaining; position++) {
+        int index = remaining[position];
+        double value = min1[index] + min2[index];
+        if (value > bestValue
+            || (value == bestValue && (bestPosition < 0 || index > remaining[bestPosition]))) {
+          bestValue = value;
+          bestPosition = position;
+        }
+      }
+      if (bestPosition < 0) {
+        // All the sums are NaN
+        bestPosition = numberOfRemaining - 1;
+        bestValue = min1[remaining[bestPosition]] + min2[remaining[bestPosition]];
+      }
+
+      int best = remaining[bestPosition];
+      scores[best] = bestValue;
+      remaining[bestPosition] = remaining[--numberOfRemaining];
+
+      int currentNumberOfRemaining = numberOfRemaining;
+      range(currentNumberOfRemaining, parallel && currentNumberOfRemaining >= PARALLEL_THRESHOLD)
+          .forEach(position -> {
+            int index = remaining[position];
+            update(index, distance(distance, index, best) / scale[index], min1, min2);
+          });
+    }
+
+    return scores;
+  }
+
+  private static IntStream range(int size, boolean parallel) {
+    IntStream range = IntStream.range(0, size);
+    return parallel ? range.parallel() : range;
+  }
+
+  /**
+   * The distance is always computed with the lowest index first, as the entries of the upper
+   * triangle of the distance matrix were
+   */
+  private static double distance(PairwiseDistance distance, int index1, int index2) {
+    return index1 < index2 ? distance.compute(index1, index2) : distance.compute(index2, index1);
+  }
+
+  private static void update(int index, double value, double[] min1, double[] min2) {
+    if (value < min1[index]) {
+      min2[index] = min1[index];
+      min1[index] = value;
+    } else if (value < min2[index]) {
+      min2[index] = value;
+    }
+  }
+}
@@ -123,26 +123,40 @@ public class AGEMOEA2EnvironmentalSelection<S extends Solution<?>> extends AGEMO
         return Math.log(f);
     }
 
+    /**
+     * The non-dominated front is projected on the Lp manifold
+     */
     @Override
-    protected double[][] pairwiseDistances(List<double[]> normalizedFront, double p) {
-        // projecting the non-dominated front on the Lp manifold
+    protected List<double[]> prepareFront(List<double[]> normalizedFront, double p) {
         for (int i = 0; i < normalizedFront.size(); i++) {
             normalizedFront.set(i, this.projectPoint(normalizedFront.get(i), p));
         }
+        return normalizedFront;
+    }
 
-        // approximating the geodesic distance
-        double[][] distances = new double[normalizedFront.size()][normalizedFront.size()];
-        for (int i = 0; i < normalizedFront.size() - 1; i++) {
-            for (int j = i + 1; j < normalizedFront.size(); j++) {
-                double[] midpoint = this.midPoint(normalizedFront.get(i), normalizedFront.get(j));
-                midpoint = this.projectPoint(midpoint, P);
-
-                distances[i][j] = this.minkowskiDistance(normalizedFront.get(i), midpoint, 2) +
-                        this.minkowskiDistance(midpoint, normalizedFront.get(j), 2);
-                distances[j][i] = distances[i][j];
-            }
+    /**
+     * Approximation of the geodesic distance between two points of the Lp manifold: the sum of the
+     * Euclidean distances from both points to the projection of their middle point. It is computed
+     * without allocating the middle point, with the same operations as {@link #midPoint} and
+     * {@link #projectPoint}.
+     */
+    @Override
+    protected double distance(double[] a, double[] b, double p) {
+        double norm = 0;
+        for (int i = 0; i < a.length; i++) {
+            norm += Math.pow(Math.abs(a[i] * 0.5 + b[i] * 0.5 - ZERO[i]), P);
         }
-        return distances;
+        double factor = 1.0 / Math.pow(norm, 1.0 / P);
+
+        double distanceA = 0;
+        double distanceB = 0;
+        for (int i = 0; i < a.length; i++) {
+            double projection = (a[i] * 0.5 + b[i] * 0.5) * factor;
+            distanceA += Math.pow(Math.abs(a[i] - projection), 2);
+            distanceB += Math.pow(Math.abs(projection - b[i]), 2);
+        }
+
+        return Math.pow(distanceA, 1.0 / 2) + Math.pow(distanceB, 1.0 / 2);
     }
 
     /**
@@ -1,14 +1,7 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
-import static java.lang.Double.parseDouble;
-
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringTokenizer;
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
@@ -16,6 +9,8 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.neighborhood.util.WeightVectorProvider;
+import org.uma.jmetal.util.neighborhood.util.WeightVectorTable;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -42,6 +37,7 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   /** T in Zhang & Li paper */
   protected int neighborSize;
   protected int[][] neighborhood;
+  private transient WeightVectorTable weightVectorTable;
   /** Delta in Zhang & Li paper */
   protected double neighborhoodSelectionProbability;
   /** nr in Zhang & Li paper */
@@ -94,77 +90,29 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   }
 
   /**
-   * Initialize weight vectors
+   * Initialize weight vectors. The weight vectors, together with their neighborhoods, are taken
+   * from the tables shared by all the MOEA/D variants (see {@link WeightVectorProvider})
    */
   protected void initializeUniformWeight() {
     if ((problem.numberOfObjectives() == 2) && (populationSize <= 300)) {
-      for (int n = 0; n < populationSize; n++) {
-        double a = 1.0 * n / (populationSize - 1);
-        lambda[n][0] = a;
-        lambda[n][1] = 1 - a;
-      }
+      weightVectorTable = WeightVectorProvider.uniform(populationSize, neighborSize);
     } else {
-      String dataFileName;
-      dataFileName = "W" + problem.numberOfObjectives() + "D_" +
-          populationSize + ".dat";
-
-      try {
-
-        //       String path =
-        // Paths.get(VectorFileUtils.class.getClassLoader().getResource(filePath).toURI()).toString
-        // ();
-        String path = "/" + dataDirectory + "/" + dataFileName ;
-
-        InputStream inputStream =
-            getClass()
-                .getClassLoader()
-                .getResourceAsStream(path);
-        if (inputStream == null) {
-          inputStream = new FileInputStream(dataDirectory + "/" + dataFileName);
-        }
-        InputStreamReader isr = new InputStreamReader(inputStream);
-        BufferedReader br = new BufferedReader(isr);
-
-        int i = 0;
-        int j = 0;
-        String aux = br.readLine();
-        while (aux != null) {
-          StringTokenizer st = new StringTokenizer(aux);
-          j = 0;
-          while (st.hasMoreTokens()) {
-            double value = parseDouble(st.nextToken());
-            lambda[i][j] = value;
-            j++;
-          }
-          aux = br.readLine();
-          i++;
-        }
-        br.close();
-      } catch (Exception e) {
-        throw new JMetalException("initializeUniformWeight: failed when reading for file: "
-            + dataDirectory + "/" + dataFileName, e) ;
-      }
+      weightVectorTable = WeightVectorProvider.load(dataDirectory, problem.numberOfObjectives(),
+          populationSize, neighborSize);
     }
+    lambda = weightVectorTable.weightVectors();
   }
 
   /**
-   * Initialize neighborhoods
+   * Initialize neighborhoods. If the weight vectors were not initialized with
+   * {@link #initializeUniformWeight()}, the neighborhoods are computed from the vectors in
+   * {@link #lambda}.
    */
   protected void initializeNeighborhood() {
-    double[] x = new double[populationSize];
-    int[] idx = new int[populationSize];
-
-    for (int i = 0; i < populationSize; i++) {
-      // calculate the distances based on weight vectors
-      for (int j = 0; j < populationSize; j++) {
-        x[j] = MOEADUtils.distVector(lambda[i], lambda[j]);
-        idx[j] = j;
-      }
-
-      // find 'niche' nearest neighboring subproblems
-      MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
-
-      System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
+    if (weightVectorTable != null && weightVectorTable.neighborhoodSize() == neighborSize) {
+      neighborhood = weightVectorTable.neighborhoods();
+    } else {
+      neighborhood = WeightVectorTable.computeNeighborhoods(lambda, neighborSize);
     }
   }
 
@@ -6,16 +6,24 @@ import java.util.List;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.operator.selection.impl.RankingAndCrowdingSelection;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
 /**
+ * Steady-state version of NSGA-II. As the joint population of each replacement only differs from
+ * the previous one in the new offspring and the solution removed by the last replacement, the
+ * ranking is kept between replacements and updated with {@link IncrementalNonDominatedSortRanking}.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
+  private IncrementalNonDominatedSortRanking<S> ranking;
+
   /**
    * Constructor
    */
@@ -62,6 +70,19 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
     return offspringPopulation;
   }
 
+  @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+    if (ranking == null) {
+      ranking = new IncrementalNonDominatedSortRanking<>(dominanceComparator);
+    }
+
+    List<S> jointPopulation = new ArrayList<>();
+    jointPopulation.addAll(population);
+    jointPopulation.addAll(offspringPopulation);
+
+    return new RankingAndCrowdingSelection<>(getMaxPopulationSize(), ranking)
+        .execute(jointPopulation);
+  }
+
   @Override public String name() {
     return "ssNSGAII" ;
   }
@@ -4,7 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
 import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
-import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.EnvironmentalSelection;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ArrayEnvironmentalSelection;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ReferenceDirections;
 import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ReferencePoint;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
@@ -29,6 +30,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
 
   protected int numberOfDivisions  ;
   protected List<ReferencePoint<S>> referencePoints = new Vector<>() ;
+  protected ReferenceDirections referenceDirections ;
 
   /** Constructor */
   public NSGAIII(NSGAIIIBuilder<S> builder) { // can be created from the NSGAIIIBuilder within the same package
@@ -45,6 +47,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     numberOfDivisions = builder.getNumberOfDivisions() ;
 
     (new ReferencePoint<S>()).generateReferencePoints(referencePoints,getProblem().numberOfObjectives() , numberOfDivisions);
+    referenceDirections = new ReferenceDirections(referencePoints, getProblem().numberOfObjectives()) ;
 
     int populationSize = referencePoints.size();
     while (populationSize%4>0) {
@@ -145,9 +148,9 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
       return pop;
     
     // A copy of the reference list should be used as parameter of the environmental selection
-    EnvironmentalSelection<S> selection =
-            new EnvironmentalSelection<>(fronts,getMaxPopulationSize() - pop.size(),getReferencePointsCopy(),
-                    getProblem().numberOfObjectives());
+    ArrayEnvironmentalSelection<S> selection =
+            new ArrayEnvironmentalSelection<>(fronts,getMaxPopulationSize() - pop.size(),getReferencePointsCopy(),
+                    referenceDirections);
     
     var choosen = selection.execute(last);
     pop.addAll(choosen);
@@ -0,0 +1,360 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Implementation of the environmental selection of NSGA-III which follows the same steps as
+ * {@link EnvironmentalSelection}, but works on primitive arrays:
+ * <ul>
+ *   <li>The translated and normalized objectives of the candidate solutions are stored in a flat,
+ *   row-major <code>double[]</code> buffer instead of <code>List&lt;Double&gt;</code> attributes of
+ *   the solutions.</li>
+ *   <li>The ideal point, the intercepts and the linear system of the hyperplane are
+ *   <code>double[]</code> arrays.</li>
+ *   <li>The reference points are taken from a {@link ReferenceDirections} object, which holds their
+ *   unit directions, so the perpendicular distance from a solution to a reference line only needs a
+ *   dot product. Only the lines which are closest up to rounding errors are compared again with the
+ *   expression of {@link EnvironmentalSelection#perpendicularDistance(List, List)}.</li>
+ *   <li>The association of the N solutions to the R reference points is computed in parallel when
+ *   N * R is large enough.</li>
+ * </ul>
+ *
+ * <p>The niching step uses the {@link ReferencePoint} objects and the random generator in the
+ * same way as {@link EnvironmentalSelection} and the closest reference lines are confirmed with the
+ * original expression of the distance, so the selected solutions are the same.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ArrayEnvironmentalSelection<S extends Solution<?>>
+    implements SelectionOperator<List<S>, List<S>> {
+
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+  private static final int CHUNK_SIZE = 64;
+  private static final double ROUNDING_TOLERANCE = 1e-10;
+
+  private final List<List<S>> fronts;
+  private final int solutionsToSelect;
+  private final List<ReferencePoint<S>> referencePoints;
+  private final ReferenceDirections referenceDirections;
+  private final int numberOfObjectives;
+
+  private List<S> candidates;
+  private int numberOfCandidates;
+  private int firstFrontSize;
+  private double[] objectives;
+
+  /**
+   * Constructor
+   *
+   * @param fronts Fronts of the joint population up to the last front to be considered
+   * @param solutionsToSelect Number of solutions to select from the last front
+   * @param referencePoints Reference points (their members are updated by the selection)
+   * @param referenceDirections Directions of the reference points
+   */
+  public ArrayEnvironmentalSelection(
+      List<List<S>> fronts,
+      int solutionsToSelect,
+      List<ReferencePoint<S>> referencePoints,
+      ReferenceDirections referenceDirections) {
+    Check.notNull(fronts);
+    Check.notNull(referencePoints);
+    Check.notNull(referenceDirections);
+    Check.that(referencePoints.size() == referenceDirections.numberOfDirections(),
+        "The number of reference points (" + referencePoints.size()
+            + ") is not the number of reference directions ("
+            + referenceDirections.numberOfDirections() + ")");
+
+    this.fronts = fronts;
+    this.solutionsToSelect = solutionsToSelect;
+    this.referencePoints = referencePoints;
+    this.referenceDirections = referenceDirections;
+    this.numberOfObjectives = referenceDirections.numberOfObjectives();
+  }
+
+  public ArrayEnvironmentalSelection(
+      List<List<S>> fronts,
+      int solutionsToSelect,
+      List<ReferencePoint<S>> referencePoints,
+      int numberOfObjectives) {
+    this(fronts, solutionsToSelect, referencePoints,
+        new ReferenceDirections(referencePoints, numberOfObjectives));
+  }
+
+  @Override
+  public List<S> execute(List<S> source) throws JMetalException {
+    if (source.size() == solutionsToSelect) {
+      return source;
+    }
+
+    loadCandidates();
+    double[] idealPoint = translateObjectives();
+    List<S> extremePoints = findExtremePoints();
+    double[] intercepts = constructHyperplane(extremePoints);
+    normalizeObjectives(intercepts, idealPoint);
+    associate();
+
+    return niching();
+  }
+
+  private void loadCandidates() {
+    candidates = new ArrayList<>();
+    for (List<S> front : fronts) {
+      candidates.addAll(front);
+    }
+    numberOfCandidates = candidates.size();
+    firstFrontSize = fronts.get(0).size();
+
+    objectives = new double[numberOfCandidates * numberOfObjectives];
+    for (int i = 0; i < numberOfCandidates; i++) {
+      System.arraycopy(candidates.get(i).objectives(), 0, objectives, i * numberOfObjectives,
+          numberOfObjectives);
+    }
+  }
+
+  /**
+   * Subtracts the ideal point (computed from the first front) from the objectives of the candidates
+   */
+  private double[] translateObjectives() {
+    double[] idealPoint = new double[numberOfObjectives];
+    for (int f = 0; f < numberOfObjectives; f++) {
+      double min = Double.MAX_VALUE;
+      for (int i = 0; i < firstFrontSize; i++) {
+        min = Math.min(min, objectives[i * numberOfObjectives + f]);
+      }
+      idealPoint[f] = min;
+    }
+
+    for (int i = 0; i < numberOfCandidates; i++) {
+      int offset = i * numberOfObjectives;
+      for (int f = 0; f < numberOfObjectives; f++) {
+        objectives[offset + f] -= idealPoint[f];
+      }
+    }
+
+    return idealPoint;
+  }
+
+  /**
+   * Extreme points of the first front according to the achievement scalarization function, which
+   * is computed on the original objective values as in {@link EnvironmentalSelection}
+   */
+  private List<S> findExtremePoints() {
+    List<S> extremePoints = new ArrayList<>(numberOfObjectives);
+    S minIndividual = null;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      double minASF = Double.MAX_VALUE;
+      for (int i = 0; i < firstFrontSize; i++) {
+        double asf = ASF(candidates.get(i).objectives(), f);
+        if (asf < minASF) {
+          minASF = asf;
+          minIndividual = candidates.get(i);
+        }
+      }
+      extremePoints.add(minIndividual);
+    }
+
+    return extremePoints;
+  }
+
+  private double ASF(double[] values, int index) {
+    double maxRatio = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < values.length; i++) {
+      double weight = (index == i) ? 1.0 : 0.000001;
+      maxRatio = Math.max(maxRatio, values[i] / weight);
+    }
+
+    return maxRatio;
+  }
+
+  private double[] constructHyperplane(List<S> extremePoints) {
+    boolean duplicate = false;
+    for (int i = 0; !duplicate && i < extremePoints.size(); i++) {
+      for (int j = i + 1; !duplicate && j < extremePoints.size(); j++) {
+        duplicate = extremePoints.get(i).equals(extremePoints.get(j));
+      }
+    }
+
+    double[] intercepts = new double[numberOfObjectives];
+    if (duplicate) {
+      for (int f = 0; f < numberOfObjectives; f++) {
+        intercepts[f] = extremePoints.get(f).objectives()[f];
+      }
+    } else {
+      double[][] a = new double[numberOfObjectives][numberOfObjectives + 1];
+      for (int i = 0; i < numberOfObjectives; i++) {
+        System.arraycopy(extremePoints.get(i).objectives(), 0, a[i], 0, numberOfObjectives);
+        a[i][numberOfObjectives] = 1.0;
+      }
+      double[] x = gaussianElimination(a);
+      for (int f = 0; f < numberOfObjectives; f++) {
+        intercepts[f] = 1.0 / x[f];
+      }
+    }
+
+    return intercepts;
+  }
+
+  /**
+   * Solves the system whose augmented matrix is <code>a</code> (N rows and N + 1 columns), with the
+   * same operations as {@link EnvironmentalSelection#guassianElimination(List, List)}. The matrix
+   * is modified.
+   */
+  static double[] gaussianElimination(double[][] a) {
+    int n = a.length;
+    for (int base = 0; base < n - 1; base++) {
+      for (int target = base + 1; target < n; target++) {
+        double ratio = a[target][base] / a[base][base];
+        for (int term = 0; term <= n; term++) {
+          a[target][term] = a[target][term] - a[base][term] * ratio;
+        }
+      }
+    }
+
+    double[] x = new double[n];
+    for (int i = n - 1; i >= 0; i--) {
+      for (int known = i + 1; known < n; known++) {
+        a[i][n] = a[i][n] - a[i][known] * x[known];
+      }
+      x[i] = a[i][n] / a[i][i];
+    }
+
+    return x;
+  }
+
+  private void normalizeObjectives(double[] intercepts, double[] idealPoint) {
+    double[] divisors = new double[numberOfObjectives];
+    for (int f = 0; f < numberOfObjectives; f++) {
+      divisors[f] = Math.abs(intercepts[f] - idealPoint[f]) > 10e-10
+          ? intercepts[f] - idealPoint[f]
+          : 10e-10;
+    }
+
+    for (int i = 0; i < numberOfCandidates; i++) {
+      int offset = i * numberOfObjectives;
+      for (int f = 0; f < numberOfObjectives; f++) {
+        objectives[offset + f] = objectives[offset + f] / divisors[f];
+      }
+    }
+  }
+
+  /**
+   * Associates each candidate with its closest reference line. The distances are computed in
+   * parallel, but the reference points are updated sequentially in the order of the fronts, as the
+   * order of the potential members is relevant for the niching step.
+   */
+  private void associate() {
+    int[] closest = new int[numberOfCandidates];
+    double[] distance = new double[numberOfCandidates];
+
+    int numberOfChunks = (numberOfCandidates + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    IntStream chunks = IntStream.range(0, numberOfChunks);
+    if ((long) numberOfCandidates * referenceDirections.numberOfDirections() * numberOfObjectives
+        >= PARALLEL_THRESHOLD) {
+      chunks = chunks.parallel();
+    }
+    chunks.forEach(chunk -> {
+      double[] squaredDistances = new double[referenceDirections.numberOfDirections()];
+      int end = Math.min(numberOfCandidates, (chunk + 1) * CHUNK_SIZE);
+      for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+        associate(i, squaredDistances, closest, distance);
+      }
+    });
+
+    int lastFrontStart = numberOfCandidates - fronts.get(fronts.size() - 1).size();
+    for (int i = 0; i < numberOfCandidates; i++) {
+      if (i < lastFrontStart) {
+        referencePoints.get(closest[i]).AddMember();
+      } else {
+        referencePoints.get(closest[i]).AddPotentialMember(candidates.get(i), distance[i]);
+      }
+    }
+  }
+
+  /**
+   * Finds the closest reference line of a candidate. The lines are first compared with the
+   * distances computed with the unit directions; as they can differ from the ones of
+   * {@link EnvironmentalSelection} by rounding errors, the lines whose distance is close to the
+   * minimum are compared again with the original expression.
+   */
+  private void associate(int candidate, double[] squaredDistances, int[] closest,
+      double[] distance) {
+    int numberOfDirections = referenceDirections.numberOfDirections();
+    int offset = candidate * numberOfObjectives;
+    double squaredNorm = 0.0;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      squaredNorm += objectives[offset + f] * objectives[offset + f];
+    }
+
+    double minSquaredDistance = Double.MAX_VALUE;
+    for (int r = 0; r < numberOfDirections; r++) {
+      squaredDistances[r] =
+          referenceDirections.squaredPerpendicularDistance(r, objectives, offset, squaredNorm);
+      minSquaredDistance = Math.min(minSquaredDistance, squaredDistances[r]);
+    }
+
+    double threshold = minSquaredDistance + ROUNDING_TOLERANCE * (squaredNorm + 1.0);
+    int minDirection = -1;
+    double minDistance = Double.MAX_VALUE;
+    for (int r = 0; r < numberOfDirections; r++) {
+      if (squaredDistances[r] <= threshold) {
+        double d = referenceDirections.perpendicularDistance(r, objectives, offset);
+        if (d < minDistance) {
+          minDistance = d;
+          minDirection = r;
+        }
+      }
+    }
+
+    closest[candidate] = minDirection;
+    distance[candidate] = minDistance;
+  }
+
+  private List<S> niching() {
+    TreeMap<Integer, ArrayList<ReferencePoint<S>>> referencePointsTree = new TreeMap<>();
+    for (ReferencePoint<S> referencePoint : referencePoints) {
+      referencePoint.sort();
+      addToTree(referencePointsTree, referencePoint);
+    }
+
+    JMetalRandom random = JMetalRandom.getInstance();
+    List<S> result = new ArrayList<>(solutionsToSelect);
+    while (result.size() < solutionsToSelect) {
+      ArrayList<ReferencePoint<S>> first = referencePointsTree.firstEntry().getValue();
+      int index = 1 == first.size() ? 0 : random.nextInt(0, first.size() - 1);
+      ReferencePoint<S> referencePoint = first.remove(index);
+      if (first.isEmpty()) {
+        referencePointsTree.pollFirstEntry();
+      }
+
+      S chosen = null;
+      if (referencePoint.HasPotentialMember()) {
+        if (referencePoint.MemberSize() == 0) {
+          chosen = referencePoint.FindClosestMember();
+        } else {
+          chosen = referencePoint.RandomMember();
+        }
+      }
+      if (chosen != null) {
+        referencePoint.AddMember();
+        addToTree(referencePointsTree, referencePoint);
+        result.add(chosen);
+      }
+    }
+
+    return result;
+  }
+
+  private void addToTree(TreeMap<Integer, ArrayList<ReferencePoint<S>>> tree,
+      ReferencePoint<S> referencePoint) {
+    tree.computeIfAbsent(referencePoint.MemberSize(), key -> new ArrayList<>())
+        .add(referencePoint);
+  }
+}
@@ -0,0 +1,102 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
+
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Positions of a list of {@link ReferencePoint}s stored in flat, row-major <code>double[]</code>
+ * buffers, together with their unit directions and squared norms. As the reference points of
+ * NSGA-III do not change during a run, an instance can be computed once and shared by all the
+ * environmental selections.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ReferenceDirections {
+  private final int numberOfDirections;
+  private final int numberOfObjectives;
+  private final double[] directions;
+  private final double[] unitDirections;
+  private final double[] squaredNorms;
+
+  public <S extends Solution<?>> ReferenceDirections(List<ReferencePoint<S>> referencePoints,
+      int numberOfObjectives) {
+    Check.notNull(referencePoints);
+    Check.collectionIsNotEmpty(referencePoints);
+
+    this.numberOfDirections = referencePoints.size();
+    this.numberOfObjectives = numberOfObjectives;
+    directions = new double[numberOfDirections * numberOfObjectives];
+    unitDirections = new double[numberOfDirections * numberOfObjectives];
+    squaredNorms = new double[numberOfDirections];
+
+    for (int r = 0; r < numberOfDirections; r++) {
+      List<Double> position = referencePoints.get(r).pos();
+      Check.that(position.size() == numberOfObjectives,
+          "The reference point " + r + " has dimension " + position.size() + " instead of "
+              + numberOfObjectives);
+
+      int offset = r * numberOfObjectives;
+      double squaredNorm = 0.0;
+      for (int f = 0; f < numberOfObjectives; f++) {
+        double value = position.get(f);
+        directions[offset + f] = value;
+        squaredNorm += value * value;
+      }
+      squaredNorms[r] = squaredNorm;
+
+      double norm = Math.sqrt(squaredNorm);
+      for (int f = 0; f < numberOfObjectives; f++) {
+        unitDirections[offset + f] = norm > 0 ? directions[offset + f] / norm : 0.0;
+      }
+    }
+  }
+
+  public int numberOfDirections() {
+    return numberOfDirections;
+  }
+
+  public int numberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  /**
+   * Squared perpendicular distance from a point to the line of direction <code>r</code>, computed
+   * with the unit direction as |p|^2 - (u · p)^2.
+   *
+   * @param point Buffer containing the point
+   * @param offset Position of the point in the buffer
+   * @param squaredNorm Squared norm of the point
+   */
+  public double squaredPerpendicularDistance(int r, double[] point, int offset,
+      double squaredNorm) {
+    int directionOffset = r * numberOfObjectives;
+    double projection = 0.0;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      projection += unitDirections[directionOffset + f] * point[offset + f];
+    }
+
+    return Math.max(0.0, squaredNorm - projection * projection);
+  }
+
+  /**
+   * Perpendicular distance from a point to the line of direction <code>r</code>, computed as in
+   * {@link EnvironmentalSelection#perpendicularDistance(List, List)}
+   */
+  public double perpendicularDistance(int r, double[] point, int offset) {
+    int directionOffset = r * numberOfObjectives;
+    double numerator = 0.0;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      numerator += directions[directionOffset + f] * point[offset + f];
+    }
+    double k = numerator / squaredNorms[r];
+
+    double d = 0.0;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      double diff = k * directions[directionOffset + f] - point[offset + f];
+      d += diff * diff;
+    }
+
+    return Math.sqrt(d);
+  }
+}
@@ -8,6 +8,7 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.archive.impl.AbstractBoundedArchive;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -226,8 +227,17 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   @Override
   protected void updateLeaders(List<DoubleSolution> swarm) {
-    for (DoubleSolution particle : swarm) {
-      leaders.add((DoubleSolution) particle.copy());
+    if (leaders instanceof AbstractBoundedArchive) {
+      // The archive is truncated once after inserting the whole swarm
+      List<DoubleSolution> particles = new ArrayList<>(swarm.size());
+      for (DoubleSolution particle : swarm) {
+        particles.add((DoubleSolution) particle.copy());
+      }
+      ((AbstractBoundedArchive<DoubleSolution>) leaders).addAll(particles);
+    } else {
+      for (DoubleSolution particle : swarm) {
+        leaders.add((DoubleSolution) particle.copy());
+      }
     }
   }
 
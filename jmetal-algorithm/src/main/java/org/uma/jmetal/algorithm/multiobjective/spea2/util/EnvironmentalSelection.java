@@ -3,12 +3,11 @@ package org.uma.jmetal.algorithm.multiobjective.spea2.util;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.impl.StrenghtRawFitnessDensityEstimator;
-import org.uma.jmetal.util.solutionattribute.impl.LocationAttribute;
+import org.uma.jmetal.util.distance.KdTree;
 
 /**
  * @author Juanjo Durillo
@@ -63,57 +62,101 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
       return aux;
     }
 
-    double [][] distance = SolutionListUtils.distanceMatrix(aux);
-    List<List<Pair<Integer, Double>> > distanceList = new ArrayList<>();
-    LocationAttribute<S> location = new LocationAttribute<S>(aux);
-    for (int pos = 0; pos < aux.size(); pos++) {
-      List<Pair<Integer, Double>> distanceNodeList = new ArrayList<>();
-      for (int ref = 0; ref < aux.size(); ref++) {
-        if (pos != ref) {
-          distanceNodeList.add(Pair.of(ref, distance[pos][ref]));
-        }
-      }
-      distanceList.add(distanceNodeList);
-    }
+    return truncate(aux, size);
+  }
 
-    for (List<Pair<Integer, Double>> pairs : distanceList) {
-      pairs.sort(Comparator.comparing(Pair::getRight));
+  /**
+   * SPEA2 truncation: the solution whose sorted list of distances to the other solutions is the
+   * lexicographically lowest is removed until the list has the required size. The nearest neighbour
+   * of each solution is found with a {@link KdTree} and it is only recomputed when the neighbour is
+   * removed; further neighbours are only queried to break ties in the nearest distance, so the full
+   * distance matrix is not needed.
+   */
+  private List<S> truncate(List<S> solutionList, int size) {
+    int numberOfSolutions = solutionList.size();
+    KdTree tree = new KdTree(SolutionListUtils.getMatrixWithObjectiveValues(solutionList));
+
+    int[] nearest = new int[numberOfSolutions];
+    double[] nearestDistance = new double[numberOfSolutions];
+    List<List<Integer>> reverseNearest = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      reverseNearest.add(new ArrayList<>());
+    }
+    for (int i = 0; i < numberOfSolutions; i++) {
+      updateNearest(tree, i, nearest, nearestDistance, reverseNearest);
     }
 
-    while (aux.size() > size) {
+    int remaining = numberOfSolutions;
+    while (remaining > size) {
       double minDistance = Double.MAX_VALUE;
-      int toRemove = 0;
-      i = 0;
-      for (List<Pair<Integer, Double>> dist : distanceList) {
-        if (dist.get(0).getRight() < minDistance) {
+      int toRemove = -1;
+      for (int i = 0; i < numberOfSolutions; i++) {
+        if (tree.isRemoved(i)) {
+          continue;
+        }
+        if (nearestDistance[i] < minDistance) {
+          toRemove = i;
+          minDistance = nearestDistance[i];
+        } else if (nearestDistance[i] == minDistance
+            && compareDistances(tree, i, toRemove, remaining - 1) < 0) {
           toRemove = i;
-          minDistance = dist.get(0).getRight();
-          //i y toRemove have the same distance to the first solution
-        } else if (dist.get(0).getRight().equals(minDistance)) {
-          int k = 0;
-          while ((dist.get(k).getRight().equals(
-                  distanceList.get(toRemove).get(k).getRight())) &&
-                  k < (distanceList.get(i).size() - 1)) {
-            k++;
-          }
-
-          if (dist.get(k).getRight() <
-                  distanceList.get(toRemove).get(k).getRight()) {
-            toRemove = i;
-          }
         }
-        i++;
       }
 
-      int tmp =  (int) location.getAttribute(aux.get(toRemove));
-      aux.remove(toRemove);
-      distanceList.remove(toRemove);
+      tree.remove(toRemove);
+      remaining--;
+      for (int solution : reverseNearest.get(toRemove)) {
+        if (!tree.isRemoved(solution) && nearest[solution] == toRemove) {
+          updateNearest(tree, solution, nearest, nearestDistance, reverseNearest);
+        }
+      }
+      reverseNearest.get(toRemove).clear();
+    }
 
-      for (List<Pair<Integer, Double>> pairs : distanceList) {
-        pairs.removeIf(integerDoublePair -> integerDoublePair.getLeft() == tmp);
+    List<S> result = new ArrayList<>(size);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      if (!tree.isRemoved(i)) {
+        result.add(solutionList.get(i));
       }
     }
-    return aux;
+
+    return result;
+  }
+
+  private void updateNearest(KdTree tree, int solution, int[] nearest, double[] nearestDistance,
+      List<List<Integer>> reverseNearest) {
+    int[] index = new int[1];
+    double[] distance = new double[1];
+    if (tree.nearestNeighbours(solution, 1, index, distance) == 0) {
+      nearest[solution] = -1;
+      nearestDistance[solution] = Double.POSITIVE_INFINITY;
+    } else {
+      nearest[solution] = index[0];
+      nearestDistance[solution] = distance[0];
+      reverseNearest.get(index[0]).add(solution);
+    }
   }
 
+  /**
+   * Compares lexicographically the sorted distances of two solutions to the other ones. The number
+   * of neighbours queried is doubled until a difference is found.
+   */
+  private int compareDistances(KdTree tree, int solution1, int solution2, int numberOfNeighbours) {
+    int depth = Math.min(2, numberOfNeighbours);
+    while (true) {
+      double[] distances1 = new double[depth];
+      double[] distances2 = new double[depth];
+      tree.nearestNeighbours(solution1, depth, null, distances1);
+      tree.nearestNeighbours(solution2, depth, null, distances2);
+      for (int l = 0; l < depth; l++) {
+        if (distances1[l] != distances2[l]) {
+          return Double.compare(distances1[l], distances2[l]);
+        }
+      }
+      if (depth == numberOfNeighbours) {
+        return 0;
+      }
+      depth = Math.min(2 * depth, numberOfNeighbours);
+    }
+  }
 }
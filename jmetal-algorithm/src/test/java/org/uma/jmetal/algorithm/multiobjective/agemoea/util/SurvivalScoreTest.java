@@ -0,0 +1,101 @@
+package org.uma.jmetal.algorithm.multiobjective.agemoea.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SurvivalScoreTest {
+
+  @Test
+  void shouldSelectTheSolutionFarthestFromItsTwoNearestSelectedSolutions() {
+    double[] points = {0.0, 1.0, 4.0, 10.0};
+    double[] scale = {1.0, 1.0, 1.0, 1.0};
+
+    double[] scores = SurvivalScore.compute(4, List.of(0, 3), scale,
+        (i, j) -> Math.abs(points[i] - points[j]));
+
+    assertEquals(Double.POSITIVE_INFINITY, scores[0]);
+    assertEquals(Double.POSITIVE_INFINITY, scores[3]);
+    assertEquals(10.0, scores[2]);
+    assertEquals(4.0, scores[1]);
+  }
+
+  @Test
+  void shouldComputeTheSameScoresAsTheDistanceMatrixBasedAlgorithm() {
+    Random random = new Random(1);
+    for (int run = 0; run < 50; run++) {
+      int size = 3 + random.nextInt(100);
+      double[][] points = new double[size][3];
+      double[] scale = new double[size];
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < 3; j++) {
+          points[i][j] = random.nextInt(5) == 0 ? 0.5 : random.nextDouble();
+        }
+        scale[i] = 0.5 + random.nextDouble();
+      }
+      List<Integer> selected = new ArrayList<>(List.of(0, 1, 1));
+
+      SurvivalScore.PairwiseDistance distance = (i, j) -> {
+        double sum = 0;
+        for (int l = 0; l < 3; l++) {
+          sum += (points[i][l] - points[j][l]) * (points[i][l] - points[j][l]);
+        }
+        return Math.sqrt(sum);
+      };
+
+      assertArrayEquals(matrixBasedScores(size, selected, scale, distance),
+          SurvivalScore.compute(size, selected, scale, distance));
+    }
+  }
+
+  private double[] matrixBasedScores(int size, List<Integer> initiallySelected, double[] scale,
+      SurvivalScore.PairwiseDistance distance) {
+    double[][] distances = new double[size][size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        distances[i][j] = (i < j ? distance.compute(i, j) : distance.compute(j, i)) / scale[i];
+      }
+    }
+
+    double[] scores = new double[size];
+    List<Integer> selected = new ArrayList<>(initiallySelected);
+    List<Integer> remaining = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      if (selected.contains(i)) {
+        scores[i] = Double.POSITIVE_INFINITY;
+      } else {
+        remaining.add(i);
+      }
+    }
+
+    while (!remaining.isEmpty()) {
+      double bestValue = 0;
+      int bestIndex = -1;
+      for (int index1 : remaining) {
+        double minValue1 = Double.POSITIVE_INFINITY;
+        double minValue2 = Double.POSITIVE_INFINITY;
+        for (int index2 : selected) {
+          if (distances[index1][index2] < minValue1) {
+            minValue2 = minValue1;
+            minValue1 = distances[index1][index2];
+          } else if (distances[index1][index2] < minValue2) {
+            minValue2 = distances[index1][index2];
+          }
+        }
+        if (minValue1 + minValue2 >= bestValue) {
+          bestValue = minValue1 + minValue2;
+          bestIndex = index1;
+        }
+      }
+      remaining.remove((Integer) bestIndex);
+      selected.add(bestIndex);
+      scores[bestIndex] = bestValue;
+    }
+
+    return scores;
+  }
+}
@@ -0,0 +1,82 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+class ArrayEnvironmentalSelectionTest {
+
+  @Test
+  void shouldSelectTheSameSolutionsAsTheEnvironmentalSelection() {
+    Random random = new Random(1);
+    for (int run = 0; run < 30; run++) {
+      int numberOfObjectives = 2 + random.nextInt(6);
+      int numberOfDivisions = numberOfObjectives <= 3 ? 12 : 3;
+      List<ReferencePoint<PointSolution>> referencePoints = new ArrayList<>();
+      new ReferencePoint<PointSolution>()
+          .generateReferencePoints(referencePoints, numberOfObjectives, numberOfDivisions);
+      int populationSize = referencePoints.size();
+
+      List<PointSolution> jointPopulation = new ArrayList<>();
+      for (int i = 0; i < 2 * populationSize; i++) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = random.nextDouble() * (j + 1);
+        }
+        jointPopulation.add(solution);
+      }
+
+      Ranking<PointSolution> ranking = new FastNonDominatedSortRanking<>();
+      ranking.compute(jointPopulation);
+      List<List<PointSolution>> fronts = new ArrayList<>();
+      List<PointSolution> lastFront = null;
+      int selected = 0;
+      int candidates = 0;
+      for (int rank = 0; candidates < populationSize; rank++) {
+        lastFront = ranking.getSubFront(rank);
+        fronts.add(lastFront);
+        if (selected + lastFront.size() <= populationSize) {
+          selected += lastFront.size();
+        }
+        candidates += lastFront.size();
+      }
+      if (selected == populationSize) {
+        continue;
+      }
+
+      JMetalRandom.getInstance().setSeed(run);
+      List<PointSolution> expected = new EnvironmentalSelection<>(fronts,
+          populationSize - selected, copy(referencePoints), numberOfObjectives).execute(lastFront);
+      JMetalRandom.getInstance().setSeed(run);
+      List<PointSolution> obtained = new ArrayEnvironmentalSelection<>(fronts,
+          populationSize - selected, copy(referencePoints),
+          new ReferenceDirections(referencePoints, numberOfObjectives)).execute(lastFront);
+
+      assertEquals(expected, obtained);
+    }
+  }
+
+  @Test
+  void shouldGaussianEliminationSolveALinearSystem() {
+    double[][] system = {{2.0, 1.0, 5.0}, {1.0, 3.0, 10.0}};
+
+    double[] solution = ArrayEnvironmentalSelection.gaussianElimination(system);
+
+    assertEquals(1.0, solution[0], 1e-12);
+    assertEquals(3.0, solution[1], 1e-12);
+  }
+
+  private List<ReferencePoint<PointSolution>> copy(List<ReferencePoint<PointSolution>> points) {
+    List<ReferencePoint<PointSolution>> result = new ArrayList<>(points.size());
+    points.forEach(point -> result.add(new ReferencePoint<>(point)));
+
+    return result;
+  }
+}
@@ -24,6 +24,7 @@ import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
 /**
  * Class to configure and build an instance of the NSGA-II algorithm
@@ -46,7 +47,10 @@ public class NSGAIIBuilder<S extends Solution<?>> {
     name = "NSGAII";
 
     densityEstimator = new CrowdingDistanceDensityEstimator<>();
-    ranking = new FastNonDominatedSortRanking<>();
+    // In the steady-state version the ranking is updated incrementally between replacements
+    ranking = offspringPopulationSize == 1
+        ? new IncrementalNonDominatedSortRanking<>()
+        : new FastNonDominatedSortRanking<>();
 
     this.createInitialPopulation = new RandomSolutionsCreation<>(problem, populationSize);
 
@@ -1,13 +1,18 @@
 package org.uma.jmetal.component.catalogue.common.evaluation.impl;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.executor.ChunkedExecutor;
+import org.uma.jmetal.util.executor.ThreadPoolType;
 
 /**
- * Class that evaluates a list of solutions using threads.
+ * Class that evaluates a list of solutions using threads. The solutions are evaluated in an executor
+ * owned by the evaluation (a work-stealing pool by default), which is released with
+ * {@link #shutdown()}.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
@@ -16,19 +21,30 @@ import org.uma.jmetal.util.errorchecking.Check;
 public class MultiThreadedEvaluation<S extends Solution<?>> implements Evaluation<S> {
   private int computedEvaluations;
   private final Problem<S> problem;
-  private final int numberOfThreads ;
+  private final ChunkedExecutor executor ;
 
   public MultiThreadedEvaluation(int numberOfThreads, Problem<S> problem) {
+    this(numberOfThreads, ThreadPoolType.WORK_STEALING, problem) ;
+  }
+
+  public MultiThreadedEvaluation(int numberOfThreads, ThreadPoolType threadPoolType,
+      Problem<S> problem) {
     Check.that(numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads) ;
     Check.notNull(problem);
 
-    if (numberOfThreads == 0) {
-      numberOfThreads = Runtime.getRuntime().availableProcessors();
-    }
-    System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + numberOfThreads);
+    this.executor = new ChunkedExecutor(numberOfThreads, threadPoolType) ;
+    this.problem = problem;
+    computedEvaluations = 0;
+  }
+
+  /**
+   * Evaluates the solutions in an executor provided by the user, which is not shut down by
+   * {@link #shutdown()}
+   */
+  public MultiThreadedEvaluation(ExecutorService executor, int numberOfThreads, Problem<S> problem) {
+    Check.notNull(problem);
 
-    this.numberOfThreads = numberOfThreads ;
+    this.executor = new ChunkedExecutor(executor, numberOfThreads) ;
     this.problem = problem;
     computedEvaluations = 0;
   }
@@ -36,7 +52,7 @@ public class MultiThreadedEvaluation<S extends Solution<?>> implements Evaluatio
   @Override
   public List<S> evaluate(List<S> solutionList) {
     Check.notNull(solutionList);
-    solutionList.parallelStream().forEach(problem::evaluate);
+    executor.forEach(solutionList, problem::evaluate);
     computedEvaluations = solutionList.size();
 
     return solutionList;
@@ -48,7 +64,26 @@ public class MultiThreadedEvaluation<S extends Solution<?>> implements Evaluatio
   }
 
   public int numberOfThreads() {
-    return numberOfThreads ;
+    return executor.numberOfThreads() ;
+  }
+
+  public int chunkSize() {
+    return executor.chunkSize() ;
+  }
+
+  /**
+   * Sets the number of solutions evaluated per task. If {@link ChunkedExecutor#AUTOMATIC_CHUNK_SIZE},
+   * the chunk size is computed from the number of threads
+   */
+  public void chunkSize(int chunkSize) {
+    executor.chunkSize(chunkSize) ;
+  }
+
+  /**
+   * Releases the threads of the executor, if it was created by the evaluation
+   */
+  public void shutdown() {
+    executor.shutdown() ;
   }
 
   @Override
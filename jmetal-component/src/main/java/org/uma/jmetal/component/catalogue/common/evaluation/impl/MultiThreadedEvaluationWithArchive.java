@@ -1,14 +1,19 @@
 package org.uma.jmetal.component.catalogue.common.evaluation.impl;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.executor.ChunkedExecutor;
+import org.uma.jmetal.util.executor.ThreadPoolType;
 
 /**
- * Class that evaluates a list of solutions using threads.
+ * Class that evaluates a list of solutions using threads. The solutions are evaluated in an executor
+ * owned by the evaluation (a work-stealing pool by default), which is released with
+ * {@link #shutdown()}.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
@@ -17,31 +22,43 @@ import org.uma.jmetal.util.errorchecking.Check;
 public class MultiThreadedEvaluationWithArchive<S extends Solution<?>> implements Evaluation<S> {
   private int computedEvaluations;
   private final Problem<S> problem;
-  private final int numberOfThreads ;
+  private final ChunkedExecutor executor ;
   private Archive<S> archive ;
 
 
   public MultiThreadedEvaluationWithArchive(int numberOfThreads, Problem<S> problem, Archive<S> archive) {
+    this(numberOfThreads, ThreadPoolType.WORK_STEALING, problem, archive) ;
+  }
+
+  public MultiThreadedEvaluationWithArchive(int numberOfThreads, ThreadPoolType threadPoolType,
+      Problem<S> problem, Archive<S> archive) {
     Check.that(numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads) ;
     Check.notNull(problem);
 
+    this.executor = new ChunkedExecutor(numberOfThreads, threadPoolType) ;
+    this.problem = problem;
     this.archive = archive ;
+    computedEvaluations = 0;
+  }
 
-    if (numberOfThreads == 0) {
-      numberOfThreads = Runtime.getRuntime().availableProcessors();
-    }
-    System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + numberOfThreads);
+  /**
+   * Evaluates the solutions in an executor provided by the user, which is not shut down by
+   * {@link #shutdown()}
+   */
+  public MultiThreadedEvaluationWithArchive(ExecutorService executor, int numberOfThreads,
+      Problem<S> problem, Archive<S> archive) {
+    Check.notNull(problem);
 
-    this.numberOfThreads = numberOfThreads ;
+    this.executor = new ChunkedExecutor(executor, numberOfThreads) ;
     this.problem = problem;
+    this.archive = archive ;
     computedEvaluations = 0;
   }
 
   @Override
   public List<S> evaluate(List<S> solutionList) {
     Check.notNull(solutionList);
-    solutionList.parallelStream().forEach(problem::evaluate);
+    executor.forEach(solutionList, problem::evaluate);
     computedEvaluations = solutionList.size();
 
     solutionList.forEach(solution -> archive.add((S)solution.copy()));
@@ -55,7 +72,26 @@ public class MultiThreadedEvaluationWithArchive<S extends Solution<?>> implement
   }
 
   public int numberOfThreads() {
-    return numberOfThreads ;
+    return executor.numberOfThreads() ;
+  }
+
+  public int chunkSize() {
+    return executor.chunkSize() ;
+  }
+
+  /**
+   * Sets the number of solutions evaluated per task. If {@link ChunkedExecutor#AUTOMATIC_CHUNK_SIZE},
+   * the chunk size is computed from the number of threads
+   */
+  public void chunkSize(int chunkSize) {
+    executor.chunkSize(chunkSize) ;
+  }
+
+  /**
+   * Releases the threads of the executor, if it was created by the evaluation
+   */
+  public void shutdown() {
+    executor.shutdown() ;
   }
 
   @Override
@@ -0,0 +1,94 @@
+package org.uma.jmetal.component.catalogue.common.evaluation.impl;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.impl.VirtualThreadSolutionListEvaluator;
+
+/**
+ * Class that evaluates a list of solutions in virtual threads, with a limit in the number of
+ * concurrent evaluations and an optional timeout per evaluation. It is intended for problems whose
+ * evaluation is mostly blocked waiting for an external program or service (see
+ * {@link VirtualThreadSolutionListEvaluator}).
+ *
+ * @author Antonio J. Nebro (ajnebro@uma.es)
+ *
+ * @param <S>
+ */
+public class VirtualThreadEvaluation<S extends Solution<?>> implements Evaluation<S> {
+  private int computedEvaluations;
+  private final Problem<S> problem;
+  private final VirtualThreadSolutionListEvaluator<S> evaluator ;
+
+  public VirtualThreadEvaluation(int maximumConcurrentEvaluations, Problem<S> problem) {
+    this(maximumConcurrentEvaluations, VirtualThreadSolutionListEvaluator.NO_TIMEOUT,
+        TimeUnit.MILLISECONDS, problem) ;
+  }
+
+  public VirtualThreadEvaluation(int maximumConcurrentEvaluations, long timeout, TimeUnit unit,
+      Problem<S> problem) {
+    Check.notNull(problem);
+
+    this.evaluator = new VirtualThreadSolutionListEvaluator<>(maximumConcurrentEvaluations, timeout,
+        unit) ;
+    this.problem = problem;
+    computedEvaluations = 0;
+  }
+
+  /**
+   * Evaluates the solutions in an executor provided by the user, which is not shut down by
+   * {@link #shutdown()}
+   */
+  public VirtualThreadEvaluation(ExecutorService executor, int maximumConcurrentEvaluations,
+      long timeout, TimeUnit unit, Problem<S> problem) {
+    Check.notNull(problem);
+
+    this.evaluator = new VirtualThreadSolutionListEvaluator<>(executor,
+        maximumConcurrentEvaluations, timeout, unit) ;
+    this.problem = problem;
+    computedEvaluations = 0;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList) {
+    Check.notNull(solutionList);
+    evaluator.evaluate(solutionList, problem) ;
+    computedEvaluations = solutionList.size();
+
+    return solutionList;
+  }
+
+  /**
+   * Sets the action applied to the solutions whose evaluation exceeds the timeout
+   */
+  public VirtualThreadEvaluation<S> timeoutHandler(Consumer<S> timeoutHandler) {
+    evaluator.timeoutHandler(timeoutHandler) ;
+    return this ;
+  }
+
+  @Override
+  public int computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  public int maximumConcurrentEvaluations() {
+    return evaluator.maximumConcurrentEvaluations() ;
+  }
+
+  @Override
+  public Problem<S> problem() {
+    return problem ;
+  }
+
+  /**
+   * Releases the threads of the evaluation
+   */
+  public void shutdown() {
+    evaluator.shutdown() ;
+  }
+}
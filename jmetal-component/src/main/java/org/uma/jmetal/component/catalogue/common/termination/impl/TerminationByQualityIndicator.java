@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Map;
 import org.uma.jmetal.component.catalogue.common.termination.Termination;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.incremental.IncrementalQualityIndicator;
+import org.uma.jmetal.qualityindicator.incremental.IncrementalQualityIndicators;
+import org.uma.jmetal.qualityindicator.incremental.IndicatorTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
@@ -14,6 +17,10 @@ import org.uma.jmetal.util.errorchecking.Check;
  * percentage of the value of a quality indicator applied to a reference front. An evaluations limit
  * is used to avoid an infinite loop if the value is never achieved.
  *
+ * <p>If the indicator has an incremental version (see {@link IncrementalQualityIndicators}), its
+ * value is updated with the solutions that have changed since the previous check instead of being
+ * computed from scratch on the whole population.
+ *
  * @author Antonio J. Nebro
  */
 public class TerminationByQualityIndicator implements Termination {
@@ -25,6 +32,7 @@ public class TerminationByQualityIndicator implements Termination {
   private int evaluations;
   private boolean evaluationsLimitReached;
   private double computedIndicatorValue;
+  private final IndicatorTracker<Solution<?>> indicatorTracker;
 
   public TerminationByQualityIndicator(
       QualityIndicator qualityIndicator, double[][] referenceFront, double percentage,
@@ -45,6 +53,14 @@ public class TerminationByQualityIndicator implements Termination {
     double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
     qualityIndicator.referenceFront(normalizedReferenceFront);
     referenceFrontIndicatorValue = qualityIndicator.compute(normalizedReferenceFront);
+
+    IncrementalQualityIndicator incrementalQualityIndicator =
+        IncrementalQualityIndicators.create(qualityIndicator);
+    indicatorTracker = incrementalQualityIndicator == null
+        ? null
+        : new IndicatorTracker<>(incrementalQualityIndicator,
+            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
   }
 
   @Override
@@ -63,14 +79,18 @@ public class TerminationByQualityIndicator implements Termination {
       evaluationsLimitReached = true;
       stoppingCondition = true ;
     } else {
-      double[][] front = SolutionListUtils.getMatrixWithObjectiveValues(population);
-      double[][] normalizedFront =
-          NormalizeUtils.normalize(
-              front,
-              NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-              NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
-
-      computedIndicatorValue = qualityIndicator.compute(normalizedFront);
+      if (indicatorTracker != null) {
+        computedIndicatorValue = indicatorTracker.update(population);
+      } else {
+        double[][] front = SolutionListUtils.getMatrixWithObjectiveValues(population);
+        double[][] normalizedFront =
+            NormalizeUtils.normalize(
+                front,
+                NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+                NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+
+        computedIndicatorValue = qualityIndicator.compute(normalizedFront);
+      }
 
       boolean successfulStopCondition =
           computedIndicatorValue >= percentage * referenceFrontIndicatorValue;
@@ -0,0 +1,387 @@
+package org.uma.jmetal.component.catalogue.ea.replacement.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributions;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Stateful version of {@link SMSEMOAReplacement} for steady-state SMS-EMOA: the joint population is
+ * ranked, and the solution of the last front with the lowest hypervolume contribution is removed.
+ * As in {@link SMSEMOAReplacement} with the default {@code PISAHypervolume}, the contributions are
+ * measured with respect to the point formed by the maximum value of each objective in the joint
+ * population plus an offset (the normalization applied by {@code PISAHypervolume} scales all the
+ * contributions by the same factor, so the removed solution is the same up to rounding in ties).
+ *
+ * <p>The fronts of the population returned are kept between calls. When the next call receives
+ * that population and a single offspring solution, the ranking is not recomputed if the
+ * composition of the fronts does not change:
+ * <ul>
+ *   <li>if the offspring is dominated by a solution of the last front, it forms a new front and it
+ *   is the solution removed;</li>
+ *   <li>if the offspring is dominated by a solution of the second to last front and it is
+ *   non-dominated with respect to the last front, it joins the last front, and only the
+ *   contributions of that front are updated. With two objectives, the last front is kept sorted
+ *   in a map, and only the contributions of the neighbours of the inserted and removed solutions
+ *   (and of the extreme solutions, if the reference point moves) are recomputed; otherwise, the
+ *   contributions of the last front are recomputed with {@link HypervolumeContributions}.</li>
+ * </ul>
+ * In any other case (the offspring dominates solutions of the population, the population has been
+ * modified, several offspring solutions, etc.), the full replacement is applied.
+ *
+ * <p>The dominance comparator must be the one used by the ranking.
+ *
+ * @author Antonio J. Nebro
+ * @param <S>
+ */
+public class IncrementalSMSEMOAReplacement<S extends Solution<?>> implements Replacement<S> {
+  public static final double DEFAULT_OFFSET = 100.0;
+
+  private final Ranking<S> ranking;
+  private final Comparator<S> dominanceComparator;
+  private final double offset;
+
+  // State of the last population returned
+  private List<S> lastPopulation;
+  private Object[] lastPopulationElements;
+  private List<List<S>> fronts;
+  private double[] maximumValues;
+  private Staircase staircase;
+
+  public IncrementalSMSEMOAReplacement(Ranking<S> ranking) {
+    this(ranking, new DominanceWithConstraintsComparator<>(), DEFAULT_OFFSET);
+  }
+
+  public IncrementalSMSEMOAReplacement(Ranking<S> ranking, Comparator<S> dominanceComparator,
+      double offset) {
+    Check.notNull(ranking);
+    Check.notNull(dominanceComparator);
+    Check.that(offset > 0, "The offset is not positive: " + offset);
+
+    this.ranking = ranking;
+    this.dominanceComparator = dominanceComparator;
+    this.offset = offset;
+  }
+
+  @Override
+  public List<S> replace(List<S> solutionList, List<S> offspringList) {
+    List<S> result = null;
+    if (offspringList.size() == 1 && isLastPopulation(solutionList)) {
+      result = incrementalReplacement(offspringList.get(0));
+    }
+    if (result == null) {
+      result = fullReplacement(solutionList, offspringList);
+    }
+
+    lastPopulation = result;
+    lastPopulationElements = result.toArray();
+
+    return result;
+  }
+
+  private boolean isLastPopulation(List<S> solutionList) {
+    if (solutionList != lastPopulation || solutionList.size() != lastPopulationElements.length) {
+      return false;
+    }
+    for (int i = 0; i < lastPopulationElements.length; i++) {
+      if (solutionList.get(i) != lastPopulationElements[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private List<S> fullReplacement(List<S> solutionList, List<S> offspringList) {
+    List<S> jointPopulation = new ArrayList<>(solutionList);
+    jointPopulation.addAll(offspringList);
+
+    ranking.compute(jointPopulation);
+    fronts = new ArrayList<>(ranking.getNumberOfSubFronts());
+    for (int i = 0; i < ranking.getNumberOfSubFronts(); i++) {
+      fronts.add(new ArrayList<>(ranking.getSubFront(i)));
+    }
+
+    maximumValues = maximumValues(jointPopulation);
+    List<S> lastFront = fronts.get(fronts.size() - 1);
+    lastFront.remove(worstSolutionIndex(lastFront, referencePoint()));
+    if (lastFront.isEmpty()) {
+      fronts.remove(fronts.size() - 1);
+    }
+
+    staircase = null;
+    List<S> result = population();
+    maximumValues = maximumValues(result);
+
+    return result;
+  }
+
+  /**
+   * Returns the new population, or null if the composition of the fronts changes
+   */
+  private List<S> incrementalReplacement(S offspring) {
+    List<S> lastFront = fronts.get(fronts.size() - 1);
+    for (S solution : lastFront) {
+      if (dominanceComparator.compare(solution, offspring) < 0) {
+        return new ArrayList<>(lastPopulation);
+      }
+    }
+    for (S solution : lastFront) {
+      if (dominanceComparator.compare(offspring, solution) < 0) {
+        return null;
+      }
+    }
+    if (fronts.size() > 1 && !isDominatedByTheSecondToLastFront(offspring)) {
+      return null;
+    }
+
+    double[] previousMaximumValues = maximumValues.clone();
+    for (int j = 0; j < maximumValues.length; j++) {
+      maximumValues[j] = Math.max(maximumValues[j], offspring.objectives()[j]);
+    }
+    double[] referencePoint = referencePoint();
+
+    S worst;
+    if (maximumValues.length == 2 && updateStaircase(lastFront, offspring, referencePoint)) {
+      worst = staircase.worst();
+      staircase.remove(worst);
+    } else {
+      staircase = null;
+      List<S> extendedFront = new ArrayList<>(lastFront);
+      extendedFront.add(offspring);
+      worst = extendedFront.get(worstSolutionIndex(extendedFront, referencePoint));
+    }
+
+    if (worst == offspring) {
+      maximumValues = previousMaximumValues;
+      return new ArrayList<>(lastPopulation);
+    }
+
+    removeByIdentity(lastFront, worst);
+    lastFront.add(offspring);
+    for (int j = 0; j < maximumValues.length; j++) {
+      if (worst.objectives()[j] == maximumValues[j]) {
+        maximumValues = maximumValues(population());
+        break;
+      }
+    }
+
+    return population();
+  }
+
+  private boolean isDominatedByTheSecondToLastFront(S solution) {
+    for (S member : fronts.get(fronts.size() - 2)) {
+      if (dominanceComparator.compare(member, solution) < 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Inserts the offspring in the staircase of the last front, building it if needed. Returns false
+   * if the last front cannot be represented as a staircase (e.g., due to duplicated solutions)
+   */
+  private boolean updateStaircase(List<S> lastFront, S offspring, double[] referencePoint) {
+    if (staircase == null) {
+      staircase = new Staircase();
+      for (S solution : lastFront) {
+        if (!staircase.add(solution)) {
+          staircase = null;
+          return false;
+        }
+      }
+      staircase.referencePoint(referencePoint);
+      staircase.updateAll();
+    }
+
+    if (!staircase.add(offspring)) {
+      staircase = null;
+      return false;
+    }
+    staircase.referencePoint(referencePoint);
+    staircase.updateNeighbourhood(offspring);
+
+    return true;
+  }
+
+  /**
+   * Index of the solution with the lowest contribution. As in {@link SMSEMOAReplacement}, ties are
+   * broken in favour of the last solution in the list.
+   */
+  private int worstSolutionIndex(List<S> front, double[] referencePoint) {
+    double[][] points = new double[front.size()][];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = front.get(i).objectives();
+    }
+    double[] contributions = HypervolumeContributions.compute(points, referencePoint);
+
+    int worst = contributions.length - 1;
+    for (int i = contributions.length - 2; i >= 0; i--) {
+      if (contributions[i] < contributions[worst]) {
+        worst = i;
+      }
+    }
+
+    return worst;
+  }
+
+  private double[] referencePoint() {
+    double[] referencePoint = new double[maximumValues.length];
+    for (int j = 0; j < referencePoint.length; j++) {
+      referencePoint[j] = maximumValues[j] + offset;
+    }
+
+    return referencePoint;
+  }
+
+  private double[] maximumValues(List<S> solutions) {
+    double[] result = new double[solutions.get(0).objectives().length];
+    Arrays.fill(result, Double.NEGATIVE_INFINITY);
+    for (S solution : solutions) {
+      for (int j = 0; j < result.length; j++) {
+        result[j] = Math.max(result[j], solution.objectives()[j]);
+      }
+    }
+
+    return result;
+  }
+
+  private List<S> population() {
+    List<S> result = new ArrayList<>();
+    for (List<S> front : fronts) {
+      result.addAll(front);
+    }
+
+    return result;
+  }
+
+  private void removeByIdentity(List<S> list, S solution) {
+    for (int i = 0; i < list.size(); i++) {
+      if (list.get(i) == solution) {
+        list.remove(i);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Two-objective front sorted by the first objective, with the solutions ordered by their
+   * hypervolume contributions. The contribution of a solution is the rectangle delimited by its
+   * neighbours and, for the extreme solutions, by the reference point.
+   */
+  private class Staircase {
+    private final TreeMap<Double, S> solutions = new TreeMap<>();
+    private final Map<S, Double> contributions = new IdentityHashMap<>();
+    private final Map<S, Long> insertionOrder = new IdentityHashMap<>();
+    private final TreeSet<S> solutionsByContribution = new TreeSet<>(
+        Comparator.comparingDouble((S solution) -> contributions.get(solution))
+            .thenComparing(solution -> -insertionOrder.get(solution)));
+    private double[] referencePoint;
+    private long counter;
+
+    /**
+     * Returns false if the solution is dominated by or duplicates a solution of the staircase
+     */
+    boolean add(S solution) {
+      double x = solution.objectives()[0] + 0.0;
+      double y = solution.objectives()[1];
+      if (solutions.containsKey(x)) {
+        return false;
+      }
+      Map.Entry<Double, S> lower = solutions.lowerEntry(x);
+      Map.Entry<Double, S> higher = solutions.higherEntry(x);
+      if ((lower != null && y(lower.getValue()) <= y)
+          || (higher != null && y(higher.getValue()) >= y)) {
+        return false;
+      }
+
+      solutions.put(x, solution);
+      insertionOrder.put(solution, counter++);
+
+      return true;
+    }
+
+    void remove(S solution) {
+      double x = solution.objectives()[0] + 0.0;
+      solutionsByContribution.remove(solution);
+      contributions.remove(solution);
+      insertionOrder.remove(solution);
+      solutions.remove(x);
+
+      Map.Entry<Double, S> lower = solutions.lowerEntry(x);
+      Map.Entry<Double, S> higher = solutions.higherEntry(x);
+      if (lower != null) {
+        update(lower.getValue());
+      }
+      if (higher != null) {
+        update(higher.getValue());
+      }
+    }
+
+    /**
+     * Sets the reference point, updating the contributions of the extreme solutions if it changes
+     */
+    void referencePoint(double[] referencePoint) {
+      boolean changed = !Arrays.equals(this.referencePoint, referencePoint);
+      this.referencePoint = referencePoint;
+      if (changed && !contributions.isEmpty()) {
+        update(solutions.firstEntry().getValue());
+        update(solutions.lastEntry().getValue());
+      }
+    }
+
+    void updateAll() {
+      for (S solution : solutions.values()) {
+        update(solution);
+      }
+    }
+
+    void updateNeighbourhood(S solution) {
+      double x = solution.objectives()[0] + 0.0;
+      update(solution);
+      Map.Entry<Double, S> lower = solutions.lowerEntry(x);
+      Map.Entry<Double, S> higher = solutions.higherEntry(x);
+      if (lower != null) {
+        update(lower.getValue());
+      }
+      if (higher != null) {
+        update(higher.getValue());
+      }
+    }
+
+    S worst() {
+      return solutionsByContribution.first();
+    }
+
+    private void update(S solution) {
+      if (contributions.containsKey(solution)) {
+        solutionsByContribution.remove(solution);
+      }
+
+      double x = solution.objectives()[0] + 0.0;
+      Map.Entry<Double, S> lower = solutions.lowerEntry(x);
+      Map.Entry<Double, S> higher = solutions.higherEntry(x);
+      double nextX = higher == null ? referencePoint[0] : higher.getValue().objectives()[0];
+      double previousY = lower == null ? referencePoint[1] : y(lower.getValue());
+      contributions.put(solution, (nextX - x) * (previousY - y(solution)));
+
+      solutionsByContribution.add(solution);
+    }
+
+    private double y(S solution) {
+      return solution.objectives()[1];
+    }
+  }
+}
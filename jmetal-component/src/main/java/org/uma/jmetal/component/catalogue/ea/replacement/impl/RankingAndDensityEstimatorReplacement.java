@@ -7,6 +7,8 @@ import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.component.util.RankingAndDensityEstimatorPreference;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceTruncation;
 import org.uma.jmetal.util.ranking.Ranking;
 
 public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
@@ -15,6 +17,9 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
   private Ranking<S> ranking;
   private DensityEstimator<S> densityEstimator;
   private RemovalPolicy removalPolicy;
+  // Used in the sequential truncation when the density estimator is the crowding distance
+  private final CrowdingDistanceTruncation<S> crowdingDistanceTruncation =
+      new CrowdingDistanceTruncation<>();
 
   public RankingAndDensityEstimatorReplacement(
       Ranking<S> ranking, DensityEstimator<S> densityEstimator) {
@@ -85,6 +90,10 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
       resultList.addAll(
           sequentialTruncation(
               rankingId + 1, sizeOfTheResultingSolutionList - currentRankSolutions.size()));
+    } else if (densityEstimator.getClass() == CrowdingDistanceDensityEstimator.class) {
+      resultList = crowdingDistanceTruncation.truncate(currentRankSolutions,
+          sizeOfTheResultingSolutionList);
+      densityEstimator.compute(resultList);
     } else {
       for (S solution : currentRankSolutions) {
         resultList.add(solution);
@@ -0,0 +1,202 @@
+package org.uma.jmetal.component.catalogue.ea.variation.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.uma.jmetal.component.catalogue.ea.variation.Variation;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Parallel version of {@link CrossoverAndMutationVariation}. The mating pool is split into groups of
+ * parents (one per crossover), and the groups are processed in chunks in a {@link ForkJoinPool}:
+ * the crossover is applied to each group and the resulting children are mutated. The offspring
+ * population contains the children in the same order as in {@link CrossoverAndMutationVariation}.
+ *
+ * <p>The random numbers are drawn from the per-thread streams of {@link JMetalRandom}, so the
+ * splittable streams must be enabled (see {@link JMetalRandom#enableSplittableStreams(long)}) to
+ * run the variation in parallel; otherwise, the groups are processed sequentially in the calling
+ * thread, as the default generator is shared by all the threads. Each group of parents is processed
+ * in its own stream, reserved from the calling thread, so the offspring population only depends on
+ * the master seed and not on the number of threads. The crossover and mutation operators are invoked
+ * concurrently, so they must not keep state between invocations.
+ *
+ * @author Antonio J. Nebro
+ * @param <S>
+ */
+public class ParallelCrossoverAndMutationVariation<S extends Solution<?>> implements Variation<S> {
+  private final CrossoverOperator<S> crossover ;
+  private final MutationOperator<S> mutation ;
+  private final ForkJoinPool pool ;
+  private int matingPoolSize ;
+  private final int offspringPopulationSize ;
+
+  public ParallelCrossoverAndMutationVariation(
+      int offspringPopulationSize,
+      CrossoverOperator<S> crossover,
+      MutationOperator<S> mutation,
+      ForkJoinPool pool) {
+    Check.notNull(crossover);
+    Check.notNull(mutation);
+    Check.notNull(pool);
+
+    this.crossover = crossover ;
+    this.mutation = mutation ;
+    this.pool = pool ;
+    this.offspringPopulationSize = offspringPopulationSize ;
+
+    this.matingPoolSize = offspringPopulationSize *
+        crossover.numberOfRequiredParents() / crossover.numberOfGeneratedChildren();
+
+    int remainder = matingPoolSize % crossover.numberOfRequiredParents();
+    if (remainder != 0) {
+      matingPoolSize += remainder;
+    }
+  }
+
+  public ParallelCrossoverAndMutationVariation(
+      int offspringPopulationSize,
+      CrossoverOperator<S> crossover,
+      MutationOperator<S> mutation) {
+    this(offspringPopulationSize, crossover, mutation, ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public List<S> variate(List<S> population, List<S> matingPopulation) {
+    int numberOfParents = crossover.numberOfRequiredParents();
+
+    checkNumberOfParents(matingPopulation, numberOfParents);
+
+    int numberOfGroups = matingPoolSize / numberOfParents;
+    // The children of each group are stored in its position, which is set by a single task
+    List<List<S>> children = new ArrayList<>(Collections.nCopies(numberOfGroups, null));
+
+    JMetalRandom random = JMetalRandom.getInstance();
+    if (random.isSplittableStreamsEnabled()) {
+      long firstStream = random.reserveStreams(numberOfGroups);
+      int chunkSize = Math.max(1, numberOfGroups / (4 * pool.getParallelism()));
+      pool.invoke(
+          new VariationTask(matingPopulation, children, firstStream, chunkSize, 0, numberOfGroups));
+    } else {
+      for (int group = 0; group < numberOfGroups; group++) {
+        children.set(group, variate(matingPopulation, group));
+      }
+    }
+
+    List<S> offspringPopulation = new ArrayList<>(offspringPopulationSize);
+    for (List<S> groupChildren : children) {
+      for (S s : groupChildren) {
+        if (offspringPopulation.size() < offspringPopulationSize) {
+          offspringPopulation.add(s);
+        }
+      }
+    }
+
+    Check.that(
+            offspringPopulation.size() == offspringPopulationSize,
+            "The size of the"
+                    + "offspring population is not correct: "
+                    + offspringPopulation.size()
+                    + " instead of "
+                    + offspringPopulationSize);
+
+    return offspringPopulation;
+  }
+
+  /**
+   * Applies the crossover to a group of parents and mutates the children. As in
+   * {@link CrossoverAndMutationVariation}, the children exceeding the offspring population size are
+   * not mutated.
+   */
+  private List<S> variate(List<S> matingPopulation, int group) {
+    int numberOfParents = crossover.numberOfRequiredParents();
+    List<S> parents = new ArrayList<>(numberOfParents);
+    for (int j = 0; j < numberOfParents; j++) {
+      parents.add(matingPopulation.get(group * numberOfParents + j));
+    }
+
+    List<S> offspring = crossover.execute(parents);
+
+    int remainingChildren = offspringPopulationSize - group * crossover.numberOfGeneratedChildren();
+    for (int i = 0; i < Math.min(offspring.size(), remainingChildren); i++) {
+      mutation.execute(offspring.get(i));
+    }
+
+    return offspring;
+  }
+
+  /**
+   * A crossover operator is applied to a number of parents, and it assumed that the population contains
+   * a valid number of population. This method checks that.
+   *
+   * @param population
+   * @param numberOfParentsForCrossover
+   */
+  private void checkNumberOfParents(List<S> population, int numberOfParentsForCrossover) {
+    if ((population.size() % numberOfParentsForCrossover) != 0) {
+      throw new JMetalException("Wrong number of parents: the remainder if the " +
+          "population size (" + population.size() + ") is not divisible by " +
+          numberOfParentsForCrossover);
+    }
+  }
+
+  @Override
+  public int getMatingPoolSize() {
+    return matingPoolSize ;
+  }
+
+  @Override
+  public int getOffspringPopulationSize() {
+    return offspringPopulationSize ;
+  }
+
+  public ForkJoinPool pool() {
+    return pool ;
+  }
+
+  /**
+   * Processes the groups of parents <code>[from, to)</code>, splitting the range until it has at
+   * most <code>chunkSize</code> groups
+   */
+  private class VariationTask extends RecursiveAction {
+    private final List<S> matingPopulation ;
+    private final List<List<S>> children ;
+    private final long firstStream ;
+    private final int chunkSize ;
+    private final int from ;
+    private final int to ;
+
+    VariationTask(List<S> matingPopulation, List<List<S>> children, long firstStream, int chunkSize,
+        int from, int to) {
+      this.matingPopulation = matingPopulation ;
+      this.children = children ;
+      this.firstStream = firstStream ;
+      this.chunkSize = chunkSize ;
+      this.from = from ;
+      this.to = to ;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkSize) {
+        JMetalRandom random = JMetalRandom.getInstance() ;
+        for (int group = from; group < to; group++) {
+          int currentGroup = group ;
+          children.set(group, random.callInStream(firstStream + group,
+              () -> variate(matingPopulation, currentGroup))) ;
+        }
+      } else {
+        int middle = (from + to) >>> 1 ;
+        invokeAll(
+            new VariationTask(matingPopulation, children, firstStream, chunkSize, from, middle),
+            new VariationTask(matingPopulation, children, firstStream, chunkSize, middle, to)) ;
+      }
+    }
+  }
+}
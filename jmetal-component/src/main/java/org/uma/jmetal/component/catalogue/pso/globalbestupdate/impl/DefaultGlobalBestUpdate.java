@@ -1,9 +1,11 @@
 package org.uma.jmetal.component.catalogue.pso.globalbestupdate.impl;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import org.uma.jmetal.component.catalogue.pso.globalbestupdate.GlobalBestUpdate;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.archive.impl.AbstractBoundedArchive;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -25,7 +27,15 @@ public class DefaultGlobalBestUpdate implements GlobalBestUpdate {
     Check.notNull(globalBest);
     Check.that(!swarm.isEmpty(), "The swarm size is empty: " + swarm.size());
 
-    swarm.stream().map(particle -> (DoubleSolution) particle.copy()).forEach(globalBest::add);
+    if (globalBest instanceof AbstractBoundedArchive) {
+      // The archive is truncated once after inserting the whole swarm
+      ((AbstractBoundedArchive<DoubleSolution>) globalBest).addAll(
+          swarm.stream()
+              .map(particle -> (DoubleSolution) particle.copy())
+              .collect(Collectors.toList()));
+    } else {
+      swarm.stream().map(particle -> (DoubleSolution) particle.copy()).forEach(globalBest::add);
+    }
     return globalBest;
   }
 }
\ No newline at end of file
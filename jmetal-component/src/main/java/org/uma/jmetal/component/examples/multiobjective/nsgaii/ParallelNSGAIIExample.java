@@ -63,6 +63,8 @@ public class ParallelNSGAIIExample {
 
     Termination termination = new TerminationByEvaluations(25000);
 
+    var evaluation = new MultiThreadedEvaluation<>(8, problem);
+
     EvolutionaryAlgorithm<DoubleSolution> nsgaii = new NSGAIIBuilder<>(
         problem,
         populationSize,
@@ -70,10 +72,11 @@ public class ParallelNSGAIIExample {
         crossover,
         mutation)
         .setTermination(termination)
-        .setEvaluation(new MultiThreadedEvaluation<>(8, problem))
+        .setEvaluation(evaluation)
         .build();
 
     nsgaii.run();
+    evaluation.shutdown();
 
     List<DoubleSolution> population = nsgaii.result();
     JMetalLogger.logger.info("Total execution time : " + nsgaii.totalComputingTime() + "ms");
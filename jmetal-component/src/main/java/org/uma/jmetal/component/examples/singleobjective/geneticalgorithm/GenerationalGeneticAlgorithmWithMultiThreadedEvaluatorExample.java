@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.util.List;
 import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
 import org.uma.jmetal.component.algorithm.singleobjective.GeneticAlgorithmBuilder;
-import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
 import org.uma.jmetal.component.catalogue.common.termination.Termination;
 import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
@@ -42,7 +41,7 @@ public class GenerationalGeneticAlgorithmWithMultiThreadedEvaluatorExample {
 
     Termination termination = new TerminationByEvaluations(125000);
 
-    Evaluation<DoubleSolution> evaluation = new MultiThreadedEvaluation<>(8, problem) ;
+    MultiThreadedEvaluation<DoubleSolution> evaluation = new MultiThreadedEvaluation<>(8, problem) ;
 
     EvolutionaryAlgorithm<DoubleSolution> geneticAlgorithm = new GeneticAlgorithmBuilder<>(
         "GGA",
@@ -56,6 +55,7 @@ public class GenerationalGeneticAlgorithmWithMultiThreadedEvaluatorExample {
         .build();
 
     geneticAlgorithm.run();
+    evaluation.shutdown();
 
     List<DoubleSolution> population = geneticAlgorithm.result();
     JMetalLogger.logger.info("Total execution time : " + geneticAlgorithm.totalComputingTime() + "ms");
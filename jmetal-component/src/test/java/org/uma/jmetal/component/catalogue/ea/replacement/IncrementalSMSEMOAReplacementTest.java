@@ -0,0 +1,127 @@
+package org.uma.jmetal.component.catalogue.ea.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.IncrementalSMSEMOAReplacement;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.SMSEMOAReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+class IncrementalSMSEMOAReplacementTest {
+
+  private static DoubleSolution solution(FakeDoubleProblem problem, Random random, boolean onAFront) {
+    DoubleSolution solution = problem.createSolution();
+    double norm = 0.0;
+    for (int j = 0; j < solution.objectives().length; j++) {
+      solution.objectives()[j] = random.nextDouble();
+      norm += solution.objectives()[j] * solution.objectives()[j];
+    }
+    // Points close to the unit sphere, so that the last front contains several solutions
+    double radius = onAFront ? 1.0 + 0.05 * random.nextDouble() : 1.0 + random.nextDouble();
+    for (int j = 0; j < solution.objectives().length; j++) {
+      solution.objectives()[j] *= radius / Math.sqrt(norm);
+    }
+
+    return solution;
+  }
+
+  private static Set<DoubleSolution> identitySet(List<DoubleSolution> solutions) {
+    Set<DoubleSolution> set = Collections.newSetFromMap(new IdentityHashMap<>());
+    set.addAll(solutions);
+    return set;
+  }
+
+  private static void assertSameDecisionsAsTheFullReplacement(int numberOfObjectives) {
+    FakeDoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(numberOfObjectives);
+    var incrementalReplacement = new IncrementalSMSEMOAReplacement<DoubleSolution>(
+        new FastNonDominatedSortRanking<>());
+    var replacement = new SMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>());
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      population.add(solution(problem, random, random.nextBoolean()));
+    }
+
+    for (int generation = 0; generation < 1000; generation++) {
+      List<DoubleSolution> offspring = List.of(solution(problem, random, random.nextBoolean()));
+
+      List<DoubleSolution> expectedPopulation =
+          replacement.replace(new ArrayList<>(population), offspring);
+      population = incrementalReplacement.replace(population, offspring);
+
+      assertEquals(identitySet(expectedPopulation), identitySet(population));
+    }
+  }
+
+  @Test
+  void shouldTheReplacementBeEqualToTheFullReplacementWithTwoObjectives() {
+    assertSameDecisionsAsTheFullReplacement(2);
+  }
+
+  @Test
+  void shouldTheReplacementBeEqualToTheFullReplacementWithThreeObjectives() {
+    assertSameDecisionsAsTheFullReplacement(3);
+  }
+
+  @Test
+  void shouldTheReplacementRemoveAnOffspringDominatedByTheLastFront() {
+    FakeDoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    var replacement = new IncrementalSMSEMOAReplacement<DoubleSolution>(
+        new FastNonDominatedSortRanking<>());
+
+    double[][] objectives = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}, {0.6, 0.6}, {2.0, 2.0}};
+    List<DoubleSolution> population = new ArrayList<>();
+    for (double[] values : objectives) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = values[0];
+      solution.objectives()[1] = values[1];
+      population.add(solution);
+    }
+    DoubleSolution offspring = problem.createSolution();
+    offspring.objectives()[0] = 0.7;
+    offspring.objectives()[1] = 0.7;
+
+    population = replacement.replace(population, List.of(population.remove(4)));
+    List<DoubleSolution> result = replacement.replace(population, List.of(offspring));
+
+    assertEquals(identitySet(population), identitySet(result));
+  }
+
+  @Test
+  void shouldTheResultHaveTheSizeOfThePopulation() {
+    FakeDoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(1);
+    var replacement = new IncrementalSMSEMOAReplacement<DoubleSolution>(
+        new FastNonDominatedSortRanking<>());
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      population.add(solution(problem, random, true));
+    }
+    DoubleSolution offspring = solution(problem, random, true);
+    List<DoubleSolution> result = replacement.replace(population, List.of(offspring));
+
+    assertEquals(10, result.size());
+    assertSame(result.getClass(), ArrayList.class);
+  }
+
+  @Test
+  void shouldConstructorRaiseAnExceptionIfTheOffsetIsNotPositive() {
+    assertThrows(InvalidConditionException.class,
+        () -> new IncrementalSMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>(),
+            new DominanceWithConstraintsComparator<>(), 0.0));
+  }
+}
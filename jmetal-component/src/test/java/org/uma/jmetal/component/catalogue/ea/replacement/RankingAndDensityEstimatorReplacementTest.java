@@ -1,6 +1,7 @@
 package org.uma.jmetal.component.catalogue.ea.replacement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -112,4 +113,33 @@ class RankingAndDensityEstimatorReplacementTest {
 
     assertEquals(8, nextPopulation.size());
   }
+
+  @Test
+  void sequentialReplacementWithCrowdingDistanceKeepsTheExtremeSolutions() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+
+    double[][] objectiveValues =
+        new double[][] {
+          {0.0, 1.0}, {0.1, 0.9}, {0.5, 0.5}, {1.0, 0.0}, {0.55, 0.45}, {0.8, 0.2}
+        };
+
+    List<DoubleSolution> solutionList = new ArrayList<>(objectiveValues.length);
+    for (double[] objectives : objectiveValues) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = objectives[0];
+      solution.objectives()[1] = objectives[1];
+      solutionList.add(solution);
+    }
+
+    Replacement<DoubleSolution> replacement =
+        new RankingAndDensityEstimatorReplacement<>(
+            new FastNonDominatedSortRanking<>(), new CrowdingDistanceDensityEstimator<>(),
+            Replacement.RemovalPolicy.SEQUENTIAL);
+
+    var nextPopulation = replacement.replace(solutionList.subList(0, 3), solutionList.subList(3, 6));
+
+    assertEquals(3, nextPopulation.size());
+    assertTrue(nextPopulation.contains(solutionList.get(0)));
+    assertTrue(nextPopulation.contains(solutionList.get(3)));
+  }
 }
@@ -0,0 +1,80 @@
+package org.uma.jmetal.component.catalogue.ea.variation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.CrossoverAndMutationVariation;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.ParallelCrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+class ParallelCrossoverAndMutationVariationTest {
+  private final DoubleProblem problem = new FakeDoubleProblem(20, 2, 0);
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void tearDown() {
+    JMetalRandom.getInstance().disableSplittableStreams();
+    pool.shutdown();
+  }
+
+  @Test
+  void shouldVariateProduceTheSameOffspringAsCrossoverAndMutationVariationIfTheStreamsAreDisabled() {
+    List<DoubleSolution> matingPool = createMatingPool(11);
+
+    JMetalRandom.getInstance().setSeed(1);
+    List<DoubleSolution> expected = new CrossoverAndMutationVariation<>(11,
+        new SBXCrossover(0.9, 20.0), new PolynomialMutation(1.0, 20.0)).variate(null, matingPool);
+
+    JMetalRandom.getInstance().setSeed(1);
+    List<DoubleSolution> obtained = new ParallelCrossoverAndMutationVariation<>(11,
+        new SBXCrossover(0.9, 20.0), new PolynomialMutation(1.0, 20.0), pool)
+        .variate(null, matingPool);
+
+    assertSameVariables(expected, obtained);
+  }
+
+  @Test
+  void shouldTheOffspringNotDependOnTheNumberOfThreadsIfTheStreamsAreEnabled() {
+    List<DoubleSolution> matingPool = createMatingPool(100);
+
+    ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+    JMetalRandom.getInstance().enableSplittableStreams(1);
+    List<DoubleSolution> sequentialOffspring = new ParallelCrossoverAndMutationVariation<>(100,
+        new SBXCrossover(0.9, 20.0), new PolynomialMutation(1.0, 20.0), singleThreadPool)
+        .variate(null, matingPool);
+    singleThreadPool.shutdown();
+
+    JMetalRandom.getInstance().enableSplittableStreams(1);
+    List<DoubleSolution> parallelOffspring = new ParallelCrossoverAndMutationVariation<>(100,
+        new SBXCrossover(0.9, 20.0), new PolynomialMutation(1.0, 20.0), pool)
+        .variate(null, matingPool);
+
+    assertEquals(100, parallelOffspring.size());
+    assertSameVariables(sequentialOffspring, parallelOffspring);
+  }
+
+  private List<DoubleSolution> createMatingPool(int offspringPopulationSize) {
+    int matingPoolSize = offspringPopulationSize + offspringPopulationSize % 2;
+    List<DoubleSolution> matingPool = new ArrayList<>(matingPoolSize);
+    for (int i = 0; i < matingPoolSize; i++) {
+      matingPool.add(problem.createSolution());
+    }
+    return matingPool;
+  }
+
+  private void assertSameVariables(List<DoubleSolution> expected, List<DoubleSolution> obtained) {
+    assertEquals(expected.size(), obtained.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).variables(), obtained.get(i).variables());
+    }
+  }
+}
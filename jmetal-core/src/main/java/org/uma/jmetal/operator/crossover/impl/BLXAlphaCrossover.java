@@ -100,8 +100,8 @@ public class BLXAlphaCrossover implements CrossoverOperator<DoubleSolution> {
         Bounds<Double> bounds = parent1.getBounds(i);
         upperBound = bounds.getUpperBound();
         lowerBound = bounds.getLowerBound();
-        valueX1 = parent1.variables().get(i);
-        valueX2 = parent2.variables().get(i);
+        valueX1 = parent1.variableValue(i);
+        valueX2 = parent2.variableValue(i);
 
         double max;
         double min;
@@ -132,8 +132,8 @@ public class BLXAlphaCrossover implements CrossoverOperator<DoubleSolution> {
         valueY1 = solutionRepair.repairSolutionVariableValue(valueY1, lowerBound, upperBound) ;
         valueY2 = solutionRepair.repairSolutionVariableValue(valueY2, lowerBound, upperBound) ;
 
-        offspring.get(0).variables().set(i, valueY1);
-        offspring.get(1).variables().set(i, valueY2);
+        offspring.get(0).variableValue(i, valueY1);
+        offspring.get(1).variableValue(i, valueY2);
       }
     }
 
@@ -24,7 +24,7 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     implements SelectionOperator<List<S>,List<S>> {
   private final int solutionsToSelect ;
   private Comparator<S> dominanceComparator ;
-
+  private Ranking<S> ranking ;
 
   /** Constructor */
   public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator) {
@@ -32,6 +32,17 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     this.solutionsToSelect = solutionsToSelect ;
   }
 
+  /**
+   * Constructor. The ranking is reused in all the calls to {@link #execute(List)}, so a ranking
+   * keeping state between calls (e.g.,
+   * {@link org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking}) can be used
+   */
+  public RankingAndCrowdingSelection(int solutionsToSelect, Ranking<S> ranking) {
+    Check.notNull(ranking);
+    this.ranking = ranking ;
+    this.solutionsToSelect = solutionsToSelect ;
+  }
+
   /** Constructor */
   public RankingAndCrowdingSelection(int solutionsToSelect) {
     this(solutionsToSelect, new DominanceWithConstraintsComparator<S>()) ;
@@ -49,7 +60,9 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     Check.that(solutionList.size() > solutionsToSelect, "The population size ("+solutionList.size()+") is smaller than" +
         "the solutions to selected ("+solutionsToSelect+")");
 
-    Ranking<S> ranking = new FastNonDominatedSortRanking<>(dominanceComparator);
+    Ranking<S> ranking = this.ranking != null
+        ? this.ranking
+        : new FastNonDominatedSortRanking<>(dominanceComparator);
     ranking.compute(solutionList) ;
 
     return crowdingDistanceSelection(ranking);
@@ -0,0 +1,170 @@
+package org.uma.jmetal.qualityindicator;
+
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.distance.KdTree;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Spatial index over the points of a front used to compute the distance-based quality indicators
+ * (GD, IGD, IGD+ and epsilon) without comparing each vector with all the points of the front. The
+ * points are stored in a {@link KdTree}, which is built once, and each query finds the closest point
+ * by pruning the nodes whose bounding box cannot contain a closer one. The queries of a set of
+ * vectors are run in parallel when there are enough of them.
+ *
+ * <p>The values returned for each vector are exactly the same as those of a linear scan with the
+ * distance classes used by the indicators (e.g., {@link org.uma.jmetal.util.VectorUtils#distanceToClosestVector}),
+ * and they are returned in an array in the same order as the vectors, so the indicators can
+ * accumulate them in the same order as before.
+ *
+ * @author Antonio J. Nebro
+ */
+public class FrontIndex {
+  private static final int PARALLEL_THRESHOLD = 64;
+
+  /**
+   * Dominance distance (see {@link org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors})
+   * from the query to a point, without the square root. A point in a box is at least as far from
+   * the query as the lower corner of the box.
+   */
+  private static final KdTree.Measure DOMINANCE_DISTANCE = new KdTree.Measure() {
+    @Override
+    public double value(double[] points, int offset, double[] query) {
+      double distance = 0.0;
+      for (int i = 0; i < query.length; i++) {
+        double max = Math.max(points[offset + i] - query[i], 0.0);
+        distance += Math.pow(max, 2);
+      }
+      return distance;
+    }
+
+    @Override
+    public double lowerBound(double[] lower, double[] upper, int offset, double[] query) {
+      return value(lower, offset, query);
+    }
+  };
+
+  /**
+   * Additive epsilon needed by a point to weakly dominate the query, i.e., the maximum of the
+   * differences of their objectives. The lower corner of a box also bounds it.
+   */
+  private static final KdTree.Measure ADDITIVE_EPSILON = new KdTree.Measure() {
+    @Override
+    public double value(double[] points, int offset, double[] query) {
+      double epsilon = points[offset] - query[0];
+      for (int i = 1; i < query.length; i++) {
+        double difference = points[offset + i] - query[i];
+        if (epsilon < difference) {
+          epsilon = difference;
+        }
+      }
+      return epsilon;
+    }
+
+    @Override
+    public double lowerBound(double[] lower, double[] upper, int offset, double[] query) {
+      return value(lower, offset, query);
+    }
+  };
+
+  private final KdTree tree;
+  private final int numberOfObjectives;
+
+  /**
+   * Creates the index of a front, one point per row
+   */
+  public FrontIndex(double[][] front) {
+    Check.notNull(front);
+    Check.that(front.length > 0, "The front is empty");
+    this.tree = new KdTree(front);
+    this.numberOfObjectives = front[0].length;
+  }
+
+  /**
+   * Creates the index of a front stored in a flat, row-major buffer
+   */
+  public FrontIndex(double[] front, int size, int numberOfObjectives) {
+    Check.notNull(front);
+    Check.that(size > 0, "The front is empty");
+    this.tree = new KdTree(front, size, numberOfObjectives);
+    this.numberOfObjectives = numberOfObjectives;
+  }
+
+  public int size() {
+    return tree.size();
+  }
+
+  /**
+   * Euclidean distance from each vector to its closest point of the front
+   */
+  public double[] distancesToClosestPoint(double[][] vectors) {
+    Check.notNull(vectors);
+
+    double[] distances = new double[vectors.length];
+    range(vectors.length).forEach(i -> {
+      checkDimension(vectors[i]);
+      distances[i] = tree.nearestDistance(vectors[i]);
+    });
+
+    return distances;
+  }
+
+  /**
+   * Euclidean distance from each of the vectors stored in a flat, row-major buffer to its closest
+   * point of the front
+   */
+  public double[] distancesToClosestPoint(double[] vectors, int numberOfVectors) {
+    Check.notNull(vectors);
+
+    double[] distances = new double[numberOfVectors];
+    range(numberOfVectors).forEach(i -> {
+      double[] vector = new double[numberOfObjectives];
+      System.arraycopy(vectors, i * numberOfObjectives, vector, 0, numberOfObjectives);
+      distances[i] = tree.nearestDistance(vector);
+    });
+
+    return distances;
+  }
+
+  /**
+   * Dominance distance (the distance used by IGD+) from each vector to its closest point of the
+   * front
+   */
+  public double[] dominanceDistancesToClosestPoint(double[][] vectors) {
+    Check.notNull(vectors);
+
+    double[] distances = new double[vectors.length];
+    range(vectors.length).forEach(i -> {
+      checkDimension(vectors[i]);
+      distances[i] = Math.sqrt(tree.minimum(vectors[i], DOMINANCE_DISTANCE));
+    });
+
+    return distances;
+  }
+
+  /**
+   * For each vector, the minimum additive epsilon needed by a point of the front to weakly dominate
+   * it
+   */
+  public double[] additiveEpsilons(double[][] vectors) {
+    Check.notNull(vectors);
+
+    double[] epsilons = new double[vectors.length];
+    range(vectors.length).forEach(i -> {
+      checkDimension(vectors[i]);
+      epsilons[i] = tree.minimum(vectors[i], ADDITIVE_EPSILON);
+    });
+
+    return epsilons;
+  }
+
+  private void checkDimension(double[] vector) {
+    Check.notNull(vector);
+    Check.that(vector.length == numberOfObjectives, "The vectors have different" +
+        "dimension: " + vector.length + " and " + numberOfObjectives);
+  }
+
+  private static IntStream range(int numberOfQueries) {
+    IntStream range = IntStream.range(0, numberOfQueries);
+    return numberOfQueries >= PARALLEL_THRESHOLD ? range.parallel() : range;
+  }
+}
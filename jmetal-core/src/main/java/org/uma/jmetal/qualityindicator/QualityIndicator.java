@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator;
 
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 
 /**
  * Abstract class representing quality indicators. It is assumed that the fronts are normalized
@@ -21,6 +22,16 @@ public abstract class QualityIndicator {
 
   public abstract double compute(double[][] front) ;
 
+  /**
+   * Computes the indicator on the objective values stored in an {@link ObjectiveMatrix}. By default,
+   * the matrix is converted into a <code>double[][]</code> array; indicators able to work on the
+   * flat objective buffer override this method.
+   */
+  public double compute(ObjectiveMatrix<?> front) {
+    Check.notNull(front);
+    return compute(front.toMatrix()) ;
+  }
+
   public void referenceFront(double[][] referenceFront) {
     this.referenceFront = referenceFront;
   }
@@ -1,8 +1,10 @@
 package org.uma.jmetal.qualityindicator.impl;
 
+import org.uma.jmetal.qualityindicator.FrontIndex;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 
 /**
  * This class implements the unary epsilon additive indicator as proposed in E.
@@ -18,6 +20,7 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  */
 @SuppressWarnings("serial")
 public class Epsilon extends QualityIndicator {
+  private boolean useFrontIndex = true;
 
   /**
    * Default constructor
@@ -44,6 +47,14 @@ public class Epsilon extends QualityIndicator {
     return new Epsilon();
   }
 
+  /**
+   * Sets whether the minimum epsilon values are computed with a {@link FrontIndex} (the default) or by
+   * comparing each vector with all the points of the front. Both modes give the same values.
+   */
+  public void useFrontIndex(boolean useFrontIndex) {
+    this.useFrontIndex = useFrontIndex;
+  }
+
   /**
    * Evaluate() method
    *
@@ -56,6 +67,46 @@ public class Epsilon extends QualityIndicator {
     return epsilon(front, referenceFront);
   }
 
+  @Override public double compute(ObjectiveMatrix<?> front) {
+    Check.notNull(front);
+
+    if (useFrontIndex && front.size() > 0 && referenceFront.length > 0) {
+      return maximum(new FrontIndex(front.objectives(), front.size(), front.numberOfObjectives())
+          .additiveEpsilons(referenceFront));
+    }
+
+    double[] objectives = front.objectives();
+    int numberOfObjectives = front.numberOfObjectives();
+    double eps = Double.MIN_VALUE;
+
+    double epsJ = 0.0;
+    double epsK = 0.0;
+    for (int i = 0; i < referenceFront.length; i++) {
+      for (int j = 0; j < front.size(); j++) {
+        int offset = j * numberOfObjectives;
+        for (int k = 0; k < numberOfObjectives; k++) {
+          double epsTemp = objectives[offset + k] - referenceFront[i][k];
+          if (k == 0) {
+            epsK = epsTemp;
+          } else if (epsK < epsTemp) {
+            epsK = epsTemp;
+          }
+        }
+        if (j == 0) {
+          epsJ = epsK;
+        } else if (epsJ > epsK) {
+          epsJ = epsK;
+        }
+      }
+      if (i == 0) {
+        eps = epsJ;
+      } else if (eps < epsJ) {
+        eps = epsJ;
+      }
+    }
+    return eps;
+  }
+
   /**
    * Returns the value of the epsilon indicator.
    *
@@ -65,6 +116,10 @@ public class Epsilon extends QualityIndicator {
    * @throws JMetalException
    */
   private double epsilon(double[][] front, double[][] referenceFront) throws JMetalException {
+    if (useFrontIndex && front.length > 0 && referenceFront.length > 0) {
+      return maximum(new FrontIndex(front).additiveEpsilons(referenceFront));
+    }
+
     int numberOfObjectives = front[0].length ;
     double eps = Double.MIN_VALUE;
 
@@ -95,6 +150,19 @@ public class Epsilon extends QualityIndicator {
     return eps;
   }
 
+  /**
+   * Maximum of the epsilon values of the reference points, taken in the same way as in the loops
+   */
+  private static double maximum(double[] epsilons) {
+    double eps = epsilons[0];
+    for (int i = 1; i < epsilons.length; i++) {
+      if (eps < epsilons[i]) {
+        eps = epsilons[i];
+      }
+    }
+    return eps;
+  }
+
   @Override public String description() {
     return "Additive Epsilon quality indicator" ;
   }
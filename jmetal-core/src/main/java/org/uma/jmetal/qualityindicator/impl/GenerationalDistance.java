@@ -1,8 +1,10 @@
 package org.uma.jmetal.qualityindicator.impl;
 
+import org.uma.jmetal.qualityindicator.FrontIndex;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 
 /**
  * This class implements the generational distance indicator.
@@ -17,6 +19,9 @@ import org.uma.jmetal.util.errorchecking.Check;
 @SuppressWarnings("serial")
 public class GenerationalDistance extends QualityIndicator {
   private double pow = 2.0;
+  private boolean useFrontIndex = true;
+  private transient double[][] indexedReferenceFront;
+  private transient FrontIndex referenceFrontIndex;
 
   /**
    * Default constructor
@@ -38,6 +43,16 @@ public class GenerationalDistance extends QualityIndicator {
     return new GenerationalDistance();
   }
 
+  /**
+   * Sets whether the distances are computed with a {@link FrontIndex} of the reference front (the
+   * default) or by comparing each vector with all the points of the reference front. Both modes
+   * give the same values. The index is built once and reused while the reference front array is
+   * the same, so the array must not be modified in place.
+   */
+  public void useFrontIndex(boolean useFrontIndex) {
+    this.useFrontIndex = useFrontIndex;
+  }
+
   /**
    * Evaluate() method
    * @param front
@@ -49,6 +64,29 @@ public class GenerationalDistance extends QualityIndicator {
     return generationalDistance(front, referenceFront);
   }
 
+  @Override public double compute(ObjectiveMatrix<?> front) {
+    Check.notNull(front);
+
+    double sum = 0.0;
+    if (useFrontIndex && front.size() > 0) {
+      double[] distances = referenceFrontIndex(referenceFront)
+          .distancesToClosestPoint(front.objectives(), front.size());
+      for (double distance : distances) {
+        sum += Math.pow(distance, pow);
+      }
+    } else {
+      double[] vector = new double[front.numberOfObjectives()];
+      for (int i = 0; i < front.size(); i++) {
+        System.arraycopy(front.objectives(), i * vector.length, vector, 0, vector.length);
+        sum += Math.pow(VectorUtils.distanceToClosestVector(vector, referenceFront), pow);
+      }
+    }
+
+    sum = Math.pow(sum, 1.0 / pow);
+
+    return sum / front.size();
+  }
+
   /**
    * Returns the generational distance value for a given front
    *
@@ -57,8 +95,15 @@ public class GenerationalDistance extends QualityIndicator {
    */
   public double generationalDistance(double[][] front, double[][] referenceFront) {
     double sum = 0.0;
-    for (int i = 0; i < front.length;  i++) {
-      sum += Math.pow(VectorUtils.distanceToClosestVector(front[i], referenceFront), pow);
+    if (useFrontIndex && front.length > 0) {
+      double[] distances = referenceFrontIndex(referenceFront).distancesToClosestPoint(front);
+      for (double distance : distances) {
+        sum += Math.pow(distance, pow);
+      }
+    } else {
+      for (int i = 0; i < front.length;  i++) {
+        sum += Math.pow(VectorUtils.distanceToClosestVector(front[i], referenceFront), pow);
+      }
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -66,6 +111,16 @@ public class GenerationalDistance extends QualityIndicator {
     return sum / front.length;
   }
 
+  private synchronized FrontIndex referenceFrontIndex(double[][] referenceFront) {
+    if (referenceFrontIndex == null || indexedReferenceFront != referenceFront) {
+      Check.notNull(referenceFront);
+      referenceFrontIndex = new FrontIndex(referenceFront);
+      indexedReferenceFront = referenceFront;
+    }
+
+    return referenceFrontIndex;
+  }
+
   @Override public String name() {
     return "GD" ;
   }
@@ -1,9 +1,11 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import java.io.FileNotFoundException;
+import org.uma.jmetal.qualityindicator.FrontIndex;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 
 /**
  * This class implements the inverted generational distance metric.
@@ -19,6 +21,7 @@ import org.uma.jmetal.util.errorchecking.Check;
 public class InvertedGenerationalDistance extends QualityIndicator {
 
   private double pow = 2.0;
+  private boolean useFrontIndex = true;
 
   /**
    * Default constructor
@@ -52,6 +55,18 @@ public class InvertedGenerationalDistance extends QualityIndicator {
     return new InvertedGenerationalDistance();
   }
 
+  public double pow() {
+    return pow;
+  }
+
+  /**
+   * Sets whether the distances are computed with a {@link FrontIndex} (the default) or by
+   * comparing each vector with all the points of the front. Both modes give the same values.
+   */
+  public void useFrontIndex(boolean useFrontIndex) {
+    this.useFrontIndex = useFrontIndex;
+  }
+
   /**
    * Evaluate() method
    * @param front
@@ -62,6 +77,56 @@ public class InvertedGenerationalDistance extends QualityIndicator {
     return invertedGenerationalDistance(front, referenceFront);
   }
 
+  @Override public double compute(ObjectiveMatrix<?> front) {
+    Check.notNull(front);
+    Check.that(front.size() > 0, "The front is empty");
+
+    double[] distances;
+    if (useFrontIndex && referenceFront.length > 0) {
+      distances = new FrontIndex(front.objectives(), front.size(), front.numberOfObjectives())
+          .distancesToClosestPoint(referenceFront);
+    } else {
+      distances = new double[referenceFront.length];
+      for (int i = 0; i < referenceFront.length; i++) {
+        distances[i] = distanceToClosestRow(referenceFront[i], front);
+      }
+    }
+
+    double sum = 0.0;
+    for (double distance : distances) {
+      sum += Math.pow(distance, pow);
+    }
+
+    sum = Math.pow(sum, 1.0 / pow);
+
+    return sum / referenceFront.length;
+  }
+
+  /**
+   * Euclidean distance between a vector and its closest row in an objective matrix
+   */
+  private static double distanceToClosestRow(double[] vector, ObjectiveMatrix<?> front) {
+    double[] objectives = front.objectives();
+    int numberOfObjectives = front.numberOfObjectives();
+    Check.that(vector.length == numberOfObjectives, "The vectors have different" +
+        "dimension: " + vector.length + " and " + numberOfObjectives);
+
+    double minDistance = Double.POSITIVE_INFINITY;
+    for (int row = 0, offset = 0; row < front.size(); row++, offset += numberOfObjectives) {
+      double distance = 0.0;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        double diff = vector[i] - objectives[offset + i];
+        distance += diff * diff;
+      }
+      distance = Math.sqrt(distance);
+      if (row == 0 || distance < minDistance) {
+        minDistance = distance;
+      }
+    }
+
+    return minDistance;
+  }
+
   /**
    * Returns the inverted generational distance value for a given front
    *
@@ -69,9 +134,19 @@ public class InvertedGenerationalDistance extends QualityIndicator {
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(double[][] front, double[][] referenceFront) {
+    double[] distances;
+    if (useFrontIndex && referenceFront.length > 0) {
+      distances = new FrontIndex(front).distancesToClosestPoint(referenceFront);
+    } else {
+      distances = new double[referenceFront.length];
+      for (int i = 0; i < referenceFront.length; i++) {
+        distances[i] = VectorUtils.distanceToClosestVector(referenceFront[i], front);
+      }
+    }
+
     double sum = 0.0;
-    for (double[] vector : referenceFront) {
-      sum += Math.pow(VectorUtils.distanceToClosestVector(vector, front), pow);
+    for (double distance : distances) {
+      sum += Math.pow(distance, pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -1,10 +1,12 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import java.io.FileNotFoundException;
+import org.uma.jmetal.qualityindicator.FrontIndex;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 
 /**
  * This class implements the inverted generational distance metric plust (IGD+)
@@ -15,6 +17,7 @@ import org.uma.jmetal.util.errorchecking.Check;
  */
 @SuppressWarnings("serial")
 public class InvertedGenerationalDistancePlus extends QualityIndicator {
+  private boolean useFrontIndex = true;
 
   /**
    * Default constructor
@@ -37,6 +40,14 @@ public class InvertedGenerationalDistancePlus extends QualityIndicator {
     return new InvertedGenerationalDistancePlus();
   }
 
+  /**
+   * Sets whether the distances are computed with a {@link FrontIndex} (the default) or by
+   * comparing each vector with all the points of the front. Both modes give the same values.
+   */
+  public void useFrontIndex(boolean useFrontIndex) {
+    this.useFrontIndex = useFrontIndex;
+  }
+
   /**
    * Evaluate() method
    * @param front
@@ -48,6 +59,53 @@ public class InvertedGenerationalDistancePlus extends QualityIndicator {
     return invertedGenerationalDistancePlus(front, referenceFront);
   }
 
+  @Override public double compute(ObjectiveMatrix<?> front) {
+    Check.notNull(front);
+    Check.that(front.size() > 0, "The front is empty");
+
+    double sum = 0.0;
+    if (useFrontIndex && referenceFront.length > 0) {
+      double[] distances =
+          new FrontIndex(front.objectives(), front.size(), front.numberOfObjectives())
+              .dominanceDistancesToClosestPoint(referenceFront);
+      for (double distance : distances) {
+        sum += distance;
+      }
+    } else {
+      for (int i = 0 ; i < referenceFront.length; i++) {
+        sum += dominanceDistanceToClosestRow(referenceFront[i], front);
+      }
+    }
+
+    return sum / referenceFront.length;
+  }
+
+  /**
+   * Dominance distance (see {@link DominanceDistanceBetweenVectors}) between a vector and its
+   * closest row in an objective matrix
+   */
+  private static double dominanceDistanceToClosestRow(double[] vector, ObjectiveMatrix<?> front) {
+    double[] objectives = front.objectives();
+    int numberOfObjectives = front.numberOfObjectives();
+    Check.that(vector.length == numberOfObjectives, "The vectors have different" +
+        "dimension: " + vector.length + " and " + numberOfObjectives);
+
+    double minDistance = Double.POSITIVE_INFINITY;
+    for (int row = 0, offset = 0; row < front.size(); row++, offset += numberOfObjectives) {
+      double distance = 0.0;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        double max = Math.max(objectives[offset + i] - vector[i], 0.0) ;
+        distance += Math.pow(max, 2);
+      }
+      distance = Math.sqrt(distance);
+      if (row == 0 || distance < minDistance) {
+        minDistance = distance;
+      }
+    }
+
+    return minDistance;
+  }
+
   /**
    * Returns the inverted generational distance plus value for a given front
    *
@@ -57,8 +115,15 @@ public class InvertedGenerationalDistancePlus extends QualityIndicator {
   public double invertedGenerationalDistancePlus(double[][] front, double[][] referenceFront) {
 
     double sum = 0.0;
-    for (int i = 0 ; i < referenceFront.length; i++) {
-      sum += VectorUtils.distanceToClosestVector(referenceFront[i], front, new DominanceDistanceBetweenVectors());
+    if (useFrontIndex && referenceFront.length > 0) {
+      double[] distances = new FrontIndex(front).dominanceDistancesToClosestPoint(referenceFront);
+      for (double distance : distances) {
+        sum += distance;
+      }
+    } else {
+      for (int i = 0 ; i < referenceFront.length; i++) {
+        sum += VectorUtils.distanceToClosestVector(referenceFront[i], front, new DominanceDistanceBetweenVectors());
+      }
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
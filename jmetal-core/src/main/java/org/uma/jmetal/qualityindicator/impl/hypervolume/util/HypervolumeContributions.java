@@ -0,0 +1,603 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Computation of the exact hypervolume contribution of each point of a front, i.e., the hypervolume
+ * dominated exclusively by the point. All the objectives are minimized and the hypervolume is
+ * measured with respect to a reference point.
+ *
+ * <p>Instead of computing the hypervolume of the front once per removed point, the contributions
+ * are obtained with dedicated algorithms:
+ * <ul>
+ *   <li>Two objectives: the points are sorted and the contribution of each non-dominated point is
+ *   the rectangle delimited by its neighbours. O(N log N).</li>
+ *   <li>Three objectives: the points are swept in increasing order of the third objective while the
+ *   two-dimensional front of the swept points is kept in a sorted map. The exclusive area of a point
+ *   in that front only changes when a neighbour is inserted or removed, so its contribution is
+ *   accumulated slice by slice. O(N log N).</li>
+ *   <li>Four or more objectives: the contribution of a point is the volume of its box minus the
+ *   hypervolume of the other points limited by it (the exclusive hypervolume of the WFG algorithm),
+ *   which is computed with the WFG slicing scheme down to the three-objective sweep.</li>
+ * </ul>
+ *
+ * <p>The sweeps assume that the points are mutually non-dominated, which is the case of the fronts
+ * and archives whose contributions are usually needed. Otherwise, the exclusive hypervolume is used
+ * whatever the number of objectives, as removing a point may uncover the points dominated by it.
+ * Points which are weakly dominated by another point, duplicated or not strictly better than the
+ * reference point in all the objectives have a contribution of zero.
+ *
+ * <p>Reference: L. While, L. Bradstreet, L. Barone. A Fast Way of Calculating Exact Hypervolumes.
+ * IEEE Transactions on Evolutionary Computation 16(1): 86-95 (2012).
+ *
+ * @author Antonio J. Nebro
+ */
+public class HypervolumeContributions {
+  private HypervolumeContributions() {
+  }
+
+  /**
+   * Returns the hypervolume contribution of each point of a front
+   *
+   * @param front Points of the front (minimization)
+   * @param referencePoint
+   */
+  public static double[] compute(double[][] front, double[] referencePoint) {
+    Check.notNull(front);
+    Check.notNull(referencePoint);
+
+    int numberOfObjectives = referencePoint.length;
+    double[] contributions = new double[front.length];
+
+    List<double[]> points = new ArrayList<>(front.length);
+    List<Integer> indices = new ArrayList<>(front.length);
+    for (int i = 0; i < front.length; i++) {
+      Check.that(front[i].length == numberOfObjectives,
+          "The dimension of point " + i + " is " + front[i].length + " instead of "
+              + numberOfObjectives);
+      if (isStrictlyBetter(front[i], referencePoint, numberOfObjectives)) {
+        points.add(front[i]);
+        indices.add(i);
+      }
+    }
+
+    // Duplicated points do not contribute exclusively: only one copy of them is taken into account
+    // to compute the contributions of the other points
+    Integer[] order = new Integer[points.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i, j) -> compareLexicographically(points.get(i), points.get(j)));
+
+    List<double[]> uniquePoints = new ArrayList<>(points.size());
+    List<Integer> uniqueIndices = new ArrayList<>(points.size());
+    boolean[] duplicated = new boolean[points.size()];
+    for (int k = 0; k < order.length; k++) {
+      if (k > 0 && compareLexicographically(points.get(order[k]), points.get(order[k - 1])) == 0) {
+        duplicated[order[k]] = true;
+        duplicated[order[k - 1]] = true;
+      } else {
+        uniquePoints.add(points.get(order[k]));
+        uniqueIndices.add(order[k]);
+      }
+    }
+
+    double[][] uniqueFront = uniquePoints.toArray(new double[0][]);
+    double[] uniqueContributions = null;
+    if (numberOfObjectives == 1) {
+      uniqueContributions = contributions1D(uniqueFront, referencePoint);
+    } else if (numberOfObjectives == 2) {
+      uniqueContributions = contributions2D(uniqueFront, referencePoint);
+    } else if (numberOfObjectives == 3) {
+      uniqueContributions = contributions3D(uniqueFront, referencePoint);
+    }
+    if (uniqueContributions == null) {
+      uniqueContributions = exclusiveHypervolumes(uniqueFront, referencePoint);
+    }
+
+    for (int k = 0; k < uniqueContributions.length; k++) {
+      int point = uniqueIndices.get(k);
+      if (!duplicated[point]) {
+        contributions[indices.get(point)] = uniqueContributions[k];
+      }
+    }
+
+    return contributions;
+  }
+
+  /**
+   * Returns the hypervolume of a front
+   *
+   * @param front Points of the front (minimization)
+   * @param referencePoint
+   */
+  public static double hypervolume(double[][] front, double[] referencePoint) {
+    Check.notNull(front);
+    Check.notNull(referencePoint);
+
+    List<double[]> points = new ArrayList<>(front.length);
+    for (double[] point : front) {
+      if (isStrictlyBetter(point, referencePoint, referencePoint.length)) {
+        points.add(point);
+      }
+    }
+
+    return hypervolume(points.toArray(new double[0][]), referencePoint, referencePoint.length);
+  }
+
+  private static double[] contributions1D(double[][] front, double[] referencePoint) {
+    double[] contributions = new double[front.length];
+    if (front.length > 0) {
+      int best = 0;
+      double secondBest = referencePoint[0];
+      for (int i = 1; i < front.length; i++) {
+        if (front[i][0] < front[best][0]) {
+          secondBest = front[best][0];
+          best = i;
+        } else if (front[i][0] < secondBest) {
+          secondBest = front[i][0];
+        }
+      }
+      contributions[best] = secondBest - front[best][0];
+    }
+
+    return contributions;
+  }
+
+  /**
+   * Returns null if a point is dominated
+   */
+  private static double[] contributions2D(double[][] front, double[] referencePoint) {
+    double[] contributions = new double[front.length];
+    Integer[] order = sortedIndices(front, 0, 1);
+
+    // Non-dominated points, sorted by increasing first objective (and decreasing second one)
+    int[] staircase = new int[front.length];
+    int size = 0;
+    for (int i : order) {
+      if (size == 0 || front[i][1] < front[staircase[size - 1]][1]) {
+        staircase[size++] = i;
+      }
+    }
+    if (size < front.length) {
+      return null;
+    }
+
+    for (int k = 0; k < size; k++) {
+      double[] point = front[staircase[k]];
+      double nextX = k + 1 < size ? front[staircase[k + 1]][0] : referencePoint[0];
+      double previousY = k > 0 ? front[staircase[k - 1]][1] : referencePoint[1];
+      contributions[staircase[k]] = (nextX - point[0]) * (previousY - point[1]);
+    }
+
+    return contributions;
+  }
+
+  /**
+   * Returns null if a point is dominated
+   */
+  private static double[] contributions3D(double[][] front, double[] referencePoint) {
+    Sweep3D sweep = new Sweep3D(front, referencePoint, true);
+
+    return sweep.dominatedPoints ? null : sweep.contributions;
+  }
+
+  /**
+   * Contributions computed as exclusive hypervolumes: volume of the box of each point minus the
+   * hypervolume of the other points limited by it
+   */
+  private static double[] exclusiveHypervolumes(double[][] front, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length;
+    double[] contributions = new double[front.length];
+
+    for (int i = 0; i < front.length; i++) {
+      double[][] limitSet = new double[front.length - 1][];
+      int size = 0;
+      boolean weaklyDominated = false;
+      for (int j = 0; j < front.length && !weaklyDominated; j++) {
+        if (j != i) {
+          double[] limitedPoint = limit(front[j], front[i], numberOfObjectives);
+          weaklyDominated = compareLexicographically(limitedPoint, front[i]) == 0;
+          limitSet[size++] = limitedPoint;
+        }
+      }
+
+      if (!weaklyDominated) {
+        double[][] nonDominatedLimitSet =
+            nonDominatedPoints(Arrays.copyOf(limitSet, size), numberOfObjectives);
+        double contribution = boxVolume(front[i], referencePoint, numberOfObjectives)
+            - hypervolume(nonDominatedLimitSet, referencePoint, numberOfObjectives);
+        contributions[i] = Math.max(0.0, contribution);
+      }
+    }
+
+    return contributions;
+  }
+
+  /**
+   * Hypervolume of a set of points, taking into account the first <code>numberOfObjectives</code>
+   * objectives. The points must be strictly better than the reference point.
+   */
+  private static double hypervolume(double[][] front, double[] referencePoint,
+      int numberOfObjectives) {
+    if (front.length == 0) {
+      return 0.0;
+    }
+
+    switch (numberOfObjectives) {
+      case 1: {
+        double minimum = front[0][0];
+        for (double[] point : front) {
+          minimum = Math.min(minimum, point[0]);
+        }
+        return referencePoint[0] - minimum;
+      }
+      case 2: {
+        Integer[] order = sortedIndices(front, 0, 1);
+        double volume = 0.0;
+        double previousY = referencePoint[1];
+        for (int i : order) {
+          if (front[i][1] < previousY) {
+            volume += (referencePoint[0] - front[i][0]) * (previousY - front[i][1]);
+            previousY = front[i][1];
+          }
+        }
+        return volume;
+      }
+      case 3:
+        return new Sweep3D(front, referencePoint, false).volume;
+      default:
+        return wfgHypervolume(front, referencePoint, numberOfObjectives);
+    }
+  }
+
+  /**
+   * WFG slicing: the points are sorted by decreasing value of the last objective, so the points
+   * following a given one are better than it in that objective, and the exclusive hypervolume of a
+   * point with respect to the following ones is the product of its extent in the last objective by
+   * an exclusive hypervolume with one objective less
+   */
+  private static double wfgHypervolume(double[][] front, double[] referencePoint,
+      int numberOfObjectives) {
+    int last = numberOfObjectives - 1;
+    double[][] points = front.clone();
+    Arrays.sort(points, Comparator.comparingDouble((double[] point) -> point[last]).reversed());
+
+    double volume = 0.0;
+    for (int i = 0; i < points.length; i++) {
+      double[] point = points[i];
+      double[][] limitSet = new double[points.length - i - 1][];
+      for (int j = i + 1; j < points.length; j++) {
+        limitSet[j - i - 1] = limit(points[j], point, last);
+      }
+
+      double exclusiveHypervolume = boxVolume(point, referencePoint, last)
+          - hypervolume(nonDominatedPoints(limitSet, last), referencePoint, last);
+      volume += (referencePoint[last] - point[last]) * exclusiveHypervolume;
+    }
+
+    return volume;
+  }
+
+  /**
+   * Worst values of two points in the first <code>numberOfObjectives</code> objectives
+   */
+  private static double[] limit(double[] point, double[] bound, int numberOfObjectives) {
+    double[] result = new double[numberOfObjectives];
+    for (int k = 0; k < numberOfObjectives; k++) {
+      result[k] = Math.max(point[k], bound[k]);
+    }
+
+    return result;
+  }
+
+  private static double boxVolume(double[] point, double[] referencePoint,
+      int numberOfObjectives) {
+    double volume = 1.0;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      volume *= referencePoint[k] - point[k];
+    }
+
+    return volume;
+  }
+
+  /**
+   * Removes the points weakly dominated by another one (keeping one copy of the duplicated points)
+   */
+  private static double[][] nonDominatedPoints(double[][] points, int numberOfObjectives) {
+    double[][] result = new double[points.length][];
+    int size = 0;
+    for (double[] point : points) {
+      boolean dominated = false;
+      for (int j = 0; j < size && !dominated; j++) {
+        dominated = weaklyDominates(result[j], point, numberOfObjectives);
+      }
+
+      if (!dominated) {
+        int k = 0;
+        while (k < size) {
+          if (weaklyDominates(point, result[k], numberOfObjectives)) {
+            result[k] = result[--size];
+          } else {
+            k++;
+          }
+        }
+        result[size++] = point;
+      }
+    }
+
+    return Arrays.copyOf(result, size);
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2, int numberOfObjectives) {
+    for (int k = 0; k < numberOfObjectives; k++) {
+      if (point1[k] > point2[k]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isStrictlyBetter(double[] point, double[] referencePoint,
+      int numberOfObjectives) {
+    for (int k = 0; k < numberOfObjectives; k++) {
+      if (!(point[k] < referencePoint[k])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int compareLexicographically(double[] point1, double[] point2) {
+    for (int k = 0; k < point1.length; k++) {
+      int result = Double.compare(point1[k] + 0.0, point2[k] + 0.0);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Indices of the points sorted by an objective, with ties broken by a second objective
+   */
+  private static Integer[] sortedIndices(double[][] front, int objective, int secondObjective) {
+    Integer[] order = new Integer[front.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingDouble((Integer i) -> front[i][objective])
+        .thenComparingDouble(i -> front[i][secondObjective]));
+
+    return order;
+  }
+
+  /**
+   * Sweep of a three-objective front in increasing order of the third objective. The
+   * two-dimensional front of the swept points is kept in a map sorted by the first objective (so
+   * the second objective is decreasing), and the hypervolume is accumulated as the area dominated by
+   * that front times the height of each slice.
+   *
+   * <p>The contribution of a point is accumulated as its exclusive area in each slice times the
+   * height of the slice. If the points are mutually non-dominated, the exclusive area of a point of
+   * the two-dimensional front is the rectangle delimited by its neighbours minus the area covered by
+   * the points it removed from the front when it was inserted (its shadow). The shadow is a
+   * staircase that does not change afterwards, so its area within the rectangle is obtained from
+   * prefix sums. The exclusive area only changes when a neighbour is inserted or removed.
+   */
+  private static class Sweep3D {
+    private final double[][] front;
+    private final double[] referencePoint;
+    private final TreeMap<Double, Integer> staircase = new TreeMap<>();
+    private final double[] area;
+    private final double[] lastHeight;
+    private final double[] contributions;
+    private final Shadow[] shadows;
+    private double volume;
+    private boolean dominatedPoints;
+
+    Sweep3D(double[][] front, double[] referencePoint, boolean computeContributions) {
+      this.front = front;
+      this.referencePoint = referencePoint;
+      area = new double[computeContributions ? front.length : 0];
+      lastHeight = new double[computeContributions ? front.length : 0];
+      contributions = computeContributions ? new double[front.length] : null;
+      shadows = new Shadow[computeContributions ? front.length : 0];
+
+      Integer[] order = new Integer[front.length];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingDouble((Integer i) -> front[i][2])
+          .thenComparingDouble(i -> front[i][0])
+          .thenComparingDouble(i -> front[i][1]));
+
+      double dominatedArea = 0.0;
+      double height = order.length > 0 ? front[order[0]][2] : 0.0;
+      for (int i : order) {
+        volume += dominatedArea * (front[i][2] - height);
+        height = front[i][2];
+        dominatedArea += insert(i, height);
+      }
+      volume += dominatedArea * (referencePoint[2] - height);
+
+      if (computeContributions) {
+        for (int i : staircase.values()) {
+          accumulate(i, referencePoint[2]);
+        }
+      }
+    }
+
+    /**
+     * Inserts a point in the two-dimensional front and returns the increase of the dominated area
+     */
+    private double insert(int point, double height) {
+      double x = front[point][0] + 0.0;
+      double y = front[point][1];
+
+      Map.Entry<Double, Integer> floor = staircase.floorEntry(x);
+      if (floor != null && y(floor) <= y) {
+        dominatedPoints = true;
+        return 0.0;
+      }
+
+      double addedArea = 0.0;
+      double currentX = x;
+      double currentY = floor == null ? referencePoint[1] : y(floor);
+      List<Integer> removedPoints = new ArrayList<>();
+      Map.Entry<Double, Integer> entry = staircase.ceilingEntry(x);
+      while (entry != null && y(entry) >= y) {
+        addedArea += (entry.getKey() - currentX) * (currentY - y);
+        dominatedPoints |= front[entry.getValue()][2] == front[point][2];
+        currentX = entry.getKey();
+        currentY = y(entry);
+        if (contributions != null) {
+          accumulate(entry.getValue(), height);
+          area[entry.getValue()] = 0.0;
+          removedPoints.add(entry.getValue());
+        }
+        staircase.remove(entry.getKey());
+        entry = staircase.higherEntry(currentX);
+      }
+      double nextX = entry == null ? referencePoint[0] : entry.getKey();
+      addedArea += (nextX - currentX) * (currentY - y);
+
+      staircase.put(x, point);
+      if (contributions != null) {
+        if (!removedPoints.isEmpty()) {
+          shadows[point] = new Shadow(front, removedPoints);
+        }
+        lastHeight[point] = height;
+        area[point] = exclusiveArea(x);
+        Map.Entry<Double, Integer> lower = staircase.lowerEntry(x);
+        if (lower != null) {
+          update(lower, height);
+        }
+        if (entry != null) {
+          update(entry, height);
+        }
+      }
+
+      return addedArea;
+    }
+
+    private void update(Map.Entry<Double, Integer> entry, double height) {
+      accumulate(entry.getValue(), height);
+      area[entry.getValue()] = exclusiveArea(entry.getKey());
+    }
+
+    private void accumulate(int point, double height) {
+      contributions[point] += area[point] * (height - lastHeight[point]);
+      lastHeight[point] = height;
+    }
+
+    /**
+     * Area dominated exclusively by a point of the two-dimensional front: the rectangle delimited by
+     * its neighbours minus its shadow
+     */
+    private double exclusiveArea(double x) {
+      Map.Entry<Double, Integer> lower = staircase.lowerEntry(x);
+      Map.Entry<Double, Integer> higher = staircase.higherEntry(x);
+      int point = staircase.get(x);
+      double nextX = higher == null ? referencePoint[0] : higher.getKey();
+      double previousY = lower == null ? referencePoint[1] : y(lower);
+
+      double result = (nextX - x) * (previousY - front[point][1]);
+      if (shadows[point] != null) {
+        result -= shadows[point].area(nextX, previousY);
+      }
+
+      return Math.max(0.0, result);
+    }
+
+    private double y(Map.Entry<Double, Integer> entry) {
+      return front[entry.getValue()][1];
+    }
+  }
+
+  /**
+   * Staircase of points sorted by increasing first objective and decreasing second one, with prefix
+   * sums to compute the area it dominates within a box in O(log N)
+   */
+  private static class Shadow {
+    private final double[] x;
+    private final double[] y;
+    // Prefix sums of the widths of the steps and of the widths times the second objective
+    private final double[] widthSum;
+    private final double[] weightedWidthSum;
+
+    Shadow(double[][] front, List<Integer> points) {
+      int size = points.size();
+      x = new double[size];
+      y = new double[size];
+      for (int i = 0; i < size; i++) {
+        x[i] = front[points.get(i)][0];
+        y[i] = front[points.get(i)][1];
+      }
+
+      widthSum = new double[size];
+      weightedWidthSum = new double[size];
+      for (int i = 1; i < size; i++) {
+        double width = x[i] - x[i - 1];
+        widthSum[i] = widthSum[i - 1] + width;
+        weightedWidthSum[i] = weightedWidthSum[i - 1] + width * y[i - 1];
+      }
+    }
+
+    /**
+     * Area dominated by the staircase in the box with upper corner (upperX, upperY). The lower
+     * corner of the box is dominated by all the points.
+     */
+    double area(double upperX, double upperY) {
+      // Steps from first (the first point below upperY) to last (the last point before upperX)
+      int first = firstIndexBelow(upperY);
+      int last = firstIndexNotBefore(upperX) - 1;
+      if (first > last) {
+        return 0.0;
+      }
+
+      double result = upperY * (widthSum[last] - widthSum[first])
+          - (weightedWidthSum[last] - weightedWidthSum[first]);
+      result += (upperX - x[last]) * (upperY - y[last]);
+
+      return result;
+    }
+
+    private int firstIndexBelow(double value) {
+      int low = 0;
+      int high = y.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (y[middle] < value) {
+          high = middle;
+        } else {
+          low = middle + 1;
+        }
+      }
+      return low;
+    }
+
+    private int firstIndexNotBefore(double value) {
+      int low = 0;
+      int high = x.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (x[middle] >= value) {
+          high = middle;
+        } else {
+          low = middle + 1;
+        }
+      }
+      return low;
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Incremental hypervolume of two and three-dimensional fronts. The value is the same as the one of
+ * {@link org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume}, i.e., the points are
+ * assumed to be normalized, the objective values are clipped to [0, 1] and (1, ..., 1) is the
+ * reference point; only the order of the floating point operations differs.
+ *
+ * <p>The points are kept in a sorted multiset, so adding or removing a point costs O(log N) and the
+ * dominated points are kept (they can become non-dominated when a point is removed). The value is
+ * computed exactly, when it is requested after a change, by sweeping the sorted points: in two
+ * dimensions it takes O(N) time, and in three dimensions the sweep maintains the two-dimensional
+ * staircase of the points seen so far, taking O(N log N) time.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalHypervolume implements IncrementalQualityIndicator {
+  private final int numberOfObjectives;
+  // Inverted points (1 - value, see VectorUtils.getInvertedFront), sorted by decreasing last
+  // coordinate and then by decreasing first coordinates, with their multiplicity
+  private final TreeMap<double[], Integer> points;
+  private int numberOfPoints;
+  private boolean outdated;
+  private double value;
+
+  public IncrementalHypervolume(int numberOfObjectives) {
+    Check.that(numberOfObjectives == 2 || numberOfObjectives == 3,
+        "The incremental hypervolume supports two or three objectives, not " + numberOfObjectives);
+
+    this.numberOfObjectives = numberOfObjectives;
+    this.points = new TreeMap<>(IncrementalHypervolume::compare);
+  }
+
+  @Override
+  public void add(double[] point) {
+    double[] invertedPoint = invert(point);
+    points.merge(invertedPoint, 1, Integer::sum);
+    numberOfPoints++;
+    outdated = true;
+  }
+
+  @Override
+  public void remove(double[] point) {
+    double[] invertedPoint = invert(point);
+    Integer multiplicity = points.get(invertedPoint);
+    Check.that(multiplicity != null, "The point is not in the front");
+    if (multiplicity == 1) {
+      points.remove(invertedPoint);
+    } else {
+      points.put(invertedPoint, multiplicity - 1);
+    }
+    numberOfPoints--;
+    outdated = true;
+  }
+
+  @Override
+  public double value() {
+    if (outdated) {
+      value = numberOfObjectives == 2 ? area() : volume();
+      outdated = false;
+    }
+
+    return value;
+  }
+
+  @Override
+  public int numberOfPoints() {
+    return numberOfPoints;
+  }
+
+  @Override
+  public void clear() {
+    points.clear();
+    numberOfPoints = 0;
+    outdated = true;
+  }
+
+  @Override
+  public String name() {
+    return "HV";
+  }
+
+  @Override
+  public boolean isTheLowerTheIndicatorValueTheBetter() {
+    return false;
+  }
+
+  /**
+   * The points are visited by decreasing second coordinate; each one adds the part of its box to the
+   * right of the widest first coordinate seen so far
+   */
+  private double area() {
+    double area = 0.0;
+    double widest = 0.0;
+    for (double[] point : points.keySet()) {
+      if (point[0] > widest) {
+        area += (point[0] - widest) * point[1];
+        widest = point[0];
+      }
+    }
+
+    return area;
+  }
+
+  /**
+   * The points are visited by decreasing third coordinate; the area of the staircase of the points
+   * visited so far is extruded down to the third coordinate of the next point
+   */
+  private double volume() {
+    Staircase staircase = new Staircase();
+    double volume = 0.0;
+
+    Iterator<double[]> iterator = points.keySet().iterator();
+    double[] point = iterator.hasNext() ? iterator.next() : null;
+    while (point != null) {
+      staircase.insert(point[0], point[1]);
+      double[] next = iterator.hasNext() ? iterator.next() : null;
+      double nextHeight = next == null ? 0.0 : next[2];
+      volume += staircase.area() * (point[2] - nextHeight);
+      point = next;
+    }
+
+    return volume;
+  }
+
+  private double[] invert(double[] point) {
+    Check.notNull(point);
+    Check.that(point.length == numberOfObjectives, "The point has dimension " + point.length
+        + " instead of " + numberOfObjectives);
+
+    double[] invertedPoint = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (point[j] <= 1.0 && point[j] >= 0.0) {
+        invertedPoint[j] = 1.0 - point[j];
+      } else if (point[j] > 1.0) {
+        invertedPoint[j] = 0.0;
+      } else if (point[j] < 0.0) {
+        invertedPoint[j] = 1.0;
+      }
+    }
+
+    return invertedPoint;
+  }
+
+  private static int compare(double[] point1, double[] point2) {
+    for (int j = point1.length - 1; j >= 0; j--) {
+      int result = Double.compare(point2[j], point1[j]);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Non-dominated points of a two-dimensional maximization front with respect to the origin,
+   * sorted by increasing first coordinate (so, by decreasing second coordinate), and the area they
+   * dominate
+   */
+  static class Staircase {
+    private final TreeMap<Double, Double> steps = new TreeMap<>();
+    private double area;
+
+    double area() {
+      return area;
+    }
+
+    void insert(double x, double y) {
+      Map.Entry<Double, Double> ceiling = steps.ceilingEntry(x);
+      if (ceiling != null && ceiling.getValue() >= y) {
+        return;
+      }
+
+      Map.Entry<Double, Double> dominated = steps.floorEntry(x);
+      while (dominated != null && dominated.getValue() <= y) {
+        area -= contribution(dominated.getKey(), dominated.getValue());
+        steps.remove(dominated.getKey());
+        dominated = steps.lowerEntry(dominated.getKey());
+      }
+
+      area += contribution(x, y);
+      steps.put(x, y);
+    }
+
+    /**
+     * Area dominated only by step (x, y), computed with its neighbours in the staircase
+     */
+    private double contribution(double x, double y) {
+      Map.Entry<Double, Double> left = steps.lowerEntry(x);
+      Map.Entry<Double, Double> right = steps.higherEntry(x);
+      double leftX = left == null ? 0.0 : left.getKey();
+      double rightY = right == null ? 0.0 : right.getValue();
+
+      return (x - leftX) * (y - rightY);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Incremental version of {@link org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance}.
+ * The distance from each reference point to its closest point of the front is kept together with
+ * that closest point. Adding a point only compares it with the reference points, and removing a
+ * point only recomputes the distances of the reference points whose closest point it was, so the
+ * values are exactly the same as those of the non-incremental indicator.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalInvertedGenerationalDistance implements IncrementalQualityIndicator {
+  private final double[][] referenceFront;
+  private final double pow;
+  private final double[] distances;
+  private final double[][] closestPoints;
+  // Points of the front, with their multiplicity
+  private final TreeMap<double[], Integer> points = new TreeMap<>(Arrays::compare);
+  private int numberOfPoints;
+
+  public IncrementalInvertedGenerationalDistance(double[][] referenceFront) {
+    this(referenceFront, 2.0);
+  }
+
+  public IncrementalInvertedGenerationalDistance(double[][] referenceFront, double pow) {
+    Check.notNull(referenceFront);
+    Check.that(referenceFront.length > 0, "The reference front is empty");
+
+    this.referenceFront = referenceFront;
+    this.pow = pow;
+    this.distances = new double[referenceFront.length];
+    this.closestPoints = new double[referenceFront.length][];
+    clear();
+  }
+
+  @Override
+  public void add(double[] point) {
+    Check.notNull(point);
+    Check.that(point.length == referenceFront[0].length, "The point has dimension "
+        + point.length + " instead of " + referenceFront[0].length);
+
+    double[] copy = point.clone();
+    Integer multiplicity = points.get(copy);
+    numberOfPoints++;
+    if (multiplicity != null) {
+      points.put(copy, multiplicity + 1);
+      return;
+    }
+
+    points.put(copy, 1);
+    for (int i = 0; i < referenceFront.length; i++) {
+      double distance = distance(referenceFront[i], copy);
+      if (closestPoints[i] == null || distance < distances[i]) {
+        distances[i] = distance;
+        closestPoints[i] = copy;
+      }
+    }
+  }
+
+  @Override
+  public void remove(double[] point) {
+    Check.notNull(point);
+    Integer multiplicity = points.get(point);
+    Check.that(multiplicity != null, "The point is not in the front");
+
+    numberOfPoints--;
+    if (multiplicity > 1) {
+      points.put(point, multiplicity - 1);
+      return;
+    }
+
+    double[] removedPoint = points.ceilingKey(point);
+    points.remove(point);
+    for (int i = 0; i < referenceFront.length; i++) {
+      if (closestPoints[i] == removedPoint) {
+        updateClosestPoint(i);
+      }
+    }
+  }
+
+  @Override
+  public double value() {
+    Check.that(numberOfPoints > 0, "The front is empty");
+
+    double sum = 0.0;
+    for (double distance : distances) {
+      sum += Math.pow(distance, pow);
+    }
+
+    sum = Math.pow(sum, 1.0 / pow);
+
+    return sum / referenceFront.length;
+  }
+
+  @Override
+  public int numberOfPoints() {
+    return numberOfPoints;
+  }
+
+  @Override
+  public void clear() {
+    points.clear();
+    numberOfPoints = 0;
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    Arrays.fill(closestPoints, null);
+  }
+
+  @Override
+  public String name() {
+    return "IGD";
+  }
+
+  @Override
+  public boolean isTheLowerTheIndicatorValueTheBetter() {
+    return true;
+  }
+
+  protected double[] distances() {
+    return distances;
+  }
+
+  protected double[][] referenceFront() {
+    return referenceFront;
+  }
+
+  /**
+   * Distance from a reference point to a point of the front, computed as in
+   * {@link org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors}
+   */
+  protected double distance(double[] referencePoint, double[] point) {
+    double distance = 0.0;
+    for (int i = 0; i < referencePoint.length; i++) {
+      double diff = referencePoint[i] - point[i];
+      distance += diff * diff;
+    }
+
+    return Math.sqrt(distance);
+  }
+
+  private void updateClosestPoint(int i) {
+    distances[i] = Double.POSITIVE_INFINITY;
+    closestPoints[i] = null;
+    for (double[] point : points.keySet()) {
+      double distance = distance(referenceFront[i], point);
+      if (closestPoints[i] == null || distance < distances[i]) {
+        distances[i] = distance;
+        closestPoints[i] = point;
+      }
+    }
+  }
+}
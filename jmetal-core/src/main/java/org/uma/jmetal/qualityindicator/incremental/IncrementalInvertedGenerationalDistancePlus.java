@@ -0,0 +1,49 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Incremental version of
+ * {@link org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus}. It works as
+ * {@link IncrementalInvertedGenerationalDistance}, but with the dominance distance.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalInvertedGenerationalDistancePlus
+    extends IncrementalInvertedGenerationalDistance {
+
+  public IncrementalInvertedGenerationalDistancePlus(double[][] referenceFront) {
+    super(referenceFront);
+  }
+
+  @Override
+  public double value() {
+    Check.that(numberOfPoints() > 0, "The front is empty");
+
+    double sum = 0.0;
+    for (double distance : distances()) {
+      sum += distance;
+    }
+
+    return sum / referenceFront().length;
+  }
+
+  @Override
+  public String name() {
+    return "IGD+";
+  }
+
+  /**
+   * Distance computed as in {@link org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors}
+   */
+  @Override
+  protected double distance(double[] referencePoint, double[] point) {
+    double distance = 0.0;
+    for (int i = 0; i < referencePoint.length; i++) {
+      double max = Math.max(point[i] - referencePoint[i], 0.0);
+      distance += Math.pow(max, 2);
+    }
+
+    return Math.sqrt(distance);
+  }
+}
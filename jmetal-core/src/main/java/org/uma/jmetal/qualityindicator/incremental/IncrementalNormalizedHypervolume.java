@@ -0,0 +1,63 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Incremental version of {@link org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume}, i.e.,
+ * 1 - (HV of the front / HV of the reference front). The hypervolume of the reference front is
+ * computed once, when the indicator is created.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalNormalizedHypervolume implements IncrementalQualityIndicator {
+  private final IncrementalHypervolume hypervolume;
+  private final double referenceFrontHypervolume;
+
+  public IncrementalNormalizedHypervolume(double[][] referenceFront) {
+    Check.notNull(referenceFront);
+    Check.that(referenceFront.length > 0, "The reference front is empty");
+
+    IncrementalHypervolume referenceFrontIndicator =
+        new IncrementalHypervolume(referenceFront[0].length);
+    for (double[] point : referenceFront) {
+      referenceFrontIndicator.add(point);
+    }
+    this.referenceFrontHypervolume = referenceFrontIndicator.value();
+    this.hypervolume = new IncrementalHypervolume(referenceFront[0].length);
+  }
+
+  @Override
+  public void add(double[] point) {
+    hypervolume.add(point);
+  }
+
+  @Override
+  public void remove(double[] point) {
+    hypervolume.remove(point);
+  }
+
+  @Override
+  public double value() {
+    return 1 - (hypervolume.value() / referenceFrontHypervolume);
+  }
+
+  @Override
+  public int numberOfPoints() {
+    return hypervolume.numberOfPoints();
+  }
+
+  @Override
+  public void clear() {
+    hypervolume.clear();
+  }
+
+  @Override
+  public String name() {
+    return "NHV";
+  }
+
+  @Override
+  public boolean isTheLowerTheIndicatorValueTheBetter() {
+    return true;
+  }
+}
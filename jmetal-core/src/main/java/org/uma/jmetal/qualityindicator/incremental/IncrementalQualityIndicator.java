@@ -0,0 +1,34 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+/**
+ * Quality indicator whose value is updated as points enter and leave the evaluated front, instead
+ * of being computed from scratch on the whole front. The points are assumed to be normalized as
+ * required by the equivalent {@link org.uma.jmetal.qualityindicator.QualityIndicator}. The front is
+ * a multiset: a point can be added several times, and it must be removed as many times.
+ *
+ * @author Antonio J. Nebro
+ */
+public interface IncrementalQualityIndicator {
+  /**
+   * Adds a point to the front. The array is copied, so it can be modified afterwards.
+   */
+  void add(double[] point);
+
+  /**
+   * Removes a point (a copy of a point previously added) from the front
+   */
+  void remove(double[] point);
+
+  /**
+   * Value of the indicator for the current front
+   */
+  double value();
+
+  int numberOfPoints();
+
+  void clear();
+
+  String name();
+
+  boolean isTheLowerTheIndicatorValueTheBetter();
+}
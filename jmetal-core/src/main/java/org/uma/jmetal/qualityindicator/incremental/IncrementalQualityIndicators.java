@@ -0,0 +1,50 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Factory of the incremental version of a quality indicator
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalQualityIndicators {
+  private IncrementalQualityIndicators() {
+  }
+
+  /**
+   * Returns the incremental version of a quality indicator, configured with its current reference
+   * front, or null if there is no incremental version of it (it is not one of the supported classes,
+   * it has no reference front yet, or it is a hypervolume of more than three objectives). Subclasses
+   * of the supported indicators are not replaced, as they could compute a different value.
+   */
+  public static IncrementalQualityIndicator create(QualityIndicator qualityIndicator) {
+    Check.notNull(qualityIndicator);
+    double[][] referenceFront = qualityIndicator.referenceFront();
+    if (referenceFront == null || referenceFront.length == 0) {
+      return null;
+    }
+
+    int numberOfObjectives = referenceFront[0].length;
+    boolean supportedHypervolume = numberOfObjectives == 2 || numberOfObjectives == 3;
+
+    IncrementalQualityIndicator result = null;
+    Class<?> indicatorClass = qualityIndicator.getClass();
+    if (indicatorClass == PISAHypervolume.class && supportedHypervolume) {
+      result = new IncrementalHypervolume(numberOfObjectives);
+    } else if (indicatorClass == NormalizedHypervolume.class && supportedHypervolume) {
+      result = new IncrementalNormalizedHypervolume(referenceFront);
+    } else if (indicatorClass == InvertedGenerationalDistance.class) {
+      result = new IncrementalInvertedGenerationalDistance(referenceFront,
+          ((InvertedGenerationalDistance) qualityIndicator).pow());
+    } else if (indicatorClass == InvertedGenerationalDistancePlus.class) {
+      result = new IncrementalInvertedGenerationalDistancePlus(referenceFront);
+    }
+
+    return result;
+  }
+}
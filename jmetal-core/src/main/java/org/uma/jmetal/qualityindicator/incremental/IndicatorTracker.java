@@ -0,0 +1,147 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Tracks the value of an {@link IncrementalQualityIndicator} along the populations of a run. Each
+ * call to {@link #update(List)} compares the new population with the previous one, by identity of
+ * the solutions, and only the solutions which have entered or left it (or whose objectives have
+ * changed) are added to or removed from the indicator. As most of the population is kept from one
+ * iteration to the next, the cost of an update is proportional to the number of replaced solutions
+ * instead of the size of the population.
+ *
+ * <p>The objectives can be normalized with the bounds given in the constructor before being passed to
+ * the indicator, in the same way as with {@link NormalizeUtils#normalize(double[][], double[],
+ * double[])}.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IndicatorTracker<S extends Solution<?>> {
+  private final IncrementalQualityIndicator indicator;
+  private final double[] minValues;
+  private final double[] maxValues;
+  private final Map<S, TrackedSolution> trackedSolutions = new IdentityHashMap<>();
+
+  public IndicatorTracker(IncrementalQualityIndicator indicator) {
+    this(indicator, null, null);
+  }
+
+  public IndicatorTracker(IncrementalQualityIndicator indicator, double[] minValues,
+      double[] maxValues) {
+    Check.notNull(indicator);
+    Check.that((minValues == null) == (maxValues == null),
+        "Both the minimum and the maximum values must be given");
+    if (minValues != null) {
+      Check.that(minValues.length == maxValues.length, "The minimum and maximum values have "
+          + "different dimension: " + minValues.length + " and " + maxValues.length);
+    }
+
+    this.indicator = indicator;
+    this.minValues = minValues;
+    this.maxValues = maxValues;
+  }
+
+  /**
+   * Updates the indicator with a new population and returns its value
+   */
+  public double update(List<S> population) {
+    Check.notNull(population);
+
+    Map<S, Integer> copies = new IdentityHashMap<>();
+    for (S solution : population) {
+      copies.merge(solution, 1, Integer::sum);
+    }
+
+    Iterator<Map.Entry<S, TrackedSolution>> iterator = trackedSolutions.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<S, TrackedSolution> entry = iterator.next();
+      TrackedSolution trackedSolution = entry.getValue();
+      Integer newCopies = copies.remove(entry.getKey());
+      if (newCopies == null) {
+        remove(trackedSolution.point, trackedSolution.copies);
+        iterator.remove();
+      } else if (!Arrays.equals(trackedSolution.objectives, entry.getKey().objectives())) {
+        remove(trackedSolution.point, trackedSolution.copies);
+        trackedSolution = track(entry.getKey(), newCopies);
+        entry.setValue(trackedSolution);
+      } else if (newCopies > trackedSolution.copies) {
+        add(trackedSolution.point, newCopies - trackedSolution.copies);
+        trackedSolution.copies = newCopies;
+      } else if (newCopies < trackedSolution.copies) {
+        remove(trackedSolution.point, trackedSolution.copies - newCopies);
+        trackedSolution.copies = newCopies;
+      }
+    }
+
+    for (Map.Entry<S, Integer> entry : copies.entrySet()) {
+      trackedSolutions.put(entry.getKey(), track(entry.getKey(), entry.getValue()));
+    }
+
+    return indicator.value();
+  }
+
+  public double value() {
+    return indicator.value();
+  }
+
+  public IncrementalQualityIndicator indicator() {
+    return indicator;
+  }
+
+  public void clear() {
+    trackedSolutions.clear();
+    indicator.clear();
+  }
+
+  private TrackedSolution track(S solution, int copies) {
+    double[] objectives = solution.objectives().clone();
+    double[] point = normalize(objectives);
+    add(point, copies);
+
+    return new TrackedSolution(objectives, point, copies);
+  }
+
+  private double[] normalize(double[] objectives) {
+    if (minValues == null) {
+      return objectives;
+    }
+
+    double[] point = new double[objectives.length];
+    for (int j = 0; j < objectives.length; j++) {
+      point[j] = NormalizeUtils.normalize(objectives[j], minValues[j], maxValues[j]);
+    }
+
+    return point;
+  }
+
+  private void add(double[] point, int copies) {
+    for (int i = 0; i < copies; i++) {
+      indicator.add(point);
+    }
+  }
+
+  private void remove(double[] point, int copies) {
+    for (int i = 0; i < copies; i++) {
+      indicator.remove(point);
+    }
+  }
+
+  private static class TrackedSolution {
+    private final double[] objectives;
+    private final double[] point;
+    private int copies;
+
+    TrackedSolution(double[] objectives, double[] point, int copies) {
+      this.objectives = objectives;
+      this.point = point;
+      this.copies = copies;
+    }
+  }
+}
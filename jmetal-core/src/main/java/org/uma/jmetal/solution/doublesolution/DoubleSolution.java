@@ -11,4 +11,20 @@ import org.uma.jmetal.util.bounds.Bounds;
  */
 public interface DoubleSolution extends Solution<Double> {
   Bounds<Double> getBounds(int index) ;
+
+  /**
+   * Returns the value of a variable as a primitive double. Implementations storing their variables
+   * in a primitive array (e.g. {@link org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution})
+   * override this method to avoid boxing.
+   */
+  default double variableValue(int index) {
+    return variables().get(index) ;
+  }
+
+  /**
+   * Sets the value of a variable from a primitive double. See {@link #variableValue(int)}.
+   */
+  default void variableValue(int index, double value) {
+    variables().set(index, value) ;
+  }
 }
@@ -0,0 +1,158 @@
+package org.uma.jmetal.solution.doublesolution.impl;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Implementation of the {@link DoubleSolution} interface storing the variables in a contiguous
+ * <code>double[]</code> array instead of a list of boxed values. The {@link #variables()} method
+ * returns a fixed-size list view backed by that array, so existing code keeps working, while the
+ * {@link #variableValue(int)} and {@link #variableValue(int, double)} methods give unboxed access.
+ * It is intended for problems having a large number of variables.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution {
+  private final double[] variables;
+  private final double[] objectives;
+  private final double[] constraints;
+  private final List<Double> variablesView;
+  protected List<Bounds<Double>> bounds;
+  protected Map<Object, Object> attributes;
+
+  /**
+   * Constructor
+   */
+  public ArrayDoubleSolution(List<Bounds<Double>> boundsList,
+      int numberOfObjectives,
+      int numberOfConstraints) {
+    this.bounds = boundsList;
+    variables = new double[boundsList.size()];
+    objectives = new double[numberOfObjectives];
+    constraints = new double[numberOfConstraints];
+    variablesView = new VariablesView(variables);
+    attributes = new HashMap<>();
+
+    for (int i = 0; i < variables.length; i++) {
+      Bounds<Double> variableBounds = boundsList.get(i);
+      variables[i] = JMetalRandom.getInstance()
+          .nextDouble(variableBounds.getLowerBound(), variableBounds.getUpperBound());
+    }
+  }
+
+  /**
+   * Copy constructor
+   */
+  public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+    variables = solution.variables.clone();
+    objectives = solution.objectives.clone();
+    constraints = solution.constraints.clone();
+    variablesView = new VariablesView(variables);
+
+    bounds = solution.bounds;
+    attributes = new HashMap<>(solution.attributes);
+  }
+
+  @Override
+  public List<Double> variables() {
+    return variablesView;
+  }
+
+  @Override
+  public double[] objectives() {
+    return objectives;
+  }
+
+  @Override
+  public double[] constraints() {
+    return constraints;
+  }
+
+  @Override
+  public Map<Object, Object> attributes() {
+    return attributes;
+  }
+
+  @Override
+  public double variableValue(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void variableValue(int index, double value) {
+    variables[index] = value;
+  }
+
+  @Override
+  public Bounds<Double> getBounds(int index) {
+    return bounds.get(index);
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(this);
+  }
+
+  @Override
+  public String toString() {
+    return "Variables: " + Arrays.toString(variables)
+        + " Objectives: " + Arrays.toString(objectives)
+        + " Constraints: " + Arrays.toString(constraints)
+        + "\tAlgorithmAttributes: " + attributes + "\n";
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object == null)
+      return false;
+
+    if (this.getClass() != object.getClass())
+      return false;
+
+    return Arrays.equals(variables, ((ArrayDoubleSolution) object).variables);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(variables);
+  }
+
+  /**
+   * Fixed-size {@link List} view of the variables array. Values are boxed on access; callers aware
+   * of {@link DoubleSolution#variableValue(int)} bypass it.
+   */
+  private static class VariablesView extends AbstractList<Double>
+      implements RandomAccess, Serializable {
+    private final double[] values;
+
+    private VariablesView(double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public Double get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previousValue = values[index];
+      values[index] = value;
+      return previousValue;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
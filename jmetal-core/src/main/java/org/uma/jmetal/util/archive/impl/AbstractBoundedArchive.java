@@ -8,12 +8,23 @@ import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
 
 /**
+ * Base class of the bounded archives. A solution is first inserted in a non-dominated archive and,
+ * if the archive exceeds its maximum size, it is pruned.
+ *
+ * <p>Solutions can also be added in batch with {@link #addAll(List)}: all of them are merged
+ * through non-dominance and the archive is truncated once to its maximum size with
+ * {@link #truncate()}. Subclasses whose density estimator can be updated incrementally override that
+ * method to remove all the exceeding solutions in a single pass. The archive keeps track of whether
+ * the density estimator values of its solutions are outdated, so that they are only recomputed when
+ * they are queried (see {@link #updateDensityEstimator()}).
+ *
  * @author Antonio J. Nebro
  * @param <S>
  */
 public abstract class AbstractBoundedArchive<S extends Solution<?>> implements BoundedArchive<S> {
   protected NonDominatedSolutionListArchive<S> archive;
   protected int maxSize;
+  private boolean densityEstimatorOutdated = true;
 
   protected AbstractBoundedArchive(int maxSize, DominanceComparator<S> dominanceComparator) {
     this.maxSize = maxSize;
@@ -28,12 +39,36 @@ public abstract class AbstractBoundedArchive<S extends Solution<?>> implements B
   public boolean add(S solution) {
     boolean success = archive.add(solution);
     if (success) {
+      densityEstimatorOutdated = true;
       prune();
     }
 
     return success;
   }
 
+  /**
+   * Adds a list of solutions to the archive. The solutions are merged through non-dominance and then
+   * the archive is truncated once to its maximum size, instead of pruning it after each insertion.
+   *
+   * @param solutionList
+   * @return The archive
+   */
+  public Archive<S> addAll(List<S> solutionList) {
+    boolean changed = false;
+    for (S solution : solutionList) {
+      changed |= archive.add(solution);
+    }
+
+    if (changed) {
+      densityEstimatorOutdated = true;
+      if (size() > maximumSize()) {
+        truncate();
+      }
+    }
+
+    return this;
+  }
+
   @Override
   public S get(int index) {
     return solutions().get(index);
@@ -56,8 +91,56 @@ public abstract class AbstractBoundedArchive<S extends Solution<?>> implements B
 
   public abstract void prune();
 
+  /**
+   * Removes solutions until the archive size is not higher than the maximum size. By default,
+   * {@link #prune()} is applied until that condition holds.
+   */
+  protected void truncate() {
+    while (size() > maximumSize()) {
+      int previousSize = size();
+      prune();
+      if (size() == previousSize) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Computes the density estimator only if the archive has changed since the last computation
+   */
+  public void updateDensityEstimator() {
+    if (densityEstimatorOutdated) {
+      computeDensityEstimator();
+    }
+  }
+
+  /**
+   * Marks the density estimator values of the solutions as up to date. Subclasses call it at the end
+   * of {@link #computeDensityEstimator()}.
+   */
+  protected void densityEstimatorUpdated() {
+    densityEstimatorOutdated = false;
+  }
+
+  /**
+   * Marks the density estimator values as outdated, e.g., after modifying the solution list
+   * returned by {@link #solutions()}
+   */
+  public void invalidateDensityEstimator() {
+    densityEstimatorOutdated = true;
+  }
+
+  /**
+   * Replaces the solutions of the archive by a subset of them, keeping their order
+   */
+  protected void retainSolutions(List<S> survivors) {
+    solutions().clear();
+    solutions().addAll(survivors);
+    densityEstimatorOutdated = true;
+  }
+
   public Archive<S> join(Archive<S> archive) {
-    archive.solutions().forEach(this::add);
+    addAll(archive.solutions());
 
     return archive;
   }
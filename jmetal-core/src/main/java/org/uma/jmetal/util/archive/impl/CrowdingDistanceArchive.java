@@ -2,13 +2,18 @@ package org.uma.jmetal.util.archive.impl;
 
 import java.util.Comparator;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceTruncation;
 
 /**
+ * Bounded archive which removes the solution with the lowest crowding distance when it is full.
+ * The exceeding solutions are removed with a {@link CrowdingDistanceTruncation}, which only updates
+ * the distances of the neighbours of each removed solution, and the crowding distance attributes of
+ * the solutions are recomputed lazily when the comparator is requested.
+ *
  * Created by Antonio J. Nebro on 24/09/14.
  * Modified by Juanjo on 07/04/2015
  */
@@ -16,6 +21,7 @@ import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimato
 public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> crowdingDistanceComparator;
   private DensityEstimator<S> crowdingDistance ;
+  private transient CrowdingDistanceTruncation<S> truncation ;
 
   public CrowdingDistanceArchive(int maxSize, DominanceComparator<S> dominanceComparator) {
     super(maxSize, dominanceComparator);
@@ -30,19 +36,27 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
   @Override
   public void prune() {
     if (solutions().size() > maximumSize()) {
-      computeDensityEstimator();
-      S worst = new SolutionListUtils().findWorstSolution(solutions(), crowdingDistanceComparator) ;
-      solutions().remove(worst);
+      truncate();
     }
   }
 
+  @Override
+  protected void truncate() {
+    if (truncation == null) {
+      truncation = new CrowdingDistanceTruncation<>();
+    }
+    retainSolutions(truncation.truncate(solutions(), maximumSize()));
+  }
+
   @Override
   public Comparator<S> comparator() {
+    updateDensityEstimator();
     return crowdingDistanceComparator ;
   }
 
   @Override
   public void computeDensityEstimator() {
     crowdingDistance.compute(solutions());
+    densityEstimatorUpdated();
   }
 }
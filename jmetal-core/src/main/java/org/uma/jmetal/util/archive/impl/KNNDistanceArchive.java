@@ -5,8 +5,13 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.KnnDistanceTruncation;
 
 /**
+ * Bounded archive which removes the solution with the lowest distance to its k-th nearest solution
+ * when it is full. The exceeding solutions are removed with a {@link KnnDistanceTruncation} and the
+ * density estimator is recomputed lazily when the comparator is requested.
+ *
  * Created by Antonio J. Nebro on 24/09/14.
  * Modified by Juanjo on 07/04/2015
  */
@@ -14,9 +19,12 @@ import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
 public class KNNDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> knnDistanceComparator;
   private DensityEstimator<S> knnDensityEstimator ;
+  private final int k ;
+  private transient KnnDistanceTruncation<S> truncation ;
 
   public KNNDistanceArchive(int maxSize, int k) {
     super(maxSize);
+    this.k = k ;
     knnDensityEstimator = new KnnDensityEstimator<S>(k);
     knnDistanceComparator = Comparator.comparing(knnDensityEstimator::value).reversed() ;
   }
@@ -24,19 +32,39 @@ public class KNNDistanceArchive<S extends Solution<?>> extends AbstractBoundedAr
   @Override
   public void prune() {
     if (solutions().size() > maximumSize()) {
-      computeDensityEstimator();
-      S worst = new SolutionListUtils().findWorstSolution(solutions(), knnDistanceComparator) ;
-      solutions().remove(worst);
+      if (maximumSize() > k) {
+        truncate();
+      } else {
+        computeDensityEstimator();
+        S worst = new SolutionListUtils().findWorstSolution(solutions(), knnDistanceComparator) ;
+        solutions().remove(worst);
+        invalidateDensityEstimator();
+      }
+    }
+  }
+
+  @Override
+  protected void truncate() {
+    if (maximumSize() <= k) {
+      // The k-th distance is not defined in the last iterations, so the default pruning is applied
+      super.truncate();
+    } else {
+      if (truncation == null) {
+        truncation = new KnnDistanceTruncation<>(k);
+      }
+      retainSolutions(truncation.truncate(solutions(), maximumSize()));
     }
   }
 
   @Override
   public Comparator<S> comparator() {
+    updateDensityEstimator();
     return knnDistanceComparator ;
   }
 
   @Override
   public void computeDensityEstimator() {
     knnDensityEstimator.compute(solutions());
+    densityEstimatorUpdated();
   }
 }
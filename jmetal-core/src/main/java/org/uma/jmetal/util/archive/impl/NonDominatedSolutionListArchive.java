@@ -1,17 +1,29 @@
 package org.uma.jmetal.util.archive.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.errorchecking.Check;
 
 /**
  * This class implements an archive containing non-dominated solutions
  *
+ * <p>If the dominance comparator is a
+ * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator} or the
+ * default {@link DominanceWithConstraintsComparator}, the objective values and the overall
+ * constraint violation degrees of the solutions in the archive are kept in flat buffers, and the
+ * dominance tests are performed by the {@link DominanceKernel} on them. The values of a solution
+ * are read when it is found in a position of the list for the first time, so the solutions in the
+ * archive must not be modified.
+ *
  * @author Antonio J. Nebro
  * @author Juan J. Durillo
  */
@@ -21,6 +33,17 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
   private List<S> solutionList;
   private Comparator<S> dominanceComparator;
   private Comparator<S> equalSolutions = new EqualSolutionsComparator<S>();
+  private final DominanceKernel.Mode dominanceMode;
+
+  // Row i contains the values of rowSolutions[i], which is checked against the i-th solution of
+  // the list before using them, as the list can be modified from outside the archive
+  private int numberOfObjectives;
+  private double[] objectives = new double[0];
+  private double[] overallConstraintViolationDegrees = new double[0];
+  private Object[] rowSolutions = new Object[0];
+  // Only the first rows can reference solutions; the others are cleared when the archive shrinks,
+  // so that the removed solutions can be garbage collected
+  private int numberOfLoadedRows;
 
   /**
    * Constructor
@@ -34,6 +57,7 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
    */
   public NonDominatedSolutionListArchive(Comparator<S> comparator) {
     dominanceComparator = comparator;
+    dominanceMode = DominanceKernel.modeOf(comparator);
 
     solutionList = new ArrayList<>();
   }
@@ -50,8 +74,11 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
   public boolean add(S solution) {
     boolean isSolutionInserted = false;
     if (solutionList.isEmpty()) {
+      releaseRowsFrom(0);
       solutionList.add(solution);
       isSolutionInserted = true;
+    } else if (dominanceMode != DominanceKernel.Mode.COMPARATOR) {
+      isSolutionInserted = insertSolutionWithTheDominanceKernel(solution);
     } else {
       isSolutionInserted = insertSolutionIfNonDominatedAndIsNotInTheArchive(solution,
           isSolutionInserted);
@@ -84,6 +111,128 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
     return solutionInserted;
   }
 
+  /**
+   * Same as {@link #insertSolutionIfNonDominatedAndIsNotInTheArchive(Solution, boolean)}, but
+   * comparing the solution with the rows of the buffers. The solutions dominated by the new one
+   * are removed by compacting the list and the buffers in a single pass.
+   */
+  private boolean insertSolutionWithTheDominanceKernel(S solution) {
+    int size = solutionList.size();
+    if (solutionList.get(0).objectives().length != numberOfObjectives) {
+      numberOfObjectives = solutionList.get(0).objectives().length;
+      releaseRowsFrom(0);
+    }
+    ensureCapacity(size + 1);
+
+    double[] solutionObjectives = solution.objectives();
+    Check.that(solutionObjectives.length == numberOfObjectives,
+        "Cannot compare because the solution has " + solutionObjectives.length
+            + " objectives and the solutions in the archive have " + numberOfObjectives);
+    double solutionDegree = dominanceMode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES
+        ? ConstraintHandling.overallConstraintViolationDegree(solution)
+        : 0.0;
+
+    boolean isDominated = false;
+    boolean isContained = false;
+    int numberOfKeptSolutions = 0;
+    int row = 0;
+    while (!isDominated && !isContained && row < size) {
+      loadRow(row);
+      int flag = DominanceKernel.dominanceTest(solutionObjectives, 0, solutionDegree, objectives,
+          row * numberOfObjectives, overallConstraintViolationDegrees[row], numberOfObjectives);
+      if (flag > 0) {
+        isDominated = true;
+      } else if (flag == 0 && hasTheSameObjectives(solutionObjectives, row)) {
+        isContained = true;
+      }
+
+      if (flag >= 0) {
+        moveRow(row, numberOfKeptSolutions++);
+      }
+      row++;
+    }
+
+    while (row < size) {
+      moveRow(row++, numberOfKeptSolutions++);
+    }
+    solutionList.subList(numberOfKeptSolutions, size).clear();
+
+    boolean solutionInserted = false;
+    if (!isDominated && !isContained) {
+      solutionList.add(solution);
+      loadRow(numberOfKeptSolutions);
+      solutionInserted = true;
+    }
+    releaseRowsFrom(solutionList.size());
+
+    return solutionInserted;
+  }
+
+  /**
+   * Reads the values of the solution in a position of the list if they are not in its row yet
+   */
+  private void loadRow(int row) {
+    S solution = solutionList.get(row);
+    if (rowSolutions[row] != solution) {
+      Check.that(solution.objectives().length == numberOfObjectives,
+          "The solution in position " + row + " has " + solution.objectives().length
+              + " objectives instead of " + numberOfObjectives);
+      System.arraycopy(solution.objectives(), 0, objectives, row * numberOfObjectives,
+          numberOfObjectives);
+      overallConstraintViolationDegrees[row] =
+          dominanceMode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES
+              ? ConstraintHandling.overallConstraintViolationDegree(solution)
+              : 0.0;
+      rowSolutions[row] = solution;
+      numberOfLoadedRows = Math.max(numberOfLoadedRows, row + 1);
+    }
+  }
+
+  /**
+   * Clears the references to the solutions of the rows from a given one
+   */
+  private void releaseRowsFrom(int row) {
+    if (row < numberOfLoadedRows) {
+      Arrays.fill(rowSolutions, row, numberOfLoadedRows, null);
+      numberOfLoadedRows = row;
+    }
+  }
+
+  private void moveRow(int from, int to) {
+    if (from != to) {
+      solutionList.set(to, solutionList.get(from));
+      System.arraycopy(objectives, from * numberOfObjectives, objectives, to * numberOfObjectives,
+          numberOfObjectives);
+      overallConstraintViolationDegrees[to] = overallConstraintViolationDegrees[from];
+      rowSolutions[to] = rowSolutions[from];
+    }
+  }
+
+  /**
+   * Equality test of {@link EqualSolutionsComparator}
+   */
+  private boolean hasTheSameObjectives(double[] solutionObjectives, int row) {
+    int offset = row * numberOfObjectives;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (Double.compare(solutionObjectives[i], objectives[offset + i]) != 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void ensureCapacity(int size) {
+    if (rowSolutions.length < size) {
+      int capacity = Math.max(size, 2 * rowSolutions.length);
+      rowSolutions = Arrays.copyOf(rowSolutions, capacity);
+      overallConstraintViolationDegrees = Arrays.copyOf(overallConstraintViolationDegrees, capacity);
+    }
+    if (objectives.length < rowSolutions.length * numberOfObjectives) {
+      objectives = Arrays.copyOf(objectives, rowSolutions.length * numberOfObjectives);
+    }
+  }
+
   public Archive<S> join(Archive<S> archive) {
     return this.addAll(archive.solutions());
   }
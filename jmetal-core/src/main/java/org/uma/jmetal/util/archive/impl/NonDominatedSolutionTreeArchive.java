@@ -0,0 +1,487 @@
+package org.uma.jmetal.util.archive.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * This class implements an unbounded archive of non-dominated solutions backed by a dominance-aware
+ * index, intended to replace {@link NonDominatedSolutionListArchive} when the archive holds a large
+ * number of solutions. The index is:
+ * <ul>
+ *   <li>a sorted map ordered by the first objective in bi-objective problems. As the second
+ *   objective decreases along the map, a solution is dominated if and only if its floor entry is
+ *   not worse in the second objective, and the solutions it dominates are the first entries of its
+ *   tail map, so insertions are O(log N) plus the number of removed solutions;</li>
+ *   <li>an ND-Tree (A. Jaszkiewicz and T. Lust, "ND-Tree-based update: a fast algorithm for the
+ *   dynamic nondominance problem", IEEE TEVC 22(5), 2018) with three or more objectives. Each node
+ *   keeps the ideal and nadir points of the solutions below it, so whole subtrees are skipped,
+ *   discarded or proven to dominate the new solution without visiting their solutions.</li>
+ * </ul>
+ *
+ * <p>The archive behaves as a {@link NonDominatedSolutionListArchive} using the default
+ * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator}:
+ * solutions with a lower overall constraint violation degree dominate the others, and solutions with
+ * the same degree are compared with the Pareto dominance; a solution having the same objective
+ * values as another one in the archive is not inserted. The objective values are copied when a
+ * solution is inserted, so the solutions in the archive must not be modified. The order of the
+ * solutions in {@link #solutions()} is not the insertion order, and the returned list cannot be
+ * modified.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class NonDominatedSolutionTreeArchive<S extends Solution<?>> implements Archive<S> {
+  public static final int DEFAULT_MAXIMUM_LEAF_SIZE = 20;
+
+  private final int maximumLeafSize;
+  private final List<S> solutionList;
+  private final List<Entry<S>> entryList;
+  private int numberOfObjectives;
+  private double overallConstraintViolationDegree;
+  private DominanceIndex index;
+
+  /**
+   * Constructor
+   */
+  public NonDominatedSolutionTreeArchive() {
+    this(DEFAULT_MAXIMUM_LEAF_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maximumLeafSize Maximum number of solutions in the leaves of the ND-Tree
+   */
+  public NonDominatedSolutionTreeArchive(int maximumLeafSize) {
+    Check.that(maximumLeafSize > 1,
+        "The maximum leaf size must be higher than 1: " + maximumLeafSize);
+    this.maximumLeafSize = maximumLeafSize;
+
+    solutionList = new ArrayList<>();
+    entryList = new ArrayList<>();
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if a solution
+   * with the same objective values exists
+   */
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+
+    double violationDegree = ConstraintHandling.overallConstraintViolationDegree(solution);
+    if (index == null) {
+      numberOfObjectives = solution.objectives().length;
+      index = numberOfObjectives == 2 ? new BiObjectiveIndex() : new NDTree();
+      overallConstraintViolationDegree = violationDegree;
+    } else {
+      Check.that(solution.objectives().length == numberOfObjectives,
+          "The solution has " + solution.objectives().length + " objectives instead of "
+              + numberOfObjectives);
+      if (solutionList.isEmpty() || violationDegree > overallConstraintViolationDegree) {
+        clear();
+        overallConstraintViolationDegree = violationDegree;
+      } else if (violationDegree < overallConstraintViolationDegree) {
+        return false;
+      }
+    }
+
+    Entry<S> entry = new Entry<>(solution, solution.objectives().clone());
+    if (!index.removeDominatedBy(entry.objectives)) {
+      return false;
+    }
+
+    entry.position = solutionList.size();
+    solutionList.add(solution);
+    entryList.add(entry);
+    index.insert(entry);
+
+    return true;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.solutions());
+  }
+
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : list) {
+      this.add(solution);
+    }
+
+    return this;
+  }
+
+  @Override
+  public List<S> solutions() {
+    return Collections.unmodifiableList(solutionList);
+  }
+
+  @Override
+  public int size() {
+    return solutionList.size();
+  }
+
+  @Override
+  public S get(int index) {
+    return solutionList.get(index);
+  }
+
+  private void clear() {
+    solutionList.clear();
+    entryList.clear();
+    index.clear();
+  }
+
+  /**
+   * Removes a solution from the list of solutions by moving the last one to its position
+   */
+  private void remove(Entry<S> entry) {
+    int last = solutionList.size() - 1;
+    Entry<S> lastEntry = entryList.get(last);
+    solutionList.set(entry.position, lastEntry.solution);
+    entryList.set(entry.position, lastEntry);
+    lastEntry.position = entry.position;
+    solutionList.remove(last);
+    entryList.remove(last);
+  }
+
+  /**
+   * Returns true if <code>vector1</code> is lower than or equal to <code>vector2</code> in all the
+   * components
+   */
+  private static boolean weaklyDominates(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] > vector2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if <code>vector1</code> Pareto dominates <code>vector2</code>
+   */
+  private static boolean dominates(double[] vector1, double[] vector2) {
+    boolean isBetter = false;
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] > vector2[i]) {
+        return false;
+      } else if (vector1[i] < vector2[i]) {
+        isBetter = true;
+      }
+    }
+    return isBetter;
+  }
+
+  private static double squaredDistance(double[] vector1, double[] vector2) {
+    double distance = 0.0;
+    for (int i = 0; i < vector1.length; i++) {
+      double difference = vector1[i] - vector2[i];
+      distance += difference * difference;
+    }
+    return distance;
+  }
+
+  private static class Entry<S> implements Serializable {
+    private final S solution;
+    private final double[] objectives;
+    private int position;
+
+    private Entry(S solution, double[] objectives) {
+      this.solution = solution;
+      this.objectives = objectives;
+    }
+  }
+
+  private abstract class DominanceIndex implements Serializable {
+    /**
+     * Removes the entries dominated by a point
+     *
+     * @return false if the point is dominated by or equal to an entry of the index (in that case no
+     * entry is removed)
+     */
+    abstract boolean removeDominatedBy(double[] point);
+
+    /**
+     * Inserts an entry that is not dominated by the entries of the index
+     */
+    abstract void insert(Entry<S> entry);
+
+    abstract void clear();
+  }
+
+  /**
+   * Index of mutually non-dominated entries of a bi-objective problem, sorted by the first objective
+   * (and therefore in decreasing order of the second objective)
+   */
+  private class BiObjectiveIndex extends DominanceIndex {
+    private final TreeMap<Double, Entry<S>> entries = new TreeMap<>();
+
+    @Override
+    boolean removeDominatedBy(double[] point) {
+      // The floor entry is the one with the lowest second objective among those not worse in the
+      // first one
+      Map.Entry<Double, Entry<S>> floor = entries.floorEntry(key(point));
+      if (floor != null && floor.getValue().objectives[1] <= point[1]) {
+        return false;
+      }
+
+      Iterator<Entry<S>> iterator = entries.tailMap(key(point), true).values().iterator();
+      while (iterator.hasNext()) {
+        Entry<S> entry = iterator.next();
+        if (entry.objectives[1] < point[1]) {
+          break;
+        }
+        iterator.remove();
+        remove(entry);
+      }
+
+      return true;
+    }
+
+    @Override
+    void insert(Entry<S> entry) {
+      entries.put(key(entry.objectives), entry);
+    }
+
+    @Override
+    void clear() {
+      entries.clear();
+    }
+
+    /**
+     * Adding 0.0 turns -0.0 into 0.0, which are different keys for {@link Double#compareTo}
+     */
+    private Double key(double[] point) {
+      return point[0] + 0.0;
+    }
+  }
+
+  /**
+   * ND-Tree. The ideal and nadir points of the nodes are updated when an entry is inserted but they
+   * are not tightened when entries are removed, so they remain valid (although approximate) bounds.
+   */
+  private class NDTree extends DominanceIndex {
+    private Node root = new Node();
+
+    @Override
+    boolean removeDominatedBy(double[] point) {
+      if (root.isEmpty()) {
+        return true;
+      }
+
+      boolean isNotDominated = removeDominatedBy(root, point);
+      if (root.isEmpty()) {
+        root = new Node();
+      }
+
+      return isNotDominated;
+    }
+
+    private boolean removeDominatedBy(Node node, double[] point) {
+      if (weaklyDominates(node.nadir, point)) {
+        // Every entry of the node is lower than or equal to the point
+        return false;
+      } else if (dominates(point, node.ideal)) {
+        removeAll(node);
+      } else if (weaklyDominates(node.ideal, point) || weaklyDominates(point, node.nadir)) {
+        if (node.isLeaf()) {
+          Iterator<Entry<S>> iterator = node.entries.iterator();
+          while (iterator.hasNext()) {
+            Entry<S> entry = iterator.next();
+            if (weaklyDominates(entry.objectives, point)) {
+              return false;
+            } else if (dominates(point, entry.objectives)) {
+              iterator.remove();
+              remove(entry);
+            }
+          }
+        } else {
+          Iterator<Node> iterator = node.children.iterator();
+          while (iterator.hasNext()) {
+            Node child = iterator.next();
+            if (!removeDominatedBy(child, point)) {
+              return false;
+            }
+            if (child.isEmpty()) {
+              iterator.remove();
+            }
+          }
+        }
+      }
+
+      return true;
+    }
+
+    private void removeAll(Node node) {
+      if (node.isLeaf()) {
+        for (Entry<S> entry : node.entries) {
+          remove(entry);
+        }
+        node.entries.clear();
+      } else {
+        for (Node child : node.children) {
+          removeAll(child);
+        }
+        node.children.clear();
+      }
+    }
+
+    @Override
+    void insert(Entry<S> entry) {
+      Node node = root;
+      while (true) {
+        node.updateBounds(entry.objectives);
+        if (node.isLeaf()) {
+          node.entries.add(entry);
+          if (node.entries.size() > maximumLeafSize) {
+            split(node);
+          }
+          return;
+        }
+        node = closestChild(node, entry.objectives);
+      }
+    }
+
+    private Node closestChild(Node node, double[] point) {
+      Node closestChild = null;
+      double minimumDistance = Double.POSITIVE_INFINITY;
+      for (Node child : node.children) {
+        double distance = child.squaredDistanceToMidpoint(point);
+        if (distance < minimumDistance || closestChild == null) {
+          minimumDistance = distance;
+          closestChild = child;
+        }
+      }
+      return closestChild;
+    }
+
+    /**
+     * Turns a leaf into an internal node with up to M+1 children. The first children are seeded
+     * with the entries farthest from the entries already assigned, and the rest of entries are
+     * assigned to the child with the closest midpoint.
+     */
+    private void split(Node node) {
+      List<Entry<S>> entries = node.entries;
+      int numberOfEntries = entries.size();
+      int numberOfChildren = Math.min(numberOfObjectives + 1, numberOfEntries);
+
+      double[][] distance = new double[numberOfEntries][numberOfEntries];
+      for (int i = 0; i < numberOfEntries; i++) {
+        for (int j = i + 1; j < numberOfEntries; j++) {
+          distance[i][j] = Math.sqrt(
+              squaredDistance(entries.get(i).objectives, entries.get(j).objectives));
+          distance[j][i] = distance[i][j];
+        }
+      }
+
+      boolean[] assigned = new boolean[numberOfEntries];
+      List<Integer> seeds = new ArrayList<>(numberOfChildren);
+      // The first seed is the entry with the highest average distance to the rest of entries
+      double[] accumulatedDistance = new double[numberOfEntries];
+      for (int i = 0; i < numberOfEntries; i++) {
+        for (int j = 0; j < numberOfEntries; j++) {
+          accumulatedDistance[i] += distance[i][j];
+        }
+      }
+      int seed = argMax(accumulatedDistance, assigned);
+      while (true) {
+        seeds.add(seed);
+        assigned[seed] = true;
+        if (seeds.size() == numberOfChildren) {
+          break;
+        }
+        // Next seed: highest average distance to the previous seeds
+        Arrays.fill(accumulatedDistance, 0.0);
+        for (int i = 0; i < numberOfEntries; i++) {
+          for (int s : seeds) {
+            accumulatedDistance[i] += distance[i][s];
+          }
+        }
+        seed = argMax(accumulatedDistance, assigned);
+      }
+
+      node.children = new ArrayList<>(numberOfChildren);
+      for (int s : seeds) {
+        Node child = new Node();
+        child.updateBounds(entries.get(s).objectives);
+        child.entries.add(entries.get(s));
+        node.children.add(child);
+      }
+      for (int i = 0; i < numberOfEntries; i++) {
+        if (!assigned[i]) {
+          Node child = closestChild(node, entries.get(i).objectives);
+          child.updateBounds(entries.get(i).objectives);
+          child.entries.add(entries.get(i));
+        }
+      }
+      node.entries = null;
+    }
+
+    private int argMax(double[] values, boolean[] excluded) {
+      int result = -1;
+      for (int i = 0; i < values.length; i++) {
+        if (!excluded[i] && (result == -1 || values[i] > values[result])) {
+          result = i;
+        }
+      }
+      return result;
+    }
+
+    @Override
+    void clear() {
+      root = new Node();
+    }
+  }
+
+  private class Node implements Serializable {
+    private double[] ideal;
+    private double[] nadir;
+    // Entries of a leaf node (null in internal nodes)
+    private List<Entry<S>> entries = new ArrayList<>();
+    // Children of an internal node (null in leaf nodes)
+    private List<Node> children;
+
+    private boolean isLeaf() {
+      return entries != null;
+    }
+
+    private boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty();
+    }
+
+    private void updateBounds(double[] point) {
+      if (ideal == null) {
+        ideal = point.clone();
+        nadir = point.clone();
+      } else {
+        for (int i = 0; i < point.length; i++) {
+          ideal[i] = Math.min(ideal[i], point[i]);
+          nadir[i] = Math.max(nadir[i], point[i]);
+        }
+      }
+    }
+
+    private double squaredDistanceToMidpoint(double[] point) {
+      double distance = 0.0;
+      for (int i = 0; i < point.length; i++) {
+        double difference = (ideal[i] + nadir[i]) / 2.0 - point[i];
+        distance += difference * difference;
+      }
+      return distance;
+    }
+  }
+}
@@ -21,6 +21,10 @@ import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 import org.uma.jmetal.util.solutionattribute.impl.SpatialSpreadDeviation;
 
 /**
+ * Bounded archive based on the Spatial Spread Deviation. As the deviation depends on all the
+ * pairwise distances of the archive, the default truncation is used in batched insertions, but the
+ * density estimator is only recomputed lazily when the comparator is requested.
+ *
  * @author Alejandro Santiago <aurelio.santiago@upalt.edu.mx>
  */
 @SuppressWarnings("serial")
@@ -41,16 +45,19 @@ public class SpatialSpreadDeviationArchive<S extends Solution<?>> extends
       computeDensityEstimator();
       S worst = new SolutionListUtils().findWorstSolution(solutions(), crowdingDistanceComparator) ;
       solutions().remove(worst);
+      invalidateDensityEstimator();
     }
   }
 
   @Override
   public Comparator<S> comparator() {
+    updateDensityEstimator();
     return crowdingDistanceComparator ;
   }
 
   @Override
   public void computeDensityEstimator() {
     crowdingDistance.computeDensityEstimator(solutions());
+    densityEstimatorUpdated();
   }
 }
@@ -3,6 +3,7 @@ package org.uma.jmetal.util.comparator.constraintcomparator.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.ConstraintHandling;
 import org.uma.jmetal.util.comparator.constraintcomparator.ConstraintComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
 
 /**
  * This class implements a <code>Comparator</code> (a method for comparing <code>Solution</code> objects)
@@ -26,14 +27,7 @@ public class OverallConstraintViolationDegreeComparator<S extends Solution<?>> i
     var violationDegreeSolution1 = ConstraintHandling.overallConstraintViolationDegree(solution1);
     var violationDegreeSolution2 = ConstraintHandling.overallConstraintViolationDegree(solution2);
 
-    if ((violationDegreeSolution1 < 0.0) && (violationDegreeSolution2 < 0.0)) {
-      return Double.compare(violationDegreeSolution2, violationDegreeSolution1);
-    } else if ((violationDegreeSolution1 == 0.0) && (violationDegreeSolution2 < 0.0)) {
-      return -1;
-    } else if ((violationDegreeSolution1 < 0.0) && (violationDegreeSolution2 == 0.0)) {
-      return 1;
-    } else {
-      return 0;
-    }
+    return DominanceKernel.compareOverallConstraintViolationDegrees(violationDegreeSolution1,
+        violationDegreeSolution2);
   }
 }
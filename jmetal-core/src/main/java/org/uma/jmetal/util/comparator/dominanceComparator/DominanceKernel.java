@@ -0,0 +1,121 @@
+package org.uma.jmetal.util.comparator.dominanceComparator;
+
+import java.util.Comparator;
+import org.uma.jmetal.util.comparator.constraintcomparator.impl.OverallConstraintViolationDegreeComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+
+/**
+ * Primitive dominance tests on objective vectors stored in flat buffers (e.g., the rows of an
+ * {@link org.uma.jmetal.util.objectivematrix.ObjectiveMatrix}), used by the dominance comparators,
+ * the rankings and the archives. The loops have no data-dependent branches apart from the exit
+ * taken as soon as each vector is better than the other one in some objective, and the constraint
+ * violation degrees are passed as precomputed values instead of being recomputed in each test.
+ *
+ * <p>The results are the same as those of {@link DefaultDominanceComparator} and of
+ * {@link DominanceWithConstraintsComparator} with an
+ * {@link OverallConstraintViolationDegreeComparator}.
+ *
+ * @author Antonio J. Nebro
+ */
+public final class DominanceKernel {
+
+  /**
+   * Kind of dominance test performed by a comparator
+   */
+  public enum Mode {
+    /** Pareto dominance of the objective vectors ({@link DefaultDominanceComparator}) */
+    OBJECTIVES,
+    /**
+     * Overall constraint violation degree and then Pareto dominance (the default
+     * {@link DominanceWithConstraintsComparator})
+     */
+    CONSTRAINTS_AND_OBJECTIVES,
+    /** Any other comparator, which has to be invoked on the solutions */
+    COMPARATOR
+  }
+
+  private DominanceKernel() {
+  }
+
+  /**
+   * Returns the kind of dominance test performed by a comparator. Subclasses of the known
+   * comparators are considered as unknown, as they could override the test.
+   */
+  public static Mode modeOf(Comparator<?> comparator) {
+    Mode mode = Mode.COMPARATOR;
+    if (comparator.getClass() == DefaultDominanceComparator.class) {
+      mode = Mode.OBJECTIVES;
+    } else if (comparator.getClass() == DominanceWithConstraintsComparator.class
+        && ((DominanceWithConstraintsComparator<?>) comparator).constraintComparator().getClass()
+        == OverallConstraintViolationDegreeComparator.class) {
+      mode = Mode.CONSTRAINTS_AND_OBJECTIVES;
+    }
+
+    return mode;
+  }
+
+  /**
+   * Pareto dominance test between two objective vectors stored in flat buffers
+   *
+   * @return -1, or 0, or 1 if the first vector dominates the second one, both are non-dominated,
+   * or the first vector is dominated by the second one, respectively.
+   */
+  public static int dominanceTest(double[] objectives1, int offset1, double[] objectives2,
+      int offset2, int numberOfObjectives) {
+    boolean bestIsOne = false;
+    boolean bestIsTwo = false;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = objectives1[offset1 + i];
+      double value2 = objectives2[offset2 + i];
+      bestIsOne |= value1 < value2;
+      bestIsTwo |= value2 < value1;
+      if (bestIsOne & bestIsTwo) {
+        return 0;
+      }
+    }
+
+    return bestIsOne ? -1 : (bestIsTwo ? 1 : 0);
+  }
+
+  /**
+   * Pareto dominance test between two objective vectors
+   */
+  public static int dominanceTest(double[] objectives1, double[] objectives2) {
+    return dominanceTest(objectives1, 0, objectives2, 0, objectives1.length);
+  }
+
+  /**
+   * Compares two overall constraint violation degrees (which are zero or negative) as
+   * {@link OverallConstraintViolationDegreeComparator}
+   *
+   * @return -1 if the first degree is better (closer to zero), 1 if it is worse, and 0 if both are
+   * equally good
+   */
+  public static int compareOverallConstraintViolationDegrees(double degree1, double degree2) {
+    if ((degree1 < 0.0) && (degree2 < 0.0)) {
+      return Double.compare(degree2, degree1);
+    } else if ((degree1 == 0.0) && (degree2 < 0.0)) {
+      return -1;
+    } else if ((degree1 < 0.0) && (degree2 == 0.0)) {
+      return 1;
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Dominance test taking into account the overall constraint violation degrees, as the default
+   * {@link DominanceWithConstraintsComparator}: the objectives are only compared when the degrees
+   * are equally good.
+   */
+  public static int dominanceTest(double[] objectives1, int offset1, double degree1,
+      double[] objectives2, int offset2, double degree2, int numberOfObjectives) {
+    int result = compareOverallConstraintViolationDegrees(degree1, degree2);
+    if (result == 0) {
+      result = dominanceTest(objectives1, offset1, objectives2, offset2, numberOfObjectives);
+    }
+
+    return result;
+  }
+}
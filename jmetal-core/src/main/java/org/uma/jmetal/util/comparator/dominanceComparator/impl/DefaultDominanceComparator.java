@@ -1,8 +1,8 @@
 package org.uma.jmetal.util.comparator.dominanceComparator.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -31,6 +31,6 @@ public class DefaultDominanceComparator<S extends Solution<?>> implements Domina
             + " objectives and solution2 has "
             + solution2.objectives().length);
 
-    return VectorUtils.dominanceTest(solution1.objectives(), solution2.objectives()) ;
+    return DominanceKernel.dominanceTest(solution1.objectives(), solution2.objectives()) ;
   }
 }
@@ -14,6 +14,7 @@ import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
  */
 public class DominanceWithConstraintsComparator<S extends Solution<?>> implements
     DominanceComparator<S> {
+  private final ConstraintComparator<S> constraintComparator ;
   private final MultiComparator<S> multiComparator ;
 
   /** Constructor */
@@ -23,6 +24,7 @@ public class DominanceWithConstraintsComparator<S extends Solution<?>> implement
 
   /** Constructor */
   public DominanceWithConstraintsComparator(ConstraintComparator<S> constraintComparator) {
+    this.constraintComparator = constraintComparator ;
     multiComparator = new MultiComparator<>(List.of(constraintComparator, new DefaultDominanceComparator<>())) ;
   }
 
@@ -38,4 +40,8 @@ public class DominanceWithConstraintsComparator<S extends Solution<?>> implement
   public int compare(S solution1, S solution2) {
     return multiComparator.compare(solution1, solution2);
   }
+
+  public ConstraintComparator<S> constraintComparator() {
+    return constraintComparator ;
+  }
 }
@@ -1,12 +1,11 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 
 /**
  * This class implements the crowding distance
@@ -24,59 +23,73 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
    */
   @Override
   public void compute(List<S> solutionList) {
-    int size = solutionList.size();
+    compute(new ObjectiveMatrix<>(solutionList));
+  }
+
+  /**
+   * Assigns crowding distances to the solutions stored in an {@link ObjectiveMatrix}. The distances
+   * are accumulated in a primitive array and stored as attributes of the solutions at the end.
+   *
+   * @param objectiveMatrix
+   */
+  public void compute(ObjectiveMatrix<S> objectiveMatrix) {
+    int size = objectiveMatrix.size();
 
     if (size == 0) {
       return;
     }
 
     if (size == 1) {
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      objectiveMatrix.solution(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
       return;
     }
 
     if (size == 2) {
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      solutionList.get(1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      objectiveMatrix.solution(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      objectiveMatrix.solution(1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
       return;
     }
 
-    // Use a new SolutionSet to avoid altering the original solutionSet
-    List<S> front = new ArrayList<>(solutionList);
-
+    // Row indices sorted by objective, to avoid altering the original list
+    int[] front = new int[size];
+    double[] crowdingDistance = new double[size];
     for (int i = 0; i < size; i++) {
-      front.get(i).attributes().put(attributeId, 0.0);
+      front[i] = i;
     }
 
-    int numberOfObjectives = solutionList.get(0).objectives().length ;
+    int numberOfObjectives = objectiveMatrix.numberOfObjectives();
 
     for (int i = 0; i < numberOfObjectives; i++) {
       // Sort the population by Obj n
-      front.sort(new ObjectiveComparator<>(i));
+      objectiveMatrix.sortByObjective(front, i);
 
       // It may be beneficial to change this according to https://dl.acm.org/citation.cfm?doid=2463372.2463456.
       // The additional change that may be beneficial is that if we have only two distinct objective values,
       //   we also don't update the crowding distance, as they all will "go to eleven",
       //   which makes no sense as this objective just appears to be non-discriminating.
 
-      double minObjective = front.get(0).objectives()[i];
-      double maxObjective = front.get(front.size() - 1).objectives()[i];
+      double minObjective = objectiveMatrix.objective(front[0], i);
+      double maxObjective = objectiveMatrix.objective(front[size - 1], i);
       if (minObjective == maxObjective) {
         continue; // otherwise all crowding distances will be NaN = 0.0 / 0.0 except for two
       }
 
       // Set the crowding distance for the extreme points
-      front.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      front.get(size - 1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      crowdingDistance[front[0]] = Double.POSITIVE_INFINITY;
+      crowdingDistance[front[size - 1]] = Double.POSITIVE_INFINITY;
 
       // Increase the crowding distances for all the intermediate points
       for (int j = 1; j < size - 1; j++) {
-        double distance = front.get(j + 1).objectives()[i] - front.get(j - 1).objectives()[i];
+        double distance =
+            objectiveMatrix.objective(front[j + 1], i) - objectiveMatrix.objective(front[j - 1], i);
         distance = distance / (maxObjective - minObjective);
-        distance += (double) front.get(j).attributes().get(attributeId);
-        front.get(j).attributes().put(attributeId, distance);
+        crowdingDistance[front[j]] += distance;
       }
     }
+
+    for (int i = 0; i < size; i++) {
+      objectiveMatrix.solution(i).attributes().put(attributeId, crowdingDistance[i]);
+    }
   }
 
   @Override
@@ -0,0 +1,302 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
+
+/**
+ * Incremental implementation of the sequential truncation of a front based on the crowding distance
+ * (see {@link CrowdingDistanceDensityEstimator}): the solution with the lowest crowding distance is
+ * removed and the distances are recomputed, until the front has the required size.
+ *
+ * <p>Instead of sorting the front and recomputing all the distances after each removal, the sorted
+ * order of the front in each objective is kept as a doubly linked list and the solutions are stored
+ * in an indexed min-heap keyed by their crowding distance. When a solution is removed, it is
+ * unlinked from the lists and only the distances of its neighbours are updated, so truncating a
+ * front of N solutions in M objectives costs O(M N log N) instead of O(k M N log N) when k solutions
+ * are removed. The distances are computed with the same expressions as
+ * {@link CrowdingDistanceDensityEstimator}, so when the objective values are distinct the removed
+ * solutions are the same as those of a full recomputation. Ties in the lowest distance are broken by
+ * removing the solution with the highest position in the front; as the non-incremental truncation
+ * breaks them according to the order of the list, which is resorted after each removal, the choice
+ * among equally crowded solutions may differ from it.
+ *
+ * <p>No attributes are written in the solutions. The internal buffers are reused between calls.
+ *
+ * @author Antonio J. Nebro
+ */
+public class CrowdingDistanceTruncation<S extends Solution<?>> {
+  private static final int NONE = -1;
+
+  private ObjectiveMatrix<S> frontMatrix;
+  private ObjectiveMatrix<S> objectiveMatrix;
+  private int size;
+  private int numberOfObjectives;
+  private int remaining;
+
+  // Sorted order of objective j: previous[j * size + i] and next[j * size + i] are the neighbours of i
+  private int[] previous = new int[0];
+  private int[] next = new int[0];
+  private int[] first = new int[0];
+  private int[] last = new int[0];
+  private double[] range = new double[0];
+
+  private double[] distance = new double[0];
+  private boolean[] removed = new boolean[0];
+
+  // Indexed min-heap of population indices ordered by (distance, -index)
+  private int[] heap = new int[0];
+  private int[] heapPosition = new int[0];
+  private int heapSize;
+
+  /**
+   * Returns the solutions of a front remaining after removing sequentially the solution with the
+   * lowest crowding distance until the front has <code>newSize</code> solutions. The solutions are
+   * returned in the same order as in the front.
+   */
+  public List<S> truncate(List<S> front, int newSize) {
+    if (frontMatrix == null) {
+      frontMatrix = new ObjectiveMatrix<>(front);
+    } else {
+      frontMatrix.update(front);
+    }
+
+    return truncate(frontMatrix, newSize);
+  }
+
+  /**
+   * Truncates the front stored in an {@link ObjectiveMatrix}
+   */
+  public List<S> truncate(ObjectiveMatrix<S> front, int newSize) {
+    Check.notNull(front);
+    Check.that(newSize >= 0 && newSize <= front.size(),
+        "Invalid size: " + newSize + ". The front size is " + front.size());
+
+    objectiveMatrix = front;
+    size = front.size();
+    numberOfObjectives = front.numberOfObjectives();
+    remaining = size;
+
+    if (newSize == size) {
+      return new ArrayList<>(front.solutions());
+    }
+
+    initialize();
+    while (remaining > newSize) {
+      remove(heap[0]);
+    }
+
+    List<S> result = new ArrayList<>(newSize);
+    for (int i = 0; i < size; i++) {
+      if (!removed[i]) {
+        result.add(front.solution(i));
+      }
+    }
+
+    return result;
+  }
+
+  private void initialize() {
+    ensureCapacity();
+
+    int[] order = new int[size];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      objectiveMatrix.sortByObjective(order, j);
+
+      int offset = j * size;
+      for (int k = 0; k < size; k++) {
+        previous[offset + order[k]] = k == 0 ? NONE : order[k - 1];
+        next[offset + order[k]] = k == size - 1 ? NONE : order[k + 1];
+      }
+      first[j] = order[0];
+      last[j] = order[size - 1];
+      range[j] = objectiveMatrix.objective(last[j], j) - objectiveMatrix.objective(first[j], j);
+    }
+
+    for (int i = 0; i < size; i++) {
+      removed[i] = false;
+    }
+
+    computeAllDistances();
+  }
+
+  private void remove(int index) {
+    removeFromHeap(index);
+    removed[index] = true;
+    remaining--;
+
+    boolean rangeChanged = false;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      int offset = j * size;
+      int previousIndex = previous[offset + index];
+      int nextIndex = next[offset + index];
+
+      if (previousIndex == NONE) {
+        first[j] = nextIndex;
+      } else {
+        next[offset + previousIndex] = nextIndex;
+      }
+      if (nextIndex == NONE) {
+        last[j] = previousIndex;
+      } else {
+        previous[offset + nextIndex] = previousIndex;
+      }
+
+      // Removing an extreme point of an objective with a non-zero range may change the range
+      if ((previousIndex == NONE || nextIndex == NONE) && range[j] > 0) {
+        rangeChanged = true;
+      }
+    }
+
+    if (remaining <= 2) {
+      computeAllDistances();
+    } else if (rangeChanged) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        range[j] = objectiveMatrix.objective(last[j], j) - objectiveMatrix.objective(first[j], j);
+      }
+      computeAllDistances();
+    } else {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        int offset = j * size;
+        updateDistance(previous[offset + index]);
+        updateDistance(next[offset + index]);
+      }
+    }
+  }
+
+  private void computeAllDistances() {
+    heapSize = 0;
+    for (int i = 0; i < size; i++) {
+      if (!removed[i]) {
+        distance[i] = crowdingDistance(i);
+        heap[heapSize] = i;
+        heapPosition[i] = heapSize;
+        heapSize++;
+      }
+    }
+
+    for (int k = heapSize / 2 - 1; k >= 0; k--) {
+      siftDown(k);
+    }
+  }
+
+  private void updateDistance(int index) {
+    if (index == NONE) {
+      return;
+    }
+
+    double newDistance = crowdingDistance(index);
+    if (newDistance != distance[index]) {
+      distance[index] = newDistance;
+      siftUp(heapPosition[index]);
+      siftDown(heapPosition[index]);
+    }
+  }
+
+  /**
+   * Crowding distance of a solution with respect to the remaining solutions, accumulated in the
+   * same order as in {@link CrowdingDistanceDensityEstimator#compute(ObjectiveMatrix)}
+   */
+  private double crowdingDistance(int index) {
+    if (remaining <= 2) {
+      return Double.POSITIVE_INFINITY;
+    }
+
+    double result = 0.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (range[j] == 0) {
+        continue;
+      }
+
+      int offset = j * size;
+      int previousIndex = previous[offset + index];
+      int nextIndex = next[offset + index];
+      if (previousIndex == NONE || nextIndex == NONE) {
+        return Double.POSITIVE_INFINITY;
+      }
+
+      double value =
+          objectiveMatrix.objective(nextIndex, j) - objectiveMatrix.objective(previousIndex, j);
+      value = value / range[j];
+      result += value;
+    }
+
+    return result;
+  }
+
+  private void removeFromHeap(int index) {
+    int position = heapPosition[index];
+    heapSize--;
+    if (position != heapSize) {
+      int moved = heap[heapSize];
+      heap[position] = moved;
+      heapPosition[moved] = position;
+      siftUp(position);
+      siftDown(heapPosition[moved]);
+    }
+  }
+
+  private boolean precedes(int index1, int index2) {
+    return distance[index1] < distance[index2]
+        || (distance[index1] == distance[index2] && index1 > index2);
+  }
+
+  private void siftUp(int position) {
+    int index = heap[position];
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+      if (!precedes(index, heap[parent])) {
+        break;
+      }
+      heap[position] = heap[parent];
+      heapPosition[heap[position]] = position;
+      position = parent;
+    }
+    heap[position] = index;
+    heapPosition[index] = position;
+  }
+
+  private void siftDown(int position) {
+    int index = heap[position];
+    while (true) {
+      int child = 2 * position + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize && precedes(heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!precedes(heap[child], index)) {
+        break;
+      }
+      heap[position] = heap[child];
+      heapPosition[heap[position]] = position;
+      position = child;
+    }
+    heap[position] = index;
+    heapPosition[index] = position;
+  }
+
+  private void ensureCapacity() {
+    if (previous.length < size * numberOfObjectives) {
+      previous = new int[size * numberOfObjectives];
+      next = new int[size * numberOfObjectives];
+    }
+    if (first.length < numberOfObjectives) {
+      first = new int[numberOfObjectives];
+      last = new int[numberOfObjectives];
+      range = new double[numberOfObjectives];
+    }
+    if (distance.length < size) {
+      distance = new double[size];
+      removed = new boolean[size];
+      heap = new int[size];
+      heapPosition = new int[size];
+    }
+  }
+}
@@ -1,14 +1,12 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
-import org.uma.jmetal.util.distance.Distance;
-import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
@@ -20,7 +18,6 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
 public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
 
   private final String attributeId = getClass().getName();
-  private final Distance<double[], double[]> distance = new EuclideanDistanceBetweenVectors();
   private final int k;
 
   private final boolean normalize;
@@ -35,13 +32,13 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
   }
 
   /**
-   * Assigns the KNN distance to all the solutions in a list
+   * Assigns the KNN distance to all the solutions in a list. The neighbours are found with a
+   * {@link KdTree}, so the full distance matrix is not computed.
    *
    * @param solutionList
    */
   @Override
   public void compute(List<S> solutionList) {
-    double[][] distanceMatrix;
     int size = solutionList.size();
 
     Check.that(size > 0, "The solution list size must be greater than zero");
@@ -49,9 +46,6 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       return;
     }
 
-    /* Compute the distance matrix */
-    distanceMatrix = new double[solutionList.size()][solutionList.size()];
-
     double[][] solutionMatrix = null;
     if (normalize) {
       try {
@@ -64,21 +58,10 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       solutionMatrix = SolutionListUtils.getMatrixWithObjectiveValues(solutionList);
     }
 
-    for (int i = 0; i < solutionList.size(); i++) {
-      for (int j = i + 1; j < solutionList.size(); j++) {
-        distanceMatrix[i][j] = distance.compute(solutionMatrix[i], solutionMatrix[j]);
-        distanceMatrix[j][i] = distanceMatrix[i][j];
-      }
-    }
-
     /* Get the k-nearest distance of all the solutions */
-    for (int i = 0; i < solutionList.size(); i++) {
-      List<Double> distances = new ArrayList<>();
-      for (int j = 0; j < solutionList.size(); j++) {
-        distances.add(distanceMatrix[i][j]);
-      }
-      distances.sort(Comparator.naturalOrder());
-      solutionList.get(i).attributes().put(attributeId, distances.get(k));
+    KdTree tree = new KdTree(solutionMatrix);
+    for (int i = 0; i < size; i++) {
+      solutionList.get(i).attributes().put(attributeId, tree.kthNearestDistance(i, k));
     }
   }
 
@@ -0,0 +1,236 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.distance.KdTree;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
+
+/**
+ * Incremental implementation of the sequential truncation of a front based on the distance to the
+ * k-th nearest solution (see {@link KnnDensityEstimator}): the solution with the lowest distance is
+ * removed and the distances are recomputed, until the front has the required size.
+ *
+ * <p>The neighbours are found with a {@link KdTree}, so the pairwise distances are not stored. Each
+ * solution keeps its k nearest neighbours, and each solution keeps the list of solutions having it
+ * as a neighbour. When a solution is removed, only the solutions having it among their k nearest
+ * neighbours are queried again. The solutions are stored in an indexed min-heap keyed by their k-th
+ * distance. Ties in the lowest distance are broken by removing the solution with the lowest
+ * position in the front, as {@link org.uma.jmetal.util.SolutionListUtils#findWorstSolution} does.
+ *
+ * <p>No attributes are written in the solutions. The objective values are not normalized.
+ *
+ * @author Antonio J. Nebro
+ */
+public class KnnDistanceTruncation<S extends Solution<?>> {
+  private final int k;
+
+  private ObjectiveMatrix<S> frontMatrix;
+  private int size;
+  private int remaining;
+  private KdTree tree;
+
+  // The k nearest neighbours of solution i are at neighbours[i * k ... i * k + k)
+  private int[] neighbours = new int[0];
+  private double[] kthDistance = new double[0];
+  private double[] distanceBuffer = new double[0];
+  private int[] indexBuffer = new int[0];
+  // Solutions which had solution j as a neighbour when they were queried
+  private int[][] reverseNeighbours = new int[0][];
+  private int[] numberOfReverseNeighbours = new int[0];
+
+  // Indexed min-heap of indices ordered by (k-th distance, index)
+  private int[] heap = new int[0];
+  private int[] heapPosition = new int[0];
+  private int heapSize;
+
+  public KnnDistanceTruncation(int k) {
+    Check.that(k > 0, "The value of k must be positive: " + k);
+    this.k = k;
+  }
+
+  /**
+   * Returns the solutions of a front remaining after removing sequentially the solution with the
+   * lowest distance to its k-th nearest solution until the front has <code>newSize</code>
+   * solutions. The solutions are returned in the same order as in the front.
+   */
+  public List<S> truncate(List<S> front, int newSize) {
+    if (frontMatrix == null) {
+      frontMatrix = new ObjectiveMatrix<>(front);
+    } else {
+      frontMatrix.update(front);
+    }
+
+    return truncate(frontMatrix, newSize);
+  }
+
+  /**
+   * Truncates the front stored in an {@link ObjectiveMatrix}
+   */
+  public List<S> truncate(ObjectiveMatrix<S> front, int newSize) {
+    Check.notNull(front);
+    Check.that(newSize > k && newSize <= front.size(),
+        "Invalid size: " + newSize + ". The front size is " + front.size() + " and k is " + k);
+
+    size = front.size();
+    remaining = size;
+
+    if (newSize == size) {
+      return new ArrayList<>(front.solutions());
+    }
+
+    initialize(front);
+    while (remaining > newSize) {
+      remove(heap[0]);
+    }
+
+    List<S> result = new ArrayList<>(newSize);
+    for (int i = 0; i < size; i++) {
+      if (!tree.isRemoved(i)) {
+        result.add(front.solution(i));
+      }
+    }
+    tree = null;
+
+    return result;
+  }
+
+  private void initialize(ObjectiveMatrix<S> front) {
+    if (kthDistance.length < size) {
+      neighbours = new int[size * k];
+      kthDistance = new double[size];
+      reverseNeighbours = new int[size][];
+      numberOfReverseNeighbours = new int[size];
+      heap = new int[size];
+      heapPosition = new int[size];
+    }
+    if (distanceBuffer.length < k) {
+      distanceBuffer = new double[k];
+      indexBuffer = new int[k];
+    }
+    Arrays.fill(numberOfReverseNeighbours, 0, size, 0);
+
+    tree = new KdTree(front.objectives(), size, front.numberOfObjectives());
+    heapSize = 0;
+    for (int i = 0; i < size; i++) {
+      query(i);
+      heap[heapSize] = i;
+      heapPosition[i] = heapSize;
+      heapSize++;
+    }
+
+    for (int position = heapSize / 2 - 1; position >= 0; position--) {
+      siftDown(position);
+    }
+  }
+
+  /**
+   * Finds the k nearest neighbours of a solution and registers it as a reverse neighbour of them
+   */
+  private void query(int index) {
+    tree.nearestNeighbours(index, k, indexBuffer, distanceBuffer);
+    kthDistance[index] = distanceBuffer[k - 1];
+    for (int l = 0; l < k; l++) {
+      neighbours[index * k + l] = indexBuffer[l];
+      addReverseNeighbour(indexBuffer[l], index);
+    }
+  }
+
+  private void remove(int index) {
+    removeFromHeap(index);
+    tree.remove(index);
+    remaining--;
+
+    int[] candidates = reverseNeighbours[index];
+    int numberOfCandidates = numberOfReverseNeighbours[index];
+    reverseNeighbours[index] = null;
+    numberOfReverseNeighbours[index] = 0;
+
+    for (int c = 0; c < numberOfCandidates; c++) {
+      int candidate = candidates[c];
+      // The lists can contain outdated entries, so the current neighbours are checked
+      if (!tree.isRemoved(candidate) && hasNeighbour(candidate, index)) {
+        query(candidate);
+        siftUp(heapPosition[candidate]);
+        siftDown(heapPosition[candidate]);
+      }
+    }
+  }
+
+  private boolean hasNeighbour(int index, int neighbour) {
+    for (int l = 0; l < k; l++) {
+      if (neighbours[index * k + l] == neighbour) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void addReverseNeighbour(int index, int neighbour) {
+    int[] list = reverseNeighbours[index];
+    if (list == null) {
+      list = new int[Math.max(4, k)];
+      reverseNeighbours[index] = list;
+    } else if (numberOfReverseNeighbours[index] == list.length) {
+      list = Arrays.copyOf(list, 2 * list.length);
+      reverseNeighbours[index] = list;
+    }
+    list[numberOfReverseNeighbours[index]++] = neighbour;
+  }
+
+  private void removeFromHeap(int index) {
+    int position = heapPosition[index];
+    heapSize--;
+    if (position != heapSize) {
+      int moved = heap[heapSize];
+      heap[position] = moved;
+      heapPosition[moved] = position;
+      siftUp(position);
+      siftDown(heapPosition[moved]);
+    }
+  }
+
+  private boolean precedes(int index1, int index2) {
+    return kthDistance[index1] < kthDistance[index2]
+        || (kthDistance[index1] == kthDistance[index2] && index1 < index2);
+  }
+
+  private void siftUp(int position) {
+    int index = heap[position];
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+      if (!precedes(index, heap[parent])) {
+        break;
+      }
+      heap[position] = heap[parent];
+      heapPosition[heap[position]] = position;
+      position = parent;
+    }
+    heap[position] = index;
+    heapPosition[index] = position;
+  }
+
+  private void siftDown(int position) {
+    int index = heap[position];
+    while (true) {
+      int child = 2 * position + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize && precedes(heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!precedes(heap[child], index)) {
+        break;
+      }
+      heap[position] = heap[child];
+      heapPosition[heap[position]] = position;
+      position = child;
+    }
+    heap[position] = index;
+    heapPosition[index] = position;
+  }
+}
@@ -1,12 +1,12 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -33,7 +33,6 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
    */
   @Override
   public void compute(List<S> solutionList) {
-    double[][] distance = SolutionListUtils.distanceMatrix(solutionList);
     double[] strength = new double[solutionList.size()];
     double[] rawFitness = new double[solutionList.size()];
     double kDistance;
@@ -60,9 +59,11 @@ public class StrenghtRawFitnessDensityEstimator<S extends Solution<?>>
     // Add the distance to the k-th individual. In the reference paper of SPEA2,
     // k = sqrt(population.size()), but a value of k = 1 is recommended. See
     // http://www.tik.ee.ethz.ch/pisa/selectors/spea2/spea2_documentation.txt
-    for (int i = 0; i < distance.length; i++) {
-      Arrays.sort(distance[i]);
-      kDistance = 1.0 / (distance[i][k] + 2.0);
+    // The distance to the k-th nearest solution is obtained with a k-d tree instead of sorting the
+    // rows of the full distance matrix
+    KdTree tree = new KdTree(SolutionListUtils.getMatrixWithObjectiveValues(solutionList));
+    for (int i = 0; i < solutionList.size(); i++) {
+      kDistance = 1.0 / (tree.kthNearestDistance(i, k) + 2.0);
       solutionList.get(i).attributes().put(attributeId, rawFitness[i] + kDistance);
     }
   }
@@ -0,0 +1,568 @@
+package org.uma.jmetal.util.distance;
+
+import java.util.Arrays;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * k-d tree to answer k-nearest neighbour queries with the Euclidean distance on a set of points,
+ * without computing the full distance matrix. The points are copied into a flat, row-major
+ * <code>double[]</code> buffer and the tree is stored in primitive arrays: each node keeps the
+ * bounding box of its points, which is used to prune the nodes that cannot contain a neighbour
+ * closer than the current candidates. Building the tree is O(N log N) and takes O(N M) memory.
+ *
+ * <p>Points can be removed from the tree (see {@link #remove(int)}), which is useful to truncate a
+ * set of points sequentially; removed points are not returned by the queries. The queries do not
+ * modify the tree, so they can be run concurrently as long as no point is removed meanwhile.
+ *
+ * <p>The distances are computed as in
+ * {@link org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors}, so the results are the
+ * same as those of a linear scan. As with any k-d tree, the pruning becomes less effective as the
+ * number of dimensions grows; in many-objective problems the queries approach a linear scan, but the
+ * memory is still linear in the number of points.
+ *
+ * @author Antonio J. Nebro
+ */
+public class KdTree {
+  private static final int LEAF_SIZE = 8;
+
+  private final double[] points;
+  private final int size;
+  private final int dimension;
+  private final boolean[] removed;
+  private int numberOfRemovedPoints;
+
+  // Point indices, reordered so that the points of each node are contiguous
+  private final int[] order;
+
+  // Nodes: range of positions in order[], children (-1 in leaves) and bounding box
+  private int numberOfNodes;
+  private int[] nodeStart;
+  private int[] nodeEnd;
+  private int[] leftChild;
+  private int[] rightChild;
+  private double[] lowerBound;
+  private double[] upperBound;
+
+  /**
+   * Creates a tree from a matrix of points, one per row
+   */
+  public KdTree(double[][] points) {
+    this(flatten(points), points.length, points.length == 0 ? 0 : points[0].length);
+  }
+
+  /**
+   * Creates a tree from a flat, row-major buffer of points: coordinate <code>j</code> of point
+   * <code>i</code> is at position <code>i * dimension + j</code>. The first
+   * <code>size * dimension</code> elements of the buffer are copied.
+   */
+  public KdTree(double[] points, int size, int dimension) {
+    Check.notNull(points);
+    Check.that(size >= 0, "The number of points is negative: " + size);
+    Check.that(points.length >= size * dimension,
+        "The buffer has " + points.length + " elements instead of at least " + size * dimension);
+
+    this.size = size;
+    this.dimension = dimension;
+    this.points = Arrays.copyOf(points, size * dimension);
+    this.removed = new boolean[size];
+    this.order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+
+    int capacity = Math.max(1, 4 * size / LEAF_SIZE + 1);
+    nodeStart = new int[capacity];
+    nodeEnd = new int[capacity];
+    leftChild = new int[capacity];
+    rightChild = new int[capacity];
+    lowerBound = new double[capacity * dimension];
+    upperBound = new double[capacity * dimension];
+
+    if (size > 0) {
+      build(0, size);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int dimension() {
+    return dimension;
+  }
+
+  /**
+   * Returns the number of points which have not been removed
+   */
+  public int numberOfPoints() {
+    return size - numberOfRemovedPoints;
+  }
+
+  /**
+   * Coordinate <code>j</code> of point <code>i</code>
+   */
+  public double coordinate(int i, int j) {
+    return points[i * dimension + j];
+  }
+
+  /**
+   * Removes a point from the tree. Subsequent queries will not return it.
+   */
+  public void remove(int index) {
+    Check.valueIsInRange(index, 0, size - 1);
+    if (!removed[index]) {
+      removed[index] = true;
+      numberOfRemovedPoints++;
+    }
+  }
+
+  public boolean isRemoved(int index) {
+    return removed[index];
+  }
+
+  /**
+   * Euclidean distance between two points of the tree
+   */
+  public double distance(int i, int j) {
+    double sum = 0.0;
+    int offset1 = i * dimension;
+    int offset2 = j * dimension;
+    for (int l = 0; l < dimension; l++) {
+      double diff = points[offset1 + l] - points[offset2 + l];
+      sum += diff * diff;
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  /**
+   * Finds the k nearest points of the tree to a query point.
+   *
+   * @param query Query point
+   * @param k Number of neighbours
+   * @param excludedIndex Index of a point which must not be returned (e.g., the query point itself),
+   *     or -1
+   * @param indices Array of at least k elements where the indices of the neighbours are stored, in
+   *     increasing order of distance. Ties are broken by the lowest index. Can be null.
+   * @param distances Array of at least k elements where the distances are stored
+   * @return The number of neighbours found, which is lower than k if there are not enough points
+   */
+  public int nearestNeighbours(double[] query, int k, int excludedIndex, int[] indices,
+      double[] distances) {
+    Check.that(query.length == dimension,
+        "The query point has dimension " + query.length + " instead of " + dimension);
+
+    return search(query, 0, k, excludedIndex, indices, distances);
+  }
+
+  /**
+   * Finds the k nearest points to a point of the tree, excluding the point itself. See
+   * {@link #nearestNeighbours(double[], int, int, int[], double[])}.
+   */
+  public int nearestNeighbours(int pointIndex, int k, int[] indices, double[] distances) {
+    return search(points, pointIndex * dimension, k, pointIndex, indices, distances);
+  }
+
+  /**
+   * Returns the distance from a point of the tree to its k-th nearest point (k = 1 is the nearest
+   * one), or {@link Double#POSITIVE_INFINITY} if there are less than k other points
+   */
+  public double kthNearestDistance(int pointIndex, int k) {
+    double[] distances = new double[k];
+    int found = search(points, pointIndex * dimension, k, pointIndex, null, distances);
+
+    return found < k ? Double.POSITIVE_INFINITY : distances[k - 1];
+  }
+
+  /**
+   * Returns the index of the point of the tree which is the closest to a query point, or -1 if the
+   * tree has no points
+   */
+  public int nearest(double[] query) {
+    int[] index = new int[1];
+    int found = nearestNeighbours(query, 1, -1, index, new double[1]);
+
+    return found == 0 ? -1 : index[0];
+  }
+
+  /**
+   * Returns the distance from a query point to the closest point of the tree
+   */
+  public double nearestDistance(double[] query) {
+    double[] distance = new double[1];
+    int found = nearestNeighbours(query, 1, -1, null, distance);
+
+    return found == 0 ? Double.POSITIVE_INFINITY : distance[0];
+  }
+
+  /**
+   * Function of a point of the tree and a query point whose minimum over the points of the tree is
+   * computed by {@link #minimum(double[], Measure)}. It does not need to be a distance, but it must
+   * have a lower bound over the points of a bounding box.
+   */
+  public interface Measure {
+    /**
+     * Value of the measure for the point stored in <code>points[offset ... offset + d)</code>,
+     * where d is the length of the query
+     */
+    double value(double[] points, int offset, double[] query);
+
+    /**
+     * A value lower than or equal to the measure of any point inside the box whose corners are
+     * stored in <code>lower[offset ... offset + d)</code> and <code>upper[offset ... offset +
+     * d)</code>
+     */
+    double lowerBound(double[] lower, double[] upper, int offset, double[] query);
+  }
+
+  /**
+   * Returns the minimum value of a measure between a query point and the points of the tree, or
+   * {@link Double#POSITIVE_INFINITY} if the tree has no points. The nodes whose lower bound is not
+   * lower than the best value found so far are pruned, so the result is the same as the one of a
+   * linear scan.
+   */
+  public double minimum(double[] query, Measure measure) {
+    Check.notNull(measure);
+    Check.that(query.length == dimension,
+        "The query point has dimension " + query.length + " instead of " + dimension);
+    if (numberOfNodes == 0) {
+      return Double.POSITIVE_INFINITY;
+    }
+
+    double best = Double.POSITIVE_INFINITY;
+    int[] stack = new int[64];
+    double[] stackBound = new double[64];
+    int top = 0;
+    stack[top] = 0;
+    stackBound[top] = measure.lowerBound(lowerBound, upperBound, 0, query);
+    top++;
+
+    while (top > 0) {
+      top--;
+      int node = stack[top];
+      if (stackBound[top] >= best) {
+        continue;
+      }
+
+      if (leftChild[node] < 0) {
+        for (int p = nodeStart[node]; p < nodeEnd[node]; p++) {
+          int point = order[p];
+          if (!removed[point]) {
+            double value = measure.value(points, point * dimension, query);
+            if (value < best) {
+              best = value;
+            }
+          }
+        }
+      } else {
+        int left = leftChild[node];
+        int right = rightChild[node];
+        double leftBound = measure.lowerBound(lowerBound, upperBound, left * dimension, query);
+        double rightBound = measure.lowerBound(lowerBound, upperBound, right * dimension, query);
+
+        if (top + 2 > stack.length) {
+          stack = Arrays.copyOf(stack, 2 * stack.length);
+          stackBound = Arrays.copyOf(stackBound, 2 * stackBound.length);
+        }
+        if (leftBound <= rightBound) {
+          stack[top] = right;
+          stackBound[top++] = rightBound;
+          stack[top] = left;
+          stackBound[top++] = leftBound;
+        } else {
+          stack[top] = left;
+          stackBound[top++] = leftBound;
+          stack[top] = right;
+          stackBound[top++] = rightBound;
+        }
+      }
+    }
+
+    return best;
+  }
+
+  /**
+   * Best-first traversal with a bounded max-heap of candidates. The query is read from
+   * <code>query[offset ... offset + dimension)</code>.
+   */
+  private int search(double[] query, int offset, int k, int excludedIndex, int[] indices,
+      double[] distances) {
+    Check.that(k > 0, "The number of neighbours must be positive: " + k);
+    if (numberOfNodes == 0) {
+      return 0;
+    }
+
+    // Max-heap of the k best candidates found so far, keyed by (squared distance, index)
+    int[] heapIndex = new int[k];
+    double[] heapDistance = new double[k];
+    int heapSize = 0;
+
+    int[] stack = new int[64];
+    double[] stackBound = new double[64];
+    int top = 0;
+    stack[top] = 0;
+    stackBound[top] = boxDistance(0, query, offset);
+    top++;
+
+    while (top > 0) {
+      top--;
+      int node = stack[top];
+      double bound = stackBound[top];
+      if (heapSize == k && bound > heapDistance[0]) {
+        continue;
+      }
+
+      if (leftChild[node] < 0) {
+        for (int p = nodeStart[node]; p < nodeEnd[node]; p++) {
+          int point = order[p];
+          if (removed[point] || point == excludedIndex) {
+            continue;
+          }
+
+          double distance = squaredDistance(point, query, offset);
+          if (heapSize < k) {
+            heapSize = heapInsert(heapIndex, heapDistance, heapSize, point, distance);
+          } else if (precedes(distance, point, heapDistance[0], heapIndex[0])) {
+            heapReplaceTop(heapIndex, heapDistance, heapSize, point, distance);
+          }
+        }
+      } else {
+        int left = leftChild[node];
+        int right = rightChild[node];
+        double leftBound = boxDistance(left, query, offset);
+        double rightBound = boxDistance(right, query, offset);
+
+        if (top + 2 > stack.length) {
+          stack = Arrays.copyOf(stack, 2 * stack.length);
+          stackBound = Arrays.copyOf(stackBound, 2 * stackBound.length);
+        }
+        // The closest child is pushed last to be visited first
+        if (leftBound <= rightBound) {
+          stack[top] = right;
+          stackBound[top++] = rightBound;
+          stack[top] = left;
+          stackBound[top++] = leftBound;
+        } else {
+          stack[top] = left;
+          stackBound[top++] = leftBound;
+          stack[top] = right;
+          stackBound[top++] = rightBound;
+        }
+      }
+    }
+
+    // Extract the candidates in decreasing order to fill the results in increasing order
+    int found = heapSize;
+    for (int position = found - 1; position >= 0; position--) {
+      if (indices != null) {
+        indices[position] = heapIndex[0];
+      }
+      distances[position] = Math.sqrt(heapDistance[0]);
+      heapSize = heapRemoveTop(heapIndex, heapDistance, heapSize);
+    }
+
+    return found;
+  }
+
+  private double squaredDistance(int point, double[] query, int offset) {
+    double sum = 0.0;
+    int pointOffset = point * dimension;
+    for (int l = 0; l < dimension; l++) {
+      double diff = points[pointOffset + l] - query[offset + l];
+      sum += diff * diff;
+    }
+
+    return sum;
+  }
+
+  /**
+   * Squared distance from the query to the bounding box of a node
+   */
+  private double boxDistance(int node, double[] query, int offset) {
+    double sum = 0.0;
+    int boxOffset = node * dimension;
+    for (int l = 0; l < dimension; l++) {
+      double value = query[offset + l];
+      double diff = 0.0;
+      if (value < lowerBound[boxOffset + l]) {
+        diff = lowerBound[boxOffset + l] - value;
+      } else if (value > upperBound[boxOffset + l]) {
+        diff = value - upperBound[boxOffset + l];
+      }
+      sum += diff * diff;
+    }
+
+    return sum;
+  }
+
+  /**
+   * Order of the candidates: (distance1, index1) is better than (distance2, index2)
+   */
+  private static boolean precedes(double distance1, int index1, double distance2, int index2) {
+    return distance1 < distance2 || (distance1 == distance2 && index1 < index2);
+  }
+
+  private static int heapInsert(int[] heapIndex, double[] heapDistance, int heapSize, int index,
+      double distance) {
+    int position = heapSize;
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+      if (!precedes(heapDistance[parent], heapIndex[parent], distance, index)) {
+        break;
+      }
+      heapIndex[position] = heapIndex[parent];
+      heapDistance[position] = heapDistance[parent];
+      position = parent;
+    }
+    heapIndex[position] = index;
+    heapDistance[position] = distance;
+
+    return heapSize + 1;
+  }
+
+  private static void heapReplaceTop(int[] heapIndex, double[] heapDistance, int heapSize,
+      int index, double distance) {
+    int position = 0;
+    while (true) {
+      int child = 2 * position + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize
+          && precedes(heapDistance[child], heapIndex[child], heapDistance[child + 1],
+          heapIndex[child + 1])) {
+        child++;
+      }
+      if (!precedes(distance, index, heapDistance[child], heapIndex[child])) {
+        break;
+      }
+      heapIndex[position] = heapIndex[child];
+      heapDistance[position] = heapDistance[child];
+      position = child;
+    }
+    heapIndex[position] = index;
+    heapDistance[position] = distance;
+  }
+
+  private static int heapRemoveTop(int[] heapIndex, double[] heapDistance, int heapSize) {
+    heapSize--;
+    if (heapSize > 0) {
+      heapReplaceTop(heapIndex, heapDistance, heapSize, heapIndex[heapSize],
+          heapDistance[heapSize]);
+    }
+
+    return heapSize;
+  }
+
+  private int build(int start, int end) {
+    int node = newNode(start, end);
+
+    int splitDimension = -1;
+    double widestExtent = 0.0;
+    int boxOffset = node * dimension;
+    for (int l = 0; l < dimension; l++) {
+      double extent = upperBound[boxOffset + l] - lowerBound[boxOffset + l];
+      if (extent > widestExtent) {
+        widestExtent = extent;
+        splitDimension = l;
+      }
+    }
+
+    if (end - start <= LEAF_SIZE || splitDimension < 0) {
+      leftChild[node] = -1;
+      rightChild[node] = -1;
+    } else {
+      int middle = (start + end) >>> 1;
+      select(start, end - 1, middle, splitDimension);
+      int left = build(start, middle);
+      int right = build(middle, end);
+      leftChild[node] = left;
+      rightChild[node] = right;
+    }
+
+    return node;
+  }
+
+  private int newNode(int start, int end) {
+    if (numberOfNodes == nodeStart.length) {
+      int capacity = 2 * nodeStart.length;
+      nodeStart = Arrays.copyOf(nodeStart, capacity);
+      nodeEnd = Arrays.copyOf(nodeEnd, capacity);
+      leftChild = Arrays.copyOf(leftChild, capacity);
+      rightChild = Arrays.copyOf(rightChild, capacity);
+      lowerBound = Arrays.copyOf(lowerBound, capacity * dimension);
+      upperBound = Arrays.copyOf(upperBound, capacity * dimension);
+    }
+
+    int node = numberOfNodes++;
+    nodeStart[node] = start;
+    nodeEnd[node] = end;
+
+    int boxOffset = node * dimension;
+    for (int l = 0; l < dimension; l++) {
+      lowerBound[boxOffset + l] = Double.POSITIVE_INFINITY;
+      upperBound[boxOffset + l] = Double.NEGATIVE_INFINITY;
+    }
+    for (int p = start; p < end; p++) {
+      int pointOffset = order[p] * dimension;
+      for (int l = 0; l < dimension; l++) {
+        double value = points[pointOffset + l];
+        if (value < lowerBound[boxOffset + l]) {
+          lowerBound[boxOffset + l] = value;
+        }
+        if (value > upperBound[boxOffset + l]) {
+          upperBound[boxOffset + l] = value;
+        }
+      }
+    }
+
+    return node;
+  }
+
+  /**
+   * Rearranges order[left ... right] so that the point at position <code>rank</code> is the one
+   * that would be there if the range were sorted by the given coordinate (quickselect)
+   */
+  private void select(int left, int right, int rank, int coordinate) {
+    while (left < right) {
+      double pivot = points[order[(left + right) >>> 1] * dimension + coordinate];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (points[order[i] * dimension + coordinate] < pivot) {
+          i++;
+        }
+        while (points[order[j] * dimension + coordinate] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          int tmp = order[i];
+          order[i] = order[j];
+          order[j] = tmp;
+          i++;
+          j--;
+        }
+      }
+      if (rank <= j) {
+        right = j;
+      } else if (rank >= i) {
+        left = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private static double[] flatten(double[][] points) {
+    Check.notNull(points);
+    int dimension = points.length == 0 ? 0 : points[0].length;
+    double[] result = new double[points.length * dimension];
+    for (int i = 0; i < points.length; i++) {
+      Check.that(points[i].length == dimension,
+          "The point " + i + " has dimension " + points[i].length + " instead of " + dimension);
+      System.arraycopy(points[i], 0, result, i * dimension, dimension);
+    }
+
+    return result;
+  }
+}
@@ -1,32 +1,65 @@
 package org.uma.jmetal.util.evaluator.impl;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.executor.ChunkedExecutor;
+import org.uma.jmetal.util.executor.ThreadPoolType;
 
 /**
+ * Evaluates the solutions in parallel in an executor owned by the evaluator (a work-stealing pool by
+ * default), so evaluators of different algorithms running in the same JVM do not share threads.
+ * The executor created by the evaluator is released with {@link #shutdown()}; its threads are
+ * daemon threads, so an evaluator that is not shut down does not prevent the JVM from exiting.
+ *
+ * <p>The executor is not serialized. A deserialized evaluator creates a new one with the same
+ * number of threads, of the type given in the constructor ({@link ThreadPoolType#WORK_STEALING} if
+ * the executor was provided by the user).
+ *
  * @author Antonio J. Nebro
  */
+@SuppressWarnings("serial")
 public class MultiThreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
 
+  private final ThreadPoolType threadPoolType;
   private final int numberOfThreads;
+  private int chunkSize;
+  private transient ChunkedExecutor executor;
 
   public MultiThreadedSolutionListEvaluator(int numberOfThreads) {
-    if (numberOfThreads == 0) {
-      this.numberOfThreads = Runtime.getRuntime().availableProcessors();
-    } else {
-      this.numberOfThreads = numberOfThreads;
-      System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-          "" + this.numberOfThreads);
-    }
-    String message = "Number of cores: " + numberOfThreads ;
+    this(numberOfThreads, ThreadPoolType.WORK_STEALING);
+  }
+
+  public MultiThreadedSolutionListEvaluator(int numberOfThreads, ThreadPoolType threadPoolType) {
+    this(new ChunkedExecutor(numberOfThreads, threadPoolType), threadPoolType);
+  }
+
+  /**
+   * Evaluates the solutions in an executor provided by the user, which is not shut down by
+   * {@link #shutdown()}
+   */
+  public MultiThreadedSolutionListEvaluator(ExecutorService executor, int numberOfThreads) {
+    this(new ChunkedExecutor(executor, numberOfThreads), ThreadPoolType.WORK_STEALING);
+  }
+
+  private MultiThreadedSolutionListEvaluator(ChunkedExecutor executor,
+      ThreadPoolType threadPoolType) {
+    this.executor = executor;
+    this.threadPoolType = threadPoolType;
+    this.numberOfThreads = executor.numberOfThreads();
+    this.chunkSize = executor.chunkSize();
+
+    String message = "Number of cores: " + executor.numberOfThreads() ;
     JMetalLogger.logger.info(message);
   }
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-    solutionList.parallelStream().forEach(problem::evaluate);
+    executor.forEach(solutionList, problem::evaluate);
 
     return solutionList;
   }
@@ -35,8 +68,28 @@ public class MultiThreadedSolutionListEvaluator<S> implements SolutionListEvalua
     return numberOfThreads;
   }
 
+  public int chunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the number of solutions evaluated per task. If {@link ChunkedExecutor#AUTOMATIC_CHUNK_SIZE},
+   * the chunk size is computed from the number of threads
+   */
+  public MultiThreadedSolutionListEvaluator<S> chunkSize(int chunkSize) {
+    executor.chunkSize(chunkSize);
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
   @Override
   public void shutdown() {
-    //This method is an intentionally-blank override.
+    executor.shutdown();
+  }
+
+  private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+    input.defaultReadObject();
+    executor = new ChunkedExecutor(numberOfThreads, threadPoolType);
+    executor.chunkSize(chunkSize);
   }
 }
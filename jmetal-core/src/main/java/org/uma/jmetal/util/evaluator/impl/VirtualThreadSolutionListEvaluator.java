@@ -0,0 +1,252 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.executor.ChunkedExecutor;
+import org.uma.jmetal.util.executor.ThreadPoolType;
+
+/**
+ * Evaluator intended for problems whose evaluation spends most of the time blocked (e.g., waiting
+ * for an external simulator or for a model server). Each solution is evaluated in its own virtual
+ * thread, so the number of evaluations in flight is not bounded by the number of platform threads
+ * but by a concurrency limit enforced with a semaphore, which is shared by all the calls to
+ * {@link #evaluate(List, Problem)}.
+ *
+ * <p>Optionally, each evaluation can be given a timeout, counted from the moment it acquires its
+ * permit. When the timeout expires, the thread running the evaluation is interrupted and, once the
+ * evaluation returns, the timeout handler is applied to the solution (by default, it raises a
+ * {@link JMetalException}; see {@link #timeoutHandler(Consumer)}). Problems must therefore respond to
+ * interruptions (as blocking I/O operations and {@link Process#waitFor()} do) for the timeouts to be
+ * effective.
+ *
+ * <p>Virtual threads require Java 21 or later; on older JVMs, any other {@link ExecutorService}
+ * (e.g., a cached thread pool) can be provided instead.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class VirtualThreadSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  public static final long NO_TIMEOUT = 0;
+
+  private static final int RUNNING = 0;
+  private static final int FINISHED = 1;
+  private static final int TIMED_OUT = 2;
+
+  private final transient ExecutorService executor;
+  private final boolean ownExecutor;
+  private final transient Semaphore semaphore;
+  private final transient ScheduledThreadPoolExecutor timer;
+  private final int maximumConcurrentEvaluations;
+  private final long timeoutInNanoseconds;
+  private transient Consumer<S> timeoutHandler;
+
+  /**
+   * Evaluates the solutions in virtual threads without timeout
+   */
+  public VirtualThreadSolutionListEvaluator(int maximumConcurrentEvaluations) {
+    this(maximumConcurrentEvaluations, NO_TIMEOUT, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Evaluates the solutions in virtual threads
+   *
+   * @param maximumConcurrentEvaluations Maximum number of evaluations running at the same time
+   * @param timeout Maximum duration of an evaluation, or {@link #NO_TIMEOUT}
+   * @param unit
+   */
+  public VirtualThreadSolutionListEvaluator(int maximumConcurrentEvaluations, long timeout,
+      TimeUnit unit) {
+    this(ThreadPoolType.VIRTUAL_THREADS.create(0), true, maximumConcurrentEvaluations, timeout,
+        unit);
+  }
+
+  /**
+   * Evaluates the solutions in an executor provided by the user, which is not shut down by
+   * {@link #shutdown()}
+   */
+  public VirtualThreadSolutionListEvaluator(ExecutorService executor,
+      int maximumConcurrentEvaluations, long timeout, TimeUnit unit) {
+    this(executor, false, maximumConcurrentEvaluations, timeout, unit);
+  }
+
+  private VirtualThreadSolutionListEvaluator(ExecutorService executor, boolean ownExecutor,
+      int maximumConcurrentEvaluations, long timeout, TimeUnit unit) {
+    Check.notNull(executor);
+    Check.notNull(unit);
+    Check.that(maximumConcurrentEvaluations > 0,
+        "The maximum number of concurrent evaluations is not positive: "
+            + maximumConcurrentEvaluations);
+    Check.that(timeout >= 0, "The timeout is a negative value: " + timeout);
+
+    this.executor = executor;
+    this.ownExecutor = ownExecutor;
+    this.maximumConcurrentEvaluations = maximumConcurrentEvaluations;
+    this.semaphore = new Semaphore(maximumConcurrentEvaluations, true);
+    this.timeoutInNanoseconds = unit.toNanos(timeout);
+
+    if (timeout == NO_TIMEOUT) {
+      timer = null;
+    } else {
+      timer = new ScheduledThreadPoolExecutor(1, task -> {
+        Thread thread = new Thread(task, "jmetal-evaluation-timer");
+        thread.setDaemon(true);
+        return thread;
+      });
+      timer.setRemoveOnCancelPolicy(true);
+    }
+
+    timeoutHandler = solution -> {
+      throw new JMetalException(
+          "The evaluation of a solution has exceeded the timeout of "
+              + TimeUnit.NANOSECONDS.toMillis(timeoutInNanoseconds) + " ms");
+    };
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+    Check.notNull(problem);
+
+    List<Future<?>> futures = new ArrayList<>(solutionList.size());
+    for (S solution : solutionList) {
+      futures.add(executor.submit(() -> {
+        evaluate(solution, problem);
+        return null;
+      }));
+    }
+    ChunkedExecutor.awaitAll(futures);
+
+    return solutionList;
+  }
+
+  private void evaluate(S solution, Problem<S> problem) throws InterruptedException {
+    semaphore.acquire();
+    try {
+      if (timer == null) {
+        problem.evaluate(solution);
+      } else {
+        evaluateWithTimeout(solution, problem);
+      }
+    } finally {
+      semaphore.release();
+    }
+  }
+
+  private void evaluateWithTimeout(S solution, Problem<S> problem) {
+    Alarm alarm = new Alarm(Thread.currentThread());
+    ScheduledFuture<?> scheduledAlarm =
+        timer.schedule(alarm, timeoutInNanoseconds, TimeUnit.NANOSECONDS);
+
+    RuntimeException failure = null;
+    boolean timedOut;
+    try {
+      try {
+        problem.evaluate(solution);
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+    } finally {
+      // Also done if the evaluation throws an Error, so that the alarm cannot interrupt the next
+      // task run by this thread
+      timedOut = alarm.finish();
+      scheduledAlarm.cancel(false);
+      if (timedOut) {
+        Thread.interrupted();
+      }
+    }
+
+    if (timedOut) {
+      // The failure, if any, is the consequence of the interruption
+      timeoutHandler.accept(solution);
+    } else if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Sets the action applied to the solutions whose evaluation exceeds the timeout (e.g., assigning
+   * them the worst objective values). It is invoked in the thread of the evaluation.
+   */
+  public VirtualThreadSolutionListEvaluator<S> timeoutHandler(Consumer<S> timeoutHandler) {
+    Check.notNull(timeoutHandler);
+    this.timeoutHandler = timeoutHandler;
+
+    return this;
+  }
+
+  public int maximumConcurrentEvaluations() {
+    return maximumConcurrentEvaluations;
+  }
+
+  public long timeout(TimeUnit unit) {
+    return unit.convert(timeoutInNanoseconds, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Interrupts the thread of an evaluation if it has not finished before the timeout. The change of
+   * state and the interruption are done while holding a lock, so when {@link #finish()} returns,
+   * either the thread will not be interrupted or the interruption has already been delivered and
+   * can be cleared.
+   */
+  private static class Alarm implements Runnable {
+    private final Thread thread;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int state = RUNNING;
+
+    Alarm(Thread thread) {
+      this.thread = thread;
+    }
+
+    @Override
+    public void run() {
+      lock.lock();
+      try {
+        if (state == RUNNING) {
+          state = TIMED_OUT;
+          thread.interrupt();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Marks the evaluation as finished
+     *
+     * @return true if the evaluation has timed out before
+     */
+    boolean finish() {
+      lock.lock();
+      try {
+        if (state == RUNNING) {
+          state = FINISHED;
+        }
+        return state == TIMED_OUT;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    if (timer != null) {
+      timer.shutdownNow();
+    }
+    if (ownExecutor) {
+      executor.shutdown();
+    }
+  }
+}
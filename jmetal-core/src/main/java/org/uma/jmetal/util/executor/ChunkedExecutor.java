@@ -0,0 +1,159 @@
+package org.uma.jmetal.util.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Applies an action to the elements of a list in parallel by using an {@link ExecutorService}. The
+ * list is split into chunks of consecutive elements, each chunk is submitted as a task, and the
+ * calling thread waits until all of them have finished.
+ *
+ * <p>The chunk size can be fixed with {@link #chunkSize(int)}; by default
+ * ({@link #AUTOMATIC_CHUNK_SIZE}) the list is split into four chunks per thread, which balances
+ * the load when the duration of the actions varies while keeping the number of tasks low. A list
+ * fitting in a single chunk is processed in the calling thread.
+ *
+ * <p>The executor is either created by this class from a {@link ThreadPoolType}, in which case it is
+ * released by {@link #shutdown()}, or provided by the user, in which case the user is in charge of
+ * shutting it down. Using an own executor instead of the common {@link java.util.concurrent.ForkJoinPool}
+ * prevents several algorithms running in the same JVM from competing for the same threads.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ChunkedExecutor {
+  public static final int AUTOMATIC_CHUNK_SIZE = 0;
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final ExecutorService executor;
+  private final int numberOfThreads;
+  private final boolean ownExecutor;
+  private int chunkSize;
+
+  /**
+   * Creates an executor of a given type
+   *
+   * @param numberOfThreads Number of threads. If 0, the number of available processors is used
+   * @param threadPoolType
+   */
+  public ChunkedExecutor(int numberOfThreads, ThreadPoolType threadPoolType) {
+    Check.that(numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads);
+    Check.notNull(threadPoolType);
+
+    this.numberOfThreads =
+        numberOfThreads == 0 ? Runtime.getRuntime().availableProcessors() : numberOfThreads;
+    this.executor = threadPoolType.create(this.numberOfThreads);
+    this.ownExecutor = true;
+    this.chunkSize = AUTOMATIC_CHUNK_SIZE;
+  }
+
+  /**
+   * Uses an executor provided by the user, which is not shut down by {@link #shutdown()}
+   *
+   * @param executor
+   * @param numberOfThreads Number of threads of the executor, used to compute the chunk size
+   */
+  public ChunkedExecutor(ExecutorService executor, int numberOfThreads) {
+    Check.notNull(executor);
+    Check.that(numberOfThreads > 0, "The number of threads is not positive: " + numberOfThreads);
+
+    this.executor = executor;
+    this.numberOfThreads = numberOfThreads;
+    this.ownExecutor = false;
+    this.chunkSize = AUTOMATIC_CHUNK_SIZE;
+  }
+
+  /**
+   * Applies an action to all the elements of a list and waits for its completion. If an action
+   * fails, the pending chunks are cancelled and the exception is rethrown in the calling thread.
+   */
+  public <T> void forEach(List<T> list, Consumer<? super T> action) {
+    Check.notNull(list);
+    Check.notNull(action);
+
+    int size = list.size();
+    int currentChunkSize = effectiveChunkSize(size);
+    if (size <= currentChunkSize) {
+      list.forEach(action);
+      return;
+    }
+
+    List<Future<?>> futures = new ArrayList<>((size + currentChunkSize - 1) / currentChunkSize);
+    for (int from = 0; from < size; from += currentChunkSize) {
+      List<T> chunk = list.subList(from, Math.min(from + currentChunkSize, size));
+      futures.add(executor.submit(() -> chunk.forEach(action)));
+    }
+    awaitAll(futures);
+  }
+
+  /**
+   * Waits for the completion of a list of tasks. If a task fails, the remaining ones are cancelled
+   * and the exception is rethrown in the calling thread (wrapped in a {@link JMetalException} if it
+   * is a checked exception).
+   */
+  public static void awaitAll(List<? extends Future<?>> futures) {
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the parallel tasks", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new JMetalException("Error executing a parallel task", (Exception) cause);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private int effectiveChunkSize(int listSize) {
+    if (chunkSize != AUTOMATIC_CHUNK_SIZE) {
+      return chunkSize;
+    }
+
+    int numberOfChunks = CHUNKS_PER_THREAD * numberOfThreads;
+    return Math.max(1, (listSize + numberOfChunks - 1) / numberOfChunks);
+  }
+
+  public int chunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the number of elements per task
+   *
+   * @param chunkSize A positive value, or {@link #AUTOMATIC_CHUNK_SIZE}
+   */
+  public void chunkSize(int chunkSize) {
+    Check.that(chunkSize >= 0, "The chunk size is a negative value: " + chunkSize);
+    this.chunkSize = chunkSize;
+  }
+
+  public int numberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public ExecutorService executor() {
+    return executor;
+  }
+
+  /**
+   * Shuts down the executor if it was created by this class
+   */
+  public void shutdown() {
+    if (ownExecutor) {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package org.uma.jmetal.util.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Kinds of thread pools that can be created to run tasks in parallel. The threads of the pools are
+ * daemon threads, so a pool that is not shut down does not prevent the JVM from exiting, and the
+ * idle threads of the pools with a fixed number of threads terminate after a while, so such a pool
+ * can be garbage collected once it is no longer referenced.
+ *
+ * <ul>
+ *   <li>{@link #WORK_STEALING}: a {@link ForkJoinPool} with the given parallelism. Suited to tasks
+ *   of uneven duration.</li>
+ *   <li>{@link #FIXED}: a pool with a fixed number of threads and a shared queue. The threads are
+ *   created again when new tasks arrive after they have been idle.</li>
+ *   <li>{@link #VIRTUAL_THREADS}: one virtual thread per task. The number of threads is ignored.
+ *   Suited to tasks that spend most of the time blocked (e.g., waiting for an external simulator).
+ *   It requires Java 21 or later.</li>
+ * </ul>
+ *
+ * @author Antonio J. Nebro
+ */
+public enum ThreadPoolType {
+  WORK_STEALING {
+    @Override
+    public ExecutorService create(int numberOfThreads) {
+      return new ForkJoinPool(checkedNumberOfThreads(numberOfThreads));
+    }
+  },
+  FIXED {
+    @Override
+    public ExecutorService create(int numberOfThreads) {
+      int threads = checkedNumberOfThreads(numberOfThreads);
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+          IDLE_THREAD_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          daemonThreadFactory());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  },
+  VIRTUAL_THREADS {
+    @Override
+    public ExecutorService create(int numberOfThreads) {
+      try {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+            .invoke(null);
+      } catch (ReflectiveOperationException e) {
+        throw new JMetalException("Virtual threads are not available in this JVM (Java 21 or later is required)", e);
+      }
+    }
+  };
+
+  private static final long IDLE_THREAD_TIMEOUT_IN_SECONDS = 60;
+  private static final AtomicInteger poolCounter = new AtomicInteger();
+
+  /**
+   * Creates a new pool
+   *
+   * @param numberOfThreads Number of threads of the pool. If 0, the number of available processors
+   *                        is used
+   */
+  public abstract ExecutorService create(int numberOfThreads);
+
+  private static int checkedNumberOfThreads(int numberOfThreads) {
+    Check.that(numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads);
+
+    return numberOfThreads == 0 ? Runtime.getRuntime().availableProcessors() : numberOfThreads;
+  }
+
+  private static ThreadFactory daemonThreadFactory() {
+    int pool = poolCounter.incrementAndGet();
+    AtomicInteger threadCounter = new AtomicInteger();
+    return task -> {
+      Thread thread = new Thread(task, "jmetal-pool-" + pool + "-thread-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
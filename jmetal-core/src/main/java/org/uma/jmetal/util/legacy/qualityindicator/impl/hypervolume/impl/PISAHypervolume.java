@@ -2,8 +2,8 @@ package org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl;
 
 import java.io.FileNotFoundException;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributions;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -293,25 +293,15 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
    * @return HV contributions
    */
   private double[] hvContributions(double[][] front) {
-
+    // The points are negated to obtain a minimization front whose reference point is the origin
     int numberOfObjectives = front[0].length;
-    double[] contributions = new double[front.length];
-    double[][] frontSubset = new double[front.length - 1][front[0].length];
-    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-    Collections.addAll(frontCopy, front);
-    double[][] totalFront = frontCopy.toArray(frontSubset);
-    double totalVolume =
-        this.calculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
+    double[][] minimizationFront = new double[front.length][numberOfObjectives];
     for (int i = 0; i < front.length; i++) {
-      double[] evaluatedPoint = frontCopy.remove(i);
-      frontSubset = frontCopy.toArray(frontSubset);
-      // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-      double hv = this.calculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-      double contribution = totalVolume - hv;
-      contributions[i] = contribution;
-      // put point back
-      frontCopy.add(i, evaluatedPoint);
+      for (int j = 0; j < numberOfObjectives; j++) {
+        minimizationFront[i][j] = -front[i][j];
+      }
     }
-    return contributions;
+
+    return HypervolumeContributions.compute(minimizationFront, new double[numberOfObjectives]);
   }
 }
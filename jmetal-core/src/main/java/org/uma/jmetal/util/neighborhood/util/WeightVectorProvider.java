@@ -0,0 +1,363 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Provider of the {@link WeightVectorTable}s used by the decomposition-based algorithms. The weight
+ * vectors are either generated uniformly (two objectives) or read from the files
+ * <code>W{M}D_{N}.dat</code>, and the neighborhoods are computed with a spatial index.
+ *
+ * <p>The tables are cached in memory, so consecutive algorithm instances with the same number of
+ * objectives (M), number of weight vectors (N) and neighborhood size (T) share the same table. If
+ * a cache directory is set (see {@link #setCacheDirectory(Path)} or the system property
+ * <code>jmetal.weightVectorCacheDirectory</code>), the tables are also stored in binary files keyed
+ * by (M, N, T), so the text files are not parsed and the neighborhoods are not computed again in
+ * later runs. The files contain a header, the source of the weight vectors (to detect that they were
+ * read from a different file) and then the weights and neighbors in little-endian order, aligned to
+ * eight bytes, and they are read by memory-mapping them.
+ *
+ * @author Antonio J. Nebro
+ */
+public class WeightVectorProvider {
+  public static final String CACHE_DIRECTORY_PROPERTY = "jmetal.weightVectorCacheDirectory";
+
+  private static final int MAGIC_NUMBER = 0x4A4D5756; // "JMWV"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 24;
+  private static final String UNIFORM_SOURCE = "uniform";
+
+  private static final Map<Key, WeightVectorTable> cache = new ConcurrentHashMap<>();
+  private static volatile Path cacheDirectory = initialCacheDirectory();
+
+  private WeightVectorProvider() {
+  }
+
+  /**
+   * Returns the table of N weight vectors of two components uniformly distributed, where weight
+   * vector n is (n / (N - 1), 1 - n / (N - 1))
+   */
+  public static WeightVectorTable uniform(int numberOfWeightVectors, int neighborhoodSize) {
+    Key key = new Key(UNIFORM_SOURCE, 2, numberOfWeightVectors, neighborhoodSize);
+
+    return cache.computeIfAbsent(key, k -> load(k, () -> {
+      double[] weights = new double[2 * numberOfWeightVectors];
+      for (int n = 0; n < numberOfWeightVectors; n++) {
+        double a = 1.0 * n / (numberOfWeightVectors - 1);
+        weights[2 * n] = a;
+        weights[2 * n + 1] = 1 - a;
+      }
+      return weights;
+    }));
+  }
+
+  /**
+   * Returns the table of the weight vectors in file <code>W{M}D_{N}.dat</code> of a directory. The
+   * file is looked for as a resource and, if it is not found, in the file system.
+   *
+   * @throws FileNotFoundException If the file does not exist
+   */
+  public static WeightVectorTable fromFile(String vectorDirectoryName, int weightVectorSize,
+      int numberOfWeightVectors, int neighborhoodSize) throws FileNotFoundException {
+    String fileName =
+        vectorDirectoryName + "/W" + weightVectorSize + "D_" + numberOfWeightVectors + ".dat";
+    Key key = new Key(fileName, weightVectorSize, numberOfWeightVectors, neighborhoodSize);
+
+    try {
+      return cache.computeIfAbsent(key, k -> load(k, () -> {
+        try {
+          return readWeightsFromFile(fileName, weightVectorSize, numberOfWeightVectors);
+        } catch (FileNotFoundException e) {
+          throw new MissingFileException(e);
+        }
+      }));
+    } catch (MissingFileException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Like {@link #fromFile(String, int, int, int)}, but {@link FileNotFoundException} is thrown
+   * wrapped in a {@link JMetalException}
+   */
+  public static WeightVectorTable load(String vectorDirectoryName, int weightVectorSize,
+      int numberOfWeightVectors, int neighborhoodSize) {
+    try {
+      return fromFile(vectorDirectoryName, weightVectorSize, numberOfWeightVectors,
+          neighborhoodSize);
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("Failed when reading the weight vector file W" + weightVectorSize
+          + "D_" + numberOfWeightVectors + ".dat of directory " + vectorDirectoryName, e);
+    }
+  }
+
+  /**
+   * Sets the directory where the binary tables are stored, or disables the binary cache if it is
+   * null. The directory is created if it does not exist.
+   */
+  public static void setCacheDirectory(Path directory) {
+    cacheDirectory = directory;
+  }
+
+  public static Path cacheDirectory() {
+    return cacheDirectory;
+  }
+
+  /**
+   * Removes the tables cached in memory; the binary files are not removed
+   */
+  public static void clearCache() {
+    cache.clear();
+  }
+
+  private static Path initialCacheDirectory() {
+    String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+
+    return directory == null || directory.isEmpty() ? null : Paths.get(directory);
+  }
+
+  private interface WeightSupplier {
+    double[] get();
+  }
+
+  private static WeightVectorTable load(Key key, WeightSupplier weightSupplier) {
+    Path directory = cacheDirectory;
+    Path file = directory == null ? null : directory.resolve(key.fileName());
+
+    if (file != null && Files.isRegularFile(file)) {
+      WeightVectorTable table = readTable(file, key);
+      if (table != null) {
+        return table;
+      }
+    }
+
+    WeightVectorTable table = new WeightVectorTable(weightSupplier.get(), key.numberOfWeightVectors,
+        key.weightVectorSize, key.neighborhoodSize);
+
+    if (file != null) {
+      writeTable(file, key, table);
+    }
+
+    return table;
+  }
+
+  /**
+   * Reads a binary table, returning null if the file is not valid or it was created from a
+   * different source
+   */
+  private static WeightVectorTable readTable(Path file, Key key) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+      if (buffer.remaining() < HEADER_SIZE
+          || buffer.getInt() != MAGIC_NUMBER
+          || buffer.getInt() != VERSION
+          || buffer.getInt() != key.weightVectorSize
+          || buffer.getInt() != key.numberOfWeightVectors
+          || buffer.getInt() != key.neighborhoodSize) {
+        return null;
+      }
+
+      int sourceLength = buffer.getInt();
+      byte[] source = key.source.getBytes(StandardCharsets.UTF_8);
+      if (sourceLength != source.length || buffer.remaining() < align(sourceLength)) {
+        return null;
+      }
+      byte[] storedSource = new byte[sourceLength];
+      buffer.get(storedSource);
+      if (!Arrays.equals(source, storedSource)) {
+        return null;
+      }
+      buffer.position(HEADER_SIZE + align(sourceLength));
+
+      double[] weights = new double[key.numberOfWeightVectors * key.weightVectorSize];
+      int[] neighbors = new int[key.numberOfWeightVectors * key.neighborhoodSize];
+      if (buffer.remaining() != 8L * weights.length + 4L * neighbors.length) {
+        return null;
+      }
+      buffer.asDoubleBuffer().get(weights);
+      buffer.position(buffer.position() + 8 * weights.length);
+      buffer.asIntBuffer().get(neighbors);
+
+      return new WeightVectorTable(weights, neighbors, key.numberOfWeightVectors,
+          key.weightVectorSize, key.neighborhoodSize);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes a binary table into a temporary file which is then renamed, so that concurrent readers
+   * never see a partial file. Errors are ignored, as the cache is only an optimization.
+   */
+  private static void writeTable(Path file, Key key, WeightVectorTable table) {
+    byte[] source = key.source.getBytes(StandardCharsets.UTF_8);
+    double[] weights = table.weightBuffer();
+    int[] neighbors = table.neighborBuffer();
+
+    ByteBuffer buffer = ByteBuffer
+        .allocate(HEADER_SIZE + align(source.length) + 8 * weights.length + 4 * neighbors.length)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC_NUMBER)
+        .putInt(VERSION)
+        .putInt(key.weightVectorSize)
+        .putInt(key.numberOfWeightVectors)
+        .putInt(key.neighborhoodSize)
+        .putInt(source.length)
+        .put(source);
+    buffer.position(HEADER_SIZE + align(source.length));
+    for (double weight : weights) {
+      buffer.putDouble(weight);
+    }
+    for (int neighbor : neighbors) {
+      buffer.putInt(neighbor);
+    }
+    buffer.flip();
+
+    Path temporaryFile = null;
+    try {
+      Files.createDirectories(file.getParent());
+      temporaryFile = Files.createTempFile(file.getParent(), key.fileName(), ".tmp");
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      try {
+        if (temporaryFile != null) {
+          Files.deleteIfExists(temporaryFile);
+        }
+      } catch (IOException ignored) {
+        // Nothing else can be done
+      }
+    }
+  }
+
+  private static int align(int length) {
+    return (length + 7) & ~7;
+  }
+
+  private static double[] readWeightsFromFile(String fileName, int weightVectorSize,
+      int numberOfWeightVectors) throws FileNotFoundException {
+    InputStream inputStream = WeightVectorProvider.class.getResourceAsStream(fileName);
+    if (inputStream == null) {
+      inputStream = WeightVectorProvider.class.getClassLoader()
+          .getResourceAsStream(fileName.startsWith("/") ? fileName.substring(1) : fileName);
+    }
+    if (inputStream == null) {
+      inputStream = new FileInputStream(fileName);
+    }
+
+    double[] weights = new double[numberOfWeightVectors * weightVectorSize];
+    try (BufferedReader br = new BufferedReader(
+        new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      int i = 0;
+      String line = br.readLine();
+      while (line != null) {
+        int j = 0;
+        int position = 0;
+        int length = line.length();
+        while (position < length) {
+          while (position < length && Character.isWhitespace(line.charAt(position))) {
+            position++;
+          }
+          int start = position;
+          while (position < length && !Character.isWhitespace(line.charAt(position))) {
+            position++;
+          }
+          if (start < position) {
+            Check.that(i < numberOfWeightVectors && j < weightVectorSize,
+                "The file " + fileName + " has more than " + numberOfWeightVectors
+                    + " weight vectors of size " + weightVectorSize);
+            weights[i * weightVectorSize + j] = Double.parseDouble(line.substring(start, position));
+            j++;
+          }
+        }
+        line = br.readLine();
+        i++;
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Failed when reading the weight vector file " + fileName, e);
+    }
+
+    return weights;
+  }
+
+  /**
+   * Used to propagate a {@link FileNotFoundException} out of
+   * {@link ConcurrentHashMap#computeIfAbsent}
+   */
+  private static class MissingFileException extends RuntimeException {
+    MissingFileException(FileNotFoundException cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized FileNotFoundException getCause() {
+      return (FileNotFoundException) super.getCause();
+    }
+  }
+
+  private static class Key {
+    private final String source;
+    private final int weightVectorSize;
+    private final int numberOfWeightVectors;
+    private final int neighborhoodSize;
+
+    Key(String source, int weightVectorSize, int numberOfWeightVectors, int neighborhoodSize) {
+      this.source = source;
+      this.weightVectorSize = weightVectorSize;
+      this.numberOfWeightVectors = numberOfWeightVectors;
+      this.neighborhoodSize = neighborhoodSize;
+    }
+
+    String fileName() {
+      return "W" + weightVectorSize + "D_" + numberOfWeightVectors + "_T" + neighborhoodSize + "_"
+          + Integer.toHexString(source.hashCode()) + ".bin";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return weightVectorSize == key.weightVectorSize
+          && numberOfWeightVectors == key.numberOfWeightVectors
+          && neighborhoodSize == key.neighborhoodSize
+          && source.equals(key.source);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, weightVectorSize, numberOfWeightVectors, neighborhoodSize);
+    }
+  }
+}
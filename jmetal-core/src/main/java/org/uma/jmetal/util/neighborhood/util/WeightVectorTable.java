@@ -0,0 +1,299 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.distance.KdTree;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Weight vectors of a decomposition-based algorithm (e.g., MOEA/D) together with the neighborhood
+ * of each of them, i.e., the indices of its T closest weight vectors (including itself). Both tables
+ * are stored in flat, row-major buffers: component j of weight vector i is at position
+ * <code>i * weightVectorSize + j</code> and neighbor l of weight vector i is at position
+ * <code>i * neighborhoodSize + l</code>. Instances are immutable, so they can be shared by several
+ * algorithms; the accessors returning matrices return copies.
+ *
+ * <p>The neighborhoods are computed with a {@link KdTree} instead of computing the N x N distance
+ * matrix, in parallel when the number of weight vectors is high enough; with more than six
+ * components the tree does not prune enough, and a linear scan per weight vector is used instead.
+ * The neighborhoods are the same as those obtained by computing all the distances and selecting the
+ * T closest vectors with <code>MOEADUtils.minFastSort</code>, including the order of the neighbors
+ * and the way the ties are broken.
+ *
+ * @author Antonio J. Nebro
+ */
+public class WeightVectorTable {
+  private static final int PARALLEL_THRESHOLD = 1024;
+  private static final int MAXIMUM_KD_TREE_DIMENSION = 6;
+
+  private final int numberOfWeightVectors;
+  private final int weightVectorSize;
+  private final int neighborhoodSize;
+  private final double[] weights;
+  private final int[] neighbors;
+
+  /**
+   * Creates a table from a flat buffer of weight vectors, computing their neighborhoods
+   */
+  public WeightVectorTable(double[] weights, int numberOfWeightVectors, int weightVectorSize,
+      int neighborhoodSize) {
+    this(weights, computeNeighborhoods(weights, numberOfWeightVectors, weightVectorSize,
+        neighborhoodSize), numberOfWeightVectors, weightVectorSize, neighborhoodSize);
+  }
+
+  WeightVectorTable(double[] weights, int[] neighbors, int numberOfWeightVectors,
+      int weightVectorSize, int neighborhoodSize) {
+    Check.that(weights.length == numberOfWeightVectors * weightVectorSize,
+        "The weight buffer has " + weights.length + " values instead of "
+            + numberOfWeightVectors * weightVectorSize);
+    Check.that(neighbors.length == numberOfWeightVectors * neighborhoodSize,
+        "The neighbor buffer has " + neighbors.length + " values instead of "
+            + numberOfWeightVectors * neighborhoodSize);
+
+    this.weights = weights;
+    this.neighbors = neighbors;
+    this.numberOfWeightVectors = numberOfWeightVectors;
+    this.weightVectorSize = weightVectorSize;
+    this.neighborhoodSize = neighborhoodSize;
+  }
+
+  public int numberOfWeightVectors() {
+    return numberOfWeightVectors;
+  }
+
+  public int weightVectorSize() {
+    return weightVectorSize;
+  }
+
+  public int neighborhoodSize() {
+    return neighborhoodSize;
+  }
+
+  public double weight(int weightVector, int component) {
+    return weights[weightVector * weightVectorSize + component];
+  }
+
+  public int neighbor(int weightVector, int position) {
+    return neighbors[weightVector * neighborhoodSize + position];
+  }
+
+  /**
+   * Returns a copy of the weight vectors, one per row
+   */
+  public double[][] weightVectors() {
+    double[][] result = new double[numberOfWeightVectors][];
+    for (int i = 0; i < numberOfWeightVectors; i++) {
+      result[i] = Arrays.copyOfRange(weights, i * weightVectorSize, (i + 1) * weightVectorSize);
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns a copy of the neighborhoods, one per row
+   */
+  public int[][] neighborhoods() {
+    int[][] result = new int[numberOfWeightVectors][];
+    for (int i = 0; i < numberOfWeightVectors; i++) {
+      result[i] = Arrays.copyOfRange(neighbors, i * neighborhoodSize, (i + 1) * neighborhoodSize);
+    }
+
+    return result;
+  }
+
+  double[] weightBuffer() {
+    return weights;
+  }
+
+  int[] neighborBuffer() {
+    return neighbors;
+  }
+
+  /**
+   * Computes the neighborhoods of a matrix of weight vectors, one per row
+   */
+  public static int[][] computeNeighborhoods(double[][] weightVectors, int neighborhoodSize) {
+    Check.notNull(weightVectors);
+    int numberOfWeightVectors = weightVectors.length;
+    int weightVectorSize = numberOfWeightVectors == 0 ? 0 : weightVectors[0].length;
+    double[] weights = new double[numberOfWeightVectors * weightVectorSize];
+    for (int i = 0; i < numberOfWeightVectors; i++) {
+      System.arraycopy(weightVectors[i], 0, weights, i * weightVectorSize, weightVectorSize);
+    }
+
+    return new WeightVectorTable(weights, numberOfWeightVectors, weightVectorSize,
+        neighborhoodSize).neighborhoods();
+  }
+
+  /**
+   * Computes the flat neighborhood table of a flat buffer of weight vectors
+   */
+  public static int[] computeNeighborhoods(double[] weights, int numberOfWeightVectors,
+      int weightVectorSize, int neighborhoodSize) {
+    Check.notNull(weights);
+    Check.that(neighborhoodSize > 0 && neighborhoodSize <= numberOfWeightVectors,
+        "The neighborhood size " + neighborhoodSize + " must be in [1, " + numberOfWeightVectors
+            + "]");
+
+    KdTree tree = weightVectorSize <= MAXIMUM_KD_TREE_DIMENSION
+        ? new KdTree(weights, numberOfWeightVectors, weightVectorSize)
+        : null;
+    int[] neighbors = new int[numberOfWeightVectors * neighborhoodSize];
+
+    IntStream range = IntStream.range(0, numberOfWeightVectors);
+    if (numberOfWeightVectors >= PARALLEL_THRESHOLD) {
+      range = range.parallel();
+    }
+    range.forEach(i -> {
+      Candidates candidates = tree != null
+          ? findCandidates(tree, weights, weightVectorSize, neighborhoodSize, i)
+          : findCandidates(weights, numberOfWeightVectors, weightVectorSize, neighborhoodSize, i);
+      minFastSort(candidates.distances, candidates.indices, candidates.size, neighborhoodSize);
+      System.arraycopy(candidates.indices, 0, neighbors, i * neighborhoodSize, neighborhoodSize);
+    });
+
+    return neighbors;
+  }
+
+  /**
+   * Weight vectors which can be among the neighbors of a given one, in increasing order of index,
+   * and their distances to it
+   */
+  private static class Candidates {
+    private final double[] distances;
+    private final int[] indices;
+    private final int size;
+
+    Candidates(double[] distances, int[] indices, int size) {
+      this.distances = distances;
+      this.indices = indices;
+      this.size = size;
+    }
+  }
+
+  /**
+   * The T closest vectors are not enough when there are ties with the T-th one, because the
+   * selection of minFastSort depends on the position of the tied vectors, so the candidates are all
+   * the vectors at a distance lower than or equal to that of the T-th one, and the selection is
+   * applied to them in index order. The vectors farther away do not change the result, as they are
+   * never swapped with a closer one once the current minimum is closer than them.
+   */
+  private static Candidates findCandidates(KdTree tree, double[] weights, int weightVectorSize,
+      int neighborhoodSize, int i) {
+    double[] query = Arrays.copyOfRange(weights, i * weightVectorSize,
+        (i + 1) * weightVectorSize);
+
+    int k = neighborhoodSize;
+    int[] indices = new int[k];
+    double[] distances = new double[k];
+    int found = tree.nearestNeighbours(query, k, -1, indices, distances);
+    double threshold = distances[neighborhoodSize - 1];
+    while (found == k && distances[k - 1] <= threshold && k < tree.size()) {
+      k = Math.min(2 * k, tree.size());
+      indices = new int[k];
+      distances = new double[k];
+      found = tree.nearestNeighbours(query, k, -1, indices, distances);
+    }
+
+    int size = 0;
+    while (size < found && distances[size] <= threshold) {
+      size++;
+    }
+
+    long[] keys = new long[size];
+    for (int c = 0; c < size; c++) {
+      keys[c] = ((long) indices[c] << 32) | c;
+    }
+    Arrays.sort(keys);
+    double[] candidateDistances = new double[size];
+    int[] candidateIndices = new int[size];
+    for (int c = 0; c < size; c++) {
+      int position = (int) keys[c];
+      candidateDistances[c] = distances[position];
+      candidateIndices[c] = indices[position];
+    }
+
+    return new Candidates(candidateDistances, candidateIndices, size);
+  }
+
+  /**
+   * Linear scan used when the weight vectors have too many components for the k-d tree to prune
+   * anything. The T-th lowest distance is found with a bounded max-heap, so neither the distance
+   * matrix nor the O(N T) selection are needed.
+   */
+  private static Candidates findCandidates(double[] weights, int numberOfWeightVectors,
+      int weightVectorSize, int neighborhoodSize, int i) {
+    double[] distances = new double[numberOfWeightVectors];
+    double[] heap = new double[neighborhoodSize];
+    int heapSize = 0;
+    for (int j = 0; j < numberOfWeightVectors; j++) {
+      double sum = 0;
+      for (int l = 0; l < weightVectorSize; l++) {
+        double diff = weights[i * weightVectorSize + l] - weights[j * weightVectorSize + l];
+        sum += diff * diff;
+      }
+      distances[j] = Math.sqrt(sum);
+
+      if (heapSize < neighborhoodSize) {
+        heap[heapSize] = distances[j];
+        siftUp(heap, heapSize++);
+      } else if (distances[j] < heap[0]) {
+        heap[0] = distances[j];
+        siftDown(heap, heapSize);
+      }
+    }
+
+    double threshold = heap[0];
+    int[] indices = new int[numberOfWeightVectors];
+    int size = 0;
+    for (int j = 0; j < numberOfWeightVectors; j++) {
+      if (distances[j] <= threshold) {
+        distances[size] = distances[j];
+        indices[size++] = j;
+      }
+    }
+
+    return new Candidates(distances, indices, size);
+  }
+
+  private static void siftUp(double[] heap, int position) {
+    double value = heap[position];
+    while (position > 0 && heap[(position - 1) / 2] < value) {
+      heap[position] = heap[(position - 1) / 2];
+      position = (position - 1) / 2;
+    }
+    heap[position] = value;
+  }
+
+  private static void siftDown(double[] heap, int size) {
+    double value = heap[0];
+    int position = 0;
+    while (2 * position + 1 < size) {
+      int child = 2 * position + 1;
+      if (child + 1 < size && heap[child + 1] > heap[child]) {
+        child++;
+      }
+      if (heap[child] <= value) {
+        break;
+      }
+      heap[position] = heap[child];
+      position = child;
+    }
+    heap[position] = value;
+  }
+
+  private static void minFastSort(double[] x, int[] idx, int n, int m) {
+    for (int i = 0; i < m; i++) {
+      for (int j = i + 1; j < n; j++) {
+        if (x[i] > x[j]) {
+          double temp = x[i];
+          x[i] = x[j];
+          x[j] = temp;
+          int id = idx[i];
+          idx[i] = idx[j];
+          idx[j] = id;
+        }
+      }
+    }
+  }
+}
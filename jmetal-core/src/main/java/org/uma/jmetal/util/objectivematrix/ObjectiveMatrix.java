@@ -0,0 +1,256 @@
+package org.uma.jmetal.util.objectivematrix;
+
+import java.util.Collections;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Struct-of-arrays view of the objective space of a list of solutions. The objective and constraint
+ * values of all the solutions are stored in flat, row-major <code>double[]</code> buffers (row
+ * <code>i</code> corresponds to the i-th solution of the list), so that components such as rankings,
+ * density estimators and quality indicators can traverse them without dereferencing every
+ * solution.
+ *
+ * <p>The matrix is a snapshot: if the objective or constraint values of the solutions change, the
+ * matrix must be resynchronized by invoking {@link #refresh()}, {@link #refresh(int)} or
+ * {@link #update(List)}. The buffers are reused across calls to {@link #update(List)} as long as
+ * their capacity is enough, so a single instance can be kept by an algorithm component to avoid
+ * allocating new buffers every generation.
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+public class ObjectiveMatrix<S extends Solution<?>> {
+  private List<S> solutions;
+  private int size;
+  private int numberOfObjectives;
+  private int numberOfConstraints;
+  private double[] objectives;
+  private double[] constraints;
+  private double[] overallConstraintViolation;
+  private int[] sortBuffer;
+
+  /**
+   * Constructor
+   */
+  public ObjectiveMatrix(List<S> solutionList) {
+    objectives = new double[0];
+    constraints = new double[0];
+    overallConstraintViolation = new double[0];
+    sortBuffer = new int[0];
+    update(solutionList);
+  }
+
+  /**
+   * Loads the objective and constraint values of a list of solutions, reusing the internal buffers
+   * when they are large enough.
+   *
+   * @param solutionList
+   * @return The matrix
+   */
+  public ObjectiveMatrix<S> update(List<S> solutionList) {
+    Check.notNull(solutionList);
+
+    solutions = solutionList;
+    size = solutionList.size();
+    numberOfObjectives = size == 0 ? 0 : solutionList.get(0).objectives().length;
+    numberOfConstraints = size == 0 ? 0 : solutionList.get(0).constraints().length;
+
+    if (objectives.length < size * numberOfObjectives) {
+      objectives = new double[size * numberOfObjectives];
+    }
+    if (constraints.length < size * numberOfConstraints) {
+      constraints = new double[size * numberOfConstraints];
+    }
+    if (overallConstraintViolation.length < size) {
+      overallConstraintViolation = new double[size];
+    }
+
+    refresh();
+
+    return this;
+  }
+
+  /**
+   * Re-reads the objective and constraint values of all the solutions
+   */
+  public void refresh() {
+    for (int row = 0; row < size; row++) {
+      refresh(row);
+    }
+  }
+
+  /**
+   * Re-reads the objective and constraint values of the solution in a given row
+   *
+   * @param row
+   */
+  public void refresh(int row) {
+    S solution = solutions.get(row);
+    Check.that(solution.objectives().length == numberOfObjectives,
+        "The solution in row " + row + " has " + solution.objectives().length
+            + " objectives instead of " + numberOfObjectives);
+    Check.that(solution.constraints().length == numberOfConstraints,
+        "The solution in row " + row + " has " + solution.constraints().length
+            + " constraints instead of " + numberOfConstraints);
+
+    System.arraycopy(solution.objectives(), 0, objectives, row * numberOfObjectives,
+        numberOfObjectives);
+    System.arraycopy(solution.constraints(), 0, constraints, row * numberOfConstraints,
+        numberOfConstraints);
+    overallConstraintViolation[row] = Double.NaN;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int numberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public int numberOfConstraints() {
+    return numberOfConstraints;
+  }
+
+  public S solution(int row) {
+    return solutions.get(row);
+  }
+
+  public List<S> solutions() {
+    return Collections.unmodifiableList(solutions);
+  }
+
+  public double objective(int row, int objective) {
+    return objectives[row * numberOfObjectives + objective];
+  }
+
+  public double constraint(int row, int constraint) {
+    return constraints[row * numberOfConstraints + constraint];
+  }
+
+  /**
+   * Returns the overall constraint violation degree of the solution in a row, as computed by
+   * {@link ConstraintHandling#overallConstraintViolationDegree(Solution)}. The value is computed the
+   * first time it is requested after the row is loaded and cached afterwards.
+   */
+  public double overallConstraintViolationDegree(int row) {
+    double value = overallConstraintViolation[row];
+    if (Double.isNaN(value)) {
+      value = ConstraintHandling.overallConstraintViolationDegree(solutions.get(row));
+      overallConstraintViolation[row] = value;
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the backing buffer of objective values. The objective <code>j</code> of row
+   * <code>i</code> is at position <code>i * numberOfObjectives() + j</code>. The buffer can be
+   * larger than <code>size() * numberOfObjectives()</code>.
+   */
+  public double[] objectives() {
+    return objectives;
+  }
+
+  /**
+   * Returns the backing buffer of constraint values, with the same layout as {@link #objectives()}
+   */
+  public double[] constraints() {
+    return constraints;
+  }
+
+  /**
+   * Dominance test between two rows, with the same semantics as
+   * {@link VectorUtils#dominanceTest(double[], double[])}
+   *
+   * @return -1, or 0, or 1 if row1 dominates row2, both are non-dominated, or row1 is dominated by
+   * row2, respectively.
+   */
+  public int dominanceTest(int row1, int row2) {
+    return DominanceKernel.dominanceTest(objectives, row1 * numberOfObjectives, objectives,
+        row2 * numberOfObjectives, numberOfObjectives);
+  }
+
+  /**
+   * Dominance test between two rows taking into account their overall constraint violation
+   * degrees, with the same semantics as the default
+   * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator}
+   *
+   * @return -1, or 0, or 1 if row1 dominates row2, both are non-dominated, or row1 is dominated by
+   * row2, respectively.
+   */
+  public int constrainedDominanceTest(int row1, int row2) {
+    return DominanceKernel.dominanceTest(objectives, row1 * numberOfObjectives,
+        overallConstraintViolationDegree(row1), objectives, row2 * numberOfObjectives,
+        overallConstraintViolationDegree(row2), numberOfObjectives);
+  }
+
+  /**
+   * Computes the overall constraint violation degrees of all the rows, so that they can be read
+   * afterwards from several threads
+   */
+  public void computeOverallConstraintViolationDegrees() {
+    for (int row = 0; row < size; row++) {
+      overallConstraintViolationDegree(row);
+    }
+  }
+
+  /**
+   * Sorts an array of row indices in ascending order of a given objective. The sort is stable, so
+   * successive calls on the same array behave as successive calls to {@link List#sort} with an
+   * {@link org.uma.jmetal.util.comparator.ObjectiveComparator}.
+   *
+   * @param rows Row indices to sort
+   * @param objective Objective index
+   */
+  public void sortByObjective(int[] rows, int objective) {
+    Check.that(objective >= 0 && objective < numberOfObjectives, "Invalid objective: " + objective);
+    if (sortBuffer.length < rows.length) {
+      sortBuffer = new int[rows.length];
+    }
+
+    int[] source = rows;
+    int[] target = sortBuffer;
+    for (int width = 1; width < rows.length; width *= 2) {
+      for (int low = 0; low < rows.length; low += 2 * width) {
+        int middle = Math.min(low + width, rows.length);
+        int high = Math.min(low + 2 * width, rows.length);
+        int left = low;
+        int right = middle;
+        for (int k = low; k < high; k++) {
+          if (left < middle && (right >= high || Double.compare(
+              objectives[source[left] * numberOfObjectives + objective],
+              objectives[source[right] * numberOfObjectives + objective]) <= 0)) {
+            target[k] = source[left++];
+          } else {
+            target[k] = source[right++];
+          }
+        }
+      }
+      int[] aux = source;
+      source = target;
+      target = aux;
+    }
+
+    if (source != rows) {
+      System.arraycopy(source, 0, rows, 0, rows.length);
+    }
+  }
+
+  /**
+   * Returns a new <code>double[][]</code> matrix with the objective values, one row per solution
+   */
+  public double[][] toMatrix() {
+    double[][] matrix = new double[size][numberOfObjectives];
+    for (int row = 0; row < size; row++) {
+      System.arraycopy(objectives, row * numberOfObjectives, matrix[row], 0, numberOfObjectives);
+    }
+
+    return matrix;
+  }
+}
@@ -7,6 +7,9 @@ import java.util.List;
 import java.util.Map;
 import org.knowm.xchart.XYChart;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.incremental.IncrementalQualityIndicator;
+import org.uma.jmetal.qualityindicator.incremental.IncrementalQualityIndicators;
+import org.uma.jmetal.qualityindicator.incremental.IndicatorTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.NormalizeUtils;
@@ -27,6 +30,7 @@ public class IndicatorPlotObserver<S extends Solution<?>> implements Observer<Ma
   double[][] normalizedReferenceFront ;
   private QualityIndicator qualityIndicator ;
   private String plotTitle ;
+  private IndicatorTracker<S> indicatorTracker ;
   /**
    * Constructor
    */
@@ -41,6 +45,14 @@ public class IndicatorPlotObserver<S extends Solution<?>> implements Observer<Ma
     referenceFront = VectorUtils.readVectors(referenceFrontFileName, ",");
     normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
     qualityIndicator.referenceFront(normalizedReferenceFront);
+
+    IncrementalQualityIndicator incrementalQualityIndicator =
+        IncrementalQualityIndicators.create(qualityIndicator) ;
+    if (incrementalQualityIndicator != null) {
+      indicatorTracker = new IndicatorTracker<>(incrementalQualityIndicator,
+          NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+          NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront)) ;
+    }
   }
 
   /**
@@ -54,13 +66,18 @@ public class IndicatorPlotObserver<S extends Solution<?>> implements Observer<Ma
 
     if (evaluations!=null && population!=null) {
       if (evaluations%plotUpdateFrequency == 0){
-        double[][] normalizedFront =
-            NormalizeUtils.normalize(
-                getMatrixWithObjectiveValues(population),
-                NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-                NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+        double indicatorValue ;
+        if (indicatorTracker != null) {
+          indicatorValue = indicatorTracker.update(population) ;
+        } else {
+          double[][] normalizedFront =
+              NormalizeUtils.normalize(
+                  getMatrixWithObjectiveValues(population),
+                  NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+                  NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
 
-        double indicatorValue = qualityIndicator.compute(normalizedFront) ;
+          indicatorValue = qualityIndicator.compute(normalizedFront) ;
+        }
         chart.updateChart(evaluations, indicatorValue);
 
         String plotTitle = this.plotTitle + ". "  + qualityIndicator.name()+ ": " +
@@ -1,24 +1,50 @@
 package org.uma.jmetal.util.pseudorandom;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
 
 /**
+ * Global source of random numbers used by jMetal. By default, all the numbers are drawn from a
+ * single {@link PseudoRandomGenerator}.
+ *
+ * <p>In the splittable mode (see {@link #enableSplittableStreams(long)}), each thread draws the
+ * numbers from its own generator, so parallel operators and solution creation do not contend on a
+ * shared generator. The generators are streams derived from a master seed:
+ * <ul>
+ *   <li>a task can be run in a given stream with {@link #runInStream(long, Runnable)} or
+ *   {@link #callInStream(long, Supplier)}. The numbers drawn by the task only depend on the master
+ *   seed and on the stream index, so results are reproducible whatever the number of threads is,
+ *   as long as the stream indices are assigned deterministically (for example, with
+ *   {@link #reserveStreams(int)} invoked from the thread coordinating the tasks);</li>
+ *   <li>outside a task, each thread uses a default stream assigned the first time it draws a
+ *   number. The thread enabling the mode is assigned the first default stream.</li>
+ * </ul>
+ * As the calls to {@link #nextInt(int, int)}, {@link #nextDouble()}, etc. are dispatched to the
+ * generator of the current thread, the classes drawing random numbers from
+ * {@link #getInstance()} do not need to be changed to use the splittable mode.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
+  private static final JMetalRandom instance = new JMetalRandom() ;
   private PseudoRandomGenerator randomGenerator ;
 
+  // Splittable mode: the generator of each thread (null in the default mode)
+  private transient volatile ThreadLocal<PseudoRandomGenerator> threadGenerator ;
+  private long masterSeed ;
+  private final AtomicLong nextStream = new AtomicLong() ;
+  private final AtomicLong nextThreadStream = new AtomicLong() ;
+
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
     return instance ;
   }
 
@@ -26,31 +52,115 @@ public class JMetalRandom implements Serializable {
     this.randomGenerator = randomGenerator;
   }
 
+  /**
+   * Returns the generator used by the current thread: the one set with
+   * {@link #setRandomGenerator(PseudoRandomGenerator)}, or the generator of the stream of the thread
+   * in the splittable mode
+   */
   public PseudoRandomGenerator getRandomGenerator() {
-    return randomGenerator ;
+    ThreadLocal<PseudoRandomGenerator> generator = threadGenerator ;
+    return generator != null ? generator.get() : randomGenerator ;
+  }
+
+  /**
+   * Switches to the splittable mode, where each thread draws the numbers from its own stream derived
+   * from the master seed. Enabling the mode again with the same seed restarts all the streams.
+   */
+  public synchronized void enableSplittableStreams(long masterSeed) {
+    this.masterSeed = masterSeed ;
+    nextStream.set(0);
+    nextThreadStream.set(0);
+    ThreadLocal<PseudoRandomGenerator> generator = ThreadLocal.withInitial(
+        () -> SplittableRandomGenerator.stream(masterSeed, -nextThreadStream.incrementAndGet())) ;
+    generator.get() ;
+    threadGenerator = generator ;
+  }
+
+  /**
+   * Switches back to the default mode, where all the threads share the same generator
+   */
+  public synchronized void disableSplittableStreams() {
+    threadGenerator = null ;
+  }
+
+  public boolean isSplittableStreamsEnabled() {
+    return threadGenerator != null ;
+  }
+
+  /**
+   * Reserves a block of consecutive stream indices for a set of tasks
+   *
+   * @return The index of the first stream of the block
+   */
+  public long reserveStreams(int numberOfStreams) {
+    Check.that(numberOfStreams >= 0, "The number of streams is negative: " + numberOfStreams) ;
+    return nextStream.getAndAdd(numberOfStreams) ;
+  }
+
+  /**
+   * Returns a new generator of a stream. The generator is not bound to any thread.
+   */
+  public PseudoRandomGenerator streamGenerator(long streamIndex) {
+    Check.that(isSplittableStreamsEnabled(), "The splittable streams are not enabled") ;
+    return SplittableRandomGenerator.stream(masterSeed, streamIndex) ;
+  }
+
+  /**
+   * Runs a task in the current thread drawing the random numbers from a stream
+   */
+  public void runInStream(long streamIndex, Runnable task) {
+    callInStream(streamIndex, () -> {
+      task.run();
+      return null;
+    }) ;
+  }
+
+  /**
+   * Runs a task in the current thread drawing the random numbers from a stream, and returns its
+   * result
+   */
+  public <T> T callInStream(long streamIndex, Supplier<T> task) {
+    ThreadLocal<PseudoRandomGenerator> generator = threadGenerator ;
+    Check.that(generator != null, "The splittable streams are not enabled") ;
+
+    PseudoRandomGenerator previousGenerator = generator.get() ;
+    generator.set(SplittableRandomGenerator.stream(masterSeed, streamIndex));
+    try {
+      return task.get() ;
+    } finally {
+      generator.set(previousGenerator);
+    }
   }
 
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return getRandomGenerator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return getRandomGenerator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return getRandomGenerator().nextDouble(lowerBound, upperBound) ;
   }
 
+  /**
+   * Sets the seed of the generator or, in the splittable mode, the master seed (restarting all the
+   * streams)
+   */
   public void setSeed(long seed) {
-    randomGenerator.setSeed(seed);
+    if (isSplittableStreamsEnabled()) {
+      enableSplittableStreams(seed);
+    } else {
+      randomGenerator.setSeed(seed);
+    }
   }
 
   public long getSeed() {
-    return randomGenerator.getSeed() ;
+    return isSplittableStreamsEnabled() ? masterSeed : randomGenerator.getSeed() ;
   }
 
   public String getGeneratorName() {
-    return randomGenerator.getName() ;
+    return getRandomGenerator().getName() ;
   }
 }
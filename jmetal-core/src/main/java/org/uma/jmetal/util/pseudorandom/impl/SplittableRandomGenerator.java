@@ -0,0 +1,119 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Generator based on the SplitMix64 algorithm, which is the one used by
+ * {@link java.util.SplittableRandom}. It is implemented here because
+ * {@link java.util.SplittableRandom} is not serializable.
+ *
+ * <p>The generator is cheap to create, so it is used to provide independent streams of random
+ * numbers to parallel tasks: {@link #split()} returns a new generator seeded from this one, and
+ * {@link #stream(long, long)} returns the generator of the i-th stream derived from a master seed.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  private static final String NAME = "SplittableRandomGenerator" ;
+
+  private long seed ;
+  private long state ;
+
+  /** Constructor */
+  public SplittableRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public SplittableRandomGenerator(long seed) {
+    setSeed(seed);
+  }
+
+  /**
+   * Returns the generator of a stream derived from a master seed. Different stream indices produce
+   * statistically independent generators, and the same pair (master seed, stream index) always
+   * produces the same sequence of numbers.
+   */
+  public static SplittableRandomGenerator stream(long masterSeed, long streamIndex) {
+    return new SplittableRandomGenerator(mix64(masterSeed + (streamIndex + 1) * GOLDEN_GAMMA)) ;
+  }
+
+  /**
+   * Returns a new generator seeded with the next value of this one
+   */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(nextLong()) ;
+  }
+
+  public long nextLong() {
+    state += GOLDEN_GAMMA ;
+    return mix64(state) ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    long range = (long) upperBound - lowerBound + 1 ;
+    if (range > Integer.MAX_VALUE) {
+      return (int) (lowerBound + nextLong(range)) ;
+    }
+
+    int bound = (int) range ;
+    int mask = bound - 1 ;
+    int value = (int) (nextLong() >>> 33) ;
+    if ((bound & mask) == 0) {
+      value = (int) ((bound * (long) value) >> 31) ;
+    } else {
+      for (int u = value; u - (value = u % bound) + mask < 0; u = (int) (nextLong() >>> 33)) {
+        // Rejection of the values leading to a biased result
+      }
+    }
+    return lowerBound + value ;
+  }
+
+  /**
+   * Returns a value between 0 (inclusive) and a bound (exclusive) drawn from 63 random bits, which
+   * is used when the bound does not fit in an int
+   */
+  private long nextLong(long bound) {
+    long mask = bound - 1 ;
+    long value = nextLong() >>> 1 ;
+    for (long u = value; u - (value = u % bound) + mask < 0; u = nextLong() >>> 1) {
+      // Rejection of the values leading to a biased result
+    }
+    return value ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + nextDouble()*(upperBound - lowerBound) ;
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * 0x1.0p-53 ;
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed ;
+    this.state = seed ;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public String getName() {
+    return NAME ;
+  }
+
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L ;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL ;
+    return z ^ (z >>> 31) ;
+  }
+}
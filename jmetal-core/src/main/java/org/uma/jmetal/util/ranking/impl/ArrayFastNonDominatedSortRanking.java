@@ -0,0 +1,256 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Implementation of the fast non-dominated sorting algorithm of NSGA-II (see
+ * {@link FastNonDominatedSortRanking}) based on primitive arrays. The sets of solutions dominated by
+ * each solution are stored as a compressed sparse row (CSR) adjacency structure, the fronts are
+ * obtained by peeling an array of population indices, and the ranks are kept in an
+ * <code>int[]</code> table indexed by the position of the solutions in the list passed to
+ * {@link #compute(List)}. All the buffers are reused between calls.
+ *
+ * <p>The subfronts and ranks are the same as those computed by
+ * {@link FastNonDominatedSortRanking}, including the order of the solutions in each subfront. The
+ * difference is that the ranks are not stored as solution attributes, so {@link #getRank(Solution)}
+ * only returns valid ranks for the solutions of the last computed list (-1 otherwise). The ranking
+ * keeps its own copy of that list, so the caller can modify the list after {@link #compute(List)}
+ * without affecting the ranks.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ArrayFastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+
+  private final String attributeId = getClass().getName();
+  private final Comparator<S> dominanceComparator;
+
+  private final List<S> population = new ArrayList<>();
+  private List<ArrayList<S>> rankedSubPopulations;
+  private ObjectiveMatrix<S> objectiveMatrix;
+
+  // rank[i] is the rank of the i-th solution of the population
+  private int[] rank = new int[0];
+  // dominateMe[i] contains the number of solutions dominating i
+  private int[] dominateMe = new int[0];
+  // Dominance pairs (dominating index in the high 32 bits, dominated index in the low 32 bits)
+  private long[] edges = new long[0];
+  // CSR structure: the solutions dominated by i are adjacency[adjacencyStart[i] .. adjacencyStart[i+1])
+  private int[] adjacencyStart = new int[1];
+  private int[] adjacency = new int[0];
+  // Population indices in front order: front k is frontOrder[frontStart[k] .. frontStart[k+1])
+  private int[] frontOrder = new int[0];
+  private int[] frontStart = new int[1];
+  private int numberOfFronts;
+
+  private final IdentityIndex<S> populationIndex = new IdentityIndex<>();
+  private boolean populationIndexIsValid;
+
+  /**
+   * Constructor
+   */
+  public ArrayFastNonDominatedSortRanking(Comparator<S> comparator) {
+    this.dominanceComparator = comparator;
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  /**
+   * Constructor
+   */
+  public ArrayFastNonDominatedSortRanking() {
+    this(new DefaultDominanceComparator<>());
+  }
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    if (objectiveMatrix == null) {
+      objectiveMatrix = new ObjectiveMatrix<>(solutionList);
+    } else {
+      objectiveMatrix.update(solutionList);
+    }
+
+    return compute(objectiveMatrix);
+  }
+
+  /**
+   * Computes the ranking of the solutions stored in an {@link ObjectiveMatrix}
+   */
+  public Ranking<S> compute(ObjectiveMatrix<S> objectiveMatrix) {
+    population.clear();
+    population.addAll(objectiveMatrix.solutions());
+    populationIndexIsValid = false;
+    int size = population.size();
+
+    ensureCapacity(size);
+    Arrays.fill(dominateMe, 0, size, 0);
+
+    int numberOfEdges = computeDominancePairs(objectiveMatrix);
+    buildAdjacency(size, numberOfEdges);
+    computeFronts(size);
+
+    rankedSubPopulations = new ArrayList<>(numberOfFronts);
+    for (int front = 0; front < numberOfFronts; front++) {
+      ArrayList<S> subPopulation = new ArrayList<>(frontStart[front + 1] - frontStart[front]);
+      for (int k = frontStart[front]; k < frontStart[front + 1]; k++) {
+        subPopulation.add(population.get(frontOrder[k]));
+      }
+      rankedSubPopulations.add(subPopulation);
+    }
+
+    return this;
+  }
+
+  /**
+   * Compares all the pairs of solutions and stores the dominance relationships found in the
+   * <code>edges</code> array, in row order.
+   *
+   * @return The number of dominance relationships
+   */
+  private int computeDominancePairs(ObjectiveMatrix<S> objectiveMatrix) {
+    DominanceKernel.Mode mode = DominanceKernel.modeOf(dominanceComparator);
+    int size = population.size();
+    int numberOfEdges = 0;
+
+    for (int p = 0; p < size - 1; p++) {
+      for (int q = p + 1; q < size; q++) {
+        int flagDominate;
+        if (mode == DominanceKernel.Mode.OBJECTIVES) {
+          flagDominate = objectiveMatrix.dominanceTest(p, q);
+        } else if (mode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES) {
+          flagDominate = objectiveMatrix.constrainedDominanceTest(p, q);
+        } else {
+          flagDominate = dominanceComparator.compare(population.get(p), population.get(q));
+        }
+
+        if (flagDominate != 0) {
+          if (numberOfEdges == edges.length) {
+            edges = Arrays.copyOf(edges, Math.max(2 * edges.length, 4 * size));
+          }
+          if (flagDominate == -1) {
+            edges[numberOfEdges++] = ((long) p << 32) | q;
+            dominateMe[q]++;
+          } else {
+            edges[numberOfEdges++] = ((long) q << 32) | p;
+            dominateMe[p]++;
+          }
+        }
+      }
+    }
+
+    return numberOfEdges;
+  }
+
+  /**
+   * Builds the CSR adjacency structure with a counting sort of the dominance pairs by dominating
+   * index. The sort is stable, so each adjacency list is in increasing index order.
+   */
+  private void buildAdjacency(int size, int numberOfEdges) {
+    if (adjacency.length < numberOfEdges) {
+      adjacency = new int[edges.length];
+    }
+
+    Arrays.fill(adjacencyStart, 0, size + 1, 0);
+    for (int e = 0; e < numberOfEdges; e++) {
+      adjacencyStart[(int) (edges[e] >>> 32) + 1]++;
+    }
+    for (int i = 0; i < size; i++) {
+      adjacencyStart[i + 1] += adjacencyStart[i];
+    }
+
+    // frontOrder is used as the insertion cursor before computing the fronts
+    System.arraycopy(adjacencyStart, 0, frontOrder, 0, size);
+    for (int e = 0; e < numberOfEdges; e++) {
+      int source = (int) (edges[e] >>> 32);
+      adjacency[frontOrder[source]++] = (int) edges[e];
+    }
+  }
+
+  private void computeFronts(int size) {
+    int tail = 0;
+    for (int i = 0; i < size; i++) {
+      if (dominateMe[i] == 0) {
+        rank[i] = 0;
+        frontOrder[tail++] = i;
+      }
+    }
+
+    numberOfFronts = 0;
+    int head = 0;
+    while (head < tail) {
+      int frontEnd = tail;
+      frontStart[numberOfFronts++] = head;
+      for (int k = head; k < frontEnd; k++) {
+        int p = frontOrder[k];
+        for (int e = adjacencyStart[p]; e < adjacencyStart[p + 1]; e++) {
+          int q = adjacency[e];
+          dominateMe[q]--;
+          if (dominateMe[q] == 0) {
+            rank[q] = numberOfFronts;
+            frontOrder[tail++] = q;
+          }
+        }
+      }
+      head = frontEnd;
+    }
+    frontStart[numberOfFronts] = tail;
+  }
+
+  private void ensureCapacity(int size) {
+    if (rank.length < size) {
+      rank = new int[size];
+      dominateMe = new int[size];
+      frontOrder = new int[size];
+      adjacencyStart = new int[size + 1];
+      frontStart = new int[size + 1];
+    }
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < rankedSubPopulations.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    if (!populationIndexIsValid) {
+      populationIndex.build(population);
+      populationIndexIsValid = true;
+    }
+
+    int index = populationIndex.indexOf(solution);
+    return index < 0 ? -1 : rank[index];
+  }
+
+  /**
+   * Returns the rank of the solution at a given position of the last computed list
+   */
+  public int getRank(int index) {
+    Check.that(index >= 0 && index < population.size(), "Invalid index: " + index);
+
+    return rank[index];
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+}
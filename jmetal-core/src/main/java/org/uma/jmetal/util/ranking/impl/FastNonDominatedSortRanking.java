@@ -6,8 +6,10 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
 import org.uma.jmetal.util.ranking.Ranking;
 
 /**
@@ -45,7 +47,20 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
 
   @Override
   public Ranking<S> compute(List<S> solutionList) {
+    return compute(new ObjectiveMatrix<>(solutionList));
+  }
+
+  /**
+   * Computes the ranking of the solutions stored in an {@link ObjectiveMatrix}. If the dominance
+   * comparator is a {@link DefaultDominanceComparator} or the default
+   * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator},
+   * the dominance tests are performed by the {@link DominanceKernel} on the flat objective buffer
+   * of the matrix and its precomputed constraint violation degrees instead of on the solutions.
+   */
+  public Ranking<S> compute(ObjectiveMatrix<S> objectiveMatrix) {
+    List<S> solutionList = objectiveMatrix.solutions();
     List<S> population = solutionList;
+    DominanceKernel.Mode mode = DominanceKernel.modeOf(dominanceComparator);
 
     // dominateMe[i] contains the number of individuals dominating i
     int[] dominateMe = new int[population.size()];
@@ -74,7 +89,13 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int p = 0; p < (population.size() - 1); p++) {
       // For all q individuals , calculate if p dominates q or vice versa
       for (int q = p + 1; q < population.size(); q++) {
-        flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+        if (mode == DominanceKernel.Mode.OBJECTIVES) {
+          flagDominate = objectiveMatrix.dominanceTest(p, q);
+        } else if (mode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES) {
+          flagDominate = objectiveMatrix.constrainedDominanceTest(p, q);
+        } else {
+          flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+        }
 
         if (flagDominate == -1) {
           iDominate.get(p).add(q);
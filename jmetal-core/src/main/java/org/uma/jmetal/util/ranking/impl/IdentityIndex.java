@@ -0,0 +1,58 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open-addressing map from objects (compared by identity) to their position in a list. It is used
+ * by the rankings keeping the ranks in primitive arrays indexed by population position to implement
+ * {@link org.uma.jmetal.util.ranking.Ranking#getRank(Object)}. The internal arrays are reused when
+ * the index is rebuilt.
+ *
+ * @author Antonio J. Nebro
+ */
+class IdentityIndex<S> {
+  private Object[] keys = new Object[0];
+  private int[] values = new int[0];
+
+  void build(List<S> list) {
+    int capacity = Integer.highestOneBit(Math.max(4, 2 * list.size()) - 1) << 1;
+    if (keys.length < capacity) {
+      keys = new Object[capacity];
+      values = new int[capacity];
+    } else {
+      Arrays.fill(keys, null);
+    }
+
+    int mask = keys.length - 1;
+    for (int i = 0; i < list.size(); i++) {
+      Object key = list.get(i);
+      int slot = System.identityHashCode(key) & mask;
+      while (keys[slot] != null && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      values[slot] = i;
+    }
+  }
+
+  /**
+   * Returns the position of an object in the list used to build the index, or -1 if it is not
+   * contained in it
+   */
+  int indexOf(Object key) {
+    if (keys.length == 0) {
+      return -1;
+    }
+
+    int mask = keys.length - 1;
+    int slot = System.identityHashCode(key) & mask;
+    while (keys[slot] != null) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+}
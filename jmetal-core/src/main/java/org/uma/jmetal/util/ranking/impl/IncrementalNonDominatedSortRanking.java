@@ -0,0 +1,349 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Non-dominated sorting ranking intended for steady-state and asynchronous algorithms, where the
+ * list passed to {@link #compute(List)} differs from the previous one in a few solutions (typically,
+ * one offspring is added and one solution was removed by the last replacement). The ranking keeps
+ * the fronts of the last computed list and, instead of sorting the whole list again, it diffs the
+ * new list against them by identity and updates the fronts with the Efficient Non-domination Level
+ * Update (ENLU) approach (K. Li, K. Deb, Q. Zhang, S. Kwong, "Efficient non-domination level update
+ * approach for steady-state evolutionary multiobjective optimization", 2014): an insertion or a
+ * deletion only compares the solutions of the fronts it affects, and only moves solutions one
+ * front up or down.
+ *
+ * <p>A full sort is applied the first time, and also when the number of changes is higher than the
+ * square root of the size of the list, as a sequence of updates is not cheaper than sorting in that
+ * case. The ranks are the same as those computed by {@link FastNonDominatedSortRanking}, and they
+ * are stored as solution attributes; the subfronts contain the solutions in the same order as in the
+ * list, as in {@link MergeNonDominatedSortRanking}.
+ *
+ * <p>A solution kept from the previous list is re-ranked only if its objective values have changed
+ * (a copy of them is stored); changes in its constraints or in its attributes are not detected, so
+ * the solutions must not be modified in that way between calls.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+
+  private final String attributeId = getClass().getName();
+  private final Comparator<S> dominanceComparator;
+  private final DominanceKernel.Mode mode;
+  private final ArrayFastNonDominatedSortRanking<S> fullRanking;
+
+  private final Map<S, Node<S>> nodes = new IdentityHashMap<>();
+  private final List<List<Node<S>>> fronts = new ArrayList<>();
+  private List<ArrayList<S>> rankedSubPopulations = new ArrayList<>();
+
+  private int numberOfFullSorts;
+  private int numberOfUpdates;
+
+  /**
+   * A solution of the last computed list, with a copy of its objectives and its current rank
+   */
+  private static class Node<S> {
+    private final S solution;
+    private final double[] objectives;
+    private final double overallConstraintViolationDegree;
+    private int rank;
+
+    Node(S solution, double[] objectives, double overallConstraintViolationDegree) {
+      this.solution = solution;
+      this.objectives = objectives;
+      this.overallConstraintViolationDegree = overallConstraintViolationDegree;
+    }
+  }
+
+  /**
+   * Constructor
+   */
+  public IncrementalNonDominatedSortRanking(Comparator<S> comparator) {
+    Check.notNull(comparator);
+    this.dominanceComparator = comparator;
+    this.mode = DominanceKernel.modeOf(comparator);
+    this.fullRanking = new ArrayFastNonDominatedSortRanking<>(comparator);
+  }
+
+  /**
+   * Constructor
+   */
+  public IncrementalNonDominatedSortRanking() {
+    this(new DefaultDominanceComparator<>());
+  }
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+
+    if (solutionList.isEmpty()) {
+      clear();
+    } else {
+      update(solutionList);
+    }
+
+    rankedSubPopulations = new ArrayList<>(fronts.size());
+    for (int rank = 0; rank < fronts.size(); rank++) {
+      rankedSubPopulations.add(new ArrayList<>(fronts.get(rank).size()));
+    }
+    for (S solution : solutionList) {
+      int rank = nodes.get(solution).rank;
+      solution.attributes().put(attributeId, rank);
+      rankedSubPopulations.get(rank).add(solution);
+    }
+
+    return this;
+  }
+
+  /**
+   * Discards the fronts kept from the last computed list, so that the next call to
+   * {@link #compute(List)} sorts the whole list
+   */
+  public void clear() {
+    nodes.clear();
+    fronts.clear();
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  /**
+   * Number of calls to {@link #compute(List)} which have sorted the whole list
+   */
+  public int numberOfFullSorts() {
+    return numberOfFullSorts;
+  }
+
+  /**
+   * Number of calls to {@link #compute(List)} which have updated the fronts of the previous list
+   */
+  public int numberOfUpdates() {
+    return numberOfUpdates;
+  }
+
+  private void update(List<S> solutionList) {
+    Map<S, Boolean> present = new IdentityHashMap<>();
+    for (S solution : solutionList) {
+      present.put(solution, Boolean.TRUE);
+    }
+
+    List<Node<S>> removed = new ArrayList<>();
+    boolean modified = false;
+    for (Node<S> node : nodes.values()) {
+      if (!present.containsKey(node.solution)) {
+        removed.add(node);
+      } else if (!Arrays.equals(node.objectives, node.solution.objectives())) {
+        removed.add(node);
+        modified = true;
+      }
+    }
+    int added = present.size() - (nodes.size() - removed.size());
+
+    // A comparator only sees the current objectives of a modified solution, so its old position
+    // cannot be removed from the fronts
+    int maximumNumberOfChanges = Math.max(1, (int) Math.sqrt(solutionList.size()));
+    if (nodes.isEmpty()
+        || removed.size() + added > maximumNumberOfChanges
+        || (modified && mode == DominanceKernel.Mode.COMPARATOR)) {
+      fullSort(solutionList);
+      numberOfFullSorts++;
+    } else {
+      for (Node<S> node : removed) {
+        delete(node);
+        nodes.remove(node.solution);
+      }
+      for (S solution : solutionList) {
+        if (!nodes.containsKey(solution)) {
+          Node<S> node = createNode(solution);
+          nodes.put(solution, node);
+          insert(node);
+        }
+      }
+      numberOfUpdates++;
+    }
+  }
+
+  private void fullSort(List<S> solutionList) {
+    nodes.clear();
+    fronts.clear();
+
+    fullRanking.compute(solutionList);
+    for (int i = 0; i < solutionList.size(); i++) {
+      S solution = solutionList.get(i);
+      if (!nodes.containsKey(solution)) {
+        Node<S> node = createNode(solution);
+        node.rank = fullRanking.getRank(i);
+        nodes.put(solution, node);
+        front(node.rank).add(node);
+      }
+    }
+  }
+
+  /**
+   * Inserts a solution in the first front having no solution dominating it. The solutions of that
+   * front dominated by it are moved to the next front, the solutions of that front dominated by the
+   * moved ones are moved to the following front, and so on.
+   */
+  private void insert(Node<S> node) {
+    int level = 0;
+    List<Node<S>> moved = new ArrayList<>();
+    while (level < fronts.size() && !dominatedMembers(fronts.get(level), node, moved)) {
+      moved.clear();
+      level++;
+    }
+
+    node.rank = level;
+    front(level).add(node);
+
+    while (!moved.isEmpty()) {
+      int currentLevel = level;
+      for (Node<S> member : moved) {
+        member.rank = level + 1;
+      }
+      fronts.get(currentLevel).removeIf(member -> member.rank != currentLevel);
+      level++;
+
+      List<Node<S>> next = new ArrayList<>();
+      if (level < fronts.size()) {
+        for (Node<S> member : fronts.get(level)) {
+          if (isDominatedByAny(member, moved)) {
+            next.add(member);
+          }
+        }
+      }
+      front(level).addAll(moved);
+      moved = next;
+    }
+  }
+
+  /**
+   * Collects the solutions of a front dominated by a given one.
+   *
+   * @return false if a solution of the front dominates the given one
+   */
+  private boolean dominatedMembers(List<Node<S>> front, Node<S> node, List<Node<S>> dominated) {
+    for (Node<S> member : front) {
+      int flag = dominanceTest(member, node);
+      if (flag == -1) {
+        return false;
+      } else if (flag == 1) {
+        dominated.add(member);
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Removes a solution from its front. The solutions of the next front which were dominated by it,
+   * and which are not dominated by any other solution of its front, are moved up to its front; the
+   * same is done with the next fronts and the moved solutions until no solution is moved.
+   */
+  private void delete(Node<S> node) {
+    int level = node.rank;
+    fronts.get(level).remove(node);
+
+    List<Node<S>> moved = new ArrayList<>();
+    moved.add(node);
+    while (!moved.isEmpty() && level + 1 < fronts.size()) {
+      List<Node<S>> upper = fronts.get(level);
+      List<Node<S>> promoted = new ArrayList<>();
+      for (Node<S> member : fronts.get(level + 1)) {
+        if (isDominatedByAny(member, moved) && !isDominatedByAny(member, upper)) {
+          promoted.add(member);
+        }
+      }
+
+      int lowerLevel = level + 1;
+      for (Node<S> member : promoted) {
+        member.rank = level;
+      }
+      fronts.get(lowerLevel).removeIf(member -> member.rank != lowerLevel);
+      upper.addAll(promoted);
+
+      moved = promoted;
+      level++;
+    }
+
+    while (!fronts.isEmpty() && fronts.get(fronts.size() - 1).isEmpty()) {
+      fronts.remove(fronts.size() - 1);
+    }
+  }
+
+  private boolean isDominatedByAny(Node<S> node, List<Node<S>> candidates) {
+    for (Node<S> candidate : candidates) {
+      if (dominanceTest(candidate, node) == -1) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private int dominanceTest(Node<S> node1, Node<S> node2) {
+    if (mode == DominanceKernel.Mode.OBJECTIVES) {
+      return DominanceKernel.dominanceTest(node1.objectives, node2.objectives);
+    } else if (mode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES) {
+      return DominanceKernel.dominanceTest(node1.objectives, 0,
+          node1.overallConstraintViolationDegree, node2.objectives, 0,
+          node2.overallConstraintViolationDegree, node1.objectives.length);
+    } else {
+      return dominanceComparator.compare(node1.solution, node2.solution);
+    }
+  }
+
+  private Node<S> createNode(S solution) {
+    double degree = mode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES
+        ? ConstraintHandling.overallConstraintViolationDegree(solution)
+        : 0.0;
+
+    return new Node<>(solution, solution.objectives().clone(), degree);
+  }
+
+  private List<Node<S>> front(int rank) {
+    while (fronts.size() <= rank) {
+      fronts.add(new ArrayList<>());
+    }
+
+    return fronts.get(rank);
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < rankedSubPopulations.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    Integer result = -1;
+    if (solution.attributes().get(attributeId) != null) {
+      result = (Integer) solution.attributes().get(attributeId);
+    }
+    return result;
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+}
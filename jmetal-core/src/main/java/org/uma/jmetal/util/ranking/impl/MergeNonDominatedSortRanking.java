@@ -29,6 +29,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
   private int[] ranking;
   private double[][] population;
   private double[][] work; // Working array for merge sort
+  private double[][] rows; // Rows of the population, reused while n and m do not change
   private ArrayList<int[]> duplicatedSolutions;
   private MNDSBitsetManager bsManager;
   private List<ArrayList<S>> rankedSubPopulations;
@@ -37,17 +38,24 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
   public Ranking<S> compute(List<S> solutionSet) {
     initialPopulationSize = solutionSet.size();
     n = solutionSet.size();
+    if (n == 0) {
+      rankedSubPopulations = new ArrayList<ArrayList<S>>();
+      return this;
+    }
     m = solutionSet.get(0).objectives().length;
     bsManager = new MNDSBitsetManager(n);
     SOL_ID = m;
     SORT_INDEX = SOL_ID + 1;
-    work = new double[n][SORT_INDEX + 1];
+    if (rows == null || rows.length != n || rows[0].length != SORT_INDEX + 1) {
+      // 2 extra fields to store: The solution id and the solution index after ordering by the
+      // first objective
+      rows = new double[n][SORT_INDEX + 1];
+      work = new double[n][];
+    }
 
-    population =
-            new double[n]
-                    [SORT_INDEX + 1]; // 2 extra fields to store: The solution id and the solution index after ordering by the first objective
+    // The sorting permutes the row references, so they are taken from the unsorted table
+    population = rows.clone();
     for (int i = 0; i < n; i++) {
-      population[i] = new double[SORT_INDEX + 1];
       System.arraycopy(solutionSet.get(i).objectives(), 0, population[i], 0, m);
       population[i][SOL_ID] = i;
     }
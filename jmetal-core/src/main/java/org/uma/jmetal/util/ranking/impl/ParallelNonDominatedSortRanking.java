@@ -0,0 +1,376 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.objectivematrix.ObjectiveMatrix;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Parallel version of the fast non-dominated sorting algorithm of NSGA-II (see
+ * {@link FastNonDominatedSortRanking}). The upper triangle of the comparison matrix is split into
+ * square tiles of <code>tileSize x tileSize</code> solution pairs, which are compared in parallel
+ * in a {@link ForkJoinPool}. The dominance relationships are stored in a bit matrix where the row
+ * of a solution contains the solutions it dominates; as the tile size is a multiple of 64, every
+ * word of the matrix is written by a single tile, so no synchronization is needed. The fronts are
+ * then computed sequentially by peeling the bit matrix rows.
+ *
+ * <p>The subfronts and ranks are the same as those computed by
+ * {@link FastNonDominatedSortRanking}, including the order of the solutions in each subfront. As
+ * in {@link ArrayFastNonDominatedSortRanking}, the ranks are not stored as solution attributes, so
+ * {@link #getRank(Solution)} only returns valid ranks for the solutions of the last computed list
+ * (-1 otherwise). The ranking keeps its own copy of that list, so the caller can modify the list
+ * after {@link #compute(List)} without affecting the ranks.
+ *
+ * <p>The bit matrix requires <code>N^2/8</code> bytes for a population of size N. If a dominance
+ * comparator other than {@link DefaultDominanceComparator} or the default
+ * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator}
+ * is used, it is invoked concurrently from the pool threads, so it must be thread-safe.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ParallelNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  public static final int DEFAULT_TILE_SIZE = 256;
+
+  private final String attributeId = getClass().getName();
+  private final Comparator<S> dominanceComparator;
+  private final ForkJoinPool pool;
+  private final int tileSize;
+
+  private final List<S> population = new ArrayList<>();
+  private List<ArrayList<S>> rankedSubPopulations;
+  private ObjectiveMatrix<S> objectiveMatrix;
+
+  // Bit matrix: bit q of row p (words [p * wordsPerRow, (p + 1) * wordsPerRow)) is set if p dominates q
+  private long[] dominance = new long[0];
+  private int wordsPerRow;
+  private AtomicIntegerArray dominatorCounts = new AtomicIntegerArray(0);
+
+  private int[] rank = new int[0];
+  private int[] dominateMe = new int[0];
+  // Population indices in front order: front k is frontOrder[frontStart[k] .. frontStart[k+1])
+  private int[] frontOrder = new int[0];
+  private int[] frontStart = new int[1];
+  private int numberOfFronts;
+
+  private final IdentityIndex<S> populationIndex = new IdentityIndex<>();
+  private boolean populationIndexIsValid;
+
+  /**
+   * Constructor
+   *
+   * @param comparator Dominance comparator
+   * @param pool Pool where the tiles of the comparison matrix are processed
+   * @param tileSize Number of rows and columns of the tiles (a positive multiple of 64)
+   */
+  public ParallelNonDominatedSortRanking(Comparator<S> comparator, ForkJoinPool pool,
+      int tileSize) {
+    Check.notNull(comparator);
+    Check.notNull(pool);
+    Check.that(tileSize > 0 && tileSize % 64 == 0,
+        "The tile size must be a positive multiple of 64: " + tileSize);
+
+    this.dominanceComparator = comparator;
+    this.pool = pool;
+    this.tileSize = tileSize;
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  /**
+   * Constructor
+   */
+  public ParallelNonDominatedSortRanking(Comparator<S> comparator, ForkJoinPool pool) {
+    this(comparator, pool, DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Constructor
+   */
+  public ParallelNonDominatedSortRanking(ForkJoinPool pool) {
+    this(new DefaultDominanceComparator<>(), pool);
+  }
+
+  /**
+   * Constructor. The tiles are processed in the common pool.
+   */
+  public ParallelNonDominatedSortRanking() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    if (objectiveMatrix == null) {
+      objectiveMatrix = new ObjectiveMatrix<>(solutionList);
+    } else {
+      objectiveMatrix.update(solutionList);
+    }
+
+    return compute(objectiveMatrix);
+  }
+
+  /**
+   * Computes the ranking of the solutions stored in an {@link ObjectiveMatrix}
+   */
+  public Ranking<S> compute(ObjectiveMatrix<S> objectiveMatrix) {
+    population.clear();
+    population.addAll(objectiveMatrix.solutions());
+    populationIndexIsValid = false;
+    int size = population.size();
+    if (size == 0) {
+      rankedSubPopulations = new ArrayList<>();
+      return this;
+    }
+
+    ensureCapacity(size);
+    computeDominanceMatrix(objectiveMatrix, size);
+    computeFronts(size);
+
+    rankedSubPopulations = new ArrayList<>(numberOfFronts);
+    for (int front = 0; front < numberOfFronts; front++) {
+      ArrayList<S> subPopulation = new ArrayList<>(frontStart[front + 1] - frontStart[front]);
+      for (int k = frontStart[front]; k < frontStart[front + 1]; k++) {
+        subPopulation.add(population.get(frontOrder[k]));
+      }
+      rankedSubPopulations.add(subPopulation);
+    }
+
+    return this;
+  }
+
+  private void computeDominanceMatrix(ObjectiveMatrix<S> objectiveMatrix, int size) {
+    for (int i = 0; i < size; i++) {
+      dominatorCounts.set(i, 0);
+    }
+
+    int numberOfBlocks = (size + tileSize - 1) / tileSize;
+    int numberOfTiles = numberOfBlocks * (numberOfBlocks + 1) / 2;
+    int[] tileRows = new int[numberOfTiles];
+    int[] tileColumns = new int[numberOfTiles];
+    int tile = 0;
+    for (int row = 0; row < numberOfBlocks; row++) {
+      for (int column = row; column < numberOfBlocks; column++) {
+        tileRows[tile] = row;
+        tileColumns[tile] = column;
+        tile++;
+      }
+    }
+
+    DominanceKernel.Mode mode = DominanceKernel.modeOf(dominanceComparator);
+    if (mode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES) {
+      objectiveMatrix.computeOverallConstraintViolationDegrees();
+    }
+    pool.invoke(
+        new TileTask(objectiveMatrix, mode, size, tileRows, tileColumns, 0,
+            numberOfTiles));
+
+    for (int i = 0; i < size; i++) {
+      dominateMe[i] = dominatorCounts.get(i);
+    }
+  }
+
+  private void computeFronts(int size) {
+    int tail = 0;
+    for (int i = 0; i < size; i++) {
+      if (dominateMe[i] == 0) {
+        rank[i] = 0;
+        frontOrder[tail++] = i;
+      }
+    }
+
+    numberOfFronts = 0;
+    int head = 0;
+    while (head < tail) {
+      int frontEnd = tail;
+      frontStart[numberOfFronts++] = head;
+      for (int k = head; k < frontEnd; k++) {
+        int rowStart = frontOrder[k] * wordsPerRow;
+        for (int word = 0; word < wordsPerRow; word++) {
+          long bits = dominance[rowStart + word];
+          while (bits != 0) {
+            int q = (word << 6) + Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+            dominateMe[q]--;
+            if (dominateMe[q] == 0) {
+              rank[q] = numberOfFronts;
+              frontOrder[tail++] = q;
+            }
+          }
+        }
+      }
+      head = frontEnd;
+    }
+    frontStart[numberOfFronts] = tail;
+  }
+
+  private void ensureCapacity(int size) {
+    wordsPerRow = ((size + tileSize - 1) / tileSize) * (tileSize / 64);
+    long matrixSize = (long) size * wordsPerRow;
+    Check.that(matrixSize <= Integer.MAX_VALUE - 8, "Population too large: " + size);
+    if (dominance.length < matrixSize) {
+      dominance = new long[(int) matrixSize];
+    }
+
+    if (rank.length < size) {
+      rank = new int[size];
+      dominateMe = new int[size];
+      frontOrder = new int[size];
+      frontStart = new int[size + 1];
+      dominatorCounts = new AtomicIntegerArray(size);
+    }
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < rankedSubPopulations.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    if (!populationIndexIsValid) {
+      populationIndex.build(population);
+      populationIndexIsValid = true;
+    }
+
+    int index = populationIndex.indexOf(solution);
+    return index < 0 ? -1 : rank[index];
+  }
+
+  /**
+   * Returns the rank of the solution at a given position of the last computed list
+   */
+  public int getRank(int index) {
+    Check.that(index >= 0 && index < population.size(), "Invalid index: " + index);
+
+    return rank[index];
+  }
+
+  public ForkJoinPool pool() {
+    return pool;
+  }
+
+  public int tileSize() {
+    return tileSize;
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+
+  /**
+   * Processes the range <code>[from, to)</code> of tiles, splitting it recursively. Each tile
+   * (row block, column block) clears and fills the words of the bit matrix belonging to the rows
+   * of one block and the columns of the other one, so different tiles never share a word.
+   */
+  private class TileTask extends RecursiveAction {
+    private final ObjectiveMatrix<S> objectiveMatrix;
+    private final DominanceKernel.Mode mode;
+    private final int size;
+    private final int[] tileRows;
+    private final int[] tileColumns;
+    private final int from;
+    private final int to;
+
+    TileTask(ObjectiveMatrix<S> objectiveMatrix, DominanceKernel.Mode mode, int size,
+        int[] tileRows, int[] tileColumns, int from, int to) {
+      this.objectiveMatrix = objectiveMatrix;
+      this.mode = mode;
+      this.size = size;
+      this.tileRows = tileRows;
+      this.tileColumns = tileColumns;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        computeTile(tileRows[from], tileColumns[from]);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new TileTask(objectiveMatrix, mode, size, tileRows, tileColumns, from,
+                middle),
+            new TileTask(objectiveMatrix, mode, size, tileRows, tileColumns, middle,
+                to));
+      }
+    }
+
+    private void computeTile(int rowBlock, int columnBlock) {
+      int rowStart = rowBlock * tileSize;
+      int rowEnd = Math.min(size, rowStart + tileSize);
+      int columnStart = columnBlock * tileSize;
+      int columnEnd = Math.min(size, columnStart + tileSize);
+      int wordsPerBlock = tileSize / 64;
+
+      clearWords(rowStart, rowEnd, columnBlock * wordsPerBlock, wordsPerBlock);
+      if (rowBlock != columnBlock) {
+        clearWords(columnStart, columnEnd, rowBlock * wordsPerBlock, wordsPerBlock);
+      }
+
+      // Number of dominators found in this tile: rows first, then columns
+      int[] localCounts = new int[2 * tileSize];
+      int columnOffset = rowBlock == columnBlock ? 0 : tileSize;
+
+      for (int p = rowStart; p < rowEnd; p++) {
+        for (int q = Math.max(columnStart, p + 1); q < columnEnd; q++) {
+          int flagDominate;
+          if (mode == DominanceKernel.Mode.OBJECTIVES) {
+            flagDominate = objectiveMatrix.dominanceTest(p, q);
+          } else if (mode == DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES) {
+            flagDominate = objectiveMatrix.constrainedDominanceTest(p, q);
+          } else {
+            flagDominate = dominanceComparator.compare(population.get(p), population.get(q));
+          }
+
+          if (flagDominate == -1) {
+            dominance[p * wordsPerRow + (q >>> 6)] |= 1L << q;
+            localCounts[columnOffset + q - columnStart]++;
+          } else if (flagDominate == 1) {
+            dominance[q * wordsPerRow + (p >>> 6)] |= 1L << p;
+            localCounts[p - rowStart]++;
+          }
+        }
+      }
+
+      for (int i = 0; i < rowEnd - rowStart; i++) {
+        if (localCounts[i] != 0) {
+          dominatorCounts.addAndGet(rowStart + i, localCounts[i]);
+        }
+      }
+      if (columnOffset != 0) {
+        for (int i = 0; i < columnEnd - columnStart; i++) {
+          if (localCounts[columnOffset + i] != 0) {
+            dominatorCounts.addAndGet(columnStart + i, localCounts[columnOffset + i]);
+          }
+        }
+      }
+    }
+
+    private void clearWords(int firstRow, int lastRow, int firstWord, int numberOfWords) {
+      for (int row = firstRow; row < lastRow; row++) {
+        int start = row * wordsPerRow + firstWord;
+        Arrays.fill(dominance, start, start + numberOfWords, 0L);
+      }
+    }
+  }
+}
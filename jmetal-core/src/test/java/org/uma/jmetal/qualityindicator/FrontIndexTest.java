@@ -0,0 +1,82 @@
+package org.uma.jmetal.qualityindicator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class FrontIndexTest {
+
+  @Test
+  void shouldTheDistancesBeTheSameAsThoseOfALinearScan() {
+    Random random = new Random(1);
+    double[][] front = randomFront(random, 500, 3);
+    double[][] vectors = randomFront(random, 200, 3);
+
+    FrontIndex frontIndex = new FrontIndex(front);
+    double[] distances = frontIndex.distancesToClosestPoint(vectors);
+    double[] dominanceDistances = frontIndex.dominanceDistancesToClosestPoint(vectors);
+
+    for (int i = 0; i < vectors.length; i++) {
+      assertEquals(VectorUtils.distanceToClosestVector(vectors[i], front), distances[i]);
+      assertEquals(VectorUtils.distanceToClosestVector(vectors[i], front,
+          new DominanceDistanceBetweenVectors()), dominanceDistances[i]);
+    }
+  }
+
+  @Test
+  void shouldTheIndicatorsHaveTheSameValueWithAndWithoutTheIndex() {
+    Random random = new Random(2);
+    for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+      double[][] referenceFront = randomFront(random, 300, numberOfObjectives);
+      double[][] front = randomFront(random, 100, numberOfObjectives);
+
+      QualityIndicator[] indicators = {new Epsilon(referenceFront),
+          new GenerationalDistance(referenceFront), new InvertedGenerationalDistance(referenceFront),
+          new InvertedGenerationalDistancePlus(referenceFront)};
+      for (QualityIndicator indicator : indicators) {
+        double value = indicator.compute(front);
+        useFrontIndex(indicator, false);
+        assertEquals(indicator.compute(front), value, indicator.name());
+      }
+    }
+  }
+
+  @Test
+  void shouldConstructorRaiseAnExceptionIfTheFrontIsEmpty() {
+    assertThrows(InvalidConditionException.class, () -> new FrontIndex(new double[0][]));
+  }
+
+  private void useFrontIndex(QualityIndicator indicator, boolean useFrontIndex) {
+    if (indicator instanceof Epsilon) {
+      ((Epsilon) indicator).useFrontIndex(useFrontIndex);
+    } else if (indicator instanceof GenerationalDistance) {
+      ((GenerationalDistance) indicator).useFrontIndex(useFrontIndex);
+    } else if (indicator instanceof InvertedGenerationalDistance) {
+      ((InvertedGenerationalDistance) indicator).useFrontIndex(useFrontIndex);
+    } else {
+      ((InvertedGenerationalDistancePlus) indicator).useFrontIndex(useFrontIndex);
+    }
+  }
+
+  private double[][] randomFront(Random random, int size, int numberOfObjectives) {
+    double[][] front = new double[size][numberOfObjectives];
+    for (double[] point : front) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Some coordinates are rounded to have ties
+        point[j] = random.nextInt(4) == 0
+            ? Math.round(random.nextDouble() * 4) / 4.0
+            : random.nextDouble();
+      }
+    }
+    return front;
+  }
+}
@@ -0,0 +1,121 @@
+package org.uma.jmetal.qualityindicator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributions;
+
+class HypervolumeContributionsTest {
+  private static final double EPSILON = 0.0000000001;
+
+  /** Contributions computed as the decrease of the hypervolume when removing each point */
+  private static double[] bruteForceContributions(double[][] front, double[] referencePoint) {
+    double totalHypervolume = HypervolumeContributions.hypervolume(front, referencePoint);
+    double[] contributions = new double[front.length];
+    for (int i = 0; i < front.length; i++) {
+      double[][] otherPoints = new double[front.length - 1][];
+      for (int j = 0, k = 0; j < front.length; j++) {
+        if (j != i) {
+          otherPoints[k++] = front[j];
+        }
+      }
+      contributions[i] =
+          totalHypervolume - HypervolumeContributions.hypervolume(otherPoints, referencePoint);
+    }
+
+    return contributions;
+  }
+
+  /** Points on the positive part of the unit sphere, which are mutually non-dominated */
+  private static double[][] sphericalFront(int numberOfPoints, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (double[] point : front) {
+      double norm = 0.0;
+      for (int k = 0; k < numberOfObjectives; k++) {
+        point[k] = random.nextDouble();
+        norm += point[k] * point[k];
+      }
+      for (int k = 0; k < numberOfObjectives; k++) {
+        point[k] /= Math.sqrt(norm);
+      }
+    }
+
+    return front;
+  }
+
+  @Test
+  void shouldComputeTheContributionsOfATwoObjectiveFront() {
+    double[][] front = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}};
+    double[] referencePoint = {2.0, 2.0};
+
+    assertArrayEquals(new double[] {0.5, 0.25, 0.5},
+        HypervolumeContributions.compute(front, referencePoint), EPSILON);
+  }
+
+  @Test
+  void shouldHypervolumeOfATwoObjectiveFrontBeCorrect() {
+    double[][] front = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}};
+    double[] referencePoint = {2.0, 2.0};
+
+    assertEquals(3.25, HypervolumeContributions.hypervolume(front, referencePoint), EPSILON);
+  }
+
+  @Test
+  void shouldTheContributionsBeEqualToTheDecreaseOfTheHypervolumeInNonDominatedFronts() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      double[][] front = sphericalFront(40, numberOfObjectives, numberOfObjectives);
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.1);
+
+      assertArrayEquals(bruteForceContributions(front, referencePoint),
+          HypervolumeContributions.compute(front, referencePoint), EPSILON);
+    }
+  }
+
+  @Test
+  void shouldTheContributionsTakeIntoAccountThePointsDominatedByAPoint() {
+    double[][] front = {{0.0, 0.6, 0.5}, {0.5, 0.2, 0.1}, {0.6, 0.3, 0.4}, {0.2, 0.1, 0.3}};
+    double[] referencePoint = {1.0, 1.0, 1.0};
+
+    assertArrayEquals(bruteForceContributions(front, referencePoint),
+        HypervolumeContributions.compute(front, referencePoint), EPSILON);
+  }
+
+  @Test
+  void shouldDuplicatedPointsAndPointsOutsideTheReferenceBoxNotContribute() {
+    double[][] front = {{0.2, 0.8, 0.5}, {0.5, 0.5, 0.5}, {0.2, 0.8, 0.5}, {0.8, 0.2, 0.5},
+        {0.1, 0.1, 1.5}};
+    double[] referencePoint = {1.0, 1.0, 1.0};
+
+    double[] contributions = HypervolumeContributions.compute(front, referencePoint);
+
+    assertEquals(0.0, contributions[0]);
+    assertEquals(0.0, contributions[2]);
+    assertEquals(0.0, contributions[4]);
+    assertArrayEquals(bruteForceContributions(front, referencePoint), contributions, EPSILON);
+  }
+
+  @Test
+  void shouldTheHypervolumeBeEqualToTheOneComputedByPISA() {
+    double[][] front = sphericalFront(60, 4, 7);
+    double[] referencePoint = {1.0, 1.0, 1.0, 1.0};
+
+    double[][] invertedFront = new double[front.length][];
+    for (int i = 0; i < front.length; i++) {
+      invertedFront[i] = new double[4];
+      for (int k = 0; k < 4; k++) {
+        invertedFront[i][k] = referencePoint[k] - front[i][k];
+      }
+    }
+    double expectedValue =
+        new PISAHypervolume().calculateHypervolume(invertedFront, invertedFront.length, 4);
+
+    assertEquals(expectedValue, HypervolumeContributions.hypervolume(front, referencePoint),
+        EPSILON);
+  }
+}
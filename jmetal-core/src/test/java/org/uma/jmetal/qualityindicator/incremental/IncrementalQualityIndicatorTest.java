@@ -0,0 +1,116 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class IncrementalQualityIndicatorTest {
+  private static final double EPSILON = 1e-12;
+
+  @Test
+  void shouldTheValuesBeTheSameAsThoseOfTheNonIncrementalIndicators() {
+    Random random = new Random(1);
+    for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+      double[][] referenceFront = new double[50][];
+      for (int i = 0; i < referenceFront.length; i++) {
+        referenceFront[i] = randomPoint(random, numberOfObjectives);
+      }
+
+      QualityIndicator[] indicators = {new PISAHypervolume(referenceFront),
+          new NormalizedHypervolume(referenceFront),
+          new InvertedGenerationalDistance(referenceFront),
+          new InvertedGenerationalDistancePlus(referenceFront)};
+      IncrementalQualityIndicator[] incrementalIndicators =
+          new IncrementalQualityIndicator[indicators.length];
+      for (int i = 0; i < indicators.length; i++) {
+        incrementalIndicators[i] = IncrementalQualityIndicators.create(indicators[i]);
+      }
+
+      List<double[]> front = new ArrayList<>();
+      for (int step = 0; step < 300; step++) {
+        if (front.size() > 1 && random.nextDouble() < 0.4) {
+          double[] point = front.remove(random.nextInt(front.size()));
+          for (IncrementalQualityIndicator indicator : incrementalIndicators) {
+            indicator.remove(point.clone());
+          }
+        } else {
+          double[] point = random.nextInt(6) == 0 && !front.isEmpty()
+              ? front.get(random.nextInt(front.size())).clone()
+              : randomPoint(random, numberOfObjectives);
+          front.add(point);
+          for (IncrementalQualityIndicator indicator : incrementalIndicators) {
+            indicator.add(point);
+          }
+        }
+
+        double[][] frontMatrix = front.toArray(new double[0][]);
+        for (int i = 0; i < indicators.length; i++) {
+          assertEquals(indicators[i].compute(frontMatrix), incrementalIndicators[i].value(),
+              EPSILON);
+          assertEquals(front.size(), incrementalIndicators[i].numberOfPoints());
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldTheInvertedGenerationalDistanceBeExactlyTheSame() {
+    Random random = new Random(2);
+    double[][] referenceFront = new double[100][];
+    for (int i = 0; i < referenceFront.length; i++) {
+      referenceFront[i] = randomPoint(random, 4);
+    }
+    InvertedGenerationalDistance indicator = new InvertedGenerationalDistance(referenceFront, 1.0);
+    IncrementalQualityIndicator incrementalIndicator =
+        IncrementalQualityIndicators.create(indicator);
+
+    double[][] front = new double[30][];
+    for (int i = 0; i < front.length; i++) {
+      front[i] = randomPoint(random, 4);
+      incrementalIndicator.add(front[i]);
+    }
+
+    assertEquals(indicator.compute(front), incrementalIndicator.value());
+  }
+
+  @Test
+  void shouldCreateReturnNullIfTheIndicatorHasNoIncrementalVersion() {
+    double[][] referenceFront = {{0.0, 1.0, 0.5, 0.2}, {1.0, 0.0, 0.5, 0.2}};
+
+    assertNull(IncrementalQualityIndicators.create(new Epsilon(referenceFront)));
+    assertNull(IncrementalQualityIndicators.create(new PISAHypervolume(referenceFront)));
+    assertNull(IncrementalQualityIndicators.create(new InvertedGenerationalDistance()));
+  }
+
+  @Test
+  void shouldRemoveRaiseAnExceptionIfThePointIsNotInTheFront() {
+    IncrementalQualityIndicator indicator = new IncrementalHypervolume(2);
+    indicator.add(new double[]{0.2, 0.4});
+
+    assertThrows(InvalidConditionException.class,
+        () -> indicator.remove(new double[]{0.4, 0.2}));
+  }
+
+  private static double[] randomPoint(Random random, int numberOfObjectives) {
+    double[] point = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      point[j] = random.nextInt(5) == 0
+          ? Math.round(random.nextDouble() * 4) / 4.0
+          : random.nextDouble() * 1.2 - 0.1;
+    }
+
+    return point;
+  }
+}
@@ -0,0 +1,58 @@
+package org.uma.jmetal.qualityindicator.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.bounds.Bounds;
+
+class IndicatorTrackerTest {
+
+  @Test
+  void shouldUpdateReturnTheValueOfTheIndicatorForTheNormalizedPopulation() {
+    Random random = new Random(1);
+    double[][] referenceFront = new double[40][];
+    for (int i = 0; i < referenceFront.length; i++) {
+      referenceFront[i] = new double[]{random.nextDouble() * 10, random.nextDouble() * 5};
+    }
+    double[] minValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+    double[] maxValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+
+    InvertedGenerationalDistancePlus indicator =
+        new InvertedGenerationalDistancePlus(NormalizeUtils.normalize(referenceFront));
+    IndicatorTracker<DoubleSolution> tracker = new IndicatorTracker<>(
+        IncrementalQualityIndicators.create(indicator), minValues, maxValues);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      population.add(randomSolution(random));
+    }
+
+    for (int iteration = 0; iteration < 50; iteration++) {
+      double expected = indicator.compute(NormalizeUtils.normalize(
+          SolutionListUtils.getMatrixWithObjectiveValues(population), minValues, maxValues));
+      assertEquals(expected, tracker.update(population));
+
+      population = new ArrayList<>(population);
+      population.set(random.nextInt(population.size()), randomSolution(random));
+      population.set(random.nextInt(population.size()),
+          population.get(random.nextInt(population.size())));
+      population.get(random.nextInt(population.size())).objectives()[0] = random.nextDouble() * 10;
+    }
+  }
+
+  private static DoubleSolution randomSolution(Random random) {
+    DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, 1.0)), 2, 0);
+    solution.objectives()[0] = random.nextDouble() * 10;
+    solution.objectives()[1] = random.nextDouble() * 5;
+
+    return solution;
+  }
+}
@@ -0,0 +1,99 @@
+package org.uma.jmetal.solution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+class ArrayDoubleSolutionTest {
+  private final List<Bounds<Double>> bounds =
+      List.of(Bounds.create(0.0, 1.0), Bounds.create(-2.0, 2.0), Bounds.create(5.0, 10.0));
+
+  @Test
+  void shouldConstructorCreateVariablesWithinTheBounds() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 1);
+
+    assertEquals(3, solution.variables().size());
+    assertEquals(2, solution.objectives().length);
+    assertEquals(1, solution.constraints().length);
+    for (int i = 0; i < bounds.size(); i++) {
+      assertTrue(solution.variableValue(i) >= bounds.get(i).getLowerBound());
+      assertTrue(solution.variableValue(i) <= bounds.get(i).getUpperBound());
+    }
+  }
+
+  @Test
+  void shouldTheVariablesViewBeBackedByTheArray() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    solution.variables().set(1, 1.5);
+    assertEquals(1.5, solution.variableValue(1));
+
+    solution.variableValue(2, 7.0);
+    assertEquals(7.0, solution.variables().get(2));
+  }
+
+  @Test
+  void shouldTheVariablesViewHaveAFixedSize() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    assertThrows(UnsupportedOperationException.class, () -> solution.variables().add(1.0));
+  }
+
+  @Test
+  void shouldCopyReturnAnIndependentEqualSolution() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 1);
+    solution.objectives()[0] = 3.0;
+    solution.constraints()[0] = -1.0;
+    solution.attributes().put("key", "value");
+
+    ArrayDoubleSolution copy = solution.copy();
+
+    assertNotSame(solution, copy);
+    assertEquals(solution, copy);
+    assertEquals(solution.hashCode(), copy.hashCode());
+    assertEquals(3.0, copy.objectives()[0]);
+    assertEquals(-1.0, copy.constraints()[0]);
+    assertEquals("value", copy.attributes().get("key"));
+
+    double originalValue = solution.variableValue(0);
+    copy.variableValue(0, originalValue / 2.0 + 0.5);
+    copy.objectives()[0] = 4.0;
+    assertEquals(originalValue, solution.variableValue(0));
+    assertEquals(3.0, solution.objectives()[0]);
+  }
+
+  @Test
+  void shouldTheHashCodeBeConsistentWithTheVariablesList() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    assertEquals(List.copyOf(solution.variables()).hashCode(), solution.hashCode());
+  }
+
+  @Test
+  void shouldOperatorsKeepTheVariablesWithinTheBounds() {
+    SBXCrossover crossover = new SBXCrossover(1.0, 20.0);
+    PolynomialMutation mutation = new PolynomialMutation(1.0, 20.0);
+
+    for (int run = 0; run < 100; run++) {
+      List<DoubleSolution> offspring = crossover.execute(
+          List.of(new ArrayDoubleSolution(bounds, 2, 0), new ArrayDoubleSolution(bounds, 2, 0)));
+      for (DoubleSolution child : offspring) {
+        assertTrue(child instanceof ArrayDoubleSolution);
+        mutation.execute(child);
+        for (int i = 0; i < bounds.size(); i++) {
+          assertTrue(child.variableValue(i) >= bounds.get(i).getLowerBound());
+          assertTrue(child.variableValue(i) <= bounds.get(i).getUpperBound());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.uma.jmetal.util.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+
+class CrowdingDistanceArchiveTest {
+
+  @Test
+  void shouldAddAllTruncateTheArchiveToItsMaximumSize() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(5);
+    archive.addAll(createFront(20));
+
+    assertEquals(5, archive.size());
+    assertTrue(archive.solutions().stream().anyMatch(solution -> solution.objectives()[0] == 0.0));
+    assertTrue(archive.solutions().stream().anyMatch(solution -> solution.objectives()[1] == 0.0));
+  }
+
+  @Test
+  void shouldAddAllDiscardTheDominatedSolutions() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(10);
+    List<PointSolution> solutions = createFront(5);
+    solutions.add(new PointSolution(new double[]{2.0, 2.0}));
+    archive.addAll(solutions);
+
+    assertEquals(5, archive.size());
+  }
+
+  @Test
+  void shouldRequestingTheComparatorUpdateTheCrowdingDistances() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(5);
+    archive.addAll(createFront(20));
+    archive.comparator();
+
+    CrowdingDistanceDensityEstimator<PointSolution> crowdingDistance =
+        new CrowdingDistanceDensityEstimator<>();
+    List<Double> values = new ArrayList<>();
+    archive.solutions().forEach(solution -> values.add(crowdingDistance.value(solution)));
+
+    crowdingDistance.compute(new ArrayList<>(archive.solutions()));
+    for (int i = 0; i < archive.size(); i++) {
+      assertEquals(crowdingDistance.value(archive.get(i)), values.get(i));
+    }
+  }
+
+  private List<PointSolution> createFront(int size) {
+    List<PointSolution> front = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      double x = (double) i / (size - 1);
+      front.add(new PointSolution(new double[]{x, 1.0 - x * x}));
+    }
+
+    return front;
+  }
+}
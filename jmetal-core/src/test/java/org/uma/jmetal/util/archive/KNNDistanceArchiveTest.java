@@ -0,0 +1,30 @@
+package org.uma.jmetal.util.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.archive.impl.KNNDistanceArchive;
+
+class KNNDistanceArchiveTest {
+
+  @Test
+  void shouldAddAllTruncateTheArchiveToItsMaximumSize() {
+    KNNDistanceArchive<PointSolution> archive = new KNNDistanceArchive<>(5, 1);
+    archive.addAll(createFront(20));
+
+    assertEquals(5, archive.size());
+  }
+
+  private List<PointSolution> createFront(int size) {
+    List<PointSolution> front = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      double x = (double) i / (size - 1);
+      front.add(new PointSolution(new double[]{x, 1.0 - x * x}));
+    }
+
+    return front;
+  }
+}
@@ -240,4 +240,28 @@ class NonDominatedSolutionListArchiveTest {
 
     Assertions.assertEquals(2, archive1.solutions().size(), EPSILON);
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldTheArchiveNotKeepReferencesToTheSolutionsRemovedWhenItShrinks() {
+    NonDominatedSolutionListArchive<DoubleSolution> archive ;
+    archive = new NonDominatedSolutionListArchive<>() ;
+    FakeDoubleProblem problem = new FakeDoubleProblem(2, 2, 0) ;
+
+    for (int i = 0; i < 4; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.objectives()[0] = 2.0 + i ;
+      solution.objectives()[1] = 5.0 - i ;
+      archive.add(solution) ;
+    }
+    DoubleSolution dominatingSolution = problem.createSolution() ;
+    dominatingSolution.objectives()[0] = 1.0 ;
+    dominatingSolution.objectives()[1] = 1.0 ;
+    archive.add(dominatingSolution) ;
+
+    Assertions.assertEquals(1, archive.solutions().size());
+    Object[] rowSolutions = (Object[]) ReflectionTestUtils.getField(archive, "rowSolutions") ;
+    for (Object rowSolution : rowSolutions) {
+      Assertions.assertTrue(rowSolution == null || rowSolution == dominatingSolution);
+    }
+  }
+}
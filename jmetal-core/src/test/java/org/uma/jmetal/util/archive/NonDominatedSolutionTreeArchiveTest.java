@@ -0,0 +1,154 @@
+package org.uma.jmetal.util.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
+
+class NonDominatedSolutionTreeArchiveTest {
+
+  @Test
+  void shouldConstructorCreateAnEmptyArchive() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+
+    assertEquals(0, archive.size());
+    assertEquals(0, archive.solutions().size());
+  }
+
+  @Test
+  void shouldAddADominatedSolutionDiscardTheNewSolution() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+      NonDominatedSolutionTreeArchive<DoubleSolution> archive =
+          new NonDominatedSolutionTreeArchive<>();
+      DoubleSolution solution1 = createSolution(numberOfObjectives, 1.0);
+      DoubleSolution solution2 = createSolution(numberOfObjectives, 2.0);
+
+      assertTrue(archive.add(solution1));
+      assertFalse(archive.add(solution2));
+
+      assertEquals(1, archive.size());
+      assertSame(solution1, archive.get(0));
+    }
+  }
+
+  @Test
+  void shouldAddADominantSolutionDiscardTheDominatedSolutions() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+      NonDominatedSolutionTreeArchive<DoubleSolution> archive =
+          new NonDominatedSolutionTreeArchive<>();
+      for (int i = 0; i < 50; i++) {
+        DoubleSolution solution = createSolution(numberOfObjectives, 1.0);
+        solution.objectives()[0] = 1.0 + i;
+        solution.objectives()[1] = 100.0 - i;
+        archive.add(solution);
+      }
+      assertEquals(50, archive.size());
+
+      DoubleSolution dominantSolution = createSolution(numberOfObjectives, 0.0);
+      assertTrue(archive.add(dominantSolution));
+
+      assertEquals(1, archive.size());
+      assertSame(dominantSolution, archive.get(0));
+    }
+  }
+
+  @Test
+  void shouldAddASolutionEqualsToOneAlreadyInTheArchiveDoNothing() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+      NonDominatedSolutionTreeArchive<DoubleSolution> archive =
+          new NonDominatedSolutionTreeArchive<>();
+      DoubleSolution solution1 = createSolution(numberOfObjectives, 1.0);
+      DoubleSolution solution2 = createSolution(numberOfObjectives, 1.0);
+
+      assertTrue(archive.add(solution1));
+      assertFalse(archive.add(solution2));
+
+      assertEquals(1, archive.size());
+      assertSame(solution1, archive.get(0));
+    }
+  }
+
+  @Test
+  void shouldAddAFeasibleSolutionDiscardTheUnfeasibleSolutions() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+    DoubleSolution unfeasibleSolution = new FakeDoubleProblem(2, 3, 1).createSolution();
+    unfeasibleSolution.objectives()[0] = 0.0;
+    unfeasibleSolution.objectives()[1] = 0.0;
+    unfeasibleSolution.objectives()[2] = 0.0;
+    unfeasibleSolution.constraints()[0] = -1.0;
+    DoubleSolution feasibleSolution = new FakeDoubleProblem(2, 3, 1).createSolution();
+    feasibleSolution.objectives()[0] = 1.0;
+    feasibleSolution.objectives()[1] = 1.0;
+    feasibleSolution.objectives()[2] = 1.0;
+    feasibleSolution.constraints()[0] = 0.0;
+
+    assertTrue(archive.add(unfeasibleSolution));
+    assertTrue(archive.add(feasibleSolution));
+    assertFalse(archive.add(unfeasibleSolution));
+
+    assertEquals(1, archive.size());
+    assertSame(feasibleSolution, archive.get(0));
+  }
+
+  @Test
+  void shouldSolutionsReturnAnUnmodifiableList() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+    archive.add(createSolution(2, 1.0));
+
+    assertThrows(UnsupportedOperationException.class, () -> archive.solutions().clear());
+  }
+
+  @Test
+  void shouldTheArchiveContainTheSameSolutionsAsANonDominatedSolutionListArchive() {
+    Random random = new Random(1);
+    for (int run = 0; run < 60; run++) {
+      int numberOfObjectives = 2 + run % 4;
+      NonDominatedSolutionListArchive<DoubleSolution> listArchive =
+          new NonDominatedSolutionListArchive<>();
+      NonDominatedSolutionTreeArchive<DoubleSolution> treeArchive =
+          new NonDominatedSolutionTreeArchive<>(2 + random.nextInt(10));
+
+      for (int i = 0; i < 500; i++) {
+        DoubleSolution solution = new FakeDoubleProblem(2, numberOfObjectives, 0).createSolution();
+        double sum = 0.0;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = run % 2 == 0 ? random.nextInt(5) : random.nextDouble();
+          sum += solution.objectives()[j];
+        }
+        if (run % 3 == 0 && sum > 0) {
+          for (int j = 0; j < numberOfObjectives; j++) {
+            solution.objectives()[j] /= sum;
+          }
+        }
+
+        assertEquals(listArchive.add(solution), treeArchive.add(solution));
+      }
+
+      Set<DoubleSolution> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+      expected.addAll(listArchive.solutions());
+      Set<DoubleSolution> obtained = Collections.newSetFromMap(new IdentityHashMap<>());
+      obtained.addAll(treeArchive.solutions());
+
+      assertEquals(expected, obtained);
+    }
+  }
+
+  private DoubleSolution createSolution(int numberOfObjectives, double value) {
+    DoubleSolution solution = new FakeDoubleProblem(2, numberOfObjectives, 0).createSolution();
+    for (int i = 0; i < numberOfObjectives; i++) {
+      solution.objectives()[i] = value;
+    }
+    return solution;
+  }
+}
@@ -0,0 +1,88 @@
+package org.uma.jmetal.util.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.comparator.constraintcomparator.impl.NumberOfViolatedConstraintsComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceKernel;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+
+class DominanceKernelTest {
+
+  @Test
+  void shouldDominanceTestReturnTheSameResultAsVectorUtils() {
+    Random random = new Random(1);
+    for (int i = 0; i < 10000; i++) {
+      int numberOfObjectives = 1 + random.nextInt(5);
+      double[] vector1 = randomVector(random, numberOfObjectives);
+      double[] vector2 = randomVector(random, numberOfObjectives);
+
+      assertEquals(VectorUtils.dominanceTest(vector1, vector2),
+          DominanceKernel.dominanceTest(vector1, vector2));
+    }
+  }
+
+  @Test
+  void shouldDominanceTestWorkOnTheRowsOfAFlatBuffer() {
+    double[] objectives = {1.0, 2.0, 0.5, 2.0, 2.0, 1.0};
+
+    assertEquals(1, DominanceKernel.dominanceTest(objectives, 0, objectives, 2, 2));
+    assertEquals(-1, DominanceKernel.dominanceTest(objectives, 2, objectives, 0, 2));
+    assertEquals(0, DominanceKernel.dominanceTest(objectives, 0, objectives, 4, 2));
+    assertEquals(0, DominanceKernel.dominanceTest(objectives, 2, objectives, 2, 2));
+  }
+
+  @Test
+  void shouldTheConstrainedDominanceTestReturnTheSameResultAsTheComparator() {
+    Random random = new Random(2);
+    DominanceWithConstraintsComparator<DoubleSolution> comparator =
+        new DominanceWithConstraintsComparator<>();
+    for (int i = 0; i < 10000; i++) {
+      DoubleSolution solution1 = randomSolution(random);
+      DoubleSolution solution2 = randomSolution(random);
+
+      double degree1 = solution1.constraints()[0] + solution1.constraints()[1];
+      double degree2 = solution2.constraints()[0] + solution2.constraints()[1];
+      assertEquals(comparator.compare(solution1, solution2),
+          DominanceKernel.dominanceTest(solution1.objectives(), 0, degree1,
+              solution2.objectives(), 0, degree2, 2));
+    }
+  }
+
+  @Test
+  void shouldModeOfIdentifyTheComparatorsSupportedByTheKernel() {
+    assertEquals(DominanceKernel.Mode.OBJECTIVES,
+        DominanceKernel.modeOf(new DefaultDominanceComparator<DoubleSolution>()));
+    assertEquals(DominanceKernel.Mode.CONSTRAINTS_AND_OBJECTIVES,
+        DominanceKernel.modeOf(new DominanceWithConstraintsComparator<DoubleSolution>()));
+    assertEquals(DominanceKernel.Mode.COMPARATOR,
+        DominanceKernel.modeOf(new DominanceWithConstraintsComparator<DoubleSolution>(
+            new NumberOfViolatedConstraintsComparator<>())));
+    assertEquals(DominanceKernel.Mode.COMPARATOR,
+        DominanceKernel.modeOf(new ObjectiveComparator<DoubleSolution>(0)));
+  }
+
+  private static double[] randomVector(Random random, int numberOfObjectives) {
+    double[] vector = new double[numberOfObjectives];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      vector[i] = random.nextInt(3);
+    }
+
+    return vector;
+  }
+
+  private static DoubleSolution randomSolution(Random random) {
+    DoubleSolution solution = new FakeDoubleProblem(2, 2, 2).createSolution();
+    solution.objectives()[0] = random.nextInt(3);
+    solution.objectives()[1] = random.nextInt(3);
+    solution.constraints()[0] = random.nextBoolean() ? 0.0 : -random.nextInt(3);
+    solution.constraints()[1] = random.nextBoolean() ? 0.0 : -random.nextInt(3);
+
+    return solution;
+  }
+}
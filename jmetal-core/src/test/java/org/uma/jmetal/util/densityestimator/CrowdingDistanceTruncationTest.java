@@ -0,0 +1,98 @@
+package org.uma.jmetal.util.densityestimator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceTruncation;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class CrowdingDistanceTruncationTest {
+
+  @Test
+  void shouldTruncateReturnAllTheSolutionsIfTheSizeIsTheFrontSize() {
+    List<PointSolution> front = List.of(
+        new PointSolution(new double[]{0.0, 1.0}),
+        new PointSolution(new double[]{0.5, 0.5}),
+        new PointSolution(new double[]{1.0, 0.0}));
+
+    List<PointSolution> result = new CrowdingDistanceTruncation<PointSolution>().truncate(front, 3);
+
+    assertEquals(front, result);
+  }
+
+  @Test
+  void shouldTruncateRemoveTheMostCrowdedSolution() {
+    List<PointSolution> front = List.of(
+        new PointSolution(new double[]{0.0, 1.0}),
+        new PointSolution(new double[]{0.1, 0.9}),
+        new PointSolution(new double[]{0.5, 0.5}),
+        new PointSolution(new double[]{1.0, 0.0}));
+
+    List<PointSolution> result = new CrowdingDistanceTruncation<PointSolution>().truncate(front, 3);
+
+    assertEquals(3, result.size());
+    assertSame(front.get(0), result.get(0));
+    assertSame(front.get(2), result.get(1));
+    assertSame(front.get(3), result.get(2));
+  }
+
+  @Test
+  void shouldTruncateRaiseAnExceptionIfTheSizeIsHigherThanTheFrontSize() {
+    List<PointSolution> front = List.of(new PointSolution(new double[]{0.0, 1.0}));
+
+    assertThrows(InvalidConditionException.class,
+        () -> new CrowdingDistanceTruncation<PointSolution>().truncate(front, 2));
+  }
+
+  @Test
+  void shouldTruncateKeepTheSameSolutionsAsRecomputingTheCrowdingDistanceAfterEachRemoval() {
+    Random random = new Random(1);
+    CrowdingDistanceTruncation<PointSolution> truncation = new CrowdingDistanceTruncation<>();
+
+    for (int run = 0; run < 100; run++) {
+      int numberOfObjectives = 2 + random.nextInt(6);
+      int frontSize = 1 + random.nextInt(60);
+      List<PointSolution> front = new ArrayList<>();
+      for (int i = 0; i < frontSize; i++) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = random.nextDouble();
+        }
+        front.add(solution);
+      }
+      int newSize = random.nextInt(frontSize + 1);
+
+      Set<PointSolution> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+      expected.addAll(sequentialTruncation(front, newSize));
+      Set<PointSolution> obtained = Collections.newSetFromMap(new IdentityHashMap<>());
+      obtained.addAll(truncation.truncate(front, newSize));
+
+      assertEquals(expected, obtained);
+    }
+  }
+
+  private List<PointSolution> sequentialTruncation(List<PointSolution> front, int newSize) {
+    CrowdingDistanceDensityEstimator<PointSolution> crowdingDistance =
+        new CrowdingDistanceDensityEstimator<>();
+    List<PointSolution> resultList = new ArrayList<>(front);
+    crowdingDistance.compute(resultList);
+    while (resultList.size() > newSize) {
+      resultList.sort(Comparator.comparing(crowdingDistance::value).reversed());
+      resultList.remove(resultList.size() - 1);
+      crowdingDistance.compute(resultList);
+    }
+
+    return resultList;
+  }
+}
@@ -0,0 +1,81 @@
+package org.uma.jmetal.util.densityestimator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.KnnDistanceTruncation;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class KnnDistanceTruncationTest {
+
+  @Test
+  void shouldTruncateRemoveTheSolutionWithTheClosestNeighbour() {
+    List<PointSolution> front = List.of(
+        new PointSolution(new double[]{0.0, 1.0}),
+        new PointSolution(new double[]{0.05, 0.95}),
+        new PointSolution(new double[]{0.5, 0.5}),
+        new PointSolution(new double[]{1.0, 0.0}));
+
+    List<PointSolution> result = new KnnDistanceTruncation<PointSolution>(1).truncate(front, 3);
+
+    assertEquals(3, result.size());
+    assertSame(front.get(1), result.get(0));
+    assertSame(front.get(2), result.get(1));
+    assertSame(front.get(3), result.get(2));
+  }
+
+  @Test
+  void shouldTruncateRaiseAnExceptionIfTheSizeIsNotHigherThanK() {
+    List<PointSolution> front = List.of(
+        new PointSolution(new double[]{0.0, 1.0}),
+        new PointSolution(new double[]{0.5, 0.5}),
+        new PointSolution(new double[]{1.0, 0.0}));
+
+    assertThrows(InvalidConditionException.class,
+        () -> new KnnDistanceTruncation<PointSolution>(2).truncate(front, 2));
+  }
+
+  @Test
+  void shouldTruncateKeepTheSameSolutionsAsRecomputingTheDensityAfterEachRemoval() {
+    Random random = new Random(1);
+
+    for (int run = 0; run < 100; run++) {
+      int k = 1 + random.nextInt(3);
+      KnnDistanceTruncation<PointSolution> truncation = new KnnDistanceTruncation<>(k);
+      int numberOfObjectives = 2 + random.nextInt(4);
+      int frontSize = k + 2 + random.nextInt(50);
+      List<PointSolution> front = new ArrayList<>();
+      for (int i = 0; i < frontSize; i++) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = random.nextDouble();
+        }
+        front.add(solution);
+      }
+      int newSize = k + 1 + random.nextInt(frontSize - k);
+
+      assertEquals(sequentialTruncation(front, newSize, k), truncation.truncate(front, newSize));
+    }
+  }
+
+  private List<PointSolution> sequentialTruncation(List<PointSolution> front, int newSize, int k) {
+    KnnDensityEstimator<PointSolution> knnDensityEstimator = new KnnDensityEstimator<>(k);
+    List<PointSolution> resultList = new ArrayList<>(front);
+    while (resultList.size() > newSize) {
+      knnDensityEstimator.compute(resultList);
+      PointSolution worst = new SolutionListUtils()
+          .findWorstSolution(resultList, knnDensityEstimator.comparator().reversed());
+      resultList.remove(worst);
+    }
+
+    return resultList;
+  }
+}
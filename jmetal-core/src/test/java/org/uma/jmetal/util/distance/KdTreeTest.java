@@ -0,0 +1,83 @@
+package org.uma.jmetal.util.distance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
+
+class KdTreeTest {
+  private final EuclideanDistanceBetweenVectors euclideanDistance =
+      new EuclideanDistanceBetweenVectors();
+
+  @Test
+  void shouldNearestReturnTheClosestPoint() {
+    KdTree tree = new KdTree(new double[][]{{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}});
+
+    assertEquals(1, tree.nearest(new double[]{0.6, 0.6}));
+    assertEquals(Math.sqrt(0.02), tree.nearestDistance(new double[]{0.6, 0.6}), 1e-15);
+  }
+
+  @Test
+  void shouldAnEmptyTreeHaveNoNeighbours() {
+    KdTree tree = new KdTree(new double[0][]);
+
+    assertEquals(-1, tree.nearest(new double[0]));
+  }
+
+  @Test
+  void shouldKthNearestDistanceExcludeThePointItself() {
+    KdTree tree = new KdTree(new double[][]{{0.0}, {1.0}, {3.0}, {7.0}});
+
+    assertEquals(1.0, tree.kthNearestDistance(0, 1));
+    assertEquals(3.0, tree.kthNearestDistance(0, 2));
+    assertEquals(Double.POSITIVE_INFINITY, tree.kthNearestDistance(0, 4));
+  }
+
+  @Test
+  void shouldRemovedPointsNotBeReturned() {
+    KdTree tree = new KdTree(new double[][]{{0.0}, {1.0}, {3.0}, {7.0}});
+    tree.remove(1);
+
+    assertEquals(3, tree.numberOfPoints());
+    assertEquals(3.0, tree.kthNearestDistance(0, 1));
+  }
+
+  @Test
+  void shouldNearestNeighboursBeTheSameAsWithALinearScan() {
+    Random random = new Random(1);
+    for (int run = 0; run < 50; run++) {
+      int numberOfPoints = 1 + random.nextInt(500);
+      int dimension = 1 + random.nextInt(6);
+      boolean discrete = random.nextBoolean();
+      double[][] points = new double[numberOfPoints][dimension];
+      for (double[] point : points) {
+        for (int j = 0; j < dimension; j++) {
+          point[j] = discrete ? random.nextInt(4) : random.nextDouble();
+        }
+      }
+      KdTree tree = new KdTree(points);
+
+      for (int i = 0; i < numberOfPoints; i++) {
+        int k = 1 + random.nextInt(10);
+        int[] indices = new int[k];
+        double[] distances = new double[k];
+        int found = tree.nearestNeighbours(points[i], k, i, indices, distances);
+
+        double[] expected = new double[numberOfPoints - 1];
+        int count = 0;
+        for (int j = 0; j < numberOfPoints; j++) {
+          if (j != i) {
+            expected[count++] = euclideanDistance.compute(points[i], points[j]);
+          }
+        }
+        Arrays.sort(expected);
+
+        assertEquals(Math.min(k, numberOfPoints - 1), found);
+        assertArrayEquals(Arrays.copyOf(expected, found), Arrays.copyOf(distances, found));
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package org.uma.jmetal.util.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.executor.ThreadPoolType;
+
+class MultiThreadedSolutionListEvaluatorTest {
+  /** Problem counting its evaluations */
+  private static class CountingProblem extends FakeDoubleProblem {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingProblem() {
+      super(2, 2, 0);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      solution.objectives()[0] = 1.0;
+      evaluations.incrementAndGet();
+
+      return solution;
+    }
+  }
+
+  private static List<DoubleSolution> solutions(CountingProblem problem, int size) {
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static MultiThreadedSolutionListEvaluator<DoubleSolution> serializeAndDeserialize(
+      MultiThreadedSolutionListEvaluator<DoubleSolution> evaluator)
+      throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(evaluator);
+    }
+    try (ObjectInputStream input =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (MultiThreadedSolutionListEvaluator<DoubleSolution>) input.readObject();
+    }
+  }
+
+  @Test
+  void shouldADeserializedEvaluatorEvaluateTheSolutions() throws Exception {
+    var evaluator = new MultiThreadedSolutionListEvaluator<DoubleSolution>(2, ThreadPoolType.FIXED)
+        .chunkSize(3);
+    var deserializedEvaluator = serializeAndDeserialize(evaluator);
+    evaluator.shutdown();
+
+    CountingProblem problem = new CountingProblem();
+    List<DoubleSolution> solutions = solutions(problem, 20);
+    deserializedEvaluator.evaluate(solutions, problem);
+    deserializedEvaluator.shutdown();
+
+    assertEquals(20, problem.evaluations.get());
+    assertEquals(2, deserializedEvaluator.numberOfThreads());
+    assertEquals(3, deserializedEvaluator.chunkSize());
+    solutions.forEach(solution -> assertEquals(1.0, solution.objectives()[0]));
+  }
+
+  @Test
+  void shouldADeserializedEvaluatorUsingAnExecutorOfTheUserEvaluateTheSolutions()
+      throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    var evaluator = new MultiThreadedSolutionListEvaluator<DoubleSolution>(executor, 2);
+    var deserializedEvaluator = serializeAndDeserialize(evaluator);
+    executor.shutdown();
+
+    CountingProblem problem = new CountingProblem();
+    List<DoubleSolution> solutions = solutions(problem, 20);
+    deserializedEvaluator.evaluate(solutions, problem);
+    deserializedEvaluator.shutdown();
+
+    assertEquals(20, problem.evaluations.get());
+  }
+}
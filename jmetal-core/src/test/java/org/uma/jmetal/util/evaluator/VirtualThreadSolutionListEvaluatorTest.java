@@ -0,0 +1,148 @@
+package org.uma.jmetal.util.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.evaluator.impl.VirtualThreadSolutionListEvaluator;
+
+class VirtualThreadSolutionListEvaluatorTest {
+  // A cached pool is used instead of virtual threads, which are not available in all the JVMs
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdownExecutor() {
+    executor.shutdownNow();
+  }
+
+  /** Problem whose evaluations block during a given time, keeping track of the concurrency */
+  private static class BlockingProblem extends FakeDoubleProblem {
+    private final long blockingTimeInMilliseconds;
+    private final AtomicInteger runningEvaluations = new AtomicInteger();
+    private final AtomicInteger maximumRunningEvaluations = new AtomicInteger();
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    BlockingProblem(long blockingTimeInMilliseconds) {
+      super(2, 2, 0);
+      this.blockingTimeInMilliseconds = blockingTimeInMilliseconds;
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      int running = runningEvaluations.incrementAndGet();
+      maximumRunningEvaluations.accumulateAndGet(running, Math::max);
+      try {
+        Thread.sleep(blockingTimeInMilliseconds);
+        solution.objectives()[0] = 1.0;
+        evaluations.incrementAndGet();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException("Interrupted evaluation", e);
+      } finally {
+        runningEvaluations.decrementAndGet();
+      }
+
+      return solution;
+    }
+  }
+
+  private static List<DoubleSolution> solutions(BlockingProblem problem, int size) {
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @Test
+  void shouldEvaluateAllTheSolutionsWithoutExceedingTheConcurrencyLimit() {
+    BlockingProblem problem = new BlockingProblem(5);
+    var evaluator = new VirtualThreadSolutionListEvaluator<DoubleSolution>(executor, 4,
+        VirtualThreadSolutionListEvaluator.NO_TIMEOUT, TimeUnit.MILLISECONDS);
+
+    List<DoubleSolution> solutions = solutions(problem, 40);
+    evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(40, problem.evaluations.get());
+    assertTrue(problem.maximumRunningEvaluations.get() <= 4);
+    solutions.forEach(solution -> assertEquals(1.0, solution.objectives()[0]));
+  }
+
+  @Test
+  void shouldTheTimeoutHandlerBeAppliedToTheEvaluationsExceedingTheTimeout() {
+    BlockingProblem problem = new BlockingProblem(10000);
+    AtomicInteger timedOutEvaluations = new AtomicInteger();
+    var evaluator = new VirtualThreadSolutionListEvaluator<DoubleSolution>(executor, 8, 20,
+        TimeUnit.MILLISECONDS)
+        .timeoutHandler(solution -> {
+          solution.objectives()[0] = Double.MAX_VALUE;
+          timedOutEvaluations.incrementAndGet();
+        });
+
+    List<DoubleSolution> solutions = solutions(problem, 8);
+    evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(8, timedOutEvaluations.get());
+    solutions.forEach(solution -> assertEquals(Double.MAX_VALUE, solution.objectives()[0]));
+  }
+
+  @Test
+  void shouldEvaluateRaiseAnExceptionByDefaultIfAnEvaluationExceedsTheTimeout() {
+    BlockingProblem problem = new BlockingProblem(10000);
+    var evaluator = new VirtualThreadSolutionListEvaluator<DoubleSolution>(executor, 2, 20,
+        TimeUnit.MILLISECONDS);
+
+    assertThrows(JMetalException.class, () -> evaluator.evaluate(solutions(problem, 2), problem));
+    evaluator.shutdown();
+  }
+
+  @Test
+  void shouldAnEvaluationThrowingAnErrorNotLeaveAnAlarmInterruptingTheNextTaskOfTheThread() {
+    ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+    FakeDoubleProblem failingProblem = new FakeDoubleProblem(2, 2, 0) {
+      @Override
+      public DoubleSolution evaluate(DoubleSolution solution) {
+        throw new AssertionError("Failed evaluation");
+      }
+    };
+    var evaluatorWithTimeout = new VirtualThreadSolutionListEvaluator<DoubleSolution>(
+        singleThreadExecutor, 1, 50, TimeUnit.MILLISECONDS);
+    var evaluatorWithoutTimeout = new VirtualThreadSolutionListEvaluator<DoubleSolution>(
+        singleThreadExecutor, 1, VirtualThreadSolutionListEvaluator.NO_TIMEOUT,
+        TimeUnit.MILLISECONDS);
+
+    try {
+      assertThrows(AssertionError.class,
+          () -> evaluatorWithTimeout.evaluate(List.of(failingProblem.createSolution()),
+              failingProblem));
+
+      BlockingProblem problem = new BlockingProblem(200);
+      evaluatorWithoutTimeout.evaluate(solutions(problem, 1), problem);
+
+      assertEquals(1, problem.evaluations.get());
+    } finally {
+      evaluatorWithTimeout.shutdown();
+      singleThreadExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldConstructorRaiseAnExceptionIfTheConcurrencyLimitIsNotPositive() {
+    assertThrows(InvalidConditionException.class,
+        () -> new VirtualThreadSolutionListEvaluator<DoubleSolution>(executor, 0,
+            VirtualThreadSolutionListEvaluator.NO_TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+}
@@ -0,0 +1,115 @@
+package org.uma.jmetal.util.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class ChunkedExecutorTest {
+  private static List<Integer> listOfSize(int size) {
+    List<Integer> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+    return list;
+  }
+
+  @Test
+  void shouldForEachApplyTheActionOnceToEachElementWithAWorkStealingPool() {
+    shouldApplyTheActionOnceToEachElement(ThreadPoolType.WORK_STEALING);
+  }
+
+  @Test
+  void shouldForEachApplyTheActionOnceToEachElementWithAFixedPool() {
+    shouldApplyTheActionOnceToEachElement(ThreadPoolType.FIXED);
+  }
+
+  private void shouldApplyTheActionOnceToEachElement(ThreadPoolType threadPoolType) {
+    ChunkedExecutor executor = new ChunkedExecutor(3, threadPoolType);
+    int size = 1001;
+    AtomicIntegerArray counters = new AtomicIntegerArray(size);
+
+    for (int chunkSize : new int[] {ChunkedExecutor.AUTOMATIC_CHUNK_SIZE, 1, 7, 2000}) {
+      executor.chunkSize(chunkSize);
+      executor.forEach(listOfSize(size), counters::incrementAndGet);
+    }
+    executor.shutdown();
+
+    for (int i = 0; i < size; i++) {
+      assertEquals(4, counters.get(i));
+    }
+  }
+
+  @Test
+  void shouldAListFittingInAChunkBeProcessedInTheCallingThread() {
+    ChunkedExecutor executor = new ChunkedExecutor(2, ThreadPoolType.FIXED);
+    executor.chunkSize(10);
+    List<Thread> threads = new ArrayList<>();
+
+    executor.forEach(listOfSize(10), i -> threads.add(Thread.currentThread()));
+    executor.shutdown();
+
+    assertEquals(10, threads.size());
+    threads.forEach(thread -> assertSame(Thread.currentThread(), thread));
+  }
+
+  @Test
+  void shouldTheNumberOfThreadsBeTheNumberOfProcessorsIfItIsZero() {
+    ChunkedExecutor executor = new ChunkedExecutor(0, ThreadPoolType.WORK_STEALING);
+
+    assertEquals(Runtime.getRuntime().availableProcessors(), executor.numberOfThreads());
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldForEachRethrowTheExceptionRaisedByAnAction() {
+    ChunkedExecutor executor = new ChunkedExecutor(2, ThreadPoolType.FIXED);
+    executor.chunkSize(1);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> executor.forEach(listOfSize(20), i -> {
+          if (i == 13) {
+            throw new IllegalStateException("Failed action");
+          }
+        }));
+    executor.shutdown();
+
+    assertEquals("Failed action", exception.getMessage());
+  }
+
+  @Test
+  void shouldShutdownReleaseTheExecutorOnlyIfItIsOwned() {
+    ChunkedExecutor ownExecutor = new ChunkedExecutor(2, ThreadPoolType.FIXED);
+    ownExecutor.shutdown();
+    assertTrue(ownExecutor.executor().isShutdown());
+
+    ExecutorService externalExecutorService = Executors.newFixedThreadPool(2);
+    ChunkedExecutor externalExecutor = new ChunkedExecutor(externalExecutorService, 2);
+    externalExecutor.shutdown();
+    assertFalse(externalExecutorService.isShutdown());
+    externalExecutorService.shutdown();
+  }
+
+  @Test
+  void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNegative() {
+    assertThrows(InvalidConditionException.class,
+        () -> new ChunkedExecutor(-1, ThreadPoolType.FIXED));
+  }
+
+  @Test
+  void shouldSetChunkSizeRaiseAnExceptionIfTheValueIsNegative() {
+    ChunkedExecutor executor = new ChunkedExecutor(1, ThreadPoolType.FIXED);
+
+    assertThrows(InvalidConditionException.class, () -> executor.chunkSize(-1));
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,116 @@
+package org.uma.jmetal.util.neighborhood.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class WeightVectorTableTest {
+
+  @Test
+  void shouldComputeTheSameNeighborhoodsAsTheDistanceMatrixBasedAlgorithm() {
+    Random random = new Random(1);
+    for (int weightVectorSize : new int[] {2, 3, 8}) {
+      // The values are rounded to have many ties in the distances
+      double[][] weightVectors = new double[500][weightVectorSize];
+      for (double[] weightVector : weightVectors) {
+        for (int j = 0; j < weightVectorSize; j++) {
+          weightVector[j] = Math.round(random.nextDouble() * 10) / 10.0;
+        }
+      }
+
+      assertArrayEquals(matrixBasedNeighborhoods(weightVectors, 20),
+          WeightVectorTable.computeNeighborhoods(weightVectors, 20));
+    }
+  }
+
+  @Test
+  void shouldUniformTableContainTheUniformlyDistributedWeightVectors() {
+    WeightVectorTable table = WeightVectorProvider.uniform(100, 20);
+
+    assertEquals(100, table.numberOfWeightVectors());
+    assertEquals(2, table.weightVectorSize());
+    assertEquals(20, table.neighborhoodSize());
+    assertEquals(1.0 / 99, table.weight(1, 0));
+    assertEquals(1 - 1.0 / 99, table.weight(1, 1));
+    assertArrayEquals(matrixBasedNeighborhoods(table.weightVectors(), 20), table.neighborhoods());
+  }
+
+  @Test
+  void shouldNeighborhoodSizeHigherThanTheNumberOfWeightVectorsRaiseAnException() {
+    assertThrows(InvalidConditionException.class, () -> WeightVectorProvider.uniform(10, 11));
+  }
+
+  @Test
+  void shouldFromFileRaiseAnExceptionIfTheFileDoesNotExist() {
+    assertThrows(FileNotFoundException.class,
+        () -> WeightVectorProvider.fromFile("NonExistingDirectory", 3, 100, 20));
+  }
+
+  @Test
+  void shouldTablesBeReadFromTheBinaryCache(@TempDir Path cacheDirectory) throws Exception {
+    String weightVectorDirectory = "../resources/weightVectorFiles/moead";
+    if (!new File(weightVectorDirectory + "/W3D_300.dat").exists()) {
+      return;
+    }
+
+    Path previousCacheDirectory = WeightVectorProvider.cacheDirectory();
+    try {
+      WeightVectorProvider.setCacheDirectory(cacheDirectory);
+      WeightVectorProvider.clearCache();
+      WeightVectorTable table = WeightVectorProvider.fromFile(weightVectorDirectory, 3, 300, 20);
+      assertEquals(1, cacheDirectory.toFile().list().length);
+
+      WeightVectorProvider.clearCache();
+      WeightVectorTable cachedTable =
+          WeightVectorProvider.fromFile(weightVectorDirectory, 3, 300, 20);
+
+      assertTrue(table != cachedTable);
+      assertArrayEquals(table.weightVectors(), cachedTable.weightVectors());
+      assertArrayEquals(table.neighborhoods(), cachedTable.neighborhoods());
+    } finally {
+      WeightVectorProvider.setCacheDirectory(previousCacheDirectory);
+      WeightVectorProvider.clearCache();
+    }
+  }
+
+  private int[][] matrixBasedNeighborhoods(double[][] weightVectors, int neighborhoodSize) {
+    int size = weightVectors.length;
+    int[][] neighborhood = new int[size][neighborhoodSize];
+    double[] x = new double[size];
+    int[] idx = new int[size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        double sum = 0;
+        for (int l = 0; l < weightVectors[i].length; l++) {
+          sum += (weightVectors[i][l] - weightVectors[j][l]) * (weightVectors[i][l] - weightVectors[j][l]);
+        }
+        x[j] = Math.sqrt(sum);
+        idx[j] = j;
+      }
+      for (int a = 0; a < neighborhoodSize; a++) {
+        for (int b = a + 1; b < size; b++) {
+          if (x[a] > x[b]) {
+            double temp = x[a];
+            x[a] = x[b];
+            x[b] = temp;
+            int id = idx[a];
+            idx[a] = idx[b];
+            idx[b] = id;
+          }
+        }
+      }
+      System.arraycopy(idx, 0, neighborhood[i], 0, neighborhoodSize);
+    }
+
+    return neighborhood;
+  }
+}
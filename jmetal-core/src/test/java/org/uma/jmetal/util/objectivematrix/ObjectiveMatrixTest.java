@@ -0,0 +1,133 @@
+package org.uma.jmetal.util.objectivematrix;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class ObjectiveMatrixTest {
+
+  private static List<PointSolution> randomSolutions(int size, int numberOfObjectives, Random random) {
+    List<PointSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      PointSolution solution = new PointSolution(numberOfObjectives);
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextInt(10) / 10.0;
+      }
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  @Test
+  void shouldTheObjectivesBeStoredInRowMajorOrder() {
+    PointSolution solution1 = new PointSolution(new double[]{1.0, 2.0});
+    PointSolution solution2 = new PointSolution(new double[]{3.0, 4.0});
+
+    ObjectiveMatrix<PointSolution> matrix = new ObjectiveMatrix<>(List.of(solution1, solution2));
+
+    assertEquals(2, matrix.size());
+    assertEquals(2, matrix.numberOfObjectives());
+    assertEquals(0, matrix.numberOfConstraints());
+    assertEquals(4.0, matrix.objective(1, 1));
+    assertSame(solution2, matrix.solution(1));
+    assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0}, matrix.objectives());
+  }
+
+  @Test
+  void shouldRefreshSynchronizeTheMatrixWithTheSolutions() {
+    PointSolution solution = new PointSolution(new double[]{1.0, 2.0});
+    ObjectiveMatrix<PointSolution> matrix = new ObjectiveMatrix<>(List.of(solution));
+
+    solution.objectives()[0] = 5.0;
+    assertEquals(1.0, matrix.objective(0, 0));
+
+    matrix.refresh();
+    assertEquals(5.0, matrix.objective(0, 0));
+  }
+
+  @Test
+  void shouldUpdateReuseTheBuffersIfTheyAreLargeEnough() {
+    Random random = new Random(1);
+    ObjectiveMatrix<PointSolution> matrix = new ObjectiveMatrix<>(randomSolutions(10, 3, random));
+    double[] buffer = matrix.objectives();
+
+    List<PointSolution> solutions = randomSolutions(8, 3, random);
+    matrix.update(solutions);
+
+    assertSame(buffer, matrix.objectives());
+    assertEquals(8, matrix.size());
+    assertEquals(solutions.get(7).objectives()[2], matrix.objective(7, 2));
+  }
+
+  @Test
+  void shouldUpdateRaiseAnExceptionIfTheNumberOfObjectivesIsNotTheSame() {
+    List<PointSolution> solutions = List.of(new PointSolution(2), new PointSolution(3));
+
+    assertThrows(InvalidConditionException.class, () -> new ObjectiveMatrix<>(solutions));
+  }
+
+  @Test
+  void shouldDominanceTestReturnTheSameValuesAsVectorUtils() {
+    List<PointSolution> solutions = randomSolutions(50, 3, new Random(2));
+    ObjectiveMatrix<PointSolution> matrix = new ObjectiveMatrix<>(solutions);
+
+    for (int i = 0; i < solutions.size(); i++) {
+      for (int j = 0; j < solutions.size(); j++) {
+        assertEquals(
+            VectorUtils.dominanceTest(solutions.get(i).objectives(), solutions.get(j).objectives()),
+            matrix.dominanceTest(i, j));
+      }
+    }
+  }
+
+  @Test
+  void shouldSortByObjectiveBeStable() {
+    List<PointSolution> solutions = randomSolutions(100, 2, new Random(3));
+    ObjectiveMatrix<PointSolution> matrix = new ObjectiveMatrix<>(solutions);
+
+    int[] rows = new int[solutions.size()];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = i;
+    }
+    matrix.sortByObjective(rows, 1);
+
+    for (int i = 1; i < rows.length; i++) {
+      double previous = matrix.objective(rows[i - 1], 1);
+      double current = matrix.objective(rows[i], 1);
+      assertTrue(previous < current || (previous == current && rows[i - 1] < rows[i]));
+    }
+  }
+
+  @Test
+  void shouldTheIndicatorsReturnTheSameValueWithAMatrixAndWithAnArray() {
+    Random random = new Random(4);
+    List<PointSolution> front = randomSolutions(30, 3, random);
+    double[][] referenceFront = new ObjectiveMatrix<>(randomSolutions(40, 3, random)).toMatrix();
+    ObjectiveMatrix<PointSolution> matrix = new ObjectiveMatrix<>(front);
+
+    List<QualityIndicator> indicators = List.of(
+        new Epsilon(referenceFront),
+        new GenerationalDistance(referenceFront),
+        new InvertedGenerationalDistance(referenceFront),
+        new InvertedGenerationalDistancePlus(referenceFront));
+
+    for (QualityIndicator indicator : indicators) {
+      assertEquals(indicator.compute(matrix.toMatrix()), indicator.compute(matrix));
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
+
+class JMetalRandomSplittableStreamsTest {
+  private final JMetalRandom random = JMetalRandom.getInstance();
+
+  @AfterEach
+  void disableSplittableStreams() {
+    random.disableSplittableStreams();
+  }
+
+  @Test
+  void shouldRunInStreamRaiseAnExceptionIfTheSplittableStreamsAreNotEnabled() {
+    assertFalse(random.isSplittableStreamsEnabled());
+    assertThrows(InvalidConditionException.class, () -> random.runInStream(0, () -> {}));
+  }
+
+  @Test
+  void shouldTheNumbersDrawnInAStreamOnlyDependOnTheMasterSeedAndTheStreamIndex() {
+    random.enableSplittableStreams(1234);
+    double[] first = random.callInStream(3, this::drawNumbers);
+    random.nextDouble();
+    double[] second = random.callInStream(3, this::drawNumbers);
+    double[] otherStream = random.callInStream(4, this::drawNumbers);
+
+    assertArrayEquals(first, second);
+    assertNotEquals(first[0], otherStream[0]);
+  }
+
+  @Test
+  void shouldTheResultsOfTasksRunInStreamsNotDependOnTheNumberOfThreads() throws Exception {
+    random.enableSplittableStreams(1234);
+    double[][] sequentialResults = runTasks(1);
+
+    random.enableSplittableStreams(1234);
+    double[][] parallelResults = runTasks(4);
+
+    for (int i = 0; i < sequentialResults.length; i++) {
+      assertArrayEquals(sequentialResults[i], parallelResults[i]);
+    }
+  }
+
+  @Test
+  void shouldTheThreadEnablingTheSplittableStreamsDrawTheSameNumbersAfterEnablingThemAgain() {
+    random.enableSplittableStreams(5);
+    double[] first = drawNumbers();
+    random.enableSplittableStreams(5);
+    double[] second = drawNumbers();
+
+    assertArrayEquals(first, second);
+    assertEquals(5, random.getSeed());
+    assertTrue(random.getRandomGenerator() instanceof SplittableRandomGenerator);
+  }
+
+  @Test
+  void shouldSplittableRandomGeneratorDrawIntegersInTheBounds() {
+    SplittableRandomGenerator generator = new SplittableRandomGenerator(1);
+    for (int i = 0; i < 1000; i++) {
+      int value = generator.nextInt(-3, 7);
+      assertTrue(value >= -3 && value <= 7);
+    }
+  }
+
+  @Test
+  void shouldSplittableRandomGeneratorDrawIntegersInTheWholeRangeOfInt() {
+    SplittableRandomGenerator generator = new SplittableRandomGenerator(1);
+    boolean lowerQuarterDrawn = false;
+    boolean upperQuarterDrawn = false;
+    for (int i = 0; i < 1000; i++) {
+      int value = generator.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+      lowerQuarterDrawn |= value < Integer.MIN_VALUE / 2;
+      upperQuarterDrawn |= value > Integer.MAX_VALUE / 2;
+    }
+
+    assertTrue(lowerQuarterDrawn);
+    assertTrue(upperQuarterDrawn);
+  }
+
+  @Test
+  void shouldSplittableRandomGeneratorDrawIntegersInARangeWiderThanTheMaximumInt() {
+    SplittableRandomGenerator generator = new SplittableRandomGenerator(1);
+    int lowerBound = -2000000000;
+    int upperBound = 2000000000;
+    boolean negativeValueDrawn = false;
+    boolean positiveValueDrawn = false;
+    for (int i = 0; i < 1000; i++) {
+      int value = generator.nextInt(lowerBound, upperBound);
+      assertTrue(value >= lowerBound && value <= upperBound);
+      negativeValueDrawn |= value < 0;
+      positiveValueDrawn |= value > 0;
+    }
+
+    assertTrue(negativeValueDrawn);
+    assertTrue(positiveValueDrawn);
+  }
+
+  private double[][] runTasks(int numberOfThreads) throws Exception {
+    int numberOfTasks = 16;
+    long firstStream = random.reserveStreams(numberOfTasks);
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      @SuppressWarnings("unchecked")
+      Future<double[]>[] futures = new Future[numberOfTasks];
+      for (int i = 0; i < numberOfTasks; i++) {
+        long stream = firstStream + i;
+        futures[i] = executor.submit(() -> random.callInStream(stream, this::drawNumbers));
+      }
+
+      double[][] results = new double[numberOfTasks][];
+      for (int i = 0; i < numberOfTasks; i++) {
+        results[i] = futures[i].get();
+      }
+      return results;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private double[] drawNumbers() {
+    double[] numbers = new double[10];
+    for (int i = 0; i < numbers.length; i++) {
+      numbers[i] = random.nextDouble();
+    }
+    return numbers;
+  }
+}
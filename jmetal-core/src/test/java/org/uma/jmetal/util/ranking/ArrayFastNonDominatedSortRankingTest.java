@@ -0,0 +1,75 @@
+package org.uma.jmetal.util.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.ranking.impl.ArrayFastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+public class ArrayFastNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public ArrayFastNonDominatedSortRankingTest() {
+    setRanking(new ArrayFastNonDominatedSortRanking<>());
+  }
+
+  @Test
+  public void shouldTheRankingBeEqualToTheOneOfFastNonDominatedSortRanking() {
+    Random random = new Random(1);
+    ArrayFastNonDominatedSortRanking<PointSolution> arrayRanking =
+        new ArrayFastNonDominatedSortRanking<>();
+
+    for (int run = 0; run < 20; run++) {
+      List<PointSolution> population = new ArrayList<>();
+      int numberOfObjectives = 2 + random.nextInt(3);
+      for (int i = 0; i < 100 + random.nextInt(100); i++) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = random.nextInt(20);
+        }
+        population.add(solution);
+      }
+
+      Ranking<PointSolution> ranking = new FastNonDominatedSortRanking<PointSolution>()
+          .compute(population);
+      arrayRanking.compute(population);
+
+      assertEquals(ranking.getNumberOfSubFronts(), arrayRanking.getNumberOfSubFronts());
+      for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+        assertEquals(ranking.getSubFront(rank), arrayRanking.getSubFront(rank));
+      }
+      for (int i = 0; i < population.size(); i++) {
+        assertEquals(ranking.getRank(population.get(i)), arrayRanking.getRank(population.get(i)));
+        assertEquals((int) ranking.getRank(population.get(i)), arrayRanking.getRank(i));
+      }
+    }
+  }
+
+  @Test
+  public void shouldGetRankReturnMinusOneForASolutionNotInTheRankedList() {
+    ArrayFastNonDominatedSortRanking<PointSolution> ranking =
+        new ArrayFastNonDominatedSortRanking<>();
+    ranking.compute(List.of(new PointSolution(new double[]{1.0, 2.0})));
+
+    assertEquals(-1, ranking.getRank(new PointSolution(new double[]{1.0, 2.0})));
+  }
+
+  @Test
+  public void shouldGetRankNotBeAffectedByChangesToTheListAfterComputingTheRanking() {
+    ArrayFastNonDominatedSortRanking<PointSolution> ranking =
+        new ArrayFastNonDominatedSortRanking<>();
+    PointSolution dominated = new PointSolution(new double[]{2.0, 2.0});
+    PointSolution nonDominated = new PointSolution(new double[]{1.0, 1.0});
+    List<PointSolution> population = new ArrayList<>(List.of(dominated, nonDominated));
+
+    ranking.compute(population);
+    population.clear();
+    population.add(new PointSolution(new double[]{0.0, 0.0}));
+
+    assertEquals(1, ranking.getRank(dominated));
+    assertEquals(0, ranking.getRank(nonDominated));
+  }
+}
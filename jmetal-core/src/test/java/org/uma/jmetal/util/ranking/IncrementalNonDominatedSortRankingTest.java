@@ -0,0 +1,84 @@
+package org.uma.jmetal.util.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+public class IncrementalNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public IncrementalNonDominatedSortRankingTest() {
+    setRanking(new IncrementalNonDominatedSortRanking<>());
+  }
+
+  @Test
+  public void shouldTheRanksBeEqualToTheOnesOfFastNonDominatedSortRankingInASteadyStateScheme() {
+    Random random = new Random(1);
+    IncrementalNonDominatedSortRanking<PointSolution> incrementalRanking =
+        new IncrementalNonDominatedSortRanking<>();
+
+    int numberOfObjectives = 3;
+    List<PointSolution> population = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      population.add(createSolution(random, numberOfObjectives));
+    }
+
+    for (int step = 0; step < 200; step++) {
+      population.add(createSolution(random, numberOfObjectives));
+      if (step % 10 == 0) {
+        population.add(population.get(random.nextInt(population.size())));
+      }
+
+      incrementalRanking.compute(population);
+      Ranking<PointSolution> ranking = new FastNonDominatedSortRanking<PointSolution>()
+          .compute(population);
+
+      assertEquals(ranking.getNumberOfSubFronts(), incrementalRanking.getNumberOfSubFronts());
+      for (PointSolution solution : population) {
+        assertEquals(ranking.getRank(solution), incrementalRanking.getRank(solution));
+      }
+
+      population.remove(random.nextInt(population.size()));
+    }
+
+    assertEquals(1, incrementalRanking.numberOfFullSorts());
+  }
+
+  @Test
+  public void shouldASolutionWhoseObjectivesHaveChangedBeRankedAgain() {
+    PointSolution solution1 = new PointSolution(new double[]{1.0, 1.0});
+    PointSolution solution2 = new PointSolution(new double[]{2.0, 2.0});
+    PointSolution solution3 = new PointSolution(new double[]{3.0, 3.0});
+    PointSolution solution4 = new PointSolution(new double[]{0.0, 4.0});
+    List<PointSolution> population = List.of(solution1, solution2, solution3, solution4);
+
+    IncrementalNonDominatedSortRanking<PointSolution> ranking =
+        new IncrementalNonDominatedSortRanking<>();
+    ranking.compute(population);
+    assertEquals(3, ranking.getNumberOfSubFronts());
+
+    solution1.objectives()[0] = 4.0;
+    solution1.objectives()[1] = 4.0;
+    ranking.compute(population);
+
+    assertEquals(3, ranking.getNumberOfSubFronts());
+    assertEquals(2, ranking.getRank(solution1));
+    assertEquals(0, ranking.getRank(solution2));
+    assertEquals(List.of(solution2, solution4), ranking.getSubFront(0));
+    assertEquals(1, ranking.numberOfUpdates());
+  }
+
+  private PointSolution createSolution(Random random, int numberOfObjectives) {
+    PointSolution solution = new PointSolution(numberOfObjectives);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      solution.objectives()[j] = random.nextInt(20);
+    }
+
+    return solution;
+  }
+}
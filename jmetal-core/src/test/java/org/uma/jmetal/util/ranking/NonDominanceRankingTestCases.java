@@ -11,9 +11,7 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
-import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.util.ranking.impl.ExperimentalFastNonDominanceRanking;
 
 public abstract class NonDominanceRankingTestCases<R extends Ranking<DoubleSolution>> {
   private R ranking;
@@ -28,8 +26,7 @@ public abstract class NonDominanceRankingTestCases<R extends Ranking<DoubleSolut
 
   @Test
   public void shouldTheRankingOfAnEmptyPopulationReturnZeroSubfronts() {
-    List<Solution<?>> population = Collections.emptyList();
-    Ranking<Solution<?>> ranking = new ExperimentalFastNonDominanceRanking<>();
+    List<DoubleSolution> population = Collections.emptyList();
     ranking.compute(population);
 
     assertEquals(0, ranking.getNumberOfSubFronts());
@@ -0,0 +1,90 @@
+package org.uma.jmetal.util.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ParallelNonDominatedSortRanking;
+
+public class ParallelNonDominatedSortRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  public ParallelNonDominatedSortRankingTest() {
+    setRanking(new ParallelNonDominatedSortRanking<>());
+  }
+
+  @AfterEach
+  public void shutdownPool() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void shouldTheRankingBeEqualToTheOneOfFastNonDominatedSortRanking() {
+    Random random = new Random(1);
+    ParallelNonDominatedSortRanking<PointSolution> defaultComparatorRanking =
+        new ParallelNonDominatedSortRanking<>(new DefaultDominanceComparator<>(), pool, 64);
+    ParallelNonDominatedSortRanking<PointSolution> constraintComparatorRanking =
+        new ParallelNonDominatedSortRanking<>(new DominanceWithConstraintsComparator<>(), pool, 64);
+
+    for (int run = 0; run < 20; run++) {
+      ParallelNonDominatedSortRanking<PointSolution> parallelRanking =
+          run % 2 == 0 ? defaultComparatorRanking : constraintComparatorRanking;
+      List<PointSolution> population = new ArrayList<>();
+      int numberOfObjectives = 2 + random.nextInt(3);
+      int populationSize = 1 + random.nextInt(400);
+      for (int i = 0; i < populationSize; i++) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        for (int j = 0; j < numberOfObjectives; j++) {
+          solution.objectives()[j] = random.nextInt(20);
+        }
+        population.add(solution);
+      }
+
+      Ranking<PointSolution> ranking = new FastNonDominatedSortRanking<PointSolution>()
+          .compute(population);
+      parallelRanking.compute(population);
+
+      assertEquals(ranking.getNumberOfSubFronts(), parallelRanking.getNumberOfSubFronts());
+      for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+        List<PointSolution> expected = ranking.getSubFront(rank);
+        List<PointSolution> obtained = parallelRanking.getSubFront(rank);
+        assertEquals(expected.size(), obtained.size());
+        for (int i = 0; i < expected.size(); i++) {
+          assertSame(expected.get(i), obtained.get(i));
+        }
+      }
+      for (int i = 0; i < population.size(); i++) {
+        assertEquals(ranking.getRank(population.get(i)), parallelRanking.getRank(population.get(i)));
+        assertEquals((int) ranking.getRank(population.get(i)), parallelRanking.getRank(i));
+      }
+    }
+  }
+
+  @Test
+  public void shouldGetRankReturnMinusOneForASolutionNotInTheRankedList() {
+    ParallelNonDominatedSortRanking<PointSolution> ranking =
+        new ParallelNonDominatedSortRanking<>(pool);
+    ranking.compute(List.of(new PointSolution(new double[]{1.0, 2.0})));
+
+    assertEquals(-1, ranking.getRank(new PointSolution(new double[]{1.0, 2.0})));
+  }
+
+  @Test
+  public void shouldConstructorRaiseAnExceptionIfTheTileSizeIsNotAMultipleOf64() {
+    assertThrows(InvalidConditionException.class,
+        () -> new ParallelNonDominatedSortRanking<>(new DominanceWithConstraintsComparator<>(),
+            pool, 100));
+  }
+}
@@ -9,10 +9,13 @@ import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.executor.ChunkedExecutor;
+import org.uma.jmetal.util.executor.ThreadPoolType;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class {@link
- * Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * Experiment}. The algorithms are run in parallel in a pool of {@link Experiment#getNumberOfCores()}
+ * threads created for the execution, one run per task.
  *
  * <p>The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per
  * org.uma.jmetal.experiment, which are stored in the directory {@link Experiment
@@ -34,10 +37,6 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory();
 
-    System.setProperty(
-        "java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + this.experiment.getNumberOfCores());
-
     int retryCounter = 0 ;
     int maxRetries = 5 ;
     boolean computationNotFinished = true ;
@@ -49,9 +48,7 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
       } else {
         JMetalLogger.logger.info(
             "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
-        unfinishedAlgorithmList
-            .parallelStream()
-            .forEach(algorithm -> algorithm.runAlgorithm(experiment));
+        runMissingExecutions(unfinishedAlgorithmList);
         retryCounter++;
       }
     }
@@ -86,7 +83,14 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
   }
 
   public void runMissingExecutions(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
-    experimentAlgorithms.parallelStream().forEach(algorithm -> algorithm.runAlgorithm(experiment));
+    ChunkedExecutor executor =
+        new ChunkedExecutor(experiment.getNumberOfCores(), ThreadPoolType.FIXED);
+    executor.chunkSize(1);
+    try {
+      executor.forEach(experimentAlgorithms, algorithm -> algorithm.runAlgorithm(experiment));
+    } finally {
+      executor.shutdown();
+    }
   }
 
   private void prepareOutputDirectory() {
@@ -11,6 +11,11 @@ import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
  * and submitted to be computed. The speed-ups that can be obtained will depend on the number of external entities,
  * the granularity of the task computation, and time required to process a received computed task.
  *
+ * <p>The main loop works on batches of computed tasks: {@link #waitForComputedTasks()} returns all
+ * the tasks received, they are processed together by {@link #processComputedTasks(List)}, and
+ * {@link #numberOfTasksToSubmit(int)} new tasks are submitted. By default a batch contains a single
+ * task and one new task is submitted per computed task.
+ *
  * @param <T> Task to be computed
  */
 public interface AsynchronousParallelAlgorithm<T extends ParallelTask<?>, R> {
@@ -27,19 +32,34 @@ public interface AsynchronousParallelAlgorithm<T extends ParallelTask<?>, R> {
   void updateProgress() ;
   R getResult() ;
 
+  default List<T> waitForComputedTasks() {
+    return List.of(waitForComputedTask());
+  }
+
+  default void processComputedTasks(List<T> tasks) {
+    tasks.forEach(this::processComputedTask);
+  }
+
+  default int numberOfTasksToSubmit(int numberOfComputedTasks) {
+    return numberOfComputedTasks;
+  }
+
   default void run() {
     List<T> initialTasks = createInitialTasks();
     submitInitialTasks(initialTasks);
 
     initProgress() ;
     while (stoppingConditionIsNotMet()) {
-      T computedTask = waitForComputedTask();
-      processComputedTask(computedTask);
+      List<T> computedTasks = waitForComputedTasks();
+      processComputedTasks(computedTasks);
 
-      if (thereAreInitialTasksPending(initialTasks)) {
-        submitTask(getInitialTask(initialTasks));
-      } else {
-        submitTask(createNewTask());
+      int tasksToSubmit = numberOfTasksToSubmit(computedTasks.size());
+      for (int i = 0; i < tasksToSubmit; i++) {
+        if (thereAreInitialTasksPending(initialTasks)) {
+          submitTask(getInitialTask(initialTasks));
+        } else {
+          submitTask(createNewTask());
+        }
       }
       updateProgress();
     }
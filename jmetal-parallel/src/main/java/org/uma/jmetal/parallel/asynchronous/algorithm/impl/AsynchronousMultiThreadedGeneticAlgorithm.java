@@ -11,7 +11,6 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.parallel.asynchronous.multithreaded.Master;
-import org.uma.jmetal.parallel.asynchronous.multithreaded.Worker;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
@@ -30,6 +29,7 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
   private Termination termination;
 
   private List<S> population = new ArrayList<>();
+  private List<S> offspringBatch;
   private int populationSize;
   private int evaluations = 0;
   private long initTime;
@@ -61,18 +61,11 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
     observable = new DefaultObservable<>("Observable");
 
     this.numberOfCores = numberOfCores;
-
-    createWorkers(numberOfCores, problem);
   }
 
-  private void createWorkers(int numberOfCores, Problem<S> problem) {
-    IntStream.range(0, numberOfCores).forEach(i -> new Worker<>(
-            (task) -> {
-              problem.evaluate(task.getContents());
-              return ParallelTask.create(createTaskIdentifier(), task.getContents());
-            },
-            pendingTaskQueue,
-            completedTaskQueue).start());
+  private ParallelTask<S> evaluate(ParallelTask<S> task) {
+    problem.evaluate(task.getContents());
+    return ParallelTask.create(createTaskIdentifier(), task.getContents());
   }
 
   private int createTaskIdentifier() {
@@ -95,6 +88,8 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
     attributes.put("POPULATION", population);
     attributes.put("COMPUTING_TIME", System.currentTimeMillis() - initTime);
     attributes.put("BEST_SOLUTION", population.get(0));
+    attributes.put("MASTER_BUSY_TIME", getMasterBusyTime());
+    attributes.put("WORKER_IDLE_TIME", getWorkerIdleTime());
 
     observable.setChanged();
     observable.notifyObservers(attributes);
@@ -134,18 +129,39 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
     evaluations++;
     if (population.size() < populationSize) {
       population.add(task.getContents());
+    } else if (offspringBatch != null) {
+      offspringBatch.add(task.getContents());
     } else {
       List<S> offspringPopulation = new ArrayList<>(1);
       offspringPopulation.add(task.getContents());
 
-      population = replacement.replace(population, offspringPopulation);
-      Check.that(population.size() == populationSize, "The population size is incorrect");
+      replace(offspringPopulation);
     }
   }
 
+  /**
+   * Processes a batch of computed tasks. The offspring received once the population is full are
+   * merged with it in a single replacement
+   */
   @Override
-  public void submitTask(ParallelTask<S> task) {
-    pendingTaskQueue.add(task);
+  public void processComputedTasks(List<ParallelTask<S>> tasks) {
+    if (tasks.size() == 1) {
+      processComputedTask(tasks.get(0));
+    } else {
+      offspringBatch = new ArrayList<>(tasks.size());
+      tasks.forEach(this::processComputedTask);
+
+      List<S> offspringPopulation = offspringBatch;
+      offspringBatch = null;
+      if (!offspringPopulation.isEmpty()) {
+        replace(offspringPopulation);
+      }
+    }
+  }
+
+  private void replace(List<S> offspringPopulation) {
+    population = replacement.replace(population, offspringPopulation);
+    Check.that(population.size() == populationSize, "The population size is incorrect");
   }
 
   @Override
@@ -172,10 +188,18 @@ public class AsynchronousMultiThreadedGeneticAlgorithm<S extends Solution<?>>
     return !termination.isMet(attributes);
   }
 
+  /**
+   * Runs the algorithm. The workers are started at the beginning and stopped at the end of the run
+   */
   @Override
   public void run() {
     initTime = System.currentTimeMillis();
-    super.run();
+    startWorkers(this::evaluate);
+    try {
+      super.run();
+    } finally {
+      stopWorkers();
+    }
   }
 
   @Override
@@ -10,7 +10,7 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
-import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
 public class AsynchronousMultiThreadedNSGAII<S extends Solution<?>>
     extends AsynchronousMultiThreadedGeneticAlgorithm<S> {
@@ -24,7 +24,7 @@ public class AsynchronousMultiThreadedNSGAII<S extends Solution<?>>
       Termination termination) {
     super(numberOfCores,problem, populationSize, crossover,mutation, new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
             new RankingAndDensityEstimatorReplacement<>(
-                    new MergeNonDominatedSortRanking<>(),
+                    new IncrementalNonDominatedSortRanking<>(),
                     new CrowdingDistanceDensityEstimator<>(),
                     Replacement.RemovalPolicy.ONE_SHOT),termination);
   }
@@ -0,0 +1,33 @@
+package org.uma.jmetal.parallel.asynchronous.multiprocess;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+/**
+ * Encodes the variables of a {@link DoubleSolution} as their number followed by their values
+ *
+ * @author Antonio J. Nebro
+ */
+public class DoubleSolutionCodec implements SolutionCodec<DoubleSolution> {
+  @Override
+  public void writeVariables(DoubleSolution solution, DataOutput output) throws IOException {
+    output.writeInt(solution.variables().size());
+    for (double value : solution.variables()) {
+      output.writeDouble(value);
+    }
+  }
+
+  @Override
+  public void readVariables(DataInput input, DoubleSolution solution) throws IOException {
+    int numberOfVariables = input.readInt();
+    if (numberOfVariables != solution.variables().size()) {
+      throw new IOException("Received " + numberOfVariables + " variables instead of "
+          + solution.variables().size());
+    }
+    for (int i = 0; i < numberOfVariables; i++) {
+      solution.variables().set(i, input.readDouble());
+    }
+  }
+}
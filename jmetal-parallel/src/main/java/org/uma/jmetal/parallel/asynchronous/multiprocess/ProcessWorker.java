@@ -0,0 +1,120 @@
+package org.uma.jmetal.parallel.asynchronous.multiprocess;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Main class of the worker processes launched by a {@link ProcessWorkerPool}. The process connects
+ * to the pool through a loopback socket, sends the token received in the {@link #TOKEN_VARIABLE}
+ * environment variable and, until the pool closes the connection, it reads the tasks (an identifier
+ * and the variables of a solution), evaluates them, and writes back the results (the identifier, a
+ * status byte, and the objectives and constraints of the solution, or the error message if the
+ * evaluation has failed).
+ *
+ * <p>Arguments: the port of the pool, the name of the problem class and the name of the codec class
+ * (both with a public constructor without arguments).
+ *
+ * @author Antonio J. Nebro
+ */
+public class ProcessWorker {
+  /**
+   * Environment variable containing the token identifying the process to the pool
+   */
+  public static final String TOKEN_VARIABLE = "JMETAL_WORKER_TOKEN";
+
+  static final byte EVALUATED = 0;
+  static final byte FAILED = 1;
+
+  private ProcessWorker() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      throw new IllegalArgumentException(
+          "Arguments: port problemClassName codecClassName");
+    }
+
+    String token = System.getenv(TOKEN_VARIABLE);
+    if (token == null) {
+      throw new IllegalStateException("The " + TOKEN_VARIABLE + " environment variable is not set");
+    }
+
+    int port = Integer.parseInt(args[0]);
+    Problem<Solution<?>> problem = instantiate(args[1]);
+    SolutionCodec<Solution<?>> codec = instantiate(args[2]);
+
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      socket.setTcpNoDelay(true);
+      DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream output =
+          new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      output.writeUTF(token);
+      output.flush();
+
+      while (true) {
+        long identifier;
+        try {
+          identifier = input.readLong();
+        } catch (EOFException e) {
+          return;
+        }
+
+        Solution<?> solution = problem.createSolution();
+        codec.readVariables(input, solution);
+
+        output.writeLong(identifier);
+        try {
+          problem.evaluate(solution);
+          output.writeByte(EVALUATED);
+          writeEvaluation(solution, output);
+        } catch (RuntimeException e) {
+          output.writeByte(FAILED);
+          output.writeUTF(String.valueOf(e));
+        }
+        output.flush();
+      }
+    }
+  }
+
+  static void writeEvaluation(Solution<?> solution, DataOutput output) throws IOException {
+    writeValues(solution.objectives(), output);
+    writeValues(solution.constraints(), output);
+  }
+
+  static void readEvaluation(DataInput input, Solution<?> solution) throws IOException {
+    readValues(input, solution.objectives());
+    readValues(input, solution.constraints());
+  }
+
+  private static void writeValues(double[] values, DataOutput output) throws IOException {
+    output.writeInt(values.length);
+    for (double value : values) {
+      output.writeDouble(value);
+    }
+  }
+
+  private static void readValues(DataInput input, double[] values) throws IOException {
+    int length = input.readInt();
+    if (length != values.length) {
+      throw new IOException("Received " + length + " values instead of " + values.length);
+    }
+    for (int i = 0; i < length; i++) {
+      values[i] = input.readDouble();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <C> C instantiate(String className) throws ReflectiveOperationException {
+    return (C) Class.forName(className).getDeclaredConstructor().newInstance();
+  }
+}
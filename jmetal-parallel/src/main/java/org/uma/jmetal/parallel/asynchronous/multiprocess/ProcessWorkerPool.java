@@ -0,0 +1,487 @@
+package org.uma.jmetal.parallel.asynchronous.multiprocess;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.uma.jmetal.parallel.asynchronous.multithreaded.WorkerPool;
+import org.uma.jmetal.parallel.asynchronous.task.FailedTask;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * {@link WorkerPool} evaluating the solutions in worker JVMs (see {@link ProcessWorker}), so that
+ * problems whose evaluation crashes or leaks memory (e.g., because of native code) are isolated from
+ * the master. Each worker process is served by a thread of the master through a loopback TCP
+ * connection: only the variables of the solutions are sent, encoded by a {@link SolutionCodec}, and
+ * only their objectives and constraints are received, so the solution attributes set by the
+ * evaluation are not transferred. Several tasks can be sent to a process before receiving the result
+ * of the first one, so that the process does not wait for the master between tasks.
+ *
+ * <p>If a worker process crashes (or its connection fails), the tasks sent to it are submitted
+ * again and the process is restarted, up to a maximum number of restarts per process. As a process
+ * evaluates its tasks in the order they are sent, the crash is blamed on the oldest of them, which
+ * is only submitted again up to a maximum number of times. The failures are reported to the master
+ * as {@link FailedTask}s, which make it throw an exception: the tasks whose evaluation throws an
+ * exception, the tasks exceeding their maximum number of retries, and the exhaustion of the pool
+ * when all the processes have exceeded their maximum number of restarts.
+ *
+ * <p>The processes are launched with the same Java executable and class path as the master, and
+ * the problem is created in each of them from the name of its class, which must have a public
+ * constructor without arguments. Each process receives a random token in an environment variable,
+ * and it must send it when connecting, so that other local processes cannot pose as workers.
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+public class ProcessWorkerPool<S extends Solution<?>> implements WorkerPool<ParallelTask<S>> {
+  private static final int ACCEPT_INTERVAL = 200;
+  private static final int HANDSHAKE_TIMEOUT = 5000;
+  private static final int TOKEN_LENGTH = 16;
+
+  private final int numberOfProcesses;
+  private final String problemClassName;
+  private final SolutionCodec<S> codec;
+
+  private int tasksPerProcess = 2;
+  private int maximumNumberOfRestarts = 5;
+  private int maximumNumberOfTaskRetries = 2;
+  private long startupTimeout = 60000;
+  private List<String> jvmOptions = new ArrayList<>();
+  private String javaCommand = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+  private String classPath = System.getProperty("java.class.path");
+
+  private final List<Connection> connections = new ArrayList<>();
+  private final List<Connection> stoppedConnections = new ArrayList<>();
+  private final LongAdder numberOfRestarts = new LongAdder();
+  // Number of times each task has crashed a process; a task is removed once it is evaluated
+  private final Map<ParallelTask<S>, Integer> taskCrashes =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final SecureRandom tokenGenerator = new SecureRandom();
+
+  public ProcessWorkerPool(int numberOfProcesses, Class<? extends Problem<S>> problemClass,
+      SolutionCodec<S> codec) {
+    Check.that(numberOfProcesses > 0, "The number of processes must be positive: " + numberOfProcesses);
+    Check.notNull(problemClass);
+    Check.notNull(codec);
+    this.numberOfProcesses = numberOfProcesses;
+    this.problemClassName = problemClass.getName();
+    this.codec = codec;
+  }
+
+  /**
+   * Sets the maximum number of tasks sent to a process and not yet received (2 by default)
+   */
+  public ProcessWorkerPool<S> setTasksPerProcess(int tasksPerProcess) {
+    Check.that(tasksPerProcess > 0, "The number of tasks per process must be positive: " + tasksPerProcess);
+    this.tasksPerProcess = tasksPerProcess;
+
+    return this;
+  }
+
+  public ProcessWorkerPool<S> setMaximumNumberOfRestarts(int maximumNumberOfRestarts) {
+    Check.that(maximumNumberOfRestarts >= 0,
+        "The maximum number of restarts cannot be negative: " + maximumNumberOfRestarts);
+    this.maximumNumberOfRestarts = maximumNumberOfRestarts;
+
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of times a task which has crashed a process is submitted again (2 by
+   * default). When it is exceeded, the task is reported to the master as failed.
+   */
+  public ProcessWorkerPool<S> setMaximumNumberOfTaskRetries(int maximumNumberOfTaskRetries) {
+    Check.that(maximumNumberOfTaskRetries >= 0,
+        "The maximum number of task retries cannot be negative: " + maximumNumberOfTaskRetries);
+    this.maximumNumberOfTaskRetries = maximumNumberOfTaskRetries;
+
+    return this;
+  }
+
+  /**
+   * Sets the time (in milliseconds) a process has to connect to the pool once launched
+   */
+  public ProcessWorkerPool<S> setStartupTimeout(long startupTimeout) {
+    Check.that(startupTimeout > 0, "The startup timeout must be positive: " + startupTimeout);
+    this.startupTimeout = startupTimeout;
+
+    return this;
+  }
+
+  /**
+   * Sets the options of the JVM of the worker processes (e.g., "-Xmx512m")
+   */
+  public ProcessWorkerPool<S> setJvmOptions(List<String> jvmOptions) {
+    Check.notNull(jvmOptions);
+    this.jvmOptions = new ArrayList<>(jvmOptions);
+
+    return this;
+  }
+
+  public ProcessWorkerPool<S> setJavaCommand(String javaCommand) {
+    Check.notNull(javaCommand);
+    this.javaCommand = javaCommand;
+
+    return this;
+  }
+
+  public ProcessWorkerPool<S> setClassPath(String classPath) {
+    Check.notNull(classPath);
+    this.classPath = classPath;
+
+    return this;
+  }
+
+  /**
+   * Number of times the worker processes have been restarted since the pool was created
+   */
+  public long getNumberOfRestarts() {
+    return numberOfRestarts.sum();
+  }
+
+  @Override
+  public synchronized void start(BlockingQueue<ParallelTask<S>> pendingTaskQueue,
+      BlockingQueue<ParallelTask<S>> completedTaskQueue, LongAdder idleTime) {
+    Check.that(connections.isEmpty(), "The worker pool is already running");
+
+    taskCrashes.clear();
+    AtomicInteger runningConnections = new AtomicInteger(numberOfProcesses);
+    for (int i = 0; i < numberOfProcesses; i++) {
+      Connection connection =
+          new Connection(i, pendingTaskQueue, completedTaskQueue, idleTime, runningConnections);
+      connections.add(connection);
+      connection.start();
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    for (Connection connection : connections) {
+      connection.shutdown();
+    }
+
+    stoppedConnections.clear();
+    stoppedConnections.addAll(connections);
+    connections.clear();
+  }
+
+  @Override
+  public synchronized boolean awaitTermination(long timeout, TimeUnit unit)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (Connection connection : stoppedConnections) {
+      TimeUnit.NANOSECONDS.timedJoin(connection, deadline - System.nanoTime());
+      if (connection.isAlive() || !connection.awaitProcess(deadline)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private String newToken() {
+    byte[] bytes = new byte[TOKEN_LENGTH];
+    tokenGenerator.nextBytes(bytes);
+
+    StringBuilder token = new StringBuilder(2 * TOKEN_LENGTH);
+    for (byte value : bytes) {
+      token.append(String.format("%02x", value));
+    }
+    return token.toString();
+  }
+
+  /**
+   * Thread of the master serving a worker process
+   */
+  private class Connection extends Thread {
+    private final int index;
+    private final BlockingQueue<ParallelTask<S>> pendingTaskQueue;
+    private final BlockingQueue<ParallelTask<S>> completedTaskQueue;
+    private final LongAdder idleTime;
+    private final AtomicInteger runningConnections;
+
+    // In the order the tasks have been sent to the process
+    private final Map<Long, ParallelTask<S>> tasksInFlight = new LinkedHashMap<>();
+    private long nextIdentifier;
+
+    private volatile boolean stopped;
+    private volatile Process process;
+    private volatile Socket socket;
+    private DataInputStream input;
+    private DataOutputStream output;
+
+    Connection(int index, BlockingQueue<ParallelTask<S>> pendingTaskQueue,
+        BlockingQueue<ParallelTask<S>> completedTaskQueue, LongAdder idleTime,
+        AtomicInteger runningConnections) {
+      super("ProcessWorkerPool-" + index);
+      this.index = index;
+      this.pendingTaskQueue = pendingTaskQueue;
+      this.completedTaskQueue = completedTaskQueue;
+      this.idleTime = idleTime;
+      this.runningConnections = runningConnections;
+    }
+
+    @Override
+    public void run() {
+      int restarts = 0;
+      boolean exhausted = false;
+      try {
+        while (!stopped) {
+          try {
+            launch();
+            serve();
+          } catch (IOException e) {
+            if (stopped) {
+              break;
+            }
+            close();
+            resubmitTasksInFlight(e);
+
+            if (restarts == maximumNumberOfRestarts) {
+              JMetalLogger.logger.severe("Worker process " + index + " failed (" + e
+                  + ") and it has been restarted " + restarts + " times; it is not restarted again");
+              exhausted = true;
+              break;
+            }
+            restarts++;
+            numberOfRestarts.increment();
+            JMetalLogger.logger.warning(
+                "Worker process " + index + " failed (" + e + "); restarting it");
+          }
+        }
+      } catch (InterruptedException e) {
+        // The pool has been stopped
+      } finally {
+        close();
+        if (exhausted && runningConnections.decrementAndGet() == 0 && !stopped) {
+          completedTaskQueue.add(new FailedTask<>(new JMetalException(
+              "All the worker processes have failed and exceeded the maximum number of restarts ("
+                  + maximumNumberOfRestarts + ")")));
+        }
+      }
+    }
+
+    /**
+     * Submits again the tasks sent to a process which has failed. The process evaluates the tasks
+     * in order, so the failure is blamed on the first one, which is reported to the master as
+     * failed if it has exceeded its maximum number of retries.
+     */
+    private void resubmitTasksInFlight(IOException failure) {
+      Iterator<ParallelTask<S>> iterator = tasksInFlight.values().iterator();
+      if (iterator.hasNext()) {
+        ParallelTask<S> task = iterator.next();
+        int crashes = taskCrashes.merge(task, 1, Integer::sum);
+        if (crashes > maximumNumberOfTaskRetries) {
+          taskCrashes.remove(task);
+          completedTaskQueue.add(new FailedTask<>(task, new JMetalException(
+              "The evaluation of a task has made the worker processes fail " + crashes
+                  + " times (last failure: " + failure + ")")));
+        } else {
+          pendingTaskQueue.add(task);
+        }
+      }
+      while (iterator.hasNext()) {
+        pendingTaskQueue.add(iterator.next());
+      }
+      tasksInFlight.clear();
+    }
+
+    /**
+     * Launches the process and waits for it to connect. The wait is split in short intervals to
+     * detect that the process has ended, or that the pool has been stopped, before the timeout.
+     */
+    private void launch() throws IOException {
+      socket = null;
+      try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+        serverSocket.setSoTimeout(ACCEPT_INTERVAL);
+        String token = newToken();
+
+        List<String> command = new ArrayList<>();
+        command.add(javaCommand);
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classPath);
+        command.add(ProcessWorker.class.getName());
+        command.add(String.valueOf(serverSocket.getLocalPort()));
+        command.add(problemClassName);
+        command.add(codec.getClass().getName());
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        processBuilder.environment().put(ProcessWorker.TOKEN_VARIABLE, token);
+        process = processBuilder.start();
+
+        long deadline = System.currentTimeMillis() + startupTimeout;
+        while (socket == null) {
+          if (stopped) {
+            throw new IOException("The pool has been stopped");
+          } else if (!process.isAlive()) {
+            throw new IOException("The process has ended with exit code " + process.exitValue());
+          } else if (System.currentTimeMillis() > deadline) {
+            throw new IOException("The process has not connected after " + startupTimeout + " ms");
+          }
+          try {
+            Socket candidate = serverSocket.accept();
+            if (sendsTheToken(candidate, token)) {
+              socket = candidate;
+            } else {
+              JMetalLogger.logger.warning("Worker process " + index
+                  + ": rejected a connection which has not sent the expected token");
+            }
+          } catch (SocketTimeoutException e) {
+            // Check again
+          }
+        }
+      }
+
+      socket.setTcpNoDelay(true);
+      input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    /**
+     * Sends tasks to the process until it has the maximum number of tasks in flight, and then
+     * waits for a result, until the pool is stopped
+     */
+    private void serve() throws IOException, InterruptedException {
+      while (!stopped) {
+        if (tasksInFlight.isEmpty()) {
+          long waitStart = System.nanoTime();
+          ParallelTask<S> task = pendingTaskQueue.take();
+          idleTime.add(System.nanoTime() - waitStart);
+          send(task);
+        }
+
+        ParallelTask<S> task;
+        while (tasksInFlight.size() < tasksPerProcess
+            && (task = pendingTaskQueue.poll()) != null) {
+          send(task);
+        }
+        output.flush();
+
+        receive();
+      }
+    }
+
+    /**
+     * Checks that a connection comes from the launched process, which sends the token first, and
+     * closes it otherwise
+     */
+    private boolean sendsTheToken(Socket candidate, String token) {
+      try {
+        candidate.setSoTimeout(HANDSHAKE_TIMEOUT);
+        // Not buffered, so that no bytes after the token are consumed
+        String receivedToken = new DataInputStream(candidate.getInputStream()).readUTF();
+        if (MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+            receivedToken.getBytes(StandardCharsets.UTF_8))) {
+          candidate.setSoTimeout(0);
+          return true;
+        }
+      } catch (IOException e) {
+        // Rejected
+      }
+
+      try {
+        candidate.close();
+      } catch (IOException e) {
+        // Nothing to do
+      }
+      return false;
+    }
+
+    private void send(ParallelTask<S> task) throws IOException {
+      long identifier = nextIdentifier++;
+      tasksInFlight.put(identifier, task);
+      output.writeLong(identifier);
+      codec.writeVariables(task.getContents(), output);
+    }
+
+    private void receive() throws IOException {
+      long identifier = input.readLong();
+      ParallelTask<S> task = tasksInFlight.remove(identifier);
+      if (task == null) {
+        throw new IOException("Unexpected task identifier: " + identifier);
+      }
+
+      if (!taskCrashes.isEmpty()) {
+        taskCrashes.remove(task);
+      }
+
+      if (input.readByte() == ProcessWorker.EVALUATED) {
+        ProcessWorker.readEvaluation(input, task.getContents());
+        completedTaskQueue.add(task);
+      } else {
+        completedTaskQueue.add(new FailedTask<>(task, new JMetalException(
+            "The evaluation of a task has failed in worker process " + index + ": "
+                + input.readUTF())));
+      }
+    }
+
+    /**
+     * Stops serving the process, which ends when it detects that the connection is closed
+     */
+    void shutdown() {
+      stopped = true;
+      interrupt();
+      close();
+    }
+
+    private void close() {
+      Socket currentSocket = socket;
+      if (currentSocket != null) {
+        try {
+          currentSocket.close();
+        } catch (IOException e) {
+          // Nothing to do
+        }
+      }
+
+      Process currentProcess = process;
+      if (currentProcess != null && !stopped) {
+        currentProcess.destroyForcibly();
+      }
+    }
+
+    /**
+     * Waits for the process to end, and kills it if it has not ended before the deadline
+     */
+    boolean awaitProcess(long deadline) throws InterruptedException {
+      Process currentProcess = process;
+      if (currentProcess == null) {
+        return true;
+      }
+      if (!currentProcess.waitFor(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        currentProcess.destroyForcibly();
+        return false;
+      }
+
+      return true;
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package org.uma.jmetal.parallel.asynchronous.multiprocess;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Binary encoding of the variables of the solutions sent to the worker processes of a
+ * {@link ProcessWorkerPool}. The objectives and constraints computed by the workers are encoded by
+ * the pool itself. Implementations must have a public constructor without arguments, as they are
+ * instantiated by name in the worker processes.
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+public interface SolutionCodec<S extends Solution<?>> {
+  void writeVariables(S solution, DataOutput output) throws IOException;
+
+  /**
+   * Reads the variables written by {@link #writeVariables(Solution, DataOutput)} into a solution
+   * created by the problem
+   */
+  void readVariables(DataInput input, S solution) throws IOException;
+}
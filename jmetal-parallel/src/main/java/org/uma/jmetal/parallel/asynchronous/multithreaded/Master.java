@@ -1,23 +1,223 @@
 package org.uma.jmetal.parallel.asynchronous.multithreaded;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import org.uma.jmetal.parallel.asynchronous.algorithm.AsynchronousParallelAlgorithm;
+import org.uma.jmetal.parallel.asynchronous.task.FailedTask;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
+/**
+ * Master of a master/worker scheme based on threads. The tasks are sent to the workers through the
+ * pending task queue, and the workers return them through the completed task queue.
+ *
+ * <p>By default the master receives the computed tasks one by one, and it submits a new task per
+ * computed task. When the workers are many and the evaluations are cheap, the master can become the
+ * bottleneck, so it can instead receive the computed tasks in batches: it blocks until a task is
+ * available and then drains all the tasks available in the completed task queue (up to the maximum
+ * batch size), which are processed together, and then it refills the pending task queue up to the
+ * in-flight depth (the number of tasks submitted and not yet received). The time spent by the
+ * master processing tasks, the time it spends waiting for them, and the time the workers spend
+ * waiting for tasks are measured to tune the batch size and the depth.
+ *
+ * <p>The workers are started with {@link #startWorkers(Function)} and stopped with
+ * {@link #stopWorkers()}, which sends them a poison pill so that they end after computing their
+ * current task. Each start uses new task queues, so the workers of a previous start cannot take the
+ * new tasks. By default each worker runs in its own thread; if an {@link ExecutorService} is set,
+ * the workers are submitted to it instead, so a pool can be shared by consecutive runs (in Java 21,
+ * <code>Executors.newVirtualThreadPerTaskExecutor()</code> runs them on virtual threads). The
+ * executor is not shut down by the master. The tasks can also be computed outside the threads of
+ * the master by setting a {@link WorkerPool} (e.g., worker processes). A worker pool reports the
+ * tasks it cannot compute, and its own failure, by putting a {@link FailedTask} in the completed
+ * task queue, which makes the master throw a {@link JMetalException} when it receives it.
+ *
+ * @author Antonio J. Nebro
+ */
 public abstract class Master<T extends ParallelTask<?>,R>
     implements AsynchronousParallelAlgorithm<T,R> {
+  private static final int UNDEFINED_DEPTH = -1;
+
   protected int numberOfCores;
   protected BlockingQueue<T> completedTaskQueue;
   protected BlockingQueue<T> pendingTaskQueue;
 
+  private ExecutorService executorService;
+  private WorkerPool<T> workerPool;
+  private boolean workerPoolIsRunning;
+  private final List<Worker<T>> workers = new ArrayList<>();
+  private final List<Future<?>> workerFutures = new ArrayList<>();
+  private final List<Worker<T>> stoppedWorkers = new ArrayList<>();
+  private final List<Future<?>> stoppedWorkerFutures = new ArrayList<>();
+
+  private int maximumBatchSize = 1;
+  private int inFlightDepth = UNDEFINED_DEPTH;
+  private int tasksInFlight;
+
+  private long masterBusyTime;
+  private long masterWaitingTime;
+  private long lastReceptionTime;
+  private long numberOfBatches;
+  private long numberOfReceivedTasks;
+  protected final LongAdder workerIdleTime = new LongAdder();
+
   public Master(int numberOfCores) {
     this.numberOfCores = numberOfCores;
     this.completedTaskQueue =  new LinkedBlockingQueue<>();
     this.pendingTaskQueue = new LinkedBlockingQueue<>();
   }
 
+  /**
+   * Sets the maximum number of computed tasks received and processed together. The default value,
+   * 1, makes the master process the tasks one by one.
+   */
+  public void setMaximumBatchSize(int maximumBatchSize) {
+    Check.that(maximumBatchSize > 0, "The maximum batch size must be positive: " + maximumBatchSize);
+    this.maximumBatchSize = maximumBatchSize;
+  }
+
+  /**
+   * Sets the number of tasks which are kept submitted and not yet received by the master. By
+   * default, it is the number of tasks submitted initially.
+   */
+  public void setInFlightDepth(int inFlightDepth) {
+    Check.that(inFlightDepth > 0, "The in-flight depth must be positive: " + inFlightDepth);
+    this.inFlightDepth = inFlightDepth;
+  }
+
+  /**
+   * Sets the executor used to run the workers. If it is null (the default value), each worker runs
+   * in a new thread.
+   */
+  public void setExecutorService(ExecutorService executorService) {
+    Check.that(workers.isEmpty(), "The executor cannot be changed while the workers are running");
+    this.executorService = executorService;
+  }
+
+  /**
+   * Sets the pool of workers computing the tasks. If it is null (the default value), the tasks are
+   * computed by worker threads.
+   */
+  public void setWorkerPool(WorkerPool<T> workerPool) {
+    Check.that(!workersAreRunning(), "The worker pool cannot be changed while the workers are running");
+    this.workerPool = workerPool;
+  }
+
+  /**
+   * Starts one worker per core, computing the tasks with the given function. The task queues are
+   * replaced by empty ones and the task counters are reset. If a {@link WorkerPool} is set, it is
+   * started instead, and the function is not used.
+   */
+  public void startWorkers(Function<T, T> computeFunction) {
+    Check.notNull(computeFunction);
+    Check.that(!workersAreRunning(), "The workers are already running");
+
+    completedTaskQueue = new LinkedBlockingQueue<>();
+    pendingTaskQueue = new LinkedBlockingQueue<>();
+    tasksInFlight = 0;
+    lastReceptionTime = 0;
+
+    if (workerPool != null) {
+      workerPool.start(pendingTaskQueue, completedTaskQueue, workerIdleTime);
+      workerPoolIsRunning = true;
+      return;
+    }
+
+    for (int i = 0; i < numberOfCores; i++) {
+      Worker<T> worker =
+          new Worker<>(computeFunction, pendingTaskQueue, completedTaskQueue, workerIdleTime);
+      if (executorService == null) {
+        worker.start();
+      } else {
+        workerFutures.add(executorService.submit(worker));
+      }
+      workers.add(worker);
+    }
+  }
+
+  /**
+   * Stops the workers: the pending tasks are discarded and a poison pill is sent to each worker,
+   * which ends after computing its current task. The method does not wait for the workers to end
+   * (see {@link #awaitWorkersTermination(long, TimeUnit)}).
+   */
+  public void stopWorkers() {
+    if (workerPoolIsRunning) {
+      workerPool.stop();
+      workerPoolIsRunning = false;
+      return;
+    }
+    if (workers.isEmpty()) {
+      return;
+    }
+
+    pendingTaskQueue.clear();
+    for (int i = 0; i < workers.size(); i++) {
+      pendingTaskQueue.add(Worker.poisonPill());
+    }
+
+    stoppedWorkers.clear();
+    stoppedWorkers.addAll(workers);
+    stoppedWorkerFutures.clear();
+    stoppedWorkerFutures.addAll(workerFutures);
+    workers.clear();
+    workerFutures.clear();
+  }
+
+  /**
+   * Waits for the workers stopped by the last call to {@link #stopWorkers()} to end.
+   *
+   * @return true if all of them have ended, false if the timeout has elapsed before
+   */
+  public boolean awaitWorkersTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    if (workerPool != null) {
+      return workerPool.awaitTermination(timeout, unit);
+    }
+
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    if (stoppedWorkerFutures.isEmpty()) {
+      for (Worker<T> worker : stoppedWorkers) {
+        TimeUnit.NANOSECONDS.timedJoin(worker, deadline - System.nanoTime());
+        if (worker.isAlive()) {
+          return false;
+        }
+      }
+    } else {
+      for (Future<?> future : stoppedWorkerFutures) {
+        try {
+          future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+          return false;
+        } catch (ExecutionException | CancellationException e) {
+          // The worker has ended anyway
+        }
+      }
+    }
+
+    return true;
+  }
+
+  public boolean workersAreRunning() {
+    return workerPoolIsRunning || !workers.isEmpty();
+  }
+
+  public int getMaximumBatchSize() {
+    return maximumBatchSize;
+  }
+
+  public int getInFlightDepth() {
+    return inFlightDepth;
+  }
+
   @Override
   public void submitInitialTasks(List<T> initialTasks) {
     if (initialTasks.size() >= numberOfCores) {
@@ -34,20 +234,78 @@ public abstract class Master<T extends ParallelTask<?>,R>
 
   @Override
   public T waitForComputedTask() {
-    T evaluatedTask = null;
+    if (inFlightDepth == UNDEFINED_DEPTH) {
+      inFlightDepth = Math.max(1, tasksInFlight);
+    }
+
+    long waitStart = System.nanoTime();
+    if (lastReceptionTime != 0) {
+      masterBusyTime += waitStart - lastReceptionTime;
+    }
+
+    T evaluatedTask;
     try {
       evaluatedTask = completedTaskQueue.take();
     } catch (InterruptedException e) {
-      e.printStackTrace();
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the computed tasks", e);
     }
+    throwIfFailed(evaluatedTask);
+
+    lastReceptionTime = System.nanoTime();
+    masterWaitingTime += lastReceptionTime - waitStart;
+    tasksInFlight--;
+    numberOfReceivedTasks++;
+    numberOfBatches++;
+
     return evaluatedTask;
   }
 
+  /**
+   * Blocks until a computed task is available and then takes, without blocking, the rest of the
+   * computed tasks in the queue, up to the maximum batch size
+   */
+  @Override
+  public List<T> waitForComputedTasks() {
+    List<T> computedTasks = new ArrayList<>(Math.min(maximumBatchSize, numberOfCores));
+    computedTasks.add(waitForComputedTask());
+    if (maximumBatchSize > 1) {
+      int drainedTasks = completedTaskQueue.drainTo(computedTasks, maximumBatchSize - 1);
+      tasksInFlight -= drainedTasks;
+      numberOfReceivedTasks += drainedTasks;
+      computedTasks.forEach(this::throwIfFailed);
+    }
+
+    return computedTasks;
+  }
+
+  /**
+   * Throws the failure of a task returned by the workers as a {@link FailedTask}
+   */
+  private void throwIfFailed(T task) {
+    if (task instanceof FailedTask) {
+      throw ((FailedTask<?>) task).getFailure();
+    }
+  }
+
+  /**
+   * Returns the number of tasks needed to have again as many tasks in flight as the in-flight depth
+   */
+  @Override
+  public int numberOfTasksToSubmit(int numberOfComputedTasks) {
+    return Math.max(0, inFlightDepth - tasksInFlight);
+  }
+
   @Override
   public abstract void processComputedTask(T task);
 
+  /**
+   * Submits a task to be computed. Subclasses overriding this method must call it, as the master
+   * counts the tasks in flight here.
+   */
   @Override
   public void submitTask(T task) {
+    tasksInFlight++;
     pendingTaskQueue.add(task);
   }
 
@@ -76,4 +334,38 @@ public abstract class Master<T extends ParallelTask<?>,R>
   public BlockingQueue<T> getPendingTaskQueue() {
     return pendingTaskQueue;
   }
+
+  /**
+   * Time (in milliseconds) spent by the master between receiving computed tasks and waiting again
+   * for them, i.e., processing tasks and creating new ones
+   */
+  public long getMasterBusyTime() {
+    return TimeUnit.NANOSECONDS.toMillis(masterBusyTime);
+  }
+
+  /**
+   * Time (in milliseconds) spent by the master waiting for computed tasks
+   */
+  public long getMasterWaitingTime() {
+    return TimeUnit.NANOSECONDS.toMillis(masterWaitingTime);
+  }
+
+  /**
+   * Time (in milliseconds) spent by all the workers waiting for tasks to compute
+   */
+  public long getWorkerIdleTime() {
+    return TimeUnit.NANOSECONDS.toMillis(workerIdleTime.sum());
+  }
+
+  public long getNumberOfBatches() {
+    return numberOfBatches;
+  }
+
+  public long getNumberOfReceivedTasks() {
+    return numberOfReceivedTasks;
+  }
+
+  public int getNumberOfTasksInFlight() {
+    return tasksInFlight;
+  }
 }
@@ -1,12 +1,24 @@
 package org.uma.jmetal.parallel.asynchronous.multithreaded;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
 
+/**
+ * Worker of a master/worker scheme based on threads. It takes the tasks from the pending task queue,
+ * computes them, and puts them in the completed task queue. It ends when it takes a poison pill (see
+ * {@link #poisonPill()}) or when it is interrupted while waiting for a task, so it can be run either
+ * as a thread or as a task of an {@link java.util.concurrent.ExecutorService}.
+ *
+ * @author Antonio J. Nebro
+ */
 public class Worker<T extends ParallelTask<?>> extends Thread {
+  private static final ParallelTask<String> POISON_PILL = ParallelTask.create(-1, "Poison pill");
+
   private BlockingQueue<T> completedTaskQueue;
   private BlockingQueue<T> pendingTaskQueue;
+  private LongAdder idleTime;
 
   protected Function<T, T> computeFunction;
 
@@ -14,20 +26,40 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
       Function<T, T> computeFunction,
       BlockingQueue<T> pendingTaskQueue,
       BlockingQueue<T> completedTaskQueue) {
+    this(computeFunction, pendingTaskQueue, completedTaskQueue, new LongAdder());
+  }
+
+  /**
+   * Constructor. The time (in nanoseconds) the worker waits for tasks is added to the
+   * <code>idleTime</code> counter, which can be shared by several workers.
+   */
+  public Worker(
+      Function<T, T> computeFunction,
+      BlockingQueue<T> pendingTaskQueue,
+      BlockingQueue<T> completedTaskQueue,
+      LongAdder idleTime) {
     this.computeFunction = computeFunction;
     this.completedTaskQueue = completedTaskQueue;
     this.pendingTaskQueue = pendingTaskQueue;
+    this.idleTime = idleTime;
   }
 
   @Override
   public void run() {
     while (true) {
-      T taskToCompute = null;
+      T taskToCompute;
 
+      long waitStart = System.nanoTime();
       try {
         taskToCompute = pendingTaskQueue.take();
       } catch (InterruptedException e) {
-        e.printStackTrace();
+        Thread.currentThread().interrupt();
+        return;
+      }
+      idleTime.add(System.nanoTime() - waitStart);
+
+      if (taskToCompute == POISON_PILL) {
+        return;
       }
 
       T computedTask = computeFunction.apply(taskToCompute);
@@ -43,4 +75,16 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
   public BlockingQueue<T> getPendingTaskQueue() {
     return pendingTaskQueue;
   }
+
+  public LongAdder getIdleTime() {
+    return idleTime;
+  }
+
+  /**
+   * Task which makes the worker taking it end
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends ParallelTask<?>> T poisonPill() {
+    return (T) POISON_PILL;
+  }
 }
@@ -0,0 +1,39 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+
+/**
+ * Set of workers computing the tasks of a {@link Master} by other means than the threads of the
+ * master (e.g., worker processes). The workers take the tasks from the pending task queue and put
+ * them, once computed, in the completed task queue. The tasks which cannot be computed, and the
+ * failure of the pool itself, must be reported by putting a
+ * {@link org.uma.jmetal.parallel.asynchronous.task.FailedTask} in the completed task queue, as the
+ * master waits for it otherwise.
+ *
+ * @param <T> Task to be computed
+ * @author Antonio J. Nebro
+ */
+public interface WorkerPool<T extends ParallelTask<?>> {
+  /**
+   * Starts the workers. The time (in nanoseconds) they spend waiting for tasks is added to
+   * <code>idleTime</code>.
+   */
+  void start(BlockingQueue<T> pendingTaskQueue, BlockingQueue<T> completedTaskQueue,
+      LongAdder idleTime);
+
+  /**
+   * Stops the workers; the tasks being computed are discarded. The method does not wait for the
+   * workers to end.
+   */
+  void stop();
+
+  /**
+   * Waits for the workers to end after a call to {@link #stop()}.
+   *
+   * @return true if all of them have ended, false if the timeout has elapsed before
+   */
+  boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,50 @@
+package org.uma.jmetal.parallel.asynchronous.task;
+
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Task put in the completed task queue of a master instead of a computed task when the task cannot
+ * be computed, or when the workers cannot compute any more tasks. The master receiving it throws
+ * its failure.
+ *
+ * @param <S> Contents of the task
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class FailedTask<S> implements ParallelTask<S> {
+  private final S contents;
+  private final long identifier;
+  private final JMetalException failure;
+
+  /**
+   * Failure of a task
+   */
+  public FailedTask(ParallelTask<S> task, JMetalException failure) {
+    this.contents = task.getContents();
+    this.identifier = task.getIdentifier();
+    this.failure = failure;
+  }
+
+  /**
+   * Failure not related to a particular task (its contents are null)
+   */
+  public FailedTask(JMetalException failure) {
+    this.contents = null;
+    this.identifier = -1;
+    this.failure = failure;
+  }
+
+  @Override
+  public S getContents() {
+    return contents;
+  }
+
+  @Override
+  public long getIdentifier() {
+    return identifier;
+  }
+
+  public JMetalException getFailure() {
+    return failure;
+  }
+}
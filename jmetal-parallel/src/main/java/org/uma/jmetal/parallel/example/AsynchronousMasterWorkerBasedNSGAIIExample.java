@@ -72,6 +72,8 @@ public class AsynchronousMasterWorkerBasedNSGAIIExample {
     List<DoubleSolution> resultList = nsgaii.getResult();
 
     JMetalLogger.logger.info("Computing time: " + (endTime - initTime));
+    JMetalLogger.logger.info("Master busy time: " + nsgaii.getMasterBusyTime());
+    JMetalLogger.logger.info("Worker idle time: " + nsgaii.getWorkerIdleTime());
     new SolutionListOutput(resultList)
             .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
             .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
@@ -0,0 +1,66 @@
+package org.uma.jmetal.parallel.example;
+
+import java.util.List;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.parallel.asynchronous.algorithm.impl.AsynchronousMultiThreadedNSGAII;
+import org.uma.jmetal.parallel.asynchronous.multiprocess.DoubleSolutionCodec;
+import org.uma.jmetal.parallel.asynchronous.multiprocess.ProcessWorkerPool;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+/**
+ * Asynchronous NSGA-II evaluating the solutions in worker processes instead of worker threads
+ *
+ * @author Antonio J. Nebro
+ */
+public class AsynchronousMultiProcessNSGAIIExample {
+  public static void main(String[] args) {
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    int populationSize = 100;
+    int maxEvaluations = 25000;
+    int numberOfProcesses = 4;
+
+    DoubleProblem problem = new ZDT1();
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.numberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    long initTime = System.currentTimeMillis();
+
+    AsynchronousMultiThreadedNSGAII<DoubleSolution> nsgaii =
+            new AsynchronousMultiThreadedNSGAII<DoubleSolution>(
+                    numberOfProcesses, problem, populationSize, crossover, mutation, new TerminationByEvaluations(maxEvaluations));
+
+    nsgaii.setWorkerPool(
+            new ProcessWorkerPool<>(numberOfProcesses, ZDT1.class, new DoubleSolutionCodec())
+                    .setTasksPerProcess(4)
+                    .setJvmOptions(List.of("-Xmx256m")));
+
+    nsgaii.run();
+
+    long endTime = System.currentTimeMillis();
+
+    List<DoubleSolution> resultList = nsgaii.getResult();
+
+    JMetalLogger.logger.info("Computing time: " + (endTime - initTime));
+    new SolutionListOutput(resultList)
+            .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
+            .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
+            .print();
+  }
+}
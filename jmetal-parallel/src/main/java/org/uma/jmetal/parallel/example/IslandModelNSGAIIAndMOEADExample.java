@@ -0,0 +1,77 @@
+package org.uma.jmetal.parallel.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.multiobjective.MOEADBuilder;
+import org.uma.jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.parallel.island.IslandModel;
+import org.uma.jmetal.parallel.island.migration.impl.BestReplacesWorstMigrationPolicy;
+import org.uma.jmetal.parallel.island.topology.impl.RingTopology;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.sequencegenerator.impl.IntegerPermutationGenerator;
+
+/**
+ * Island model with two NSGA-II and two MOEA/D islands connected in a ring
+ *
+ * @author Antonio J. Nebro
+ */
+public class IslandModelNSGAIIAndMOEADExample {
+  public static void main(String[] args) {
+    DoubleProblem problem = new ZDT1();
+
+    int numberOfIslands = 4;
+    int populationSize = 100;
+    int maxEvaluationsPerIsland = 25000;
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    double mutationProbability = 1.0 / problem.numberOfVariables();
+    double mutationDistributionIndex = 20.0;
+
+    List<EvolutionaryAlgorithm<DoubleSolution>> islands = new ArrayList<>();
+    for (int i = 0; i < numberOfIslands; i++) {
+      var crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+      var mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+      if (i % 2 == 0) {
+        islands.add(
+            new NSGAIIBuilder<>(problem, populationSize, populationSize, crossover, mutation)
+                .setTermination(new TerminationByEvaluations(maxEvaluationsPerIsland))
+                .build());
+      } else {
+        islands.add(
+            new MOEADBuilder<>(problem, populationSize, crossover, mutation, "",
+                new IntegerPermutationGenerator(populationSize), false)
+                .setTermination(new TerminationByEvaluations(maxEvaluationsPerIsland))
+                .build());
+      }
+    }
+
+    IslandModel<DoubleSolution> islandModel =
+        new IslandModel<>(islands)
+            .setTopology(new RingTopology())
+            .setMigrationPolicy(new BestReplacesWorstMigrationPolicy<>(5))
+            .setMigrationInterval(1000);
+
+    islandModel.run();
+
+    List<DoubleSolution> resultList = islandModel.result();
+
+    JMetalLogger.logger.info("Computing time: " + islandModel.totalComputingTime());
+    JMetalLogger.logger.info("Migrants sent: " + islandModel.numberOfSentMigrants()
+        + ". Migrants received: " + islandModel.numberOfReceivedMigrants());
+    new SolutionListOutput(resultList)
+        .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
+        .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
+        .print();
+  }
+}
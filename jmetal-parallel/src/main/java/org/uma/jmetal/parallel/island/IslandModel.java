@@ -0,0 +1,251 @@
+package org.uma.jmetal.parallel.island;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.parallel.island.migration.MigrationPolicy;
+import org.uma.jmetal.parallel.island.migration.impl.BestReplacesWorstMigrationPolicy;
+import org.uma.jmetal.parallel.island.topology.Topology;
+import org.uma.jmetal.parallel.island.topology.impl.RingTopology;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observer.Observer;
+
+/**
+ * Island model running a set of {@link EvolutionaryAlgorithm}s (the islands) in parallel, one per
+ * thread. The islands can be different algorithms (e.g., NSGA-II and MOEA/D), but they must solve
+ * the same problem.
+ *
+ * <p>The migration is asynchronous: each time an island has computed a number of evaluations given
+ * by the migration interval, it sends copies of the solutions selected by the {@link
+ * MigrationPolicy} to the islands given by the {@link Topology}, and it incorporates into its
+ * population the solutions received since its previous migration, if any. The solutions are sent
+ * through lock-free mailboxes, so an island never waits for the others. The migration is carried
+ * out by an observer registered in each island, which is invoked by the island thread between two
+ * iterations of the algorithm.
+ *
+ * <p>The result is the set of non-dominated solutions of the final populations of the islands.
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class IslandModel<S extends Solution<?>> implements Algorithm<List<S>> {
+  private final List<EvolutionaryAlgorithm<S>> algorithms;
+  private final List<Island> islands;
+
+  private Topology topology = new RingTopology();
+  private MigrationPolicy<S> migrationPolicy = new BestReplacesWorstMigrationPolicy<>(5);
+  private int migrationInterval = 1000;
+
+  private final LongAdder numberOfSentMigrants = new LongAdder();
+  private final LongAdder numberOfReceivedMigrants = new LongAdder();
+  private List<S> result = new ArrayList<>();
+  private long totalComputingTime;
+
+  public IslandModel(List<EvolutionaryAlgorithm<S>> algorithms) {
+    Check.notNull(algorithms);
+    Check.that(!algorithms.isEmpty(), "The list of islands is empty");
+    this.algorithms = new ArrayList<>(algorithms);
+
+    islands = new ArrayList<>(algorithms.size());
+    for (int i = 0; i < algorithms.size(); i++) {
+      islands.add(new Island(i, algorithms.get(i)));
+    }
+  }
+
+  public IslandModel<S> setTopology(Topology topology) {
+    Check.notNull(topology);
+    this.topology = topology;
+
+    return this;
+  }
+
+  public IslandModel<S> setMigrationPolicy(MigrationPolicy<S> migrationPolicy) {
+    Check.notNull(migrationPolicy);
+    this.migrationPolicy = migrationPolicy;
+
+    return this;
+  }
+
+  /**
+   * Sets the number of evaluations computed by an island between two migrations (1000 by default)
+   */
+  public IslandModel<S> setMigrationInterval(int migrationInterval) {
+    Check.that(migrationInterval > 0,
+        "The migration interval must be positive: " + migrationInterval);
+    this.migrationInterval = migrationInterval;
+
+    return this;
+  }
+
+  /**
+   * Runs the islands and waits for all of them to finish. If an island fails, the others are run
+   * to completion and then the failure is thrown.
+   */
+  @Override
+  public void run() {
+    long initTime = System.currentTimeMillis();
+
+    numberOfSentMigrants.reset();
+    numberOfReceivedMigrants.reset();
+
+    List<Thread> threads = new ArrayList<>(islands.size());
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    for (Island island : islands) {
+      island.reset();
+      Thread thread = new Thread(() -> island.run(failure), "Island-" + island.index);
+      threads.add(thread);
+    }
+    threads.forEach(Thread::start);
+
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the islands", e);
+    }
+
+    if (failure.get() != null) {
+      JMetalException exception = new JMetalException("An island has failed: " + failure.get());
+      exception.initCause(failure.get());
+      throw exception;
+    }
+
+    NonDominatedSolutionListArchive<S> archive = new NonDominatedSolutionListArchive<>();
+    for (EvolutionaryAlgorithm<S> algorithm : algorithms) {
+      archive.addAll(algorithm.result());
+    }
+    result = archive.solutions();
+
+    totalComputingTime = System.currentTimeMillis() - initTime;
+  }
+
+  @Override
+  public List<S> result() {
+    return result;
+  }
+
+  public List<EvolutionaryAlgorithm<S>> islands() {
+    return algorithms;
+  }
+
+  public long totalComputingTime() {
+    return totalComputingTime;
+  }
+
+  /**
+   * Total number of solutions sent by the islands in the last run
+   */
+  public long numberOfSentMigrants() {
+    return numberOfSentMigrants.sum();
+  }
+
+  /**
+   * Total number of solutions incorporated by the islands into their populations in the last run.
+   * It can be lower than the number of solutions sent, as the solutions arriving at an island after
+   * its last migration are discarded.
+   */
+  public long numberOfReceivedMigrants() {
+    return numberOfReceivedMigrants.sum();
+  }
+
+  @Override
+  public String name() {
+    return "IslandModel";
+  }
+
+  @Override
+  public String description() {
+    return "Island model with asynchronous migration";
+  }
+
+  /**
+   * An island: its algorithm, its mailbox and the observer carrying out its migrations
+   */
+  private class Island implements Observer<Map<String, Object>> {
+    private final int index;
+    private final EvolutionaryAlgorithm<S> algorithm;
+    private final Queue<S> mailbox = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+    private long nextMigration;
+
+    Island(int index, EvolutionaryAlgorithm<S> algorithm) {
+      Check.notNull(algorithm);
+      this.index = index;
+      this.algorithm = algorithm;
+    }
+
+    void reset() {
+      mailbox.clear();
+      nextMigration = migrationInterval;
+      running = true;
+    }
+
+    void run(AtomicReference<Throwable> failure) {
+      algorithm.observable().register(this);
+      try {
+        algorithm.run();
+      } catch (RuntimeException | Error e) {
+        failure.compareAndSet(null, e);
+      } finally {
+        running = false;
+        algorithm.observable().unregister(this);
+        mailbox.clear();
+      }
+    }
+
+    @Override
+    public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+      int evaluations = algorithm.numberOfEvaluations();
+      if (evaluations < nextMigration) {
+        return;
+      }
+      while (nextMigration <= evaluations) {
+        nextMigration += migrationInterval;
+      }
+
+      emigrate();
+      immigrate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emigrate() {
+      List<S> emigrants = migrationPolicy.selectEmigrants(algorithm.population());
+      for (int destination : topology.destinations(index, islands.size())) {
+        Island island = islands.get(destination);
+        if (island.running) {
+          for (S emigrant : emigrants) {
+            island.mailbox.offer((S) emigrant.copy());
+          }
+          numberOfSentMigrants.add(emigrants.size());
+        }
+      }
+    }
+
+    private void immigrate() {
+      List<S> immigrants = new ArrayList<>();
+      S immigrant;
+      while ((immigrant = mailbox.poll()) != null) {
+        immigrants.add(immigrant);
+      }
+
+      if (!immigrants.isEmpty()) {
+        algorithm.updatePopulation(
+            migrationPolicy.integrateImmigrants(algorithm.population(), immigrants));
+        numberOfReceivedMigrants.add(Math.min(immigrants.size(), algorithm.population().size()));
+      }
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package org.uma.jmetal.parallel.island.migration;
+
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Interface representing the policy deciding which solutions of an island migrate, and how the
+ * solutions received by an island are incorporated into its population. The policies are invoked
+ * concurrently from the threads of the islands, so they must be thread-safe.
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+public interface MigrationPolicy<S extends Solution<?>> {
+  /**
+   * Returns the solutions of the population that migrate. The island model sends copies of them,
+   * so the population is not modified.
+   */
+  List<S> selectEmigrants(List<S> population);
+
+  /**
+   * Returns the population resulting from incorporating the immigrants. The population keeps its
+   * size and each immigrant takes the position of the solution it replaces, so that the algorithms
+   * associating each position with a subproblem (e.g., MOEA/D) can be used as islands.
+   */
+  List<S> integrateImmigrants(List<S> population, List<S> immigrants);
+}
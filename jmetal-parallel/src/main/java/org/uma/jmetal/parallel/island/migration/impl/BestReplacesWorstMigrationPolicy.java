@@ -0,0 +1,86 @@
+package org.uma.jmetal.parallel.island.migration.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.uma.jmetal.parallel.island.migration.MigrationPolicy;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
+import org.uma.jmetal.util.sequencegenerator.impl.IntegerPermutationGenerator;
+
+/**
+ * The emigrants are the best solutions of the population according to the non-dominated sorting,
+ * and the immigrants replace the worst ones. The solutions of the same front are chosen at random.
+ * The immigrants always replace the worst solutions, even if they are worse than them: the
+ * replacement of the island decides later whether they survive.
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+public class BestReplacesWorstMigrationPolicy<S extends Solution<?>>
+    implements MigrationPolicy<S> {
+  private final int numberOfMigrants;
+
+  public BestReplacesWorstMigrationPolicy(int numberOfMigrants) {
+    Check.that(numberOfMigrants > 0,
+        "The number of migrants must be positive: " + numberOfMigrants);
+    this.numberOfMigrants = numberOfMigrants;
+  }
+
+  @Override
+  public List<S> selectEmigrants(List<S> population) {
+    Check.notNull(population);
+    int numberOfEmigrants = Math.min(numberOfMigrants, population.size());
+
+    List<Integer> positions = positionsFromBestToWorst(population);
+    List<S> emigrants = new ArrayList<>(numberOfEmigrants);
+    for (int i = 0; i < numberOfEmigrants; i++) {
+      emigrants.add(population.get(positions.get(i)));
+    }
+
+    return emigrants;
+  }
+
+  @Override
+  public List<S> integrateImmigrants(List<S> population, List<S> immigrants) {
+    Check.notNull(population);
+    Check.notNull(immigrants);
+    int numberOfImmigrants = Math.min(immigrants.size(), population.size());
+
+    List<S> newPopulation = new ArrayList<>(population);
+    if (numberOfImmigrants > 0) {
+      List<Integer> positions = positionsFromBestToWorst(population);
+      for (int i = 0; i < numberOfImmigrants; i++) {
+        newPopulation.set(positions.get(positions.size() - 1 - i), immigrants.get(i));
+      }
+    }
+
+    return newPopulation;
+  }
+
+  /**
+   * Returns the positions of the population sorted by the rank of their solutions, breaking the
+   * ties at random. A new ranking is used in each invocation, as the policy is shared by the
+   * islands.
+   */
+  private List<Integer> positionsFromBestToWorst(List<S> population) {
+    List<Integer> positions = new ArrayList<>(population.size());
+    if (population.isEmpty()) {
+      return positions;
+    }
+
+    Ranking<S> ranking = new FastNonDominatedSortRanking<S>().compute(population);
+
+    SequenceGenerator<Integer> permutation = new IntegerPermutationGenerator(population.size());
+    for (int i = 0; i < population.size(); i++) {
+      positions.add(permutation.getValue());
+      permutation.generateNext();
+    }
+    positions.sort(Comparator.comparing(position -> ranking.getRank(population.get(position))));
+
+    return positions;
+  }
+}
@@ -0,0 +1,60 @@
+package org.uma.jmetal.parallel.island.migration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.parallel.island.migration.MigrationPolicy;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
+import org.uma.jmetal.util.sequencegenerator.impl.IntegerPermutationGenerator;
+
+/**
+ * The emigrants are chosen at random, and the immigrants replace solutions chosen at random
+ *
+ * @param <S> Solution type
+ * @author Antonio J. Nebro
+ */
+public class RandomMigrationPolicy<S extends Solution<?>> implements MigrationPolicy<S> {
+  private final int numberOfMigrants;
+
+  public RandomMigrationPolicy(int numberOfMigrants) {
+    Check.that(numberOfMigrants > 0,
+        "The number of migrants must be positive: " + numberOfMigrants);
+    this.numberOfMigrants = numberOfMigrants;
+  }
+
+  @Override
+  public List<S> selectEmigrants(List<S> population) {
+    Check.notNull(population);
+    int numberOfEmigrants = Math.min(numberOfMigrants, population.size());
+
+    List<S> emigrants = new ArrayList<>(numberOfEmigrants);
+    if (numberOfEmigrants > 0) {
+      SequenceGenerator<Integer> positions = new IntegerPermutationGenerator(population.size());
+      for (int i = 0; i < numberOfEmigrants; i++) {
+        emigrants.add(population.get(positions.getValue()));
+        positions.generateNext();
+      }
+    }
+
+    return emigrants;
+  }
+
+  @Override
+  public List<S> integrateImmigrants(List<S> population, List<S> immigrants) {
+    Check.notNull(population);
+    Check.notNull(immigrants);
+    int numberOfImmigrants = Math.min(immigrants.size(), population.size());
+
+    List<S> newPopulation = new ArrayList<>(population);
+    if (numberOfImmigrants > 0) {
+      SequenceGenerator<Integer> positions = new IntegerPermutationGenerator(population.size());
+      for (int i = 0; i < numberOfImmigrants; i++) {
+        newPopulation.set(positions.getValue(), immigrants.get(i));
+        positions.generateNext();
+      }
+    }
+
+    return newPopulation;
+  }
+}
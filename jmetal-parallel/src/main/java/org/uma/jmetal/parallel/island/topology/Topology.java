@@ -0,0 +1,18 @@
+package org.uma.jmetal.parallel.island.topology;
+
+import java.util.List;
+
+/**
+ * Interface representing the topology of an island model, which indicates the islands receiving
+ * the migrants of each island. The topologies are invoked concurrently from the threads of the
+ * islands, so they must be thread-safe.
+ *
+ * @author Antonio J. Nebro
+ */
+@FunctionalInterface
+public interface Topology {
+  /**
+   * Returns the indices of the islands receiving the migrants of an island in a migration
+   */
+  List<Integer> destinations(int island, int numberOfIslands);
+}
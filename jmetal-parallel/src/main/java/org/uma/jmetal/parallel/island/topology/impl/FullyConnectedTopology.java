@@ -0,0 +1,24 @@
+package org.uma.jmetal.parallel.island.topology.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.parallel.island.topology.Topology;
+
+/**
+ * Each island sends its migrants to all the other islands
+ *
+ * @author Antonio J. Nebro
+ */
+public class FullyConnectedTopology implements Topology {
+  @Override
+  public List<Integer> destinations(int island, int numberOfIslands) {
+    List<Integer> destinations = new ArrayList<>(numberOfIslands - 1);
+    for (int i = 0; i < numberOfIslands; i++) {
+      if (i != island) {
+        destinations.add(i);
+      }
+    }
+
+    return destinations;
+  }
+}
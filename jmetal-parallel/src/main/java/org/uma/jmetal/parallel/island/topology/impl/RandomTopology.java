@@ -0,0 +1,48 @@
+package org.uma.jmetal.parallel.island.topology.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.parallel.island.topology.Topology;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * In each migration, an island sends its migrants to a number of other islands chosen at random
+ * (one by default)
+ *
+ * @author Antonio J. Nebro
+ */
+public class RandomTopology implements Topology {
+  private final int numberOfDestinations;
+
+  public RandomTopology() {
+    this(1);
+  }
+
+  public RandomTopology(int numberOfDestinations) {
+    Check.that(numberOfDestinations > 0,
+        "The number of destinations must be positive: " + numberOfDestinations);
+    this.numberOfDestinations = numberOfDestinations;
+  }
+
+  @Override
+  public List<Integer> destinations(int island, int numberOfIslands) {
+    List<Integer> candidates = new ArrayList<>(numberOfIslands - 1);
+    for (int i = 0; i < numberOfIslands; i++) {
+      if (i != island) {
+        candidates.add(i);
+      }
+    }
+
+    List<Integer> destinations = new ArrayList<>(numberOfDestinations);
+    JMetalRandom random = JMetalRandom.getInstance();
+    while (destinations.size() < numberOfDestinations && !candidates.isEmpty()) {
+      int index = random.nextInt(0, candidates.size() - 1);
+      destinations.add(candidates.get(index));
+      candidates.set(index, candidates.get(candidates.size() - 1));
+      candidates.remove(candidates.size() - 1);
+    }
+
+    return destinations;
+  }
+}
@@ -0,0 +1,20 @@
+package org.uma.jmetal.parallel.island.topology.impl;
+
+import java.util.List;
+import org.uma.jmetal.parallel.island.topology.Topology;
+
+/**
+ * Unidirectional ring: island i sends its migrants to island (i + 1) mod K
+ *
+ * @author Antonio J. Nebro
+ */
+public class RingTopology implements Topology {
+  @Override
+  public List<Integer> destinations(int island, int numberOfIslands) {
+    if (numberOfIslands == 1) {
+      return List.of();
+    }
+
+    return List.of((island + 1) % numberOfIslands);
+  }
+}
@@ -0,0 +1,193 @@
+package org.uma.jmetal.parallel.asynchronous.multiprocess;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.parallel.asynchronous.algorithm.impl.AsynchronousMultiThreadedNSGAII;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+class ProcessWorkerPoolTest {
+  /**
+   * ZDT1 problem whose worker process crashes once, when evaluating its fifth solution, if the file
+   * given by the "crash.marker" system property can be created
+   */
+  public static class CrashingZDT1 extends ZDT1 {
+    private int evaluations;
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      String marker = System.getProperty("crash.marker");
+      if (marker != null && ++evaluations == 5) {
+        try {
+          if (new File(marker).createNewFile()) {
+            Runtime.getRuntime().halt(3);
+          }
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+
+      return super.evaluate(solution);
+    }
+  }
+
+  /** ZDT1 problem whose evaluations always throw an exception */
+  public static class FailingZDT1 extends ZDT1 {
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      throw new IllegalStateException("Failed evaluation");
+    }
+  }
+
+  /** ZDT1 problem whose worker process crashes in every evaluation */
+  public static class AlwaysCrashingZDT1 extends ZDT1 {
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      Runtime.getRuntime().halt(3);
+      return solution;
+    }
+  }
+
+  @Test
+  void shouldTheCodecRestoreTheVariablesOfASolution() throws IOException {
+    ZDT1 problem = new ZDT1(5);
+    DoubleSolution solution = problem.createSolution();
+    DoubleSolution copy = problem.createSolution();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new DoubleSolutionCodec().writeVariables(solution, new DataOutputStream(bytes));
+    new DoubleSolutionCodec().readVariables(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), copy);
+
+    assertEquals(solution.variables(), copy.variables());
+    assertEquals(4 + 5 * 8, bytes.size());
+  }
+
+  @Test
+  void shouldTheWorkerProcessesEvaluateTheSolutions() throws InterruptedException {
+    ProcessWorkerPool<DoubleSolution> pool =
+        new ProcessWorkerPool<>(2, ZDT1.class, new DoubleSolutionCodec()).setTasksPerProcess(3);
+
+    List<DoubleSolution> evaluatedSolutions = evaluate(pool, 20);
+
+    ZDT1 problem = new ZDT1();
+    for (DoubleSolution solution : evaluatedSolutions) {
+      DoubleSolution localSolution = (DoubleSolution) solution.copy();
+      problem.evaluate(localSolution);
+      assertArrayEquals(localSolution.objectives(), solution.objectives());
+    }
+    assertEquals(0, (int) pool.getNumberOfRestarts());
+  }
+
+  @Test
+  void shouldACrashedWorkerProcessBeRestartedAndItsTasksBeSubmittedAgain(@TempDir Path directory)
+      throws InterruptedException {
+    ProcessWorkerPool<DoubleSolution> pool =
+        new ProcessWorkerPool<>(1, CrashingZDT1.class, new DoubleSolutionCodec())
+            .setJvmOptions(List.of("-Dcrash.marker=" + directory.resolve("crashed")));
+
+    List<DoubleSolution> evaluatedSolutions = evaluate(pool, 10);
+
+    assertEquals(10, evaluatedSolutions.size());
+    assertEquals(1, (int) pool.getNumberOfRestarts());
+  }
+
+  @Test
+  void shouldTheMasterFailIfTheEvaluationOfATaskFails() {
+    ProcessWorkerPool<DoubleSolution> pool =
+        new ProcessWorkerPool<>(2, FailingZDT1.class, new DoubleSolutionCodec());
+
+    JMetalException exception = assertThrows(JMetalException.class, () -> run(pool));
+    assertTrue(exception.getMessage().contains("Failed evaluation"));
+  }
+
+  @Test
+  void shouldTheMasterFailIfATaskCrashesTheWorkerProcessesMoreTimesThanItsMaximumNumberOfRetries() {
+    ProcessWorkerPool<DoubleSolution> pool =
+        new ProcessWorkerPool<>(1, AlwaysCrashingZDT1.class, new DoubleSolutionCodec())
+            .setMaximumNumberOfTaskRetries(1)
+            .setMaximumNumberOfRestarts(5);
+
+    JMetalException exception = assertThrows(JMetalException.class, () -> run(pool));
+    assertTrue(exception.getMessage().contains("2 times"));
+  }
+
+  @Test
+  void shouldTheMasterFailIfAllTheWorkerProcessesExceedTheirMaximumNumberOfRestarts() {
+    ProcessWorkerPool<DoubleSolution> pool =
+        new ProcessWorkerPool<>(2, AlwaysCrashingZDT1.class, new DoubleSolutionCodec())
+            .setMaximumNumberOfTaskRetries(10)
+            .setMaximumNumberOfRestarts(1);
+
+    JMetalException exception = assertThrows(JMetalException.class, () -> run(pool));
+    assertTrue(exception.getMessage().contains("All the worker processes have failed"));
+    assertEquals(2, (int) pool.getNumberOfRestarts());
+  }
+
+  /**
+   * Runs an asynchronous NSGA-II whose tasks are evaluated by a pool
+   */
+  private void run(ProcessWorkerPool<DoubleSolution> pool) throws InterruptedException {
+    ZDT1 problem = new ZDT1();
+    AsynchronousMultiThreadedNSGAII<DoubleSolution> nsgaii =
+        new AsynchronousMultiThreadedNSGAII<>(2, problem, 10, new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+            new TerminationByEvaluations(100));
+    nsgaii.setWorkerPool(pool);
+
+    try {
+      nsgaii.run();
+    } finally {
+      assertTrue(nsgaii.awaitWorkersTermination(30, TimeUnit.SECONDS));
+    }
+  }
+
+  private List<DoubleSolution> evaluate(ProcessWorkerPool<DoubleSolution> pool,
+      int numberOfSolutions) throws InterruptedException {
+    BlockingQueue<ParallelTask<DoubleSolution>> pendingTaskQueue = new LinkedBlockingQueue<>();
+    BlockingQueue<ParallelTask<DoubleSolution>> completedTaskQueue = new LinkedBlockingQueue<>();
+
+    ZDT1 problem = new ZDT1();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      pendingTaskQueue.add(ParallelTask.create(i, problem.createSolution()));
+    }
+
+    pool.start(pendingTaskQueue, completedTaskQueue, new LongAdder());
+    List<DoubleSolution> evaluatedSolutions = new ArrayList<>();
+    try {
+      for (int i = 0; i < numberOfSolutions; i++) {
+        ParallelTask<DoubleSolution> task = completedTaskQueue.poll(60, TimeUnit.SECONDS);
+        assertTrue(task != null);
+        evaluatedSolutions.add(task.getContents());
+      }
+    } finally {
+      pool.stop();
+    }
+    assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+    return evaluatedSolutions;
+  }
+}
@@ -0,0 +1,110 @@
+package org.uma.jmetal.parallel.island;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.multiobjective.MOEADBuilder;
+import org.uma.jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.parallel.island.topology.impl.FullyConnectedTopology;
+import org.uma.jmetal.parallel.island.topology.impl.RandomTopology;
+import org.uma.jmetal.parallel.island.topology.impl.RingTopology;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.sequencegenerator.impl.IntegerPermutationGenerator;
+
+class IslandModelTest {
+  private final ZDT1 problem = new ZDT1();
+
+  @Test
+  void shouldTheRingTopologyConnectEachIslandWithTheNextOne() {
+    assertEquals(List.of(1), new RingTopology().destinations(0, 3));
+    assertEquals(List.of(0), new RingTopology().destinations(2, 3));
+    assertEquals(List.of(), new RingTopology().destinations(0, 1));
+  }
+
+  @Test
+  void shouldTheFullyConnectedTopologyConnectEachIslandWithTheOtherOnes() {
+    assertEquals(List.of(0, 2, 3), new FullyConnectedTopology().destinations(1, 4));
+  }
+
+  @Test
+  void shouldTheRandomTopologyChooseDifferentIslandsOtherThanTheSource() {
+    for (int i = 0; i < 100; i++) {
+      List<Integer> destinations = new RandomTopology(2).destinations(1, 4);
+
+      assertEquals(2, destinations.size());
+      assertFalse(destinations.contains(1));
+      assertEquals(2, destinations.stream().distinct().count());
+    }
+    assertEquals(List.of(0), new RandomTopology(3).destinations(1, 2));
+  }
+
+  @Test
+  void shouldRunMigrateBetweenHeterogeneousIslandsAndReturnTheNonDominatedSolutions() {
+    List<EvolutionaryAlgorithm<DoubleSolution>> islands = new ArrayList<>();
+    islands.add(nsgaii(2000));
+    islands.add(moead(2000));
+    islands.add(nsgaii(2000));
+
+    IslandModel<DoubleSolution> islandModel =
+        new IslandModel<>(islands)
+            .setTopology(new FullyConnectedTopology())
+            .setMigrationInterval(200);
+    islandModel.run();
+
+    assertTrue(islandModel.numberOfSentMigrants() > 0);
+    assertTrue(islandModel.numberOfReceivedMigrants() > 0);
+    for (EvolutionaryAlgorithm<DoubleSolution> island : islands) {
+      assertEquals(2000, island.numberOfEvaluations());
+      assertEquals(20, island.population().size());
+      assertEquals(0, island.observable().numberOfRegisteredObservers());
+    }
+
+    List<DoubleSolution> result = islandModel.result();
+    assertFalse(result.isEmpty());
+    assertEquals(result.size(), SolutionListUtils.getNonDominatedSolutions(result).size());
+  }
+
+  @Test
+  void shouldRunThrowAnExceptionIfAnIslandFails() {
+    List<EvolutionaryAlgorithm<DoubleSolution>> islands = new ArrayList<>();
+    islands.add(nsgaii(1000));
+    islands.add(nsgaii(1000));
+    islands.get(1).termination(attributes -> {
+      throw new IllegalStateException("Failure");
+    });
+
+    IslandModel<DoubleSolution> islandModel = new IslandModel<>(islands);
+
+    JMetalException exception = assertThrows(JMetalException.class, islandModel::run);
+    assertTrue(exception.getCause() instanceof IllegalStateException);
+    assertEquals(1000, islands.get(0).numberOfEvaluations());
+  }
+
+  private EvolutionaryAlgorithm<DoubleSolution> nsgaii(int maxEvaluations) {
+    return new NSGAIIBuilder<>(problem, 20, 20, new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+        .setTermination(new TerminationByEvaluations(maxEvaluations))
+        .build();
+  }
+
+  private EvolutionaryAlgorithm<DoubleSolution> moead(int maxEvaluations) {
+    return new MOEADBuilder<>(problem, 20, new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0), "",
+        new IntegerPermutationGenerator(20), false)
+        .setNeighborhoodSize(5)
+        .setTermination(new TerminationByEvaluations(maxEvaluations))
+        .build();
+  }
+}
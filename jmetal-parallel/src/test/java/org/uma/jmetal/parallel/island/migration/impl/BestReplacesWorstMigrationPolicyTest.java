@@ -0,0 +1,71 @@
+package org.uma.jmetal.parallel.island.migration.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class BestReplacesWorstMigrationPolicyTest {
+  private final FakeDoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+
+  @Test
+  void shouldTheConstructorRaiseAnExceptionIfTheNumberOfMigrantsIsNotPositive() {
+    assertThrows(InvalidConditionException.class, () -> new BestReplacesWorstMigrationPolicy<>(0));
+  }
+
+  @Test
+  void shouldSelectEmigrantsReturnTheSolutionsOfTheBestFronts() {
+    DoubleSolution best = solution(1, 1);
+    List<DoubleSolution> population =
+        List.of(solution(3, 3), solution(2, 2), best, solution(4, 4));
+
+    List<DoubleSolution> emigrants =
+        new BestReplacesWorstMigrationPolicy<DoubleSolution>(2).selectEmigrants(population);
+
+    assertEquals(2, emigrants.size());
+    assertSame(best, emigrants.get(0));
+    assertSame(population.get(1), emigrants.get(1));
+  }
+
+  @Test
+  void shouldIntegrateImmigrantsReplaceTheWorstSolutionsInTheirPositions() {
+    List<DoubleSolution> population =
+        List.of(solution(3, 3), solution(4, 4), solution(1, 1), solution(2, 2));
+    List<DoubleSolution> immigrants = List.of(solution(0, 5), solution(5, 0));
+
+    List<DoubleSolution> newPopulation =
+        new BestReplacesWorstMigrationPolicy<DoubleSolution>(2)
+            .integrateImmigrants(population, immigrants);
+
+    assertEquals(4, newPopulation.size());
+    assertSame(immigrants.get(1), newPopulation.get(0));
+    assertSame(immigrants.get(0), newPopulation.get(1));
+    assertSame(population.get(2), newPopulation.get(2));
+    assertSame(population.get(3), newPopulation.get(3));
+  }
+
+  @Test
+  void shouldIntegrateImmigrantsKeepThePopulationSizeIfThereAreMoreImmigrantsThanSolutions() {
+    List<DoubleSolution> population = List.of(solution(1, 1));
+    List<DoubleSolution> immigrants = List.of(solution(0, 5), solution(5, 0));
+
+    List<DoubleSolution> newPopulation =
+        new BestReplacesWorstMigrationPolicy<DoubleSolution>(2)
+            .integrateImmigrants(population, immigrants);
+
+    assertEquals(List.of(immigrants.get(0)), newPopulation);
+  }
+
+  private DoubleSolution solution(double firstObjective, double secondObjective) {
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = firstObjective;
+    solution.objectives()[1] = secondObjective;
+
+    return solution;
+  }
+}